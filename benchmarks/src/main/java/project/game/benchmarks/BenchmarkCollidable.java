@@ -0,0 +1,78 @@
+package project.game.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.physics.api.ICollidableVisitor;
+
+/**
+ * Minimal collidable used by benchmarks: an entity that tests overlap against
+ * its own bounds and counts the collisions it is told about. It never creates
+ * a physics body.
+ */
+public class BenchmarkCollidable extends Entity implements ICollidableVisitor {
+
+    private int collisions;
+    private boolean inCollision;
+
+    public BenchmarkCollidable(float x, float y, float width, float height) {
+        super(x, y, width, height, true);
+    }
+
+    /**
+     * Number of collisions reported to this collidable so far.
+     */
+    public int getCollisions() {
+        return collisions;
+    }
+
+    @Override
+    public Entity getEntity() {
+        return this;
+    }
+
+    @Override
+    public Body getBody() {
+        return null;
+    }
+
+    @Override
+    public World getWorld() {
+        return null;
+    }
+
+    @Override
+    public Body createBody(World world, float x, float y, float width, float height) {
+        return null;
+    }
+
+    @Override
+    public boolean checkCollision(Entity other) {
+        return getX() < other.getX() + other.getWidth() &&
+                getX() + getWidth() > other.getX() &&
+                getY() < other.getY() + other.getHeight() &&
+                getY() + getHeight() > other.getY();
+    }
+
+    @Override
+    public void onCollision(ICollidableVisitor other) {
+        collisions++;
+        inCollision = true;
+    }
+
+    @Override
+    public boolean isInCollision() {
+        return inCollision;
+    }
+
+    @Override
+    public void collideWith(Object other) {
+        onCollision(other instanceof ICollidableVisitor ? (ICollidableVisitor) other : null);
+    }
+
+    @Override
+    public void collideWithBoundary() {
+        onCollision(null);
+    }
+}
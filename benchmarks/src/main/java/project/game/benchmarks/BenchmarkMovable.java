@@ -0,0 +1,87 @@
+package project.game.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.engine.entitysystem.movement.api.IMovable;
+
+/**
+ * Minimal movable used by benchmarks, free of entities and physics bodies.
+ */
+public class BenchmarkMovable implements IMovable {
+
+    private float x, y;
+    private float speed;
+    private final Vector2 velocity = new Vector2();
+
+    public BenchmarkMovable(float x, float y, float speed) {
+        this.x = x;
+        this.y = y;
+        this.speed = speed;
+    }
+
+    /**
+     * Puts the movable back into a known state.
+     */
+    public void reset(float x, float y, float velocityX, float velocityY) {
+        this.x = x;
+        this.y = y;
+        this.velocity.set(velocityX, velocityY);
+    }
+
+    @Override
+    public float getX() {
+        return x;
+    }
+
+    @Override
+    public float getY() {
+        return y;
+    }
+
+    @Override
+    public void setX(float x) {
+        this.x = x;
+    }
+
+    @Override
+    public void setY(float y) {
+        this.y = y;
+    }
+
+    @Override
+    public float getSpeed() {
+        return speed;
+    }
+
+    @Override
+    public void setSpeed(float speed) {
+        this.speed = speed;
+    }
+
+    @Override
+    public Vector2 getVelocity() {
+        return velocity;
+    }
+
+    @Override
+    public void setVelocity(Vector2 velocity) {
+        this.velocity.set(velocity);
+    }
+
+    @Override
+    public void setVelocity(float x, float y) {
+        this.velocity.set(x, y);
+    }
+
+    @Override
+    public void normalizeVelocity() {
+        if (velocity.len2() > 0) {
+            velocity.nor();
+        }
+    }
+
+    @Override
+    public void clearVelocity() {
+        velocity.set(0, 0);
+    }
+}
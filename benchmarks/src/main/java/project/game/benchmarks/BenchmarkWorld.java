@@ -0,0 +1,142 @@
+package project.game.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.World;
+
+import project.game.application.entity.item.Trash;
+import project.game.application.entity.obstacle.Rock;
+import project.game.common.config.factory.GameConstantsFactory;
+import project.game.common.logging.core.GameLogger;
+import project.game.common.logging.core.LoggerConfig;
+import project.game.common.logging.util.LogPaths;
+import project.game.common.util.file.ProjectPaths;
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.logging.api.LogLevel;
+
+/**
+ * Shared setup for benchmarks that need game entities: loads the game
+ * constants and, for entities with physics bodies, a headless Box2D world.
+ *
+ * Entities are laid out from a seeded stream so every run measures the same
+ * scene. No textures are loaded; sprites are empty regions.
+ */
+public final class BenchmarkWorld {
+
+    public static final float WIDTH = 1280f;
+    public static final float HEIGHT = 800f;
+    public static final float ENTITY_SIZE = 32f;
+    public static final float ROCK_SIZE = 64f;
+
+    // Field area per collidable, in entity footprints; each collidable then
+    // overlaps half a neighbour on average whatever the count
+    private static final float AREA_PER_COLLIDABLE = 8f;
+
+    private static boolean box2dLoaded;
+
+    private BenchmarkWorld() {
+    }
+
+    /**
+     * Loads the game constants from the project's default configuration if
+     * they have not been loaded yet.
+     */
+    public static synchronized void initConstants() {
+        try {
+            GameConstantsFactory.getConstants();
+            return;
+        } catch (IllegalStateException e) {
+            // Not loaded yet
+        }
+        String configFile = ProjectPaths.findConfigFile("default-config.json", LogPaths.getProjectRoot());
+        if (configFile == null) {
+            throw new IllegalStateException("Could not find default-config.json from "
+                    + LogPaths.getProjectRoot());
+        }
+        GameConstantsFactory.initialize(configFile);
+    }
+
+    /**
+     * Raises the default log level to warnings, so code that logs on every
+     * call is measured without its console and file output. Must run before
+     * the measured classes create their loggers.
+     */
+    public static void quietLogging() {
+        GameLogger.configure(new LoggerConfig.Builder()
+                .withLogDirectory(LogPaths.getGlobalLogDirectory())
+                .withDefaultLogLevel(LogLevel.WARN)
+                .build());
+    }
+
+    /**
+     * Creates a zero-gravity Box2D world, loading the native library first.
+     * Requires the gdx-box2d-platform natives on the classpath.
+     */
+    public static synchronized World createWorld() {
+        initConstants();
+        if (!box2dLoaded) {
+            Box2D.init();
+            box2dLoaded = true;
+        }
+        return new World(new Vector2(0, 0), true);
+    }
+
+    /**
+     * Creates plain obstacle entities, without physics bodies.
+     */
+    public static List<Entity> createObstacleEntities(int count, RandomStream random) {
+        List<Entity> obstacles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            obstacles.add(new Entity(random.nextFloat(0, WIDTH - ROCK_SIZE), random.nextFloat(0, HEIGHT - ROCK_SIZE),
+                    ROCK_SIZE, ROCK_SIZE, true));
+        }
+        return obstacles;
+    }
+
+    /**
+     * Creates trash with physics bodies in the given world.
+     */
+    public static List<Trash> createTrash(World world, int count, RandomStream random) {
+        List<Trash> trash = new ArrayList<>(count);
+        TextureRegion sprite = new TextureRegion();
+        for (int i = 0; i < count; i++) {
+            Entity entity = new Entity(random.nextFloat(0, WIDTH - ENTITY_SIZE),
+                    random.nextFloat(0, HEIGHT - ENTITY_SIZE), ENTITY_SIZE, ENTITY_SIZE, true);
+            trash.add(new Trash(entity, world, sprite));
+        }
+        return trash;
+    }
+
+    /**
+     * Creates rocks with physics bodies in the given world.
+     */
+    public static List<Rock> createRocks(World world, int count, RandomStream random) {
+        List<Rock> rocks = new ArrayList<>(count);
+        TextureRegion sprite = new TextureRegion();
+        for (int i = 0; i < count; i++) {
+            Entity entity = new Entity(random.nextFloat(0, WIDTH - ROCK_SIZE),
+                    random.nextFloat(0, HEIGHT - ROCK_SIZE), ROCK_SIZE, ROCK_SIZE, true);
+            rocks.add(new Rock(entity, world, sprite));
+        }
+        return rocks;
+    }
+
+    /**
+     * Creates body-less collidables scattered over a square field that grows
+     * with the count, so the share of overlapping collidables stays the same.
+     */
+    public static List<BenchmarkCollidable> createCollidables(int count, RandomStream random) {
+        float side = (float) Math.sqrt(count * AREA_PER_COLLIDABLE) * ENTITY_SIZE;
+        List<BenchmarkCollidable> collidables = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            collidables.add(new BenchmarkCollidable(random.nextFloat(0, side - ENTITY_SIZE),
+                    random.nextFloat(0, side - ENTITY_SIZE), ENTITY_SIZE, ENTITY_SIZE));
+        }
+        return collidables;
+    }
+}
@@ -0,0 +1,71 @@
+package project.game.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.physics.collision.detection.CollisionPairTracker;
+
+/**
+ * Measures a {@link CollisionPairTracker} holding the overlapping pairs of a
+ * growing number of collidables: starting and ending one contact, and asking
+ * whether a collidable is in any contact.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionPairTrackerBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entities;
+
+    private CollisionPairTracker tracker;
+    private List<BenchmarkCollidable> collidables;
+    private BenchmarkCollidable spareA;
+    private BenchmarkCollidable spareB;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        collidables = BenchmarkWorld.createCollidables(entities, new RandomStream(MovementStrategyBenchmark.SEED));
+        tracker = new CollisionPairTracker();
+        for (int i = 0; i < entities; i++) {
+            for (int j = i + 1; j < entities; j++) {
+                if (collidables.get(i).checkCollision(collidables.get(j))) {
+                    tracker.addCollisionPair(collidables.get(i), collidables.get(j));
+                }
+            }
+        }
+        spareA = new BenchmarkCollidable(0, 0, BenchmarkWorld.ENTITY_SIZE, BenchmarkWorld.ENTITY_SIZE);
+        spareB = new BenchmarkCollidable(0, 0, BenchmarkWorld.ENTITY_SIZE, BenchmarkWorld.ENTITY_SIZE);
+    }
+
+    @Benchmark
+    public boolean addThenRemovePair() {
+        boolean added = tracker.addCollisionPair(spareA, spareB);
+        return tracker.removeCollisionPair(spareB, spareA) && added;
+    }
+
+    @Benchmark
+    public boolean isEntityInCollision() {
+        BenchmarkCollidable collidable = collidables.get(cursor);
+        cursor = cursor + 1 == entities ? 0 : cursor + 1;
+        return tracker.isEntityInCollision(collidable);
+    }
+}
@@ -0,0 +1,81 @@
+package project.game.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.physics.collision.resolution.CollisionVisitorResolver;
+
+/**
+ * Measures {@link CollisionVisitorResolver#resolveCollision} with a growing
+ * number of registered collidables, queueing the collision actions for one
+ * contact and, separately, also running them as the game does after a
+ * physics step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionResolverBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entities;
+
+    private CollisionVisitorResolver resolver;
+    private List<BenchmarkCollidable> collidables;
+    private final List<Runnable> queue = new ArrayList<>();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkWorld.quietLogging();
+        collidables = BenchmarkWorld.createCollidables(entities, new RandomStream(MovementStrategyBenchmark.SEED));
+        resolver = new CollisionVisitorResolver();
+        resolver.registerBoundary();
+        for (BenchmarkCollidable collidable : collidables) {
+            resolver.registerCollidable(collidable);
+        }
+    }
+
+    @Benchmark
+    public int resolveCollision() {
+        queue.clear();
+        resolver.resolveCollision(collidables.get(cursor), nextCollidable(), queue);
+        return queue.size();
+    }
+
+    @Benchmark
+    public int resolveAndDispatch() {
+        queue.clear();
+        resolver.resolveCollision(collidables.get(cursor), nextCollidable(), queue);
+        for (int i = 0; i < queue.size(); i++) {
+            queue.get(i).run();
+        }
+        return queue.size();
+    }
+
+    /**
+     * Advances the cursor and returns the collidable it passed over to, so
+     * successive contacts walk the registry.
+     */
+    private BenchmarkCollidable nextCollidable() {
+        cursor = cursor + 1 == entities ? 0 : cursor + 1;
+        return collidables.get(cursor);
+    }
+}
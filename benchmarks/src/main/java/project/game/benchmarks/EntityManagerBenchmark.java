@@ -0,0 +1,77 @@
+package project.game.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.entity.management.EntityManager;
+
+/**
+ * Measures adding, removing and collision-checking entities in an
+ * {@link EntityManager} holding a growing number of collidables.
+ *
+ * Adds and removes are measured in pairs so the manager keeps its size
+ * between operations. Logging is raised to warnings, so the per-call entity
+ * listing in removeEntity costs its loop but writes nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityManagerBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entities;
+
+    private EntityManager manager;
+    private List<BenchmarkCollidable> collidables;
+    private Entity spare;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkWorld.quietLogging();
+        collidables = BenchmarkWorld.createCollidables(entities, new RandomStream(MovementStrategyBenchmark.SEED));
+        manager = new EntityManager();
+        for (BenchmarkCollidable collidable : collidables) {
+            manager.addEntity(collidable);
+        }
+        spare = new Entity(0, 0, BenchmarkWorld.ENTITY_SIZE, BenchmarkWorld.ENTITY_SIZE, true);
+    }
+
+    @Benchmark
+    public boolean addThenRemove() {
+        boolean added = manager.addEntity(spare);
+        manager.removeEntity(spare);
+        return added;
+    }
+
+    @Benchmark
+    public boolean removeThenAdd() {
+        BenchmarkCollidable collidable = collidables.get(cursor);
+        cursor = cursor + 1 == entities ? 0 : cursor + 1;
+        manager.removeEntity(collidable);
+        return manager.addEntity(collidable);
+    }
+
+    @Benchmark
+    public void checkCollision() {
+        manager.checkCollision();
+    }
+}
@@ -0,0 +1,123 @@
+package project.game.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.common.util.math.MovementUtils;
+
+/**
+ * Compares the fast math in {@link MovementUtils} against the JDK and LibGDX
+ * equivalents it replaces. Accuracy is covered by MovementUtilsTest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastMathBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private final float[] angles = new float[INPUTS];
+    private final float[] xs = new float[INPUTS];
+    private final float[] ys = new float[INPUTS];
+    private final Vector2 vector = new Vector2();
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < INPUTS; i++) {
+            angles[i] = (random.nextFloat() - 0.5f) * 200f;
+            xs[i] = (random.nextFloat() - 0.5f) * 400f;
+            ys[i] = (random.nextFloat() - 0.5f) * 400f;
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (INPUTS - 1);
+        return index;
+    }
+
+    @Benchmark
+    public float jdkSin() {
+        return (float) Math.sin(angles[next()]);
+    }
+
+    @Benchmark
+    public float gdxSin() {
+        return MathUtils.sin(angles[next()]);
+    }
+
+    @Benchmark
+    public float tableSin() {
+        return MovementUtils.sin(angles[next()]);
+    }
+
+    @Benchmark
+    public int atan2Octant() {
+        int i = next();
+        return atan2Octant(xs[i], ys[i]);
+    }
+
+    @Benchmark
+    public int comparisonOctant() {
+        int i = next();
+        return MovementUtils.octant(xs[i], ys[i]);
+    }
+
+    @Benchmark
+    public float vectorNor() {
+        int i = next();
+        return vector.set(xs[i], ys[i]).nor().x;
+    }
+
+    @Benchmark
+    public float invSqrtNormalise() {
+        int i = next();
+        return MovementUtils.normalise(vector.set(xs[i], ys[i])).x;
+    }
+
+    /**
+     * The atan2 classification previously used for sprite directions, mapped
+     * to MovementUtils octant numbering.
+     */
+    private static int atan2Octant(float x, float y) {
+        float angle = (float) Math.toDegrees(Math.atan2(y, x));
+        if (angle < 0) {
+            angle += 360;
+        }
+        if (angle >= 337.5 || angle < 22.5) {
+            return MovementUtils.OCTANT_RIGHT;
+        } else if (angle < 67.5) {
+            return MovementUtils.OCTANT_UP_RIGHT;
+        } else if (angle < 112.5) {
+            return MovementUtils.OCTANT_UP;
+        } else if (angle < 157.5) {
+            return MovementUtils.OCTANT_UP_LEFT;
+        } else if (angle < 202.5) {
+            return MovementUtils.OCTANT_LEFT;
+        } else if (angle < 247.5) {
+            return MovementUtils.OCTANT_DOWN_LEFT;
+        } else if (angle < 292.5) {
+            return MovementUtils.OCTANT_DOWN;
+        }
+        return MovementUtils.OCTANT_DOWN_RIGHT;
+    }
+}
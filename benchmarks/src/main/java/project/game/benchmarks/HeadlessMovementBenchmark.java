@@ -0,0 +1,92 @@
+package project.game.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.Input;
+
+import project.game.application.movement.builder.NPCMovementBuilder;
+import project.game.application.movement.builder.PlayerMovementBuilder;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.core.NPCMovementManager;
+import project.game.engine.entitysystem.movement.core.PlayerMovementManager;
+import project.game.engine.entitysystem.movement.management.SimulationClock;
+import project.game.engine.io.binding.DirectionTable;
+import project.game.engine.io.binding.KeyBindingsManager;
+import project.game.engine.io.management.KeyboardState;
+
+/**
+ * Drives NPC and player movement managers from a fixed-step
+ * {@link SimulationClock} without a LibGDX application, measuring the cost of
+ * one movement tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadlessMovementBenchmark {
+
+    private static final float FIXED_DELTA = 1f / 60f;
+
+    private SimulationClock clock;
+    private NPCMovementManager npcManager;
+    private PlayerMovementManager playerManager;
+    private KeyboardState keyboard;
+    private DirectionTable directions;
+
+    @Setup
+    public void setUp() {
+        clock = new SimulationClock(FIXED_DELTA);
+
+        npcManager = new NPCMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(new Entity(400, 300, 32, 32, true))
+                .setSpeed(60f)
+                .setInitialVelocity(1, 0)
+                .setLenientMode(true)
+                .withOceanCurrentMovement(60f, 40f, 30f, 1.5f, 0.7f, 0.3f)
+                .withStrategyFlattening(true)
+                .withTickClock(clock)
+                .build();
+
+        playerManager = new PlayerMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(new Entity(400, 300, 32, 32, true))
+                .setSpeed(200f)
+                .setLenientMode(true)
+                .withConstantMovement()
+                .withTickClock(clock)
+                .build();
+
+        keyboard = new KeyboardState();
+        keyboard.press(Input.Keys.W);
+        keyboard.press(Input.Keys.D);
+        directions = new KeyBindingsManager().getDirectionTable();
+    }
+
+    @Benchmark
+    public float npcTick() {
+        clock.step();
+        npcManager.updateMovement();
+        return npcManager.getMovableEntity().getX();
+    }
+
+    @Benchmark
+    public float playerTick() {
+        clock.step();
+        playerManager.updateVelocity(keyboard, directions);
+        playerManager.updateMovement();
+        return playerManager.getMovableEntity().getX();
+    }
+}
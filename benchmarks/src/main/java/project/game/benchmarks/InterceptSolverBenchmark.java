@@ -0,0 +1,87 @@
+package project.game.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.application.movement.navigation.InterceptSolver;
+
+/**
+ * Measures solving many pursuers against one target, one call at a time and
+ * through the batch API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptSolverBenchmark {
+
+    private static final float DELTA_TIME = 1f / 60f;
+
+    @Param({ "1", "100", "1000" })
+    public int pursuers;
+
+    private InterceptSolver solver;
+    private float[] xs;
+    private float[] ys;
+    private float[] speeds;
+    private float[] aimX;
+    private float[] aimY;
+    private float[] times;
+    private final Vector2 aim = new Vector2();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkMovable target = new BenchmarkMovable(400, 300, 0);
+        solver = new InterceptSolver(target, InterceptSolver.DEFAULT_SMOOTHING_TIME);
+        solver.observe(DELTA_TIME);
+        for (int i = 0; i < 30; i++) {
+            target.setX(target.getX() + 2f);
+            target.setY(target.getY() + 1f);
+            solver.observe(DELTA_TIME);
+        }
+
+        Random random = new Random(42);
+        xs = new float[pursuers];
+        ys = new float[pursuers];
+        speeds = new float[pursuers];
+        aimX = new float[pursuers];
+        aimY = new float[pursuers];
+        times = new float[pursuers];
+        for (int i = 0; i < pursuers; i++) {
+            xs[i] = random.nextFloat() * 1280f;
+            ys[i] = random.nextFloat() * 800f;
+            speeds[i] = 60f + random.nextFloat() * 140f;
+        }
+    }
+
+    @Benchmark
+    public float solveEach() {
+        float sum = 0;
+        for (int i = 0; i < pursuers; i++) {
+            sum += solver.solve(xs[i], ys[i], speeds[i], aim);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int solveBatch() {
+        return solver.solveBatch(xs, ys, speeds, pursuers, aimX, aimY, times);
+    }
+}
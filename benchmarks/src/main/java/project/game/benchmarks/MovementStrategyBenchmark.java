@@ -0,0 +1,131 @@
+package project.game.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.common.util.math.MovementUtils;
+import project.game.common.util.math.RandomProvider;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+
+/**
+ * Measures one {@code move} call of each movement strategy that needs neither
+ * obstacles nor trash, against a target circling the middle of the world.
+ *
+ * Runs without Box2D or a LibGDX application. Run with {@code -prof gc} (the
+ * Gradle {@code jmh} task adds it) to see bytes allocated per call next to
+ * the time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementStrategyBenchmark {
+
+    static final float DELTA_TIME = 1f / 60f;
+    static final float SPEED = 100f;
+    static final long SEED = 42L;
+    // The target circles slowly enough that orbiting stays within its
+    // smoothing threshold, as it does in game
+    private static final float TARGET_RADIUS = 100f;
+    private static final float TARGET_ANGULAR_SPEED = 0.5f;
+
+    @Param({ "CONSTANT", "ACCELERATED", "ZIGZAG", "FOLLOW", "SPRING_FOLLOW", "SPIRAL", "ORBITAL", "INTERCEPTOR",
+            "RANDOMISED", "OCEAN_CURRENT", "CURRENT_DRIFT", "COMPOSITE" })
+    public String strategy;
+
+    private IMovementStrategy movement;
+    private BenchmarkMovable movable;
+    private BenchmarkMovable target;
+    private float targetAngle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomProvider.getInstance().setSeed(SEED);
+        movable = new BenchmarkMovable(0, 0, SPEED);
+        target = new BenchmarkMovable(0, 0, SPEED);
+        movement = createStrategy(strategy, target);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetMovables() {
+        movable.reset(400, 300, 1, 0);
+        targetAngle = 0;
+        moveTarget();
+    }
+
+    @Benchmark
+    public float move() {
+        moveTarget();
+        movement.move(movable, DELTA_TIME);
+        return movable.getX();
+    }
+
+    private void moveTarget() {
+        targetAngle += TARGET_ANGULAR_SPEED * DELTA_TIME;
+        target.reset(BenchmarkWorld.WIDTH / 2 + TARGET_RADIUS * MovementUtils.cos(targetAngle),
+                BenchmarkWorld.HEIGHT / 2 + TARGET_RADIUS * MovementUtils.sin(targetAngle), 0, 0);
+    }
+
+    static IMovementStrategy createStrategy(String name, BenchmarkMovable target) {
+        MovementStrategyFactory factory = MovementStrategyFactory.getInstance();
+        switch (name) {
+            case "CONSTANT":
+                return factory.createConstantMovement(SPEED, false);
+            case "ACCELERATED":
+                return factory.createAcceleratedMovement(200f, 100f, SPEED, false);
+            case "ZIGZAG":
+                return factory.createZigZagMovement(SPEED, 40f, 1.5f, false);
+            case "FOLLOW":
+                return factory.createFollowMovement(target, SPEED, false);
+            case "SPRING_FOLLOW":
+                return factory.createSpringFollowMovement(target, 2f, 1.5f, false);
+            case "SPIRAL":
+                return factory.createSpiralApproachMovement(target, SPEED, 0.5f, 20f, false);
+            case "ORBITAL":
+                return factory.createOrbitalMovement(target, 150f, 1f, 0.2f, false);
+            case "INTERCEPTOR":
+                return factory.createInterceptorMovement(target, SPEED, false);
+            case "RANDOMISED": {
+                List<IMovementStrategy> pool = new ArrayList<>();
+                pool.add(factory.createConstantMovement(SPEED, false));
+                pool.add(factory.createZigZagMovement(SPEED, 40f, 1.5f, false));
+                pool.add(factory.createFollowMovement(target, SPEED, false));
+                return factory.createRandomisedMovement(pool, 0.5f, 2f, false);
+            }
+            case "OCEAN_CURRENT":
+                return factory.createOceanCurrentMovement(60f, 40f, 30f, 1.5f, 0.7f, 0.3f, false);
+            case "CURRENT_DRIFT": {
+                OceanCurrentField field = new OceanCurrentField(BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT, 20f, 0f,
+                        100f, SEED, false);
+                return factory.createCurrentDriftStrategy(field, 1f, false);
+            }
+            case "COMPOSITE": {
+                List<IMovementStrategy> additional = new ArrayList<>();
+                additional.add(factory.createZigZagMovement(SPEED, 40f, 1.5f, false));
+                additional.add(factory.createFollowMovement(target, SPEED, false));
+                return factory.createCompositeMovementStrategy(factory.createConstantMovement(SPEED, false),
+                        additional, new float[] { 0.5f, 0.3f, 0.2f });
+            }
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package project.game.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.game.application.movement.api.IObstacleFieldAware;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.application.movement.navigation.ObstacleDistanceField;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+
+/**
+ * Measures the obstacle-aware strategies at increasing obstacle counts, both
+ * scanning the obstacle list and reading a precomputed
+ * {@link ObstacleDistanceField}.
+ *
+ * Obstacles are plain entities, so this runs without Box2D.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObstacleStrategyBenchmark {
+
+    @Param({ "OBSTACLE_AVOIDANCE", "INTERCEPTOR_AVOIDANCE" })
+    public String strategy;
+
+    @Param({ "0", "16", "128" })
+    public int obstacles;
+
+    @Param({ "false", "true" })
+    public boolean distanceField;
+
+    private IMovementStrategy movement;
+    private BenchmarkMovable movable;
+    private BenchmarkMovable target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomProvider.getInstance().setSeed(MovementStrategyBenchmark.SEED);
+        RandomStream random = new RandomStream(MovementStrategyBenchmark.SEED);
+        List<Entity> obstacleEntities = BenchmarkWorld.createObstacleEntities(obstacles, random);
+
+        movable = new BenchmarkMovable(0, 0, MovementStrategyBenchmark.SPEED);
+        target = new BenchmarkMovable(BenchmarkWorld.WIDTH - 100f, BenchmarkWorld.HEIGHT - 100f,
+                MovementStrategyBenchmark.SPEED);
+
+        MovementStrategyFactory factory = MovementStrategyFactory.getInstance();
+        if ("OBSTACLE_AVOIDANCE".equals(strategy)) {
+            movement = factory.createObstacleAvoidanceStrategy(MovementStrategyBenchmark.SPEED, obstacleEntities,
+                    false);
+        } else {
+            movement = factory.createInterceptorWithObstacleAvoidance(target, obstacleEntities,
+                    MovementStrategyBenchmark.SPEED, false);
+        }
+
+        if (distanceField) {
+            ObstacleDistanceField field = new ObstacleDistanceField(BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT);
+            field.build(obstacleEntities);
+            ((IObstacleFieldAware) movement).setObstacleField(field);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetMovable() {
+        movable.reset(100, 100, 1, 1);
+    }
+
+    @Benchmark
+    public float move() {
+        movement.move(movable, MovementStrategyBenchmark.DELTA_TIME);
+        return movable.getX();
+    }
+}
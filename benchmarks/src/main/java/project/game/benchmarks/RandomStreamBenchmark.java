@@ -0,0 +1,66 @@
+package project.game.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
+
+/**
+ * Compares per-entity {@link RandomStream}s against the shared generators
+ * they replace, with several threads drawing at once to show contention on
+ * the shared ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RandomStreamBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final Random random = new Random(42);
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        RandomStream stream;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            stream = RandomProvider.getInstance().nextStream();
+        }
+    }
+
+    @Benchmark
+    public float sharedJdkRandom(Shared shared) {
+        return shared.random.nextFloat();
+    }
+
+    @Benchmark
+    public float sharedGdxRandom() {
+        return MathUtils.random(0f, 1f);
+    }
+
+    @Benchmark
+    public float perEntityStream(PerThread perThread) {
+        return perThread.stream.nextFloat();
+    }
+}
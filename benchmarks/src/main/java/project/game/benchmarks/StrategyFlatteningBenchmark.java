@@ -0,0 +1,112 @@
+package project.game.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.game.application.movement.composite.OceanCurrentStrategy;
+import project.game.application.movement.decorator.MovementStrategyDecorator;
+import project.game.application.movement.strategy.ConstantMovementStrategy;
+import project.game.application.movement.strategy.ZigZagMovemenStrategy;
+import project.game.common.util.math.RandomProvider;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.strategy.CompositeMovementStrategy;
+import project.game.engine.entitysystem.movement.strategy.MovementStrategyCompiler;
+
+/**
+ * Compares a nested composite/decorator strategy tree against the same tree
+ * flattened by {@link MovementStrategyCompiler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyFlatteningBenchmark {
+
+    private static final float DELTA_TIME = 1f / 60f;
+    private static final long SEED = 42L;
+
+    /**
+     * OCEAN_CURRENT is the tree used for trash; NESTED adds a second level of
+     * composites and a decorator.
+     */
+    @Param({ "OCEAN_CURRENT", "NESTED" })
+    public String tree;
+
+    private IMovementStrategy nested;
+    private IMovementStrategy fused;
+    private BenchmarkMovable nestedMovable;
+    private BenchmarkMovable fusedMovable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        nested = createTree();
+        fused = MovementStrategyCompiler.compile(createTree());
+        nestedMovable = new BenchmarkMovable(0, 0, 100f);
+        fusedMovable = new BenchmarkMovable(0, 0, 100f);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetMovables() {
+        nestedMovable.reset(400, 300, 1, 0);
+        fusedMovable.reset(400, 300, 1, 0);
+    }
+
+    @Benchmark
+    public float nestedTree() {
+        nested.move(nestedMovable, DELTA_TIME);
+        return nestedMovable.getX();
+    }
+
+    @Benchmark
+    public float fusedTree() {
+        fused.move(fusedMovable, DELTA_TIME);
+        return fusedMovable.getX();
+    }
+
+    /**
+     * Builds a fresh tree. The random provider is reseeded first so that trees built
+     * for comparison start with the same zigzag phases.
+     */
+    private IMovementStrategy createTree() {
+        RandomProvider.getInstance().setSeed(SEED);
+        if ("OCEAN_CURRENT".equals(tree)) {
+            return new OceanCurrentStrategy(60f, 40f, 30f, 1.5f, 0.7f, 0.3f, true);
+        }
+
+        IMovementStrategy current = new OceanCurrentStrategy(60f, 40f, 30f, 1.5f, 0.7f, 0.3f, true);
+        IMovementStrategy wave = new PassThroughDecorator(new ZigZagMovemenStrategy(50f, 20f, 2f, true));
+
+        List<IMovementStrategy> inner = new ArrayList<>();
+        inner.add(wave);
+        IMovementStrategy drift = new CompositeMovementStrategy(
+                new ConstantMovementStrategy(30f, true), inner, new float[] { 2f, 1f });
+
+        List<IMovementStrategy> outer = new ArrayList<>();
+        outer.add(drift);
+        outer.add(new ConstantMovementStrategy(80f, true));
+        return new PassThroughDecorator(
+                new CompositeMovementStrategy(current, outer, new float[] { 0.5f, 0.3f, 0.2f }));
+    }
+
+    private static final class PassThroughDecorator extends MovementStrategyDecorator {
+        PassThroughDecorator(IMovementStrategy strategy) {
+            super(strategy);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package project.game.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.physics.box2d.World;
+
+import project.game.application.entity.item.Trash;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.application.movement.navigation.OccupancyGrid;
+import project.game.application.movement.navigation.PathfindingService;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+
+/**
+ * Measures the trash-seeking strategies at increasing trash counts.
+ *
+ * Trash owns a physics body, so this needs the Box2D natives; the world is
+ * never stepped. Obstacles for the collector are plain entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrashStrategyBenchmark {
+
+    private static final int OBSTACLES = 16;
+
+    @Param({ "NEAREST_TRASH", "TRASH_COLLECTOR", "PATH_FOLLOWING" })
+    public String strategy;
+
+    @Param({ "10", "100", "1000" })
+    public int trash;
+
+    private World world;
+    private PathfindingService pathfindingService;
+    private IMovementStrategy movement;
+    private BenchmarkMovable movable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomProvider.getInstance().setSeed(MovementStrategyBenchmark.SEED);
+        RandomStream random = new RandomStream(MovementStrategyBenchmark.SEED);
+        world = BenchmarkWorld.createWorld();
+        List<Trash> trashList = BenchmarkWorld.createTrash(world, trash, random);
+        List<Entity> obstacles = BenchmarkWorld.createObstacleEntities(OBSTACLES, random);
+        movable = new BenchmarkMovable(0, 0, MovementStrategyBenchmark.SPEED);
+
+        MovementStrategyFactory factory = MovementStrategyFactory.getInstance();
+        switch (strategy) {
+            case "NEAREST_TRASH":
+                movement = factory.createNearestTrashStrategy(MovementStrategyBenchmark.SPEED, trashList, false);
+                break;
+            case "TRASH_COLLECTOR":
+                movement = factory.createTrashCollectorStrategy(MovementStrategyBenchmark.SPEED, trashList, obstacles,
+                        false);
+                break;
+            case "PATH_FOLLOWING":
+                pathfindingService = new PathfindingService(OccupancyGrid.fromRocks(null, BenchmarkWorld.WIDTH,
+                        BenchmarkWorld.HEIGHT, 32f, 0f, 1f), 256);
+                movement = factory.createPathFollowingStrategy(MovementStrategyBenchmark.SPEED, trashList,
+                        pathfindingService, false);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetMovable() {
+        movable.reset(BenchmarkWorld.WIDTH / 2, BenchmarkWorld.HEIGHT / 2, 1, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pathfindingService != null) {
+            pathfindingService.dispose();
+        }
+        world.dispose();
+    }
+
+    @Benchmark
+    public float move() {
+        movement.move(movable, MovementStrategyBenchmark.DELTA_TIME);
+        return movable.getX();
+    }
+}
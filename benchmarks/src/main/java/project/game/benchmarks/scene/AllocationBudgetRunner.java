@@ -0,0 +1,218 @@
+package project.game.benchmarks.scene;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import project.game.benchmarks.BenchmarkWorld;
+import project.game.common.config.api.IGameConstants;
+import project.game.common.config.factory.GameConstantsFactory;
+import project.game.common.util.math.RandomProvider;
+import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.profiling.FrameProfiler;
+
+/**
+ * Runs a game scene headlessly and checks the bytes each frame phase
+ * allocates per tick against the budgets in a properties file, see
+ * {@link AllocationBudgets}. Steady-state gameplay should allocate close to
+ * nothing, so this catches hot paths that start allocating.
+ *
+ * Allocation is read from the ticking thread's allocation counter
+ * (com.sun.management.ThreadMXBean) at every phase boundary, after a warm-up
+ * long enough for the JIT to compile the hot paths.
+ *
+ * Options, all optional:
+ * <ul>
+ * <li>{@code --scene=1|2}, {@code --rocks=N}, {@code --trash=N},
+ * {@code --seed=N} and {@code --input=FILE} as for
+ * {@link SceneBenchmarkRunner}</li>
+ * <li>{@code --ticks=N} measured ticks (default 1200), after
+ * {@code --warmup=N} unmeasured ones (default 2400)</li>
+ * <li>{@code --budgets=FILE} budgets to check (default
+ * budgets/scene&lt;scene&gt;-allocation.properties)</li>
+ * <li>{@code --record} store this run, plus headroom, as the budgets instead
+ * of checking</li>
+ * <li>{@code --headroom=F} relative headroom when recording (default
+ * 0.25)</li>
+ * <li>{@code --slack=N} bytes added to each recorded budget (default 64)</li>
+ * <li>{@code --verbose} keep the game's info logging</li>
+ * </ul>
+ *
+ * Exits with 1 when a phase is over budget and 2 when the run fails, the
+ * budget file is missing or the JVM cannot report per-thread allocation.
+ */
+public final class AllocationBudgetRunner {
+
+    private static final float TICK_DELTA = 1f / 60f;
+    private static final int PATROL_HOLD_TICKS = 90;
+
+    private int scene = 1;
+    private int rocks = -1;
+    private int trash = -1;
+    private int ticks = 1200;
+    private int warmup = 2400;
+    private long seed = 42L;
+    private Path inputFile;
+    private Path budgetFile;
+    private boolean record;
+    private double headroom = 0.25;
+    private long slack = 64;
+    private boolean verbose;
+
+    private AllocationBudgetRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        AllocationBudgetRunner runner = new AllocationBudgetRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+        System.exit(RunnerSupport.runHeadless(runner::run));
+    }
+
+    private void parse(String[] args) {
+        for (String arg : args) {
+            if (arg.isEmpty()) {
+                continue;
+            }
+            String name = arg;
+            String value = null;
+            int equals = arg.indexOf('=');
+            if (equals >= 0) {
+                name = arg.substring(0, equals);
+                value = arg.substring(equals + 1);
+            }
+            switch (name) {
+                case "--scene":
+                    scene = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--rocks":
+                    rocks = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--trash":
+                    trash = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--ticks":
+                    ticks = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--warmup":
+                    warmup = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(RunnerSupport.requireValue(name, value));
+                    break;
+                case "--input":
+                    inputFile = Paths.get(RunnerSupport.requireValue(name, value));
+                    break;
+                case "--budgets":
+                    budgetFile = Paths.get(RunnerSupport.requireValue(name, value));
+                    break;
+                case "--record":
+                    record = true;
+                    break;
+                case "--headroom":
+                    headroom = RunnerSupport.parseDouble(name, value);
+                    break;
+                case "--slack":
+                    slack = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--verbose":
+                    verbose = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (scene != 1 && scene != 2) {
+            throw new IllegalArgumentException("--scene must be 1 or 2");
+        }
+        if (ticks <= 0 || warmup < 0) {
+            throw new IllegalArgumentException("--ticks must be positive and --warmup non-negative");
+        }
+        if (headroom < 0 || slack < 0) {
+            throw new IllegalArgumentException("--headroom and --slack must be non-negative");
+        }
+    }
+
+    private int run() throws Exception {
+        if (!verbose) {
+            BenchmarkWorld.quietLogging();
+        }
+        BenchmarkWorld.initConstants();
+        IGameConstants constants = GameConstantsFactory.getConstants();
+        if (rocks < 0) {
+            rocks = constants.NUM_ROCKS();
+        }
+        if (trash < 0) {
+            trash = constants.NUM_TRASHES();
+        }
+        if (budgetFile == null) {
+            budgetFile = Paths.get("budgets", "scene" + scene + "-allocation.properties");
+        }
+
+        // The window covers the whole measurement, so averages are over every measured tick
+        FrameProfiler profiler = new FrameProfiler(ticks);
+        profiler.setPhaseAllocationTracked(true);
+        if (!profiler.isPhaseAllocationTracked()) {
+            System.err.println("This JVM does not report per-thread allocation");
+            return 2;
+        }
+
+        int totalTicks = warmup + ticks;
+        SceneInputScript input = inputFile != null
+                ? SceneInputScript.load(inputFile)
+                : SceneInputScript.patrol(PATROL_HOLD_TICKS, totalTicks);
+
+        RandomProvider.getInstance().setSeed(seed);
+        SceneInputManager inputManager = new SceneInputManager(true);
+        HeadlessSceneSimulation simulation = new HeadlessSceneSimulation(scene, rocks, trash, inputManager);
+        simulation.create();
+        simulation.setFrameProfiler(profiler);
+
+        String description = "GameScene" + scene + ", " + rocks + " rocks, " + trash + " trash, " + ticks
+                + " ticks after " + warmup + " warm-up ticks, seed " + seed;
+        System.out.println("Measuring allocation in " + description);
+
+        try {
+            for (int tick = 0; tick < totalTicks; tick++) {
+                if (tick == warmup) {
+                    profiler.reset();
+                }
+                input.apply(tick, inputManager);
+                simulation.tick(TICK_DELTA);
+            }
+        } finally {
+            simulation.dispose();
+        }
+
+        if (record) {
+            AllocationBudgets measured = AllocationBudgets.fromMeasurement(profiler, headroom, slack);
+            System.out.print(measured.report(profiler));
+            measured.store(budgetFile, description);
+            System.out.println("Budgets written to " + budgetFile.toAbsolutePath());
+            return 0;
+        }
+        if (!Files.exists(budgetFile)) {
+            System.out.print(AllocationBudgets.none().report(profiler));
+            System.err.println("No budgets at " + budgetFile.toAbsolutePath() + "; run with --record to set them");
+            return 2;
+        }
+
+        AllocationBudgets budgets = AllocationBudgets.load(budgetFile);
+        System.out.print(budgets.report(profiler));
+        List<String> violations = budgets.findViolations(profiler);
+        if (violations.isEmpty()) {
+            System.out.println("Within the allocation budgets in " + budgetFile);
+            return 0;
+        }
+        System.out.println("Over the allocation budgets in " + budgetFile + ":");
+        for (String violation : violations) {
+            System.out.println("  " + violation);
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,139 @@
+package project.game.benchmarks.scene;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import project.game.engine.profiling.FramePhase;
+import project.game.engine.profiling.FrameProfiler;
+
+/**
+ * Bytes each frame phase may allocate per tick, stored as a properties file
+ * keyed by phase label plus {@value #FRAME_KEY} for the whole tick.
+ *
+ * A phase without a budget is reported but not checked. Budgets are compared
+ * against the average over the measured ticks, so a single tick that
+ * allocates while the JIT recompiles does not fail the check.
+ */
+public class AllocationBudgets {
+
+    static final String FRAME_KEY = "frame";
+
+    private final Properties budgets;
+
+    private AllocationBudgets(Properties budgets) {
+        this.budgets = budgets;
+    }
+
+    public static AllocationBudgets load(Path file) throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            budgets.load(in);
+        }
+        return new AllocationBudgets(budgets);
+    }
+
+    /**
+     * Budgets that allow what the profiler measured, plus headroom.
+     *
+     * @param profiler Profiler that tracked phase allocation over the run
+     * @param headroom Relative allowance on top of each measurement, e.g.
+     *                 0.25 for 25%
+     * @param slack    Bytes allowed on top of that, so phases that measured
+     *                 zero are not failed by a stray allocation
+     */
+    public static AllocationBudgets fromMeasurement(FrameProfiler profiler, double headroom, long slack) {
+        Properties budgets = new Properties();
+        for (FramePhase phase : FramePhase.values()) {
+            budgets.setProperty(phase.getLabel(),
+                    Long.toString(budget(profiler.getAverageAllocatedBytes(phase), headroom, slack)));
+        }
+        budgets.setProperty(FRAME_KEY, Long.toString(budget(profiler.getAverageAllocatedBytes(), headroom, slack)));
+        return new AllocationBudgets(budgets);
+    }
+
+    private static long budget(double measured, double headroom, long slack) {
+        return (long) Math.ceil(measured * (1 + headroom)) + slack;
+    }
+
+    /**
+     * Gets a budget in bytes per tick, or -1 if there is none.
+     */
+    public long getBudget(String key) {
+        String value = budgets.getProperty(key);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid allocation budget for " + key + ": " + value);
+        }
+    }
+
+    /**
+     * Compares a run against the budgets.
+     *
+     * @return A description of each phase over budget; empty if none are
+     */
+    public List<String> findViolations(FrameProfiler profiler) {
+        List<String> violations = new ArrayList<>();
+        for (FramePhase phase : FramePhase.values()) {
+            check(violations, phase.getLabel(), profiler.getAverageAllocatedBytes(phase));
+        }
+        check(violations, FRAME_KEY, profiler.getAverageAllocatedBytes());
+        return violations;
+    }
+
+    private void check(List<String> violations, String key, double measured) {
+        long budget = getBudget(key);
+        if (budget >= 0 && measured > budget) {
+            violations.add(String.format(Locale.ROOT, "%s allocated %.0f B/tick, budget %d B/tick", key, measured,
+                    budget));
+        }
+    }
+
+    /**
+     * Formats the measurement next to the budgets, one line per phase.
+     */
+    public String report(FrameProfiler profiler) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "%-10s %12s %12s %12s%n", "phase", "avg B/tick", "max B/tick",
+                "budget"));
+        for (FramePhase phase : FramePhase.values()) {
+            appendRow(builder, phase.getLabel(), profiler.getAverageAllocatedBytes(phase),
+                    profiler.getMaxAllocatedBytes(phase));
+        }
+        appendRow(builder, FRAME_KEY, profiler.getAverageAllocatedBytes(), profiler.getMaxAllocatedBytes());
+        return builder.toString();
+    }
+
+    private void appendRow(StringBuilder builder, String key, double average, long max) {
+        long budget = getBudget(key);
+        builder.append(String.format(Locale.ROOT, "%-10s %12.0f %12d %12s%n", key, average, max,
+                budget >= 0 ? Long.toString(budget) : "-"));
+    }
+
+    public void store(Path file, String description) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            budgets.store(out, description);
+        }
+    }
+
+    /**
+     * Budgets that check nothing, for reporting a run with no budget file.
+     */
+    static AllocationBudgets none() {
+        return new AllocationBudgets(new Properties());
+    }
+}
@@ -0,0 +1,494 @@
+package project.game.benchmarks.scene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+import project.game.application.entity.api.IEntityRemovalListener;
+import project.game.application.entity.factory.EntityFactoryManager;
+import project.game.application.entity.item.Trash;
+import project.game.application.entity.npc.SeaTurtle;
+import project.game.application.entity.obstacle.Rock;
+import project.game.application.entity.player.Boat;
+import project.game.application.movement.builder.NPCMovementBuilder;
+import project.game.application.movement.builder.PlayerMovementBuilder;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.application.movement.navigation.ObstacleDistanceField;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.application.movement.navigation.OccupancyGrid;
+import project.game.application.movement.navigation.PathfindingService;
+import project.game.application.movement.navigation.SeparationSteering;
+import project.game.application.scene.stress.StressConfig;
+import project.game.application.scene.stress.StressPopulation;
+import project.game.application.scene.stress.StressRamp;
+import project.game.benchmarks.BenchmarkWorld;
+import project.game.common.config.api.IGameConstants;
+import project.game.common.config.factory.GameConstantsFactory;
+import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.entity.management.EntityManager;
+import project.game.engine.entitysystem.movement.core.NPCMovementManager;
+import project.game.engine.entitysystem.movement.core.PlayerMovementManager;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
+import project.game.engine.entitysystem.movement.management.MovementLODPolicy;
+import project.game.engine.entitysystem.movement.management.SimulationClock;
+import project.game.engine.entitysystem.physics.boundary.WorldBoundaryFactory;
+import project.game.engine.entitysystem.physics.management.CollisionManager;
+import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.profiling.FramePhase;
+import project.game.engine.profiling.FrameProfiler;
+
+/**
+ * The simulated part of GameScene1, GameScene2 and the StressScene, without
+ * textures, audio or a window.
+ *
+ * {@link #create()} builds the world and entities in the same order as
+ * AbstractGameScene.create, and {@link #tick(float)} runs the same steps as the
+ * scenes' render method: movement, collision updates, the Box2D step,
+ * removals and collision callbacks. Drawing, the timer and scene switches are
+ * left out. Sprites are empty regions; the sea turtle only exists in scene 2.
+ * Ticks are timed by a {@link FrameProfiler} with the same phases as the
+ * scenes. In stress mode the entities come from a {@link StressPopulation}
+ * that grows as its {@link StressRamp} is fed each tick's time.
+ *
+ * Keep this in step with the scenes when their update order changes.
+ */
+public class HeadlessSceneSimulation implements IEntityRemovalListener {
+
+    private static final GameLogger LOGGER = new GameLogger(HeadlessSceneSimulation.class);
+
+    private static final float PHYSICS_TIME_STEP = 1.0f / 60.0f;
+    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int POSITION_ITERATIONS = 2;
+
+    private final int scene;
+    private final int numRocks;
+    private final int numTrashes;
+    private final SceneInputManager inputManager;
+    private final StressConfig stressConfig;
+
+    private final SimulationClock movementClock = new SimulationClock();
+    private final List<NPCMovementManager> trashMovementManagers = new ArrayList<>();
+    private final List<Rock> rocks = new ArrayList<>();
+    private final List<Trash> trashes = new ArrayList<>();
+    private final List<Entity> existingEntities = new ArrayList<>();
+    private final Array<Body> bodies = new Array<>();
+    private FrameProfiler frameProfiler = new FrameProfiler();
+
+    private IGameConstants constants;
+    private World world;
+    private OrthographicCamera camera;
+    private EntityManager entityManager;
+    private CollisionManager collisionManager;
+    private EntityFactoryManager entityFactoryManager;
+    private AIDecisionScheduler decisionScheduler;
+    private MovementLODPolicy movementLODPolicy;
+    private ObstacleDistanceField obstacleField;
+    private PathfindingService pathfindingService;
+    private OceanCurrentField currentField;
+    private SeparationSteering trashSeparation;
+
+    private Boat boat;
+    private PlayerMovementManager playerMovementManager;
+    private NPCMovementManager npcMovementManager;
+    private StressPopulation stressPopulation;
+    private StressRamp stressRamp;
+
+    private int trashCollected;
+    private int livesLost;
+    private int turtleHits;
+    private int updateFailures;
+
+    /**
+     * Creates a simulation of one of the game scenes.
+     *
+     * @param scene        1 for GameScene1, 2 for GameScene2 with the sea
+     *                     turtle
+     * @param numRocks     Number of rocks, in place of NUM_ROCKS
+     * @param numTrashes   Number of trash objects, in place of NUM_TRASHES
+     * @param inputManager Input manager whose keyboard state drives the boat
+     */
+    public HeadlessSceneSimulation(int scene, int numRocks, int numTrashes, SceneInputManager inputManager) {
+        if (scene != 1 && scene != 2) {
+            throw new IllegalArgumentException("Scene must be 1 or 2: " + scene);
+        }
+        if (numRocks < 0 || numTrashes < 0) {
+            throw new IllegalArgumentException("Entity counts must be non-negative");
+        }
+        this.scene = scene;
+        this.numRocks = numRocks;
+        this.numTrashes = numTrashes;
+        this.inputManager = inputManager;
+        this.stressConfig = null;
+    }
+
+    /**
+     * Creates a simulation of the StressScene.
+     *
+     * @param stressConfig Initial counts, growth and frame budget
+     * @param inputManager Input manager whose keyboard state drives the boat
+     */
+    public HeadlessSceneSimulation(StressConfig stressConfig, SceneInputManager inputManager) {
+        if (stressConfig == null) {
+            throw new IllegalArgumentException("Stress configuration cannot be null");
+        }
+        this.scene = 0;
+        this.numRocks = 0;
+        this.numTrashes = 0;
+        this.inputManager = inputManager;
+        this.stressConfig = stressConfig;
+    }
+
+    /**
+     * Builds the world and entities.
+     */
+    public void create() {
+        world = BenchmarkWorld.createWorld();
+        constants = GameConstantsFactory.getConstants();
+        inputManager.enableMovementControls();
+
+        entityManager = new EntityManager();
+        decisionScheduler = new AIDecisionScheduler(500);
+
+        camera = new OrthographicCamera(constants.GAME_WIDTH(), constants.GAME_HEIGHT());
+        camera.position.set(constants.GAME_WIDTH() / 2, constants.GAME_HEIGHT() / 2, 0);
+        camera.update();
+
+        collisionManager = new CollisionManager(world, inputManager);
+        collisionManager.init();
+
+        entityFactoryManager = new EntityFactoryManager(constants, world, existingEntities, collisionManager,
+                emptyRegions(9), emptyRegions(3));
+        entityFactoryManager.setTrashRemovalListener(this);
+
+        createRocks();
+        buildObstacleField();
+        buildPathfinding();
+        buildCurrentField();
+        buildTrashSeparation();
+        createTrash();
+        createBoat();
+        if (scene == 2) {
+            createSeaTurtle();
+        }
+
+        movementLODPolicy = new MovementLODPolicy();
+        for (NPCMovementManager trashManager : trashMovementManagers) {
+            trashManager.setLODPolicy(movementLODPolicy);
+            trashManager.setTickClock(movementClock);
+        }
+
+        WorldBoundaryFactory.createScreenBoundaries(world, constants.GAME_WIDTH(), constants.GAME_HEIGHT(), 0.5f,
+                constants.PIXELS_TO_METERS());
+
+        if (stressConfig != null) {
+            createStressPopulation();
+        }
+    }
+
+    /**
+     * Runs one frame of the scene.
+     *
+     * @param deltaTime Frame time in seconds
+     */
+    public void tick(float deltaTime) {
+        frameProfiler.beginFrame();
+        frameProfiler.phase(FramePhase.MOVEMENT);
+        try {
+            if (stressPopulation != null) {
+                stressPopulation.fillTo(stressRamp.getTargetTrash(), stressRamp.getTargetRocks(),
+                        stressRamp.getTargetCollectors());
+            }
+            movementClock.advance(deltaTime);
+            currentField.update(deltaTime);
+            movementLODPolicy.beginFrame(boat.getEntity().getX(), boat.getEntity().getY(), camera);
+            decisionScheduler.update(deltaTime);
+
+            playerMovementManager.updateMovement();
+            if (npcMovementManager != null) {
+                npcMovementManager.updateMovement();
+            }
+            if (stressPopulation != null) {
+                stressPopulation.updateCollectors();
+            }
+            for (NPCMovementManager trashManager : trashMovementManagers) {
+                trashManager.updateMovement();
+            }
+            trashSeparation.apply(trashMovementManagers, deltaTime);
+            trashSeparation.recordContacts(
+                    collisionManager.getContactStatistics().getContactCount(Trash.class, Trash.class), deltaTime);
+
+            collisionManager.updateGame(constants.GAME_WIDTH(), constants.GAME_HEIGHT(),
+                    constants.PIXELS_TO_METERS());
+        } catch (Exception e) {
+            updateFailures++;
+            LOGGER.error("Exception during game update: {0}", e.getMessage());
+        }
+
+        frameProfiler.phase(FramePhase.PHYSICS_STEP);
+        int activeBodyCount = 0;
+        world.getBodies(bodies);
+        for (int i = 0; i < bodies.size; i++) {
+            if (bodies.get(i).isActive()) {
+                activeBodyCount++;
+            }
+        }
+
+        if (activeBodyCount > 1) {
+            collisionManager.stepWorld(PHYSICS_TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+
+            frameProfiler.phase(FramePhase.REMOVALS);
+            collisionManager.processRemovalQueue();
+            frameProfiler.phase(FramePhase.CONTACTS);
+            collisionManager.processCollisions();
+            frameProfiler.phase(FramePhase.SYNC);
+            collisionManager.syncEntityPositions(constants.PIXELS_TO_METERS());
+            obstacleField.refresh();
+        }
+        frameProfiler.setCounts(existingEntities.size(), world.getBodyCount(), world.getContactCount());
+        frameProfiler.endFrame();
+
+        if (stressRamp != null && stressRamp.recordFrame(frameProfiler.getLastFrameNanos())) {
+            stressPopulation.fillTo(stressRamp.getTargetTrash(), stressRamp.getTargetRocks(),
+                    stressRamp.getTargetCollectors());
+        }
+    }
+
+    /**
+     * The ramp driving a stress simulation, or null for the game scenes.
+     */
+    public StressRamp getStressRamp() {
+        return stressRamp;
+    }
+
+    /**
+     * The entities of a stress simulation, or null for the game scenes.
+     */
+    public StressPopulation getStressPopulation() {
+        return stressPopulation;
+    }
+
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
+
+    /**
+     * Replaces the profiler that times ticks, e.g. with one whose window
+     * covers a whole measurement.
+     */
+    public void setFrameProfiler(FrameProfiler frameProfiler) {
+        if (frameProfiler == null) {
+            throw new IllegalArgumentException("Frame profiler cannot be null");
+        }
+        this.frameProfiler = frameProfiler;
+    }
+
+    @Override
+    public void onEntityRemove(Entity entity) {
+        if (stressPopulation != null) {
+            stressPopulation.onEntityRemove(entity);
+            return;
+        }
+        existingEntities.remove(entity);
+        entity.removeFromManager(entityManager);
+
+        for (Trash trash : new ArrayList<>(trashes)) {
+            if (trash.getEntity().equals(entity)) {
+                NPCMovementManager trashManager = trash.getMovementManager();
+                if (trashManager != null) {
+                    trashMovementManagers.remove(trashManager);
+                }
+                trashes.remove(trash);
+                trashCollected++;
+                break;
+            }
+        }
+    }
+
+    public void dispose() {
+        if (stressPopulation != null) {
+            stressPopulation.dispose();
+        }
+        if (pathfindingService != null) {
+            pathfindingService.dispose();
+        }
+        if (currentField != null) {
+            currentField.dispose();
+        }
+        if (world != null) {
+            world.dispose();
+        }
+    }
+
+    public int getRemainingTrash() {
+        return trashes.size();
+    }
+
+    public int getTrashCollected() {
+        return stressPopulation != null ? stressPopulation.getTrashCollected() : trashCollected;
+    }
+
+    public int getLivesLost() {
+        return livesLost;
+    }
+
+    public int getTurtleHits() {
+        return stressPopulation != null ? stressPopulation.getCollectorHits() : turtleHits;
+    }
+
+    public int getUpdateFailures() {
+        return updateFailures;
+    }
+
+    public int getBodyCount() {
+        return world.getBodyCount();
+    }
+
+    private void createRocks() {
+        for (int i = 0; i < numRocks; i++) {
+            Rock rock = entityFactoryManager.createRock();
+            rocks.add(rock);
+            entityManager.addSpriteEntity(rock);
+            collisionManager.addEntity(rock, null);
+            existingEntities.add(rock.getEntity());
+        }
+    }
+
+    private void createTrash() {
+        for (int i = 0; i < numTrashes; i++) {
+            Trash trash = entityFactoryManager.createTrash();
+            if (trash != null) {
+                trashes.add(trash);
+                entityManager.addSpriteEntity(trash);
+
+                NPCMovementManager trashMovementManager = trash.getMovementManager();
+                if (trashMovementManager != null) {
+                    trashMovementManagers.add(trashMovementManager);
+                    collisionManager.addEntity(trash, trashMovementManager);
+                }
+
+                existingEntities.add(trash.getEntity());
+            }
+        }
+    }
+
+    private void createBoat() {
+        Entity boatEntity = new Entity(
+                constants.PLAYER_START_X(),
+                constants.PLAYER_START_Y(),
+                constants.PLAYER_WIDTH(),
+                constants.PLAYER_HEIGHT(),
+                true);
+
+        playerMovementManager = new PlayerMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(boatEntity)
+                .setSpeed(constants.PLAYER_SPEED())
+                .setInitialVelocity(0, 0)
+                .setLenientMode(true)
+                .withConstantMovement()
+                .withTickClock(movementClock)
+                .build();
+
+        boat = new Boat(boatEntity, world, playerMovementManager, emptyRegions(8));
+        boat.setCollisionManager(collisionManager);
+        boat.setLifeLossCallback(() -> livesLost++);
+
+        entityManager.addSpriteEntity(boat);
+        collisionManager.addEntity(boat, playerMovementManager);
+        existingEntities.add(boatEntity);
+    }
+
+    private void createSeaTurtle() {
+        Entity seaTurtleEntity = new Entity(
+                constants.SEA_TURTLE_START_X(),
+                constants.SEA_TURTLE_START_Y(),
+                constants.SEA_TURTLE_WIDTH(),
+                constants.SEA_TURTLE_HEIGHT(),
+                true);
+
+        List<Entity> rockEntities = new ArrayList<>();
+        for (Rock rock : rocks) {
+            rockEntities.add(rock.getEntity());
+        }
+        List<Trash> trashEntities = new ArrayList<>(trashes);
+        npcMovementManager = new NPCMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(seaTurtleEntity)
+                .setSpeed(constants.NPC_SPEED())
+                .setInitialVelocity(1, 0)
+                .withTrashCollector(trashEntities, rockEntities, new float[] { 0.40f, 0.60f })
+                .withObstacleField(obstacleField)
+                .withDecisionScheduler(decisionScheduler)
+                .withPathfinding(pathfindingService)
+                .withStrategyFlattening(true)
+                .withTickClock(movementClock)
+                .setLenientMode(true)
+                .build();
+
+        SeaTurtle seaTurtle = new SeaTurtle(seaTurtleEntity, world, npcMovementManager, emptyRegions(8));
+        seaTurtle.setEntityRemovalListener(this);
+        seaTurtle.setCollisionManager(collisionManager);
+        seaTurtle.setHealthCallback(() -> turtleHits++);
+
+        entityManager.addSpriteEntity(seaTurtle);
+        collisionManager.addEntity(seaTurtle, npcMovementManager);
+        existingEntities.add(seaTurtleEntity);
+    }
+
+    private void createStressPopulation() {
+        stressPopulation = new StressPopulation.Builder()
+                .withWorld(world, entityManager, collisionManager, entityFactoryManager)
+                .withLists(existingEntities, rocks, trashes, trashMovementManagers)
+                .withNavigation(obstacleField, pathfindingService, currentField, decisionScheduler)
+                .withTiming(movementClock, movementLODPolicy)
+                .withTarget(playerMovementManager.getMovableEntity())
+                .withCollectorSprites(emptyRegions(8))
+                .build();
+        stressRamp = new StressRamp(stressConfig);
+        stressPopulation.fillTo(stressRamp.getTargetTrash(), stressRamp.getTargetRocks(),
+                stressRamp.getTargetCollectors());
+    }
+
+    private void buildObstacleField() {
+        obstacleField = new ObstacleDistanceField(constants.GAME_WIDTH(), constants.GAME_HEIGHT());
+        List<Entity> rockEntities = new ArrayList<>();
+        for (Rock rock : rocks) {
+            rockEntities.add(rock.getEntity());
+        }
+        obstacleField.build(rockEntities);
+    }
+
+    private void buildPathfinding() {
+        float clearance = Math.max(constants.SEA_TURTLE_WIDTH(), constants.SEA_TURTLE_HEIGHT()) / 2;
+        OccupancyGrid grid = OccupancyGrid.fromRocks(rocks, constants.GAME_WIDTH(), constants.GAME_HEIGHT(),
+                32f, clearance, constants.PIXELS_TO_METERS());
+        pathfindingService = new PathfindingService(grid, 256);
+    }
+
+    private void buildCurrentField() {
+        RandomStream random = RandomProvider.getInstance().nextStream();
+        currentField = new OceanCurrentField(constants.GAME_WIDTH(), constants.GAME_HEIGHT(),
+                20f * random.nextSign(), 0f, 100f, random.nextLong(), true);
+        entityFactoryManager.setTrashCurrentField(currentField);
+    }
+
+    private void buildTrashSeparation() {
+        float radius = Math.max(constants.TRASH_WIDTH(), constants.TRASH_HEIGHT()) / 2;
+        trashSeparation = new SeparationSteering(constants.GAME_WIDTH(), constants.GAME_HEIGHT(), radius, 4f, 0.5f,
+                60f);
+    }
+
+    private static TextureRegion[] emptyRegions(int count) {
+        TextureRegion[] regions = new TextureRegion[count];
+        for (int i = 0; i < count; i++) {
+            regions[i] = new TextureRegion();
+        }
+        return regions;
+    }
+}
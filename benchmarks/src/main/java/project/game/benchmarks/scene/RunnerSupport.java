@@ -0,0 +1,71 @@
+package project.game.benchmarks.scene;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Option parsing and application startup shared by the headless scene
+ * runners.
+ */
+final class RunnerSupport {
+
+    private RunnerSupport() {
+    }
+
+    /**
+     * Starts a headless application, runs the given body on its thread and
+     * waits for the exit code it returns. A body that throws exits with 2.
+     */
+    static int runHeadless(final Callable<Integer> body) throws InterruptedException {
+        final CountDownLatch finished = new CountDownLatch(1);
+        final int[] exitCode = { 2 };
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                try {
+                    exitCode[0] = body.call();
+                } catch (Exception e) {
+                    System.err.println("Scene run failed: " + e);
+                    e.printStackTrace();
+                } finally {
+                    finished.countDown();
+                    Gdx.app.exit();
+                }
+            }
+        }, config);
+
+        finished.await();
+        return exitCode[0];
+    }
+
+    static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(requireValue(name, value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " expects an integer: " + value);
+        }
+    }
+
+    static double parseDouble(String name, String value) {
+        try {
+            return Double.parseDouble(requireValue(name, value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " expects a number: " + value);
+        }
+    }
+
+    static String requireValue(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " expects a value");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,200 @@
+package project.game.benchmarks.scene;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Tick timings and allocation measured by a headless scene run, with the
+ * summary statistics that are compared against a stored baseline.
+ *
+ * Baselines are stored as properties files holding the compared statistics.
+ * Throughput regresses when it drops by more than the tolerance; median and
+ * 99th percentile tick time and bytes allocated per tick regress when they
+ * grow by more than it. The maximum tick time is reported but not compared,
+ * as a single GC pause decides it.
+ */
+public class SceneBenchmarkResult {
+
+    static final String TICKS_PER_SECOND = "ticksPerSecond";
+    static final String P50_MICROS = "p50Micros";
+    static final String P99_MICROS = "p99Micros";
+    static final String MAX_MICROS = "maxMicros";
+    static final String BYTES_PER_TICK = "bytesPerTick";
+
+    private final int ticks;
+    private final double ticksPerSecond;
+    private final double p50Micros;
+    private final double p99Micros;
+    private final double maxMicros;
+    private final double bytesPerTick;
+    private final double megabytesPerSecond;
+
+    /**
+     * Summarises a run.
+     *
+     * @param tickNanos      Time taken by each measured tick
+     * @param totalNanos     Wall time of the measured ticks
+     * @param allocatedBytes Bytes allocated by the ticking thread, or -1 if
+     *                       the JVM cannot report it
+     */
+    public SceneBenchmarkResult(long[] tickNanos, long totalNanos, long allocatedBytes) {
+        if (tickNanos.length == 0) {
+            throw new IllegalArgumentException("No ticks were measured");
+        }
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        double seconds = totalNanos / 1e9;
+
+        this.ticks = tickNanos.length;
+        this.ticksPerSecond = ticks / seconds;
+        this.p50Micros = percentile(sorted, 0.50) / 1e3;
+        this.p99Micros = percentile(sorted, 0.99) / 1e3;
+        this.maxMicros = sorted[sorted.length - 1] / 1e3;
+        this.bytesPerTick = allocatedBytes >= 0 ? (double) allocatedBytes / ticks : -1;
+        this.megabytesPerSecond = allocatedBytes >= 0 ? allocatedBytes / seconds / (1024 * 1024) : -1;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    public String summary() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "ticks:           %d%n", ticks));
+        builder.append(String.format(Locale.ROOT, "throughput:      %.1f ticks/s%n", ticksPerSecond));
+        builder.append(String.format(Locale.ROOT, "tick p50:        %.1f us%n", p50Micros));
+        builder.append(String.format(Locale.ROOT, "tick p99:        %.1f us%n", p99Micros));
+        builder.append(String.format(Locale.ROOT, "tick max:        %.1f us%n", maxMicros));
+        if (bytesPerTick >= 0) {
+            builder.append(String.format(Locale.ROOT, "allocation:      %.0f B/tick, %.2f MB/s%n", bytesPerTick,
+                    megabytesPerSecond));
+        } else {
+            builder.append(String.format("allocation:      not supported by this JVM%n"));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Compares this run against a baseline.
+     *
+     * @param baseline  Statistics of the baseline run
+     * @param tolerance Allowed relative change, e.g. 0.2 for 20%
+     * @return A description of each regression; empty if there are none
+     */
+    public List<String> findRegressions(Properties baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        checkDrop(regressions, baseline, TICKS_PER_SECOND, ticksPerSecond, tolerance);
+        checkGrowth(regressions, baseline, P50_MICROS, p50Micros, tolerance);
+        checkGrowth(regressions, baseline, P99_MICROS, p99Micros, tolerance);
+        if (bytesPerTick >= 0) {
+            checkGrowth(regressions, baseline, BYTES_PER_TICK, bytesPerTick, tolerance);
+        }
+        return regressions;
+    }
+
+    private static void checkDrop(List<String> regressions, Properties baseline, String key, double value,
+            double tolerance) {
+        double expected = baselineValue(baseline, key);
+        if (expected > 0 && value < expected * (1 - tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "%s dropped from %.1f to %.1f", key, expected, value));
+        }
+    }
+
+    private static void checkGrowth(List<String> regressions, Properties baseline, String key, double value,
+            double tolerance) {
+        double expected = baselineValue(baseline, key);
+        if (expected >= 0 && value > expected * (1 + tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "%s grew from %.1f to %.1f", key, expected, value));
+        }
+    }
+
+    private static double baselineValue(Properties baseline, String key) {
+        String value = baseline.getProperty(key);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid baseline value for " + key + ": " + value);
+        }
+    }
+
+    public static Properties loadBaseline(Path file) throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            baseline.load(in);
+        }
+        return baseline;
+    }
+
+    /**
+     * Stores this run as a baseline.
+     *
+     * @param headroom Relative allowance added to every statistic, so a
+     *                 baseline recorded on a fast run does not fail slower
+     *                 runs of the same build
+     */
+    public void storeBaseline(Path file, String description, double headroom) throws IOException {
+        double scale = 1 + headroom;
+        Properties baseline = new Properties();
+        baseline.setProperty(TICKS_PER_SECOND, format(ticksPerSecond / scale));
+        baseline.setProperty(P50_MICROS, format(p50Micros * scale));
+        baseline.setProperty(P99_MICROS, format(p99Micros * scale));
+        baseline.setProperty(MAX_MICROS, format(maxMicros * scale));
+        if (bytesPerTick >= 0) {
+            baseline.setProperty(BYTES_PER_TICK, format(bytesPerTick * scale));
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            baseline.store(out, description);
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public double getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    public double getP50Micros() {
+        return p50Micros;
+    }
+
+    public double getP99Micros() {
+        return p99Micros;
+    }
+
+    public double getMaxMicros() {
+        return maxMicros;
+    }
+
+    public double getBytesPerTick() {
+        return bytesPerTick;
+    }
+
+    public double getMegabytesPerSecond() {
+        return megabytesPerSecond;
+    }
+}
@@ -0,0 +1,333 @@
+package project.game.benchmarks.scene;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import project.game.application.scene.stress.StressConfig;
+import project.game.application.scene.stress.StressRamp;
+import project.game.benchmarks.BenchmarkWorld;
+import project.game.common.config.api.IGameConstants;
+import project.game.common.config.factory.GameConstantsFactory;
+import project.game.common.util.math.RandomProvider;
+import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.metrics.MetricsFileReporter;
+import project.game.engine.metrics.MetricsRegistry;
+
+/**
+ * Runs a game scene for a fixed number of ticks on LibGDX's headless backend
+ * and reports throughput, tick time percentiles and allocation rate.
+ *
+ * Options, all optional:
+ * <ul>
+ * <li>{@code --scene=1|2|stress} GameScene1, GameScene2 or the StressScene
+ * (default 1)</li>
+ * <li>{@code --rocks=N}, {@code --trash=N} entity counts (default NUM_ROCKS
+ * and NUM_TRASHES from the game configuration)</li>
+ * <li>{@code --ticks=N} measured ticks (default 3600), after
+ * {@code --warmup=N} unmeasured ones (default 600)</li>
+ * <li>{@code --seed=N} seed for entity placement and behaviour (default
+ * 42)</li>
+ * <li>{@code --input=FILE} recorded input to replay, see
+ * {@link SceneInputScript}; by default the boat patrols with W, D, S and
+ * A</li>
+ * <li>{@code --baseline=FILE} baseline to compare against (default
+ * baselines/scene&lt;scene&gt;-&lt;rocks&gt;r-&lt;trash&gt;t.properties)</li>
+ * <li>{@code --tolerance=F} allowed relative change (default 0.2)</li>
+ * <li>{@code --update-baseline} store this run as the baseline instead of
+ * comparing</li>
+ * <li>{@code --headroom=F} relative headroom added to the stored baseline
+ * (default 0), since tick times vary between runs of the same build</li>
+ * <li>{@code --metrics=FILE} append a metrics snapshot to FILE every second
+ * and at the end of the run, see {@link MetricsFileReporter}</li>
+ * <li>{@code --verbose} keep the game's info logging</li>
+ * </ul>
+ *
+ * Exits with 1 when the run regresses against the baseline and 2 when it
+ * fails or there is no baseline to compare against.
+ *
+ * With {@code --scene=stress} the run instead ramps entity counts until ticks
+ * exceed the frame budget and reports the maximum sustainable count, see
+ * {@link StressRamp}. The {@code --stress-*} options of
+ * {@link StressConfig.Builder#parseOption(String)} tune the ramp,
+ * {@code --ticks} caps the run, and warm-up, baseline and rock and trash
+ * options are ignored. Ticks leave out drawing, so the count is higher than
+ * in the game window.
+ */
+public final class SceneBenchmarkRunner {
+
+    private static final float TICK_DELTA = 1f / 60f;
+    private static final int PATROL_HOLD_TICKS = 90;
+    private static final int STRESS_PATROL_TICKS = 60 * 60 * 60;
+
+    private int scene = 1;
+    private int rocks = -1;
+    private int trash = -1;
+    private int ticks = 3600;
+    private int warmup = 600;
+    private long seed = 42L;
+    private Path inputFile;
+    private Path baselineFile;
+    private double tolerance = 0.2;
+    private boolean updateBaseline;
+    private double headroom;
+    private boolean verbose;
+    private Path metricsFile;
+    private boolean stress;
+    private boolean ticksGiven;
+    private final StressConfig.Builder stressConfig = new StressConfig.Builder();
+
+    private SceneBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SceneBenchmarkRunner runner = new SceneBenchmarkRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+        System.exit(RunnerSupport.runHeadless(runner::run));
+    }
+
+    private void parse(String[] args) {
+        for (String arg : args) {
+            if (arg.isEmpty()) {
+                continue;
+            }
+            String name = arg;
+            String value = null;
+            int equals = arg.indexOf('=');
+            if (equals >= 0) {
+                name = arg.substring(0, equals);
+                value = arg.substring(equals + 1);
+            }
+            switch (name) {
+                case "--scene":
+                    if ("stress".equals(value)) {
+                        stress = true;
+                    } else {
+                        scene = RunnerSupport.parseInt(name, value);
+                    }
+                    break;
+                case "--rocks":
+                    rocks = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--trash":
+                    trash = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--ticks":
+                    ticks = RunnerSupport.parseInt(name, value);
+                    ticksGiven = true;
+                    break;
+                case "--warmup":
+                    warmup = RunnerSupport.parseInt(name, value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(RunnerSupport.requireValue(name, value));
+                    break;
+                case "--input":
+                    inputFile = Paths.get(RunnerSupport.requireValue(name, value));
+                    break;
+                case "--baseline":
+                    baselineFile = Paths.get(RunnerSupport.requireValue(name, value));
+                    break;
+                case "--tolerance":
+                    tolerance = RunnerSupport.parseDouble(name, value);
+                    break;
+                case "--update-baseline":
+                    updateBaseline = true;
+                    break;
+                case "--headroom":
+                    headroom = RunnerSupport.parseDouble(name, value);
+                    break;
+                case "--metrics":
+                    metricsFile = Paths.get(RunnerSupport.requireValue(name, value));
+                    break;
+                case "--verbose":
+                    verbose = true;
+                    break;
+                default:
+                    if (!stressConfig.parseOption(arg)) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+            }
+        }
+        if (scene != 1 && scene != 2) {
+            throw new IllegalArgumentException("--scene must be 1, 2 or stress");
+        }
+        if (ticks <= 0 || warmup < 0) {
+            throw new IllegalArgumentException("--ticks must be positive and --warmup non-negative");
+        }
+        if (tolerance < 0 || headroom < 0) {
+            throw new IllegalArgumentException("--tolerance and --headroom must be non-negative");
+        }
+    }
+
+    private int run() throws Exception {
+        if (!verbose) {
+            BenchmarkWorld.quietLogging();
+        }
+        BenchmarkWorld.initConstants();
+        if (stress) {
+            return runStress();
+        }
+        IGameConstants constants = GameConstantsFactory.getConstants();
+        if (rocks < 0) {
+            rocks = constants.NUM_ROCKS();
+        }
+        if (trash < 0) {
+            trash = constants.NUM_TRASHES();
+        }
+        if (baselineFile == null) {
+            baselineFile = Paths.get("baselines", "scene" + scene + "-" + rocks + "r-" + trash + "t.properties");
+        }
+
+        int totalTicks = warmup + ticks;
+        SceneInputScript input = inputFile != null
+                ? SceneInputScript.load(inputFile)
+                : SceneInputScript.patrol(PATROL_HOLD_TICKS, totalTicks);
+
+        RandomProvider.getInstance().setSeed(seed);
+        SceneInputManager inputManager = new SceneInputManager(true);
+        HeadlessSceneSimulation simulation = new HeadlessSceneSimulation(scene, rocks, trash, inputManager);
+        simulation.create();
+
+        String description = "GameScene" + scene + ", " + rocks + " rocks, " + trash + " trash, " + ticks
+                + " ticks after " + warmup + " warm-up ticks, seed " + seed;
+        System.out.println("Running " + description);
+
+        MetricsFileReporter metricsReporter = null;
+        if (metricsFile != null) {
+            metricsReporter = new MetricsFileReporter(MetricsRegistry.getInstance(), metricsFile);
+            metricsReporter.start(1, TimeUnit.SECONDS);
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long[] tickNanos = new long[ticks];
+        long allocatedBefore = 0;
+        long startNanos = 0;
+        try {
+            for (int tick = 0; tick < totalTicks; tick++) {
+                if (tick == warmup) {
+                    allocatedBefore = allocatedBytes(threads);
+                    startNanos = System.nanoTime();
+                }
+                input.apply(tick, inputManager);
+                long tickStart = System.nanoTime();
+                simulation.tick(TICK_DELTA);
+                if (tick >= warmup) {
+                    tickNanos[tick - warmup] = System.nanoTime() - tickStart;
+                }
+            }
+        } finally {
+            simulation.dispose();
+            if (metricsReporter != null) {
+                metricsReporter.close();
+            }
+        }
+        long totalNanos = System.nanoTime() - startNanos;
+        long allocatedAfter = allocatedBytes(threads);
+        long allocated = allocatedBefore >= 0 && allocatedAfter >= 0 ? allocatedAfter - allocatedBefore : -1;
+
+        SceneBenchmarkResult result = new SceneBenchmarkResult(tickNanos, totalNanos, allocated);
+        System.out.print(result.summary());
+        System.out.println("trash collected: " + simulation.getTrashCollected() + ", remaining: "
+                + simulation.getRemainingTrash() + ", lives lost: " + simulation.getLivesLost()
+                + ", turtle hits: " + simulation.getTurtleHits() + ", update failures: "
+                + simulation.getUpdateFailures());
+
+        return compare(result, description);
+    }
+
+    private int runStress() throws Exception {
+        StressConfig config = stressConfig.build();
+        int maxTicks = ticksGiven ? ticks : Integer.MAX_VALUE;
+        SceneInputScript input = inputFile != null
+                ? SceneInputScript.load(inputFile)
+                : SceneInputScript.patrol(PATROL_HOLD_TICKS, Math.min(maxTicks, STRESS_PATROL_TICKS));
+
+        RandomProvider.getInstance().setSeed(seed);
+        SceneInputManager inputManager = new SceneInputManager(true);
+        HeadlessSceneSimulation simulation = new HeadlessSceneSimulation(config, inputManager);
+        simulation.create();
+        System.out.println("Running StressScene: " + config.describe() + ", seed " + seed);
+
+        MetricsFileReporter metricsReporter = null;
+        if (metricsFile != null) {
+            metricsReporter = new MetricsFileReporter(MetricsRegistry.getInstance(), metricsFile);
+            metricsReporter.start(1, TimeUnit.SECONDS);
+        }
+
+        StressRamp ramp = simulation.getStressRamp();
+        int reportedSteps = 0;
+        int tick = 0;
+        try {
+            while (!ramp.isFinished() && tick < maxTicks) {
+                input.apply(tick, inputManager);
+                simulation.tick(TICK_DELTA);
+                tick++;
+                if (ramp.getSteps().size() > reportedSteps) {
+                    System.out.println(ramp.getSteps().get(reportedSteps++));
+                }
+            }
+        } finally {
+            simulation.dispose();
+            if (metricsReporter != null) {
+                metricsReporter.close();
+            }
+        }
+
+        String report = ramp.report();
+        System.out.println(report.substring(report.lastIndexOf('\n') + 1));
+        System.out.println("ticks: " + tick + ", trash collected: " + simulation.getTrashCollected()
+                + ", lives lost: " + simulation.getLivesLost() + ", collector hits: " + simulation.getTurtleHits()
+                + ", update failures: " + simulation.getUpdateFailures());
+        return 0;
+    }
+
+    private int compare(SceneBenchmarkResult result, String description) throws Exception {
+        if (updateBaseline) {
+            result.storeBaseline(baselineFile, description, headroom);
+            System.out.println("Baseline written to " + baselineFile.toAbsolutePath());
+            return 0;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.err.println("No baseline at " + baselineFile.toAbsolutePath()
+                    + "; run with --update-baseline to record one");
+            return 2;
+        }
+
+        Properties baseline = SceneBenchmarkResult.loadBaseline(baselineFile);
+        List<String> regressions = result.findRegressions(baseline, tolerance);
+        if (regressions.isEmpty()) {
+            System.out.println("Within " + Math.round(tolerance * 100) + "% of baseline " + baselineFile);
+            return 0;
+        }
+        System.out.println("Regressed against baseline " + baselineFile + ":");
+        for (String regression : regressions) {
+            System.out.println("  " + regression);
+        }
+        return 1;
+    }
+
+    /**
+     * Bytes allocated so far by the current thread, or -1 if the JVM does
+     * not track it.
+     */
+    private static long allocatedBytes(ThreadMXBean threads) {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,144 @@
+package project.game.benchmarks.scene;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.badlogic.gdx.Input;
+
+import project.game.engine.io.management.InputManager;
+
+/**
+ * Key presses and releases to replay against a headless scene, one tick at a
+ * time.
+ *
+ * Recorded input is read from a text file with one event per line:
+ * {@code <tick> <down|up> <key>}, where the key is a LibGDX key name such as
+ * {@code W} or {@code Left}. Blank lines and lines starting with {@code #} are
+ * ignored. Events on the same tick are applied in file order.
+ */
+public class SceneInputScript {
+
+    private final List<Event> events;
+    private int cursor;
+
+    private SceneInputScript(List<Event> events) {
+        Collections.sort(events, (a, b) -> Integer.compare(a.tick, b.tick));
+        this.events = events;
+    }
+
+    /**
+     * Loads recorded input from a file.
+     *
+     * @throws IOException              If the file cannot be read
+     * @throws IllegalArgumentException If a line is malformed
+     */
+    public static SceneInputScript load(Path file) throws IOException {
+        List<Event> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                events.add(parseEvent(line, file + ":" + lineNumber));
+            }
+        }
+        return new SceneInputScript(events);
+    }
+
+    /**
+     * Scripted input that steers the boat up, right, down and left in turn,
+     * holding each key for the given number of ticks and repeating until the
+     * last tick.
+     */
+    public static SceneInputScript patrol(int holdTicks, int totalTicks) {
+        if (holdTicks <= 0) {
+            throw new IllegalArgumentException("Hold ticks must be positive: " + holdTicks);
+        }
+        int[] keys = { Input.Keys.W, Input.Keys.D, Input.Keys.S, Input.Keys.A };
+        List<Event> events = new ArrayList<>();
+        int leg = 0;
+        for (int tick = 0; tick < totalTicks; tick += holdTicks) {
+            int key = keys[leg++ % keys.length];
+            events.add(new Event(tick, key, true));
+            events.add(new Event(tick + holdTicks, key, false));
+        }
+        return new SceneInputScript(events);
+    }
+
+    /**
+     * Applies the events due on this tick. Ticks must be applied in order,
+     * starting from zero.
+     */
+    public void apply(int tick, InputManager input) {
+        while (cursor < events.size() && events.get(cursor).tick <= tick) {
+            Event event = events.get(cursor++);
+            if (event.down) {
+                input.keyDown(event.key);
+            } else {
+                input.keyUp(event.key);
+            }
+        }
+    }
+
+    /**
+     * Rewinds to the first event.
+     */
+    public void reset() {
+        cursor = 0;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    private static Event parseEvent(String line, String location) {
+        String[] parts = line.split("\\s+");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException(location + ": expected <tick> <down|up> <key>: " + line);
+        }
+        int tick;
+        try {
+            tick = Integer.parseInt(parts[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(location + ": invalid tick: " + parts[0]);
+        }
+        if (tick < 0) {
+            throw new IllegalArgumentException(location + ": tick must be non-negative: " + tick);
+        }
+        boolean down;
+        if ("down".equalsIgnoreCase(parts[1])) {
+            down = true;
+        } else if ("up".equalsIgnoreCase(parts[1])) {
+            down = false;
+        } else {
+            throw new IllegalArgumentException(location + ": expected down or up: " + parts[1]);
+        }
+        int key = Input.Keys.valueOf(parts[2]);
+        if (key < 0) {
+            throw new IllegalArgumentException(location + ": unknown key: " + parts[2]);
+        }
+        return new Event(tick, key, down);
+    }
+
+    private static class Event {
+        private final int tick;
+        private final int key;
+        private final boolean down;
+
+        Event(int tick, int key, boolean down) {
+            this.tick = tick;
+            this.key = key;
+            this.down = down;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package project.game;
 
+import java.util.Locale;
+
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.ScreenUtils;
 
 import project.game.application.scene.factory.SceneFactory;
+import project.game.application.scene.stress.StressConfig;
 import project.game.common.config.factory.GameConstantsFactory;
 import project.game.common.logging.core.GameLogger;
 import project.game.common.logging.core.LoggerConfig;
@@ -12,6 +15,8 @@ import project.game.common.logging.util.LogPaths;
 import project.game.common.util.file.ProjectPaths;
 import project.game.engine.io.management.SceneInputManager;
 import project.game.engine.logging.api.LogLevel;
+import project.game.engine.metrics.MetricsFileReporter;
+import project.game.engine.metrics.MetricsRegistry;
 import project.game.engine.scene.management.SceneManager;
 import project.game.engine.scene.management.SceneRenderer;
 
@@ -20,13 +25,33 @@ public class Main extends ApplicationAdapter {
     private static GameLogger LOGGER;
     private SceneManager sceneManager;
     private SceneRenderer sceneRenderer;
+    private MetricsFileReporter metricsReporter;
+    private final String startScene;
+    private final StressConfig stressConfig;
+
+    public Main() {
+        this("menu", StressConfig.defaults());
+    }
+
+    /**
+     * @param startScene   Name of the first scene shown, e.g. "menu" or
+     *                     "stress"
+     * @param stressConfig Configuration of the stress scene
+     */
+    public Main(String startScene, StressConfig stressConfig) {
+        this.startScene = startScene;
+        this.stressConfig = stressConfig;
+    }
 
     @Override
     public void create() {
+        // Log lines are written by a background thread so the render thread
+        // only enqueues them; -Dgame.log.level=DEBUG brings back debug output
         LoggerConfig loggerConfig = new LoggerConfig.Builder()
                 .withLogDirectory(LogPaths.getGlobalLogDirectory())
                 .withMaxLogFiles(10)
-                .withDefaultLogLevel(LogLevel.DEBUG)
+                .withDefaultLogLevel(logLevelFromSystemProperty(LogLevel.INFO))
+                .withAsync(true)
                 .build();
         GameLogger.configure(loggerConfig);
 
@@ -36,6 +61,9 @@ public class Main extends ApplicationAdapter {
         LOGGER.debug("Java version: {0}", System.getProperty("java.version"));
         LOGGER.debug("Using log directory: {0}", LogPaths.getGlobalLogDirectory());
 
+        MetricsRegistry.getInstance().exportToJmx();
+        metricsReporter = MetricsFileReporter.startFromSystemProperties(MetricsRegistry.getInstance());
+
         String projectRoot = LogPaths.getProjectRoot();
         String configFile = ProjectPaths.findConfigFile("default-config.json", projectRoot);
 
@@ -62,10 +90,10 @@ public class Main extends ApplicationAdapter {
 
         // Initializing and registering scenes now done in Scene Factory
         LOGGER.info("Initializing scene factory");
-        SceneFactory sceneFactory = new SceneFactory(sceneManager, sharedInputManager);
+        SceneFactory sceneFactory = new SceneFactory(sceneManager, sharedInputManager, stressConfig);
         sceneFactory.createAndRegisterScenes();
 
-        sceneManager.setScene("menu");
+        sceneManager.setScene(startScene);
     }
 
     @Override
@@ -89,6 +117,23 @@ public class Main extends ApplicationAdapter {
             sceneManager.dispose();
             sceneManager = null;
         }
+        if (metricsReporter != null) {
+            metricsReporter.close();
+            metricsReporter = null;
+        }
+        LOGGER.dispose();
+    }
 
+    private static LogLevel logLevelFromSystemProperty(LogLevel defaultLevel) {
+        String level = System.getProperty("game.log.level");
+        if (level == null) {
+            return defaultLevel;
+        }
+        try {
+            return LogLevel.valueOf(level.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log level " + level + ", using " + defaultLevel);
+            return defaultLevel;
+        }
     }
 }
\ No newline at end of file
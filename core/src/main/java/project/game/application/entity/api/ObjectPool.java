@@ -3,22 +3,44 @@ package project.game.application.entity.api;
 import java.util.LinkedList;
 import java.util.Queue;
 
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
+
 public class ObjectPool<T> {
     
     private final Queue<T> pool;
     private final int maxSize;
     private final ObjectFactory<T> factory;
+    private final Counter hits;
+    private final Counter misses;
 
     public ObjectPool(int maxSize, ObjectFactory<T> factory) {
+        this(null, maxSize, factory);
+    }
+
+    /**
+     * Creates a pool that publishes its hits and misses as the
+     * pool.&lt;name&gt;.hits and pool.&lt;name&gt;.misses metrics; an unnamed
+     * pool publishes nothing.
+     */
+    public ObjectPool(String name, int maxSize, ObjectFactory<T> factory) {
         this.pool = new LinkedList<>();
         this.maxSize = maxSize;
         this.factory = factory;
+        this.hits = name != null ? MetricsRegistry.getInstance().counter("pool." + name + ".hits") : null;
+        this.misses = name != null ? MetricsRegistry.getInstance().counter("pool." + name + ".misses") : null;
     }
 
     public T borrowObject() {
         if (pool.isEmpty()) {
+            if (misses != null) {
+                misses.increment();
+            }
             return factory.createObject();
         } else {
+            if (hits != null) {
+                hits.increment();
+            }
             return pool.poll();
         }
     }
@@ -1,7 +1,7 @@
 package project.game.application.entity.factory;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.World;
@@ -9,16 +9,29 @@ import com.badlogic.gdx.physics.box2d.World;
 import project.game.application.entity.api.IEntityRemovalListener;
 import project.game.application.entity.item.Trash;
 import project.game.application.entity.obstacle.Rock;
+import project.game.application.movement.navigation.OceanCurrentField;
 import project.game.common.config.api.IGameConstants;
+import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.physics.management.CollisionManager;
+import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogSite;
 
 public class EntityFactoryManager {
 
+    private static final GameLogger LOGGER = new GameLogger(EntityFactoryManager.class);
+    // Scenes spawn entities by the hundred, so placements are logged at most
+    // once a second with a count of the rest
+    private static final LogSite ROCK_LOG = new LogSite("EntityFactoryManager.createRock");
+    private static final LogSite TRASH_LOG = new LogSite("EntityFactoryManager.createTrash");
+
     private final IGameConstants constants;
     private final RockFactory rockFactory;
     private final TrashFactory trashFactory;
-    private final Random random;
+    private final RandomStream random;
+    private int maxPlacementRetries = 50;
 
     public EntityFactoryManager(
             IGameConstants constants,
@@ -28,26 +41,28 @@ public class EntityFactoryManager {
             TextureRegion[] rockRegions,
             TextureRegion[] trashRegions) {
         this.constants = constants;
-        this.random = new Random();
+        this.random = RandomProvider.getInstance().nextStream();
         this.rockFactory = new RockFactory(constants, world, existingEntities, collisionManager, rockRegions);
         this.trashFactory = new TrashFactory(constants, world, existingEntities, collisionManager, trashRegions);
     }
 
     public Rock createRock() {
         float x, y;
+        int retries = 0;
         do {
             x = random.nextFloat() * (constants.GAME_WIDTH() - constants.ROCK_WIDTH());
             y = random.nextFloat() * (constants.GAME_HEIGHT() - constants.ROCK_HEIGHT());
-        } while (rockFactory.checkCollisionWithExisting(x, y, constants.ROCK_WIDTH(), constants.ROCK_HEIGHT()));
+        } while (rockFactory.checkCollisionWithExisting(x, y, constants.ROCK_WIDTH(), constants.ROCK_HEIGHT())
+                && retries++ < maxPlacementRetries);
 
         Rock rock = rockFactory.createEntity(x, y);
-        System.out.println("Created Rock at: x=" + x + ", y=" + y);
+        LOGGER.logAtMostEvery(ROCK_LOG, 1, TimeUnit.SECONDS, LogLevel.DEBUG, "Created Rock at: x={0}, y={1}", x, y);
         return rock;
     }
 
     public Trash createTrash() {
         float x, y;
-        int maxRetries = 50;
+        int maxRetries = maxPlacementRetries;
         int retries = 0;
         Trash trash = null;
 
@@ -57,7 +72,8 @@ public class EntityFactoryManager {
             if (!trashFactory.checkCollisionWithExisting(x, y, constants.TRASH_WIDTH(), constants.TRASH_HEIGHT())
                     || retries >= maxRetries) {
                 trash = trashFactory.createEntity(x, y);
-                System.out.println("Created Trash at: x=" + x + ", y=" + y);
+                LOGGER.logAtMostEvery(TRASH_LOG, 1, TimeUnit.SECONDS, LogLevel.DEBUG,
+                        "Created Trash at: x={0}, y={1}", x, y);
                 break;
             }
             retries++;
@@ -69,13 +85,30 @@ public class EntityFactoryManager {
             x = random.nextFloat() * (constants.GAME_WIDTH() - constants.TRASH_WIDTH());
             y = random.nextFloat() * (constants.GAME_HEIGHT() - constants.TRASH_HEIGHT());
             trash = trashFactory.createEntity(x, y);
-            System.out.println("Created Trash (after retries) at: x=" + x + ", y=" + y);
+            LOGGER.logAtMostEvery(TRASH_LOG, 1, TimeUnit.SECONDS, LogLevel.DEBUG,
+                    "Created Trash (after retries) at: x={0}, y={1}", x, y);
         }
 
         return trash;
     }
 
+    /**
+     * Sets how many random positions are tried before a new rock or piece of
+     * trash is placed regardless of overlap. Each try checks every existing
+     * entity, so crowded scenes should keep this low.
+     */
+    public void setMaxPlacementRetries(int maxPlacementRetries) {
+        if (maxPlacementRetries < 0) {
+            throw new IllegalArgumentException("Placement retries must be non-negative");
+        }
+        this.maxPlacementRetries = maxPlacementRetries;
+    }
+
     public void setTrashRemovalListener(IEntityRemovalListener listener) {
         trashFactory.setRemovalListener(listener);
     }
+
+    public void setTrashCurrentField(OceanCurrentField currentField) {
+        trashFactory.setCurrentField(currentField);
+    }
 }
\ No newline at end of file
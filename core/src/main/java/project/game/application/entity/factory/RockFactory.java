@@ -1,7 +1,6 @@
 package project.game.application.entity.factory;
 
 import java.util.List;
-import java.util.Random;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.World;
@@ -9,13 +8,15 @@ import com.badlogic.gdx.physics.box2d.World;
 import project.game.application.entity.flyweight.TextureFlyweightFactory;
 import project.game.application.entity.obstacle.Rock;
 import project.game.common.config.api.IGameConstants;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.physics.management.CollisionManager;
 
 public class RockFactory extends AbstractEntityFactory<Rock> {
 
     private final TextureRegion[] rockRegions;
-    private final Random random;
+    private final RandomStream random;
 
     public RockFactory(
             IGameConstants constants,
@@ -25,7 +26,7 @@ public class RockFactory extends AbstractEntityFactory<Rock> {
             TextureRegion[] rockRegions) {
         super(constants, world, existingEntities, collisionManager);
         this.rockRegions = rockRegions;
-        this.random = new Random();
+        this.random = RandomProvider.getInstance().nextStream();
 
         // Initialize the Flyweight Factory with rock textures
         for (int i = 0; i < rockRegions.length; i++) {
@@ -1,10 +1,8 @@
 package project.game.application.entity.factory;
 
 import java.util.List;
-import java.util.Random;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.World;
 
 import project.game.application.entity.api.IEntityRemovalListener;
@@ -12,8 +10,11 @@ import project.game.application.entity.flyweight.TextureFlyweightFactory;
 import project.game.application.entity.item.Trash;
 import project.game.application.movement.builder.NPCMovementBuilder;
 import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.application.movement.navigation.OceanCurrentField;
 import project.game.common.config.api.IGameConstants;
 import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.movement.core.NPCMovementManager;
 import project.game.engine.entitysystem.physics.management.CollisionManager;
@@ -22,18 +23,12 @@ public class TrashFactory extends AbstractEntityFactory<Trash> {
 
     private static final GameLogger LOGGER = new GameLogger(TrashFactory.class);
     private static final float BASE_SPEED_MIN = 50f;
-    private static final float BASE_SPEED_MAX = 100f;
-    private static final float ZIG_SPEED_MIN = 30f;
-    private static final float ZIG_SPEED_MAX = 50f;
-    private static final float MIN_AMPLITUDE = 6f;
-    private static final float MAX_AMPLITUDE = 15f;
-    private static final float MIN_FREQUENCY = 0.2f;
-    private static final float MAX_FREQUENCY = 0.5f;
-    private static final float DEFAULT_CONSTANT_WEIGHT = 0.9f;
-    private static final float DEFAULT_ZIGZAG_WEIGHT = 0.1f;
+    private static final float MIN_DRIFT_SCALE = 0.8f;
+    private static final float MAX_DRIFT_SCALE = 1.2f;
     private final TextureRegion[] trashTextures;
-    private final Random random;
+    private final RandomStream random;
     private IEntityRemovalListener removalListener;
+    private OceanCurrentField currentField;
 
     public TrashFactory(
             IGameConstants constants,
@@ -43,7 +38,7 @@ public class TrashFactory extends AbstractEntityFactory<Trash> {
             TextureRegion[] trashTextures) {
         super(constants, world, existingEntities, collisionManager);
         this.trashTextures = trashTextures;
-        this.random = new Random();
+        this.random = RandomProvider.getInstance().nextStream();
 
         // Initialize the Flyweight Factory with trash textures
         for (int i = 0; i < trashTextures.length; i++) {
@@ -55,6 +50,14 @@ public class TrashFactory extends AbstractEntityFactory<Trash> {
         this.removalListener = removalListener;
     }
 
+    /**
+     * Sets the shared current field new trash drifts with. Trash created
+     * without one moves in a straight line.
+     */
+    public void setCurrentField(OceanCurrentField currentField) {
+        this.currentField = currentField;
+    }
+
     /**
      * Creates a new Trash entity at the specified position.
      * 
@@ -101,38 +104,42 @@ public class TrashFactory extends AbstractEntityFactory<Trash> {
     }
 
     /**
-     * Creates a movement manager for trash that simulates ocean currents.
+     * Creates a movement manager that drifts trash with the shared ocean
+     * current. The drift strategy moves at the sampled current, so the
+     * initial velocity only seeds the first frame.
      */
     private NPCMovementManager createTrashMovement(Entity trashEntity) {
+        if (currentField == null) {
+            LOGGER.error("No ocean current field set for trash; using constant movement");
+            return createFallbackMovement(trashEntity);
+        }
         try {
             // Generate dominant flow direction (mostly horizontal)
-            float dominantDirection = MathUtils.randomBoolean() ? 1f : -1f;
-            float dirX = dominantDirection;
-            float dirY = MathUtils.random(-0.3f, 0.3f);
+            float dirX = random.nextSign();
+            float dirY = random.nextFloat(-0.3f, 0.3f);
 
             return new NPCMovementBuilder(MovementStrategyFactory.getInstance())
                     .withEntity(trashEntity)
-                    .setSpeed(MathUtils.random(BASE_SPEED_MIN, BASE_SPEED_MAX))
                     .setInitialVelocity(dirX, dirY)
                     .setLenientMode(true)
-                    .withRandomizedOceanCurrentMovement(
-                            BASE_SPEED_MIN, BASE_SPEED_MAX,
-                            ZIG_SPEED_MIN, ZIG_SPEED_MAX,
-                            MIN_AMPLITUDE, MAX_AMPLITUDE,
-                            MIN_FREQUENCY, MAX_FREQUENCY,
-                            DEFAULT_CONSTANT_WEIGHT, DEFAULT_ZIGZAG_WEIGHT)
+                    .withCurrentDrift(currentField, random.nextFloat(MIN_DRIFT_SCALE, MAX_DRIFT_SCALE))
                     .build();
         } catch (Exception e) {
             LOGGER.error("Error creating trash movement: {0}", e.getMessage());
-
-            // Fallback to basic movement if creation fails
-            return new NPCMovementBuilder(MovementStrategyFactory.getInstance())
-                    .withEntity(trashEntity)
-                    .setSpeed(BASE_SPEED_MIN)
-                    .setInitialVelocity(1, 0)
-                    .withConstantMovement()
-                    .setLenientMode(true)
-                    .build();
+            return createFallbackMovement(trashEntity);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Fallback to basic movement if the drift cannot be created.
+     */
+    private NPCMovementManager createFallbackMovement(Entity trashEntity) {
+        return new NPCMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(trashEntity)
+                .setSpeed(BASE_SPEED_MIN)
+                .setInitialVelocity(1, 0)
+                .withConstantMovement()
+                .setLenientMode(true)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.function.BiConsumer;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -20,6 +21,9 @@ import project.game.application.entity.obstacle.Rock;
 import project.game.application.entity.player.Boat;
 import project.game.common.config.factory.GameConstantsFactory;
 import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.MovementUtils;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.entitysystem.entity.api.ISpriteRenderable;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.entity.management.EntityManager;
@@ -36,6 +40,7 @@ public class Trash implements ISpriteRenderable, ICollidableVisitor {
     private final Vector2 lastPosition = new Vector2();
     private final float minimumVelocity = 1.0f;
     private final float trashCollisionCooldown = 1.0f;
+    private final RandomStream random = RandomProvider.getInstance().nextStream();
     private TextureRegion[] sprites;
     private int currentSpriteIndex;
     private boolean collisionActive = false;
@@ -273,11 +278,11 @@ public class Trash implements ISpriteRenderable, ICollidableVisitor {
         newBody.setUserData(this);
 
         // Set initial random velocity to ensure movement
-        float angle = (float) (Math.random() * Math.PI * 2);
+        float angle = random.nextFloat(0f, MathUtils.PI2);
         float speed = 2.5f;
         newBody.setLinearVelocity(
-                (float) Math.cos(angle) * speed,
-                (float) Math.sin(angle) * speed);
+                MovementUtils.cos(angle) * speed,
+                MovementUtils.sin(angle) * speed);
 
         return newBody;
     }
@@ -645,9 +650,9 @@ public class Trash implements ISpriteRenderable, ICollidableVisitor {
         // If barely moving, apply a random impulse
         if (distanceMoved < 5.0f && currentSpeed < minimumVelocity) {
             // Generate random direction
-            float angle = (float) (Math.random() * Math.PI * 2);
-            float impulseX = (float) Math.cos(angle) * 0.5f;
-            float impulseY = (float) Math.sin(angle) * 0.5f;
+            float angle = random.nextFloat(0f, MathUtils.PI2);
+            float impulseX = MovementUtils.cos(angle) * 0.5f;
+            float impulseY = MovementUtils.sin(angle) * 0.5f;
 
             // Apply small impulse
             body.applyLinearImpulse(
@@ -660,8 +665,9 @@ public class Trash implements ISpriteRenderable, ICollidableVisitor {
             // Ensure very low damping
             body.setLinearDamping(0.01f);
 
-            LOGGER.debug("Applied movement correction to trash: [{0}, {1}]",
-                    impulseX, impulseY);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Applied movement correction to trash: [{0}, {1}]", impulseX, impulseY);
+            }
         }
     }
 
@@ -2,6 +2,7 @@ package project.game.application.entity.npc;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -21,6 +22,7 @@ import project.game.application.entity.obstacle.Rock;
 import project.game.application.entity.player.Boat;
 import project.game.common.config.factory.GameConstantsFactory;
 import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.MovementUtils;
 import project.game.engine.entitysystem.entity.api.ISpriteRenderable;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.entity.management.EntityManager;
@@ -28,10 +30,14 @@ import project.game.engine.entitysystem.movement.core.NPCMovementManager;
 import project.game.engine.entitysystem.physics.api.ICollidableVisitor;
 import project.game.engine.entitysystem.physics.collision.resolution.CollisionResponseHandler;
 import project.game.engine.entitysystem.physics.management.CollisionManager;
+import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogSite;
 
 public class SeaTurtle implements ISpriteRenderable, ICollidableVisitor {
 
     private static final GameLogger LOGGER = new GameLogger(SeaTurtle.class);
+    private static final LogSite COLLISION_LOG = new LogSite("SeaTurtle.onCollision");
+    private static final LogSite TRASH_REMOVAL_LOG = new LogSite("SeaTurtle.handleTrashCollision");
     private static final long HEALTH_LOSS_COOLDOWN_DURATION = 500;
     private final NPCMovementManager movementManager;
     private final Vector2 accumulatedImpulse = new Vector2();
@@ -61,6 +67,10 @@ public class SeaTurtle implements ISpriteRenderable, ICollidableVisitor {
     public static final int DIRECTION_DOWN_LEFT = 6;
     public static final int DIRECTION_UP_LEFT = 7;
 
+    // Sprite direction for each MovementUtils octant
+    private static final int[] OCTANT_DIRECTIONS = { DIRECTION_RIGHT, DIRECTION_UP_RIGHT, DIRECTION_UP,
+            DIRECTION_UP_LEFT, DIRECTION_LEFT, DIRECTION_DOWN_LEFT, DIRECTION_DOWN, DIRECTION_DOWN_RIGHT };
+
     // Type-based collision handler registry
     private final Entity entity;
     private final World world;
@@ -210,29 +220,7 @@ public class SeaTurtle implements ISpriteRenderable, ICollidableVisitor {
 
         // Only update direction if actually moving
         if (Math.abs(velocity.x) > MOVEMENT_THRESHOLD || Math.abs(velocity.y) > MOVEMENT_THRESHOLD) {
-            // Calculate angle in degrees (0° is right, 90° is up)
-            float angle = (float) Math.toDegrees(Math.atan2(velocity.y, velocity.x));
-            if (angle < 0)
-                angle += 360; // Convert to 0-360 range
-
-            // Determine direction based on angle - using 8 directions for sea turtle
-            if (angle >= 337.5 || angle < 22.5) {
-                currentDirectionIndex = DIRECTION_RIGHT;
-            } else if (angle >= 22.5 && angle < 67.5) {
-                currentDirectionIndex = DIRECTION_UP_RIGHT;
-            } else if (angle >= 67.5 && angle < 112.5) {
-                currentDirectionIndex = DIRECTION_UP;
-            } else if (angle >= 112.5 && angle < 157.5) {
-                currentDirectionIndex = DIRECTION_UP_LEFT;
-            } else if (angle >= 157.5 && angle < 202.5) {
-                currentDirectionIndex = DIRECTION_LEFT;
-            } else if (angle >= 202.5 && angle < 247.5) {
-                currentDirectionIndex = DIRECTION_DOWN_LEFT;
-            } else if (angle >= 247.5 && angle < 292.5) {
-                currentDirectionIndex = DIRECTION_DOWN;
-            } else if (angle >= 292.5 && angle < 337.5) {
-                currentDirectionIndex = DIRECTION_DOWN_RIGHT;
-            }
+            currentDirectionIndex = OCTANT_DIRECTIONS[MovementUtils.octant(velocity.x, velocity.y)];
         }
 
         // Check if we need to map our 8-directional index to a 4-directional sprite
@@ -359,10 +347,10 @@ public class SeaTurtle implements ISpriteRenderable, ICollidableVisitor {
     public void onCollision(ICollidableVisitor other) {
         // Only handle collisions with actual entities, not boundaries
         if (other != null) {
-            // Log normal entity collisions
-            LOGGER.info("{0} collided with {1}",
-                    new Object[] { getEntity().getClass().getSimpleName(),
-                            other.getClass().getSimpleName() });
+            // Log normal entity collisions, at most once a second as every
+            // contact of every turtle comes through here
+            LOGGER.logAtMostEvery(COLLISION_LOG, 1, TimeUnit.SECONDS, LogLevel.INFO, "{0} collided with {1}",
+                    getEntity().getClass().getSimpleName(), other.getClass().getSimpleName());
 
             // Reset accumulators at the beginning of collision handling
             accumulatedImpulse.set(0, 0);
@@ -550,8 +538,10 @@ public class SeaTurtle implements ISpriteRenderable, ICollidableVisitor {
                 boatY,
                 true);
 
-        LOGGER.debug("Applied opposing collision forces - turtle: {0}, boat: {1}, approachDir: {2},{3}",
-                turtleForce, boatForce, approachDir.x, approachDir.y);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Applied opposing collision forces - turtle: {0}, boat: {1}, approachDir: {2},{3}",
+                    turtleForce, boatForce, approachDir.x, approachDir.y);
+        }
 
         // Cap maximum velocities
         Vector2 newTurtleVel = getBody().getLinearVelocity();
@@ -585,7 +575,8 @@ public class SeaTurtle implements ISpriteRenderable, ICollidableVisitor {
             if (collisionManager != null) {
                 // Schedule the trash for removal
                 collisionManager.scheduleBodyRemoval(trash.getBody(), trash.getEntity(), null);
-                LOGGER.debug("Scheduled trash for removal", trash.getEntity().getClass().getSimpleName());
+                LOGGER.logAtMostEvery(TRASH_REMOVAL_LOG, 1, TimeUnit.SECONDS, LogLevel.DEBUG,
+                        "Scheduled {0} for removal", trash.getEntity().getClass().getSimpleName());
 
                 if (removalListener != null) {
                     removalListener.onEntityRemove(trash.getEntity()); // additional code
@@ -20,6 +20,7 @@ import project.game.application.entity.npc.SeaTurtle;
 import project.game.application.entity.obstacle.Rock;
 import project.game.common.config.factory.GameConstantsFactory;
 import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.MovementUtils;
 import project.game.engine.entitysystem.entity.api.ISpriteRenderable;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.entity.management.EntityManager;
@@ -71,6 +72,10 @@ public class Boat implements ISpriteRenderable, ICollidableVisitor {
     public static final int DIRECTION_DOWN_LEFT = 6;
     public static final int DIRECTION_UP_LEFT = 7;
 
+    // Sprite direction for each MovementUtils octant
+    private static final int[] OCTANT_DIRECTIONS = { DIRECTION_RIGHT, DIRECTION_UP_RIGHT, DIRECTION_UP,
+            DIRECTION_UP_LEFT, DIRECTION_LEFT, DIRECTION_DOWN_LEFT, DIRECTION_DOWN, DIRECTION_DOWN_RIGHT };
+
     static {
         registerCollisionHandler(Rock.class, Boat::handleRockCollision);
         registerCollisionHandler(Trash.class, Boat::handleTrashCollision);
@@ -186,29 +191,7 @@ public class Boat implements ISpriteRenderable, ICollidableVisitor {
 
         // Only update direction if actually moving
         if (Math.abs(velocity.x) > MOVEMENT_THRESHOLD || Math.abs(velocity.y) > MOVEMENT_THRESHOLD) {
-            // Calculate angle in degrees (0° is right, 90° is up)
-            float angle = (float) Math.toDegrees(Math.atan2(velocity.y, velocity.x));
-            if (angle < 0)
-                angle += 360; // Convert to 0-360 range
-
-            // Determine direction based on angle
-            if (angle >= 337.5 || angle < 22.5) {
-                currentDirectionIndex = DIRECTION_RIGHT;
-            } else if (angle >= 22.5 && angle < 67.5) {
-                currentDirectionIndex = DIRECTION_UP_RIGHT;
-            } else if (angle >= 67.5 && angle < 112.5) {
-                currentDirectionIndex = DIRECTION_UP;
-            } else if (angle >= 112.5 && angle < 157.5) {
-                currentDirectionIndex = DIRECTION_UP_LEFT;
-            } else if (angle >= 157.5 && angle < 202.5) {
-                currentDirectionIndex = DIRECTION_LEFT;
-            } else if (angle >= 202.5 && angle < 247.5) {
-                currentDirectionIndex = DIRECTION_DOWN_LEFT;
-            } else if (angle >= 247.5 && angle < 292.5) {
-                currentDirectionIndex = DIRECTION_DOWN;
-            } else if (angle >= 292.5 && angle < 337.5) {
-                currentDirectionIndex = DIRECTION_DOWN_RIGHT;
-            }
+            currentDirectionIndex = OCTANT_DIRECTIONS[MovementUtils.octant(velocity.x, velocity.y)];
         }
 
         // Check if we need to map our 8-directional index to a 4-directional sprite
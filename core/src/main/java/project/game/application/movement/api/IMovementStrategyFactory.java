@@ -3,6 +3,8 @@ package project.game.application.movement.api;
 import java.util.List;
 
 import project.game.application.entity.item.Trash;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.application.movement.navigation.PathfindingService;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
@@ -127,6 +129,18 @@ public interface IMovementStrategyFactory {
         IMovementStrategy createTrashCollectorStrategy(float speed, List<Trash> trashEntities,
                         List<Entity> obstacles, boolean lenientMode);
 
+        /**
+         * Creates a strategy that follows A* paths to the nearest trash entity.
+         */
+        IMovementStrategy createPathFollowingStrategy(float speed, List<Trash> trashEntities,
+                        PathfindingService pathfindingService, boolean lenientMode);
+
+        /**
+         * Creates a strategy that drifts with a shared ocean current field.
+         */
+        IMovementStrategy createCurrentDriftStrategy(OceanCurrentField currentField, float speedScale,
+                        boolean lenientMode);
+
         /**
          * Creates a default movement strategy when none is specified.
          * 
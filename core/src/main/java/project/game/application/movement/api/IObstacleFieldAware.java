@@ -0,0 +1,14 @@
+package project.game.application.movement.api;
+
+import project.game.application.movement.navigation.ObstacleDistanceField;
+
+/**
+ * Interface for movement strategies that can sample a precomputed obstacle
+ * distance field instead of iterating over every obstacle.
+ */
+public interface IObstacleFieldAware {
+
+    void setObstacleField(ObstacleDistanceField obstacleField);
+
+    ObstacleDistanceField getObstacleField();
+}
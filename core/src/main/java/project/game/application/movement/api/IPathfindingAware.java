@@ -0,0 +1,12 @@
+package project.game.application.movement.api;
+
+import project.game.application.movement.navigation.PathfindingService;
+
+/**
+ * Interface for movement strategies that can route around obstacles using a
+ * {@link PathfindingService}.
+ */
+public interface IPathfindingAware {
+
+    void setPathfindingService(PathfindingService pathfindingService);
+}
@@ -19,5 +19,7 @@ public enum StrategyType {
     INTERCEPTOR_AVOIDANCE,
     OCEAN_CURRENT,
     TRASH_COLLECTOR,
+    PATH_FOLLOWING,
+    CURRENT_DRIFT,
     UNKNOWN;
 }
\ No newline at end of file
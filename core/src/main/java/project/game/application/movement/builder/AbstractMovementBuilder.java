@@ -7,7 +7,9 @@ import project.game.common.exception.MovementException;
 import project.game.common.logging.core.GameLogger;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.api.IMovementFailureSink;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.api.ITickClock;
 
 /**
  * Base builder class for movement builders.
@@ -24,6 +26,8 @@ public abstract class AbstractMovementBuilder<T extends AbstractMovementBuilder<
     protected Vector2 initialVelocity = new Vector2(0, 0);
     protected IMovementStrategy movementStrategy;
     protected boolean lenientMode = false;
+    protected ITickClock tickClock;
+    protected IMovementFailureSink failureSink;
 
     @SuppressWarnings("unchecked")
     protected T self() {
@@ -113,6 +117,32 @@ public abstract class AbstractMovementBuilder<T extends AbstractMovementBuilder<
         return self();
     }
 
+    public ITickClock getTickClock() {
+        return tickClock;
+    }
+
+    /**
+     * Sets the clock that drives the built manager's movement updates. If not
+     * set, the manager uses the LibGDX frame timer.
+     */
+    public T withTickClock(ITickClock tickClock) {
+        this.tickClock = tickClock;
+        return self();
+    }
+
+    public IMovementFailureSink getFailureSink() {
+        return failureSink;
+    }
+
+    /**
+     * Sets the sink that the built manager reports failed updates to. If not
+     * set, failures are counted by the shared movement failure counter.
+     */
+    public T withFailureSink(IMovementFailureSink failureSink) {
+        this.failureSink = failureSink;
+        return self();
+    }
+
     protected abstract void validateBuildRequirements();
 
     protected abstract IMovable createMovableFromEntity(Entity entity, float speed);
@@ -6,14 +6,22 @@ import com.badlogic.gdx.math.Vector2;
 
 import project.game.application.entity.item.Trash;
 import project.game.application.movement.api.IMovementStrategyFactory;
+import project.game.application.movement.api.IObstacleFieldAware;
+import project.game.application.movement.api.IPathfindingAware;
 import project.game.application.movement.api.StrategyType;
+import project.game.application.movement.navigation.ObstacleDistanceField;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.application.movement.navigation.PathfindingService;
 import project.game.common.exception.MovementException;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.entity.core.MovableEntity;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
 import project.game.engine.entitysystem.movement.api.IPositionable;
 import project.game.engine.entitysystem.movement.core.NPCMovementManager;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
+import project.game.engine.entitysystem.movement.strategy.MovementStrategyCompiler;
 
 /**
  * Builder class for creating NPCMovementManager objects.
@@ -22,6 +30,10 @@ import project.game.engine.entitysystem.movement.core.NPCMovementManager;
 public class NPCMovementBuilder extends AbstractMovementBuilder<NPCMovementBuilder> {
 
     private IMovementStrategyFactory movementStrategyFactory;
+    private ObstacleDistanceField obstacleField;
+    private AIDecisionScheduler decisionScheduler;
+    private PathfindingService pathfindingService;
+    private boolean flattenStrategy = false;
 
     public NPCMovementBuilder(IMovementStrategyFactory factory) {
         this.movementStrategyFactory = factory;
@@ -51,6 +63,60 @@ public class NPCMovementBuilder extends AbstractMovementBuilder<NPCMovementBuild
         return this.movementStrategyFactory;
     }
 
+    /**
+     * Sets a precomputed obstacle distance field. It is passed to the movement
+     * strategy on build if the strategy supports obstacle fields, and ignored
+     * otherwise.
+     * 
+     * @param obstacleField The obstacle distance field
+     * @return This builder for method chaining
+     */
+    public NPCMovementBuilder withObstacleField(ObstacleDistanceField obstacleField) {
+        this.obstacleField = obstacleField;
+        return this;
+    }
+
+    /**
+     * Sets a scheduler for expensive AI decisions such as target selection and
+     * avoidance replanning. It is passed to the movement strategy on build if
+     * the strategy supports scheduled decisions, and ignored otherwise.
+     * 
+     * @param decisionScheduler The decision scheduler
+     * @return This builder for method chaining
+     */
+    public NPCMovementBuilder withDecisionScheduler(AIDecisionScheduler decisionScheduler) {
+        this.decisionScheduler = decisionScheduler;
+        return this;
+    }
+
+    /**
+     * Sets a pathfinding service so the movement strategy can route around
+     * obstacles. It is passed to the movement strategy on build if the strategy
+     * supports pathfinding, and ignored otherwise.
+     * 
+     * @param pathfindingService The pathfinding service
+     * @return This builder for method chaining
+     */
+    public NPCMovementBuilder withPathfinding(PathfindingService pathfindingService) {
+        this.pathfindingService = pathfindingService;
+        return this;
+    }
+
+    /**
+     * Enables flattening of the movement strategy on build. Composite and
+     * wrapper strategies are compiled into a single fused strategy with
+     * precomputed weights, which moves the entity the same way with less
+     * overhead per update. Weights changed on the original composites after
+     * building are not picked up.
+     * 
+     * @param flattenStrategy Whether to flatten the strategy tree
+     * @return This builder for method chaining
+     */
+    public NPCMovementBuilder withStrategyFlattening(boolean flattenStrategy) {
+        this.flattenStrategy = flattenStrategy;
+        return this;
+    }
+
     public NPCMovementBuilder withConstantMovement() {
         try {
             this.movementStrategy = this.movementStrategyFactory.createConstantMovement(this.speed, this.lenientMode);
@@ -435,6 +501,52 @@ public class NPCMovementBuilder extends AbstractMovementBuilder<NPCMovementBuild
         return this;
     }
 
+    /**
+     * Creates a path following movement strategy that routes to the nearest
+     * trash entity using A* paths.
+     * 
+     * @param trashEntities      The list of trash entities to target
+     * @param pathfindingService The pathfinding service
+     * @return This builder for method chaining
+     */
+    public NPCMovementBuilder withPathFollowing(List<Trash> trashEntities, PathfindingService pathfindingService) {
+        try {
+            this.movementStrategy = this.movementStrategyFactory.createPathFollowingStrategy(
+                    this.speed, trashEntities, pathfindingService, this.lenientMode);
+        } catch (MovementException e) {
+            if (this.lenientMode) {
+                LOGGER.warn("Error creating PathFollowingStrategy: " + e.getMessage() +
+                        ". Using constant movement fallback.");
+                return withConstantMovement();
+            }
+            throw e;
+        }
+        return this;
+    }
+
+    /**
+     * Creates a movement strategy that drifts with a shared ocean current
+     * field.
+     * 
+     * @param currentField The shared current field
+     * @param speedScale   Multiplier applied to the sampled current
+     * @return This builder for method chaining
+     */
+    public NPCMovementBuilder withCurrentDrift(OceanCurrentField currentField, float speedScale) {
+        try {
+            this.movementStrategy = this.movementStrategyFactory.createCurrentDriftStrategy(
+                    currentField, speedScale, this.lenientMode);
+        } catch (MovementException e) {
+            if (this.lenientMode) {
+                LOGGER.warn("Error creating CurrentDriftStrategy: " + e.getMessage() +
+                        ". Using constant movement fallback.");
+                return withConstantMovement();
+            }
+            throw e;
+        }
+        return this;
+    }
+
     public NPCMovementManager build() {
         try {
             validateBuildRequirements();
@@ -469,6 +581,21 @@ public class NPCMovementBuilder extends AbstractMovementBuilder<NPCMovementBuild
                 throw new MovementException(errorMsg);
             }
 
+            if (this.obstacleField != null && this.movementStrategy instanceof IObstacleFieldAware) {
+                ((IObstacleFieldAware) this.movementStrategy).setObstacleField(this.obstacleField);
+            }
+            if (this.decisionScheduler != null && this.movementStrategy instanceof IDecisionSchedulerAware) {
+                ((IDecisionSchedulerAware) this.movementStrategy).setDecisionScheduler(this.decisionScheduler);
+            }
+            if (this.pathfindingService != null && this.movementStrategy instanceof IPathfindingAware) {
+                ((IPathfindingAware) this.movementStrategy).setPathfindingService(this.pathfindingService);
+            }
+
+            // Flatten last so the compiled strategy sees the configured tree
+            if (this.flattenStrategy) {
+                this.movementStrategy = MovementStrategyCompiler.compile(this.movementStrategy);
+            }
+
             return new NPCMovementManager(this);
         } catch (MovementException e) {
             LOGGER.fatal("Failed to build NPCMovementManager: " + e.getMessage(), e);
@@ -3,14 +3,19 @@ package project.game.application.movement.composite;
 import java.util.ArrayList;
 import java.util.List;
 
+import project.game.application.movement.api.IObstacleFieldAware;
 import project.game.application.movement.api.StrategyType;
+import project.game.application.movement.navigation.ObstacleDistanceField;
 import project.game.application.movement.strategy.InterceptorMovementStrategy;
 import project.game.application.movement.strategy.ObstacleAvoidanceStrategy;
 import project.game.common.exception.MovementException;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.movement.api.ICompositeMovementStrategy;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
+import project.game.engine.entitysystem.movement.api.IDelegatingStrategy;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
 import project.game.engine.entitysystem.movement.strategy.CompositeMovementStrategy;
 
@@ -21,7 +26,8 @@ import project.game.engine.entitysystem.movement.strategy.CompositeMovementStrat
  * This is useful for NPCs that need to chase targets while avoiding obstacles
  * in their path.
  */
-public class InterceptorAvoidanceStrategy extends AbstractMovementStrategy {
+public class InterceptorAvoidanceStrategy extends AbstractMovementStrategy
+        implements IObstacleFieldAware, IDecisionSchedulerAware, IDelegatingStrategy {
 
     private final ICompositeMovementStrategy compositeStrategy;
     private final InterceptorMovementStrategy interceptorStrategy;
@@ -97,6 +103,33 @@ public class InterceptorAvoidanceStrategy extends AbstractMovementStrategy {
         avoidanceStrategy.setObstacles(obstacles);
     }
 
+    /**
+     * Sets the precomputed obstacle field used by the avoidance strategy.
+     * 
+     * @param obstacleField The obstacle distance field, or null to fall back to
+     *                      iterating over the obstacle list
+     */
+    @Override
+    public void setObstacleField(ObstacleDistanceField obstacleField) {
+        avoidanceStrategy.setObstacleField(obstacleField);
+    }
+
+    /**
+     * Sets the scheduler used for the component strategies' expensive
+     * decisions.
+     * 
+     * @param scheduler The decision scheduler, or null to decide every frame
+     */
+    @Override
+    public void setDecisionScheduler(AIDecisionScheduler scheduler) {
+        avoidanceStrategy.setDecisionScheduler(scheduler);
+    }
+
+    @Override
+    public ObstacleDistanceField getObstacleField() {
+        return avoidanceStrategy.getObstacleField();
+    }
+
     /**
      * Gets the interceptor strategy.
      * 
@@ -115,6 +148,14 @@ public class InterceptorAvoidanceStrategy extends AbstractMovementStrategy {
         return avoidanceStrategy;
     }
 
+    /**
+     * Gets the composite that movement is delegated to.
+     */
+    @Override
+    public IMovementStrategy getDelegate() {
+        return compositeStrategy;
+    }
+
     @Override
     public StrategyType getStrategyType() {
         return StrategyType.INTERCEPTOR_AVOIDANCE;
@@ -122,23 +163,7 @@ public class InterceptorAvoidanceStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            if (movable == null) {
-                if (lenientMode) {
-                    logger.warn("Entity is null in InterceptorAvoidanceStrategy.move; skipping movement");
-                    return;
-                } else {
-                    throw new MovementException("Entity cannot be null in InterceptorAvoidanceStrategy");
-                }
-            }
-
-            // Delegate to the composite strategy
-            compositeStrategy.move(movable, deltaTime);
-
-        } catch (MovementException e) {
-            handleMovementException(e, "Error in InterceptorAvoidanceStrategy.move");
-        } catch (Exception e) {
-            handleMovementException(e, "Unexpected error in InterceptorAvoidanceStrategy.move");
-        }
+        // Delegate to the composite strategy
+        compositeStrategy.move(movable, deltaTime);
     }
 }
\ No newline at end of file
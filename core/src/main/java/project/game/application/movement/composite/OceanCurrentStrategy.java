@@ -3,13 +3,14 @@ package project.game.application.movement.composite;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.math.MathUtils;
-
 import project.game.application.movement.api.StrategyType;
 import project.game.application.movement.strategy.ConstantMovementStrategy;
 import project.game.application.movement.strategy.ZigZagMovemenStrategy;
 import project.game.common.exception.MovementException;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.entitysystem.movement.api.ICompositeMovementStrategy;
+import project.game.engine.entitysystem.movement.api.IDelegatingStrategy;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
@@ -21,7 +22,7 @@ import project.game.engine.entitysystem.movement.strategy.CompositeMovementStrat
  * Combines constant directional flow with zigzag oscillation for realistic
  * water movement effects.
  */
-public class OceanCurrentStrategy extends AbstractMovementStrategy {
+public class OceanCurrentStrategy extends AbstractMovementStrategy implements IDelegatingStrategy {
 
     private final ICompositeMovementStrategy compositeStrategy;
     private final ConstantMovementStrategy constantStrategy;
@@ -47,6 +48,32 @@ public class OceanCurrentStrategy extends AbstractMovementStrategy {
             float constantWeight,
             float zigzagWeight,
             boolean lenientMode) {
+        this(baseSpeed, zigSpeed, amplitude, frequency, constantWeight, zigzagWeight,
+                RandomProvider.getInstance().nextStream(), lenientMode);
+    }
+
+    /**
+     * Creates an ocean current movement whose wave phase is drawn from the
+     * given stream.
+     * 
+     * @param baseSpeed      Speed for constant directional flow
+     * @param zigSpeed       Speed for zigzag oscillation component
+     * @param amplitude      Amplitude of zigzag oscillation
+     * @param frequency      Frequency of zigzag oscillation
+     * @param constantWeight Weight for constant movement (0.0-1.0)
+     * @param zigzagWeight   Weight for zigzag movement (0.0-1.0)
+     * @param random         Random stream owned by this entity
+     * @param lenientMode    Whether to use lenient mode
+     */
+    public OceanCurrentStrategy(
+            float baseSpeed,
+            float zigSpeed,
+            float amplitude,
+            float frequency,
+            float constantWeight,
+            float zigzagWeight,
+            RandomStream random,
+            boolean lenientMode) {
 
         super(OceanCurrentStrategy.class, lenientMode);
 
@@ -55,7 +82,7 @@ public class OceanCurrentStrategy extends AbstractMovementStrategy {
             this.constantStrategy = new ConstantMovementStrategy(baseSpeed, lenientMode);
 
             // Create zigzag movement for wave oscillation
-            this.zigzagStrategy = new ZigZagMovemenStrategy(zigSpeed, amplitude, frequency, lenientMode);
+            this.zigzagStrategy = new ZigZagMovemenStrategy(zigSpeed, amplitude, frequency, random, lenientMode);
 
             // Combine them with specified weights
             List<IMovementStrategy> additionalStrategies = new ArrayList<>();
@@ -100,18 +127,39 @@ public class OceanCurrentStrategy extends AbstractMovementStrategy {
             float minFrequency, float maxFrequency,
             float constantWeight, float zigzagWeight,
             boolean lenientMode) {
+        return createRandomized(minBaseSpeed, maxBaseSpeed, minZigSpeed, maxZigSpeed, minAmplitude, maxAmplitude,
+                minFrequency, maxFrequency, constantWeight, zigzagWeight, RandomProvider.getInstance().nextStream(),
+                lenientMode);
+    }
+
+    /**
+     * Creates a randomized ocean current movement, drawing its parameters from
+     * the given stream. See the overload without a stream for the other
+     * parameters.
+     *
+     * @param random Random stream owned by this entity
+     * @return A new OceanCurrentStrategy instance with randomized parameters
+     */
+    public static OceanCurrentStrategy createRandomized(
+            float minBaseSpeed, float maxBaseSpeed,
+            float minZigSpeed, float maxZigSpeed,
+            float minAmplitude, float maxAmplitude,
+            float minFrequency, float maxFrequency,
+            float constantWeight, float zigzagWeight,
+            RandomStream random,
+            boolean lenientMode) {
 
         try {
             // Generate random parameters within specified ranges
-            float baseSpeed = MathUtils.random(minBaseSpeed, maxBaseSpeed);
-            float zigSpeed = MathUtils.random(minZigSpeed, maxZigSpeed);
-            float amplitude = MathUtils.random(minAmplitude, maxAmplitude);
-            float frequency = MathUtils.random(minFrequency, maxFrequency);
+            float baseSpeed = random.nextFloat(minBaseSpeed, maxBaseSpeed);
+            float zigSpeed = random.nextFloat(minZigSpeed, maxZigSpeed);
+            float amplitude = random.nextFloat(minAmplitude, maxAmplitude);
+            float frequency = random.nextFloat(minFrequency, maxFrequency);
 
             // Create the ocean current movement with randomized parameters
             return new OceanCurrentStrategy(
                     baseSpeed, zigSpeed, amplitude, frequency,
-                    constantWeight, zigzagWeight, lenientMode);
+                    constantWeight, zigzagWeight, random, lenientMode);
 
         } catch (Exception e) {
             if (lenientMode) {
@@ -119,12 +167,20 @@ public class OceanCurrentStrategy extends AbstractMovementStrategy {
                 // fails
                 return new OceanCurrentStrategy(
                         minBaseSpeed, minZigSpeed, minAmplitude, minFrequency,
-                        constantWeight, zigzagWeight, lenientMode);
+                        constantWeight, zigzagWeight, random, lenientMode);
             }
             throw new MovementException("Failed to create RandomizedOceanCurrentMovement", e);
         }
     }
 
+    /**
+     * Gets the composite that movement is delegated to.
+     */
+    @Override
+    public IMovementStrategy getDelegate() {
+        return compositeStrategy;
+    }
+
     @Override
     public StrategyType getStrategyType() {
         return StrategyType.OCEAN_CURRENT;
@@ -132,23 +188,7 @@ public class OceanCurrentStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            if (movable == null) {
-                if (lenientMode) {
-                    logger.warn("Entity is null in OceanCurrentStrategy.move; skipping movement");
-                    return;
-                } else {
-                    throw new MovementException("Entity cannot be null in OceanCurrentStrategy");
-                }
-            }
-
-            // Delegate to the composite strategy
-            compositeStrategy.move(movable, deltaTime);
-
-        } catch (MovementException e) {
-            handleMovementException(e, "Error in OceanCurrentStrategy.move");
-        } catch (Exception e) {
-            handleMovementException(e, "Unexpected error in OceanCurrentStrategy.move");
-        }
+        // Delegate to the composite strategy
+        compositeStrategy.move(movable, deltaTime);
     }
 }
\ No newline at end of file
@@ -6,14 +6,22 @@ import java.util.List;
 import com.badlogic.gdx.math.Vector2;
 
 import project.game.application.entity.item.Trash;
+import project.game.application.movement.api.IObstacleFieldAware;
+import project.game.application.movement.api.IPathfindingAware;
 import project.game.application.movement.api.StrategyType;
+import project.game.application.movement.navigation.ObstacleDistanceField;
+import project.game.application.movement.navigation.PathfindingService;
 import project.game.application.movement.strategy.NearestTrashStrategy;
 import project.game.application.movement.strategy.ObstacleAvoidanceStrategy;
+import project.game.application.movement.strategy.PathFollowingStrategy;
 import project.game.common.exception.MovementException;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.movement.api.ICompositeMovementStrategy;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
+import project.game.engine.entitysystem.movement.api.IDelegatingStrategy;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
 import project.game.engine.entitysystem.movement.strategy.CompositeMovementStrategy;
 
@@ -22,11 +30,18 @@ import project.game.engine.entitysystem.movement.strategy.CompositeMovementStrat
  * 
  * Combines trash targeting with obstacle avoidance for intelligent
  * trash collection behavior.
+ * 
+ * When a pathfinding service is set, trash seeking follows A* paths around
+ * rocks instead of heading straight for the nearest trash.
  */
-public class TrashCollectorStrategy extends AbstractMovementStrategy {
+public class TrashCollectorStrategy extends AbstractMovementStrategy
+        implements IObstacleFieldAware, IDecisionSchedulerAware, IPathfindingAware, IDelegatingStrategy {
 
-    private final ICompositeMovementStrategy compositeStrategy;
+    private final float speed;
+    private ICompositeMovementStrategy compositeStrategy;
     private final NearestTrashStrategy trashTargetingStrategy;
+    private PathFollowingStrategy pathFollowingStrategy;
+    private AIDecisionScheduler decisionScheduler;
     private final ObstacleAvoidanceStrategy obstacleAvoidanceStrategy;
     private final float trashTargetWeight;
     private final float obstacleAvoidanceWeight;
@@ -44,6 +59,7 @@ public class TrashCollectorStrategy extends AbstractMovementStrategy {
     public TrashCollectorStrategy(float speed, List<Trash> trashEntities, List<Entity> obstacles,
             float[] weights, boolean lenientMode) {
         super(TrashCollectorStrategy.class, lenientMode);
+        this.speed = speed;
 
         // Create the trash targeting strategy
         this.trashTargetingStrategy = new NearestTrashStrategy(speed, trashEntities, lenientMode);
@@ -83,6 +99,9 @@ public class TrashCollectorStrategy extends AbstractMovementStrategy {
      */
     public void updateTrashEntities(List<Trash> trashEntities) {
         trashTargetingStrategy.updateTrashEntities(trashEntities);
+        if (pathFollowingStrategy != null) {
+            pathFollowingStrategy.updateTrashEntities(trashEntities);
+        }
     }
 
     /**
@@ -94,6 +113,79 @@ public class TrashCollectorStrategy extends AbstractMovementStrategy {
         obstacleAvoidanceStrategy.setObstacles(obstacles);
     }
 
+    /**
+     * Sets the precomputed obstacle field used by the avoidance strategy.
+     * 
+     * @param obstacleField The obstacle distance field, or null to fall back to
+     *                      iterating over the obstacle list
+     */
+    @Override
+    public void setObstacleField(ObstacleDistanceField obstacleField) {
+        obstacleAvoidanceStrategy.setObstacleField(obstacleField);
+    }
+
+    /**
+     * Sets the scheduler used for the component strategies' expensive
+     * decisions.
+     * 
+     * @param scheduler The decision scheduler, or null to decide every frame
+     */
+    @Override
+    public void setDecisionScheduler(AIDecisionScheduler scheduler) {
+        this.decisionScheduler = scheduler;
+        // Only the active seeking strategy needs scheduled target selection
+        if (pathFollowingStrategy != null) {
+            pathFollowingStrategy.setDecisionScheduler(scheduler);
+        } else {
+            trashTargetingStrategy.setDecisionScheduler(scheduler);
+        }
+        obstacleAvoidanceStrategy.setDecisionScheduler(scheduler);
+    }
+
+    /**
+     * Replaces nearest-trash seeking with path following using the given
+     * service. Pass null to go back to seeking the nearest trash directly.
+     * 
+     * @param pathfindingService The pathfinding service
+     */
+    @Override
+    public void setPathfindingService(PathfindingService pathfindingService) {
+        if (pathFollowingStrategy != null) {
+            pathFollowingStrategy.setDecisionScheduler(null);
+            pathFollowingStrategy = null;
+        }
+
+        if (pathfindingService != null) {
+            pathFollowingStrategy = new PathFollowingStrategy(speed, trashTargetingStrategy.getTrashEntities(),
+                    pathfindingService, lenientMode);
+            pathFollowingStrategy.setDecisionScheduler(decisionScheduler);
+            trashTargetingStrategy.setDecisionScheduler(null);
+        } else {
+            trashTargetingStrategy.setDecisionScheduler(decisionScheduler);
+        }
+
+        List<IMovementStrategy> additionalStrategies = new ArrayList<>();
+        additionalStrategies.add(obstacleAvoidanceStrategy);
+        IMovementStrategy seekingStrategy = pathFollowingStrategy != null ? pathFollowingStrategy
+                : trashTargetingStrategy;
+        this.compositeStrategy = new CompositeMovementStrategy(
+                seekingStrategy, additionalStrategies, new float[] { trashTargetWeight, obstacleAvoidanceWeight });
+    }
+
+    /**
+     * Gets the path following strategy, if pathfinding is enabled.
+     * 
+     * @return The path following strategy, or null
+     */
+    public PathFollowingStrategy getPathFollowingStrategy() {
+        return pathFollowingStrategy;
+    }
+
+    @Override
+    public ObstacleDistanceField getObstacleField() {
+        return obstacleAvoidanceStrategy.getObstacleField();
+    }
+
     /**
      * Gets the current nearest trash targeting strategy.
      * 
@@ -173,6 +265,14 @@ public class TrashCollectorStrategy extends AbstractMovementStrategy {
         }
     }
 
+    /**
+     * Gets the composite that movement is delegated to.
+     */
+    @Override
+    public IMovementStrategy getDelegate() {
+        return compositeStrategy;
+    }
+
     /**
      * Gets the strategy type for this movement strategy.
      * 
@@ -188,24 +288,8 @@ public class TrashCollectorStrategy extends AbstractMovementStrategy {
      */
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            if (movable == null) {
-                if (lenientMode) {
-                    logger.warn("Entity is null in TrashCollectorStrategy.move; skipping movement");
-                    return;
-                } else {
-                    throw new MovementException("Entity cannot be null in TrashCollectorStrategy");
-                }
-            }
-
-            // Delegate to the composite strategy
-            compositeStrategy.move(movable, deltaTime);
-
-        } catch (MovementException e) {
-            handleMovementException(e, "Error in TrashCollectorStrategy.move");
-        } catch (Exception e) {
-            handleMovementException(e, "Unexpected error in TrashCollectorStrategy.move");
-        }
+        // Delegate to the composite strategy
+        compositeStrategy.move(movable, deltaTime);
     }
 
 }
\ No newline at end of file
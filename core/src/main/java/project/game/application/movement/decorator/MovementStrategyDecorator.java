@@ -1,22 +1,43 @@
 package project.game.application.movement.decorator;
 
+import project.game.engine.entitysystem.movement.api.IDelegatingStrategy;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
 
-public abstract class MovementStrategyDecorator implements IMovementStrategy {
+public abstract class MovementStrategyDecorator implements IDelegatingStrategy {
 
     protected final IMovementStrategy wrappedStrategy;
+    private final boolean passThrough;
 
     public MovementStrategyDecorator(IMovementStrategy strategy) {
         this.wrappedStrategy = strategy;
+        this.passThrough = !overridesMove(getClass());
     }
 
     public IMovementStrategy getWrappedStrategy() {
         return wrappedStrategy;
     }
 
+    /**
+     * Returns the wrapped strategy if this decorator does not change movement,
+     * so it can be skipped when the strategy tree is flattened.
+     */
+    @Override
+    public IMovementStrategy getDelegate() {
+        return passThrough ? wrappedStrategy : null;
+    }
+
     @Override
     public void move(IMovable movable, float deltaTime) {
         wrappedStrategy.move(movable, deltaTime);
     }
-}
\ No newline at end of file
+
+    private static boolean overridesMove(Class<?> clazz) {
+        try {
+            return clazz.getMethod("move", IMovable.class, float.class)
+                    .getDeclaringClass() != MovementStrategyDecorator.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+}
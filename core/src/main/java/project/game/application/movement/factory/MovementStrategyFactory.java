@@ -7,13 +7,17 @@ import project.game.application.movement.api.IMovementStrategyFactory;
 import project.game.application.movement.composite.InterceptorAvoidanceStrategy;
 import project.game.application.movement.composite.OceanCurrentStrategy;
 import project.game.application.movement.composite.TrashCollectorStrategy;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.application.movement.navigation.PathfindingService;
 import project.game.application.movement.strategy.AcceleratedMovementStrategy;
 import project.game.application.movement.strategy.ConstantMovementStrategy;
+import project.game.application.movement.strategy.CurrentDriftStrategy;
 import project.game.application.movement.strategy.FollowMovementStrategy;
 import project.game.application.movement.strategy.InterceptorMovementStrategy;
 import project.game.application.movement.strategy.NearestTrashStrategy;
 import project.game.application.movement.strategy.ObstacleAvoidanceStrategy;
 import project.game.application.movement.strategy.OrbitalMovementStrategy;
+import project.game.application.movement.strategy.PathFollowingStrategy;
 import project.game.application.movement.strategy.RandomisedMovementStrategy;
 import project.game.application.movement.strategy.SpiralApproachStrategy;
 import project.game.application.movement.strategy.SpringFollowStrategy;
@@ -303,6 +307,32 @@ public class MovementStrategyFactory implements IMovementStrategyFactory {
         return createTrashCollectorStrategy(speed, trashEntities, obstacles, null, lenientMode);
     }
 
+    @Override
+    public IMovementStrategy createPathFollowingStrategy(float speed, List<Trash> trashEntities,
+            PathfindingService pathfindingService, boolean lenientMode) {
+        try {
+            return new PathFollowingStrategy(speed, trashEntities, pathfindingService, lenientMode);
+        } catch (Exception e) {
+            LOGGER.error("Failed to create PathFollowingStrategy: " + e.getMessage());
+            if (lenientMode) {
+                LOGGER.warn("Using nearest trash strategy as fallback");
+                return createNearestTrashStrategy(speed, trashEntities, lenientMode);
+            }
+            throw new MovementException("Failed to create PathFollowingStrategy", e);
+        }
+    }
+
+    @Override
+    public IMovementStrategy createCurrentDriftStrategy(OceanCurrentField currentField, float speedScale,
+            boolean lenientMode) {
+        try {
+            return new CurrentDriftStrategy(currentField, speedScale, lenientMode);
+        } catch (Exception e) {
+            LOGGER.error("Failed to create CurrentDriftStrategy: " + e.getMessage());
+            throw new MovementException("Failed to create CurrentDriftStrategy", e);
+        }
+    }
+
     /**
      * Creates a default movement strategy when none is specified.
      * 
@@ -0,0 +1,270 @@
+package project.game.application.movement.navigation;
+
+import java.util.Arrays;
+
+/**
+ * A* search over an {@link OccupancyGrid} with 8-way movement and an octile
+ * distance heuristic.
+ *
+ * Search buffers are allocated once per grid size and reused between searches
+ * using a generation counter, so a search does not allocate apart from the
+ * returned path. Instances are not thread-safe; each thread needs its own.
+ */
+public class GridPathfinder {
+
+    private static final float DIAGONAL_COST = 1.41421356f;
+    private static final int[] NEIGHBOUR_COL = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] NEIGHBOUR_ROW = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+    // Maximum ring distance searched when the start or goal cell is blocked
+    private static final int FREE_CELL_SEARCH_RADIUS = 6;
+
+    private float[] gScore = new float[0];
+    private float[] fScore = new float[0];
+    private int[] parent = new int[0];
+    private int[] visited = new int[0];
+    private int[] closed = new int[0];
+    private int[] heap = new int[0];
+    private float[] heapKey = new float[0];
+    private int[] pathBuffer = new int[0];
+    private int heapSize;
+    private int generation = 0;
+
+    /**
+     * Finds a path between two world positions.
+     *
+     * @param grid   The occupancy grid to search
+     * @param startX Start x in world coordinates
+     * @param startY Start y in world coordinates
+     * @param goalX  Goal x in world coordinates
+     * @param goalY  Goal y in world coordinates
+     * @return The path, or null if the goal is unreachable
+     */
+    public NavigationPath findPath(OccupancyGrid grid, float startX, float startY, float goalX, float goalY) {
+        return findPath(grid, grid.cellAt(startX, startY), grid.cellAt(goalX, goalY));
+    }
+
+    /**
+     * Finds a path between two grid cells. Blocked start or goal cells are
+     * moved to the nearest free cell.
+     *
+     * @param grid      The occupancy grid to search
+     * @param startCell The start cell index
+     * @param goalCell  The goal cell index
+     * @return The path, or null if the goal is unreachable
+     */
+    public NavigationPath findPath(OccupancyGrid grid, int startCell, int goalCell) {
+        ensureCapacity(grid.getCellCount());
+
+        int start = nearestFreeCell(grid, startCell);
+        int goal = nearestFreeCell(grid, goalCell);
+        if (start < 0 || goal < 0) {
+            return null;
+        }
+        if (start == goal) {
+            return new NavigationPath(new float[] { grid.centerX(goal) }, new float[] { grid.centerY(goal) },
+                    startCell, goalCell);
+        }
+
+        nextGeneration();
+        int goalCol = grid.columnOf(goal);
+        int goalRow = grid.rowOf(goal);
+
+        heapSize = 0;
+        visit(start, -1, 0, heuristic(grid.columnOf(start), grid.rowOf(start), goalCol, goalRow));
+        push(start, fScore[start]);
+
+        while (heapSize > 0) {
+            int current = pop();
+            if (closed[current] == generation) {
+                continue;
+            }
+            if (current == goal) {
+                return buildPath(grid, goal, startCell, goalCell);
+            }
+            closed[current] = generation;
+
+            int col = grid.columnOf(current);
+            int row = grid.rowOf(current);
+            for (int i = 0; i < NEIGHBOUR_COL.length; i++) {
+                int nextCol = col + NEIGHBOUR_COL[i];
+                int nextRow = row + NEIGHBOUR_ROW[i];
+                if (grid.isBlocked(nextCol, nextRow)) {
+                    continue;
+                }
+                boolean diagonal = i >= 4;
+                // Do not cut corners around blocked cells
+                if (diagonal && (grid.isBlocked(col + NEIGHBOUR_COL[i], row)
+                        || grid.isBlocked(col, row + NEIGHBOUR_ROW[i]))) {
+                    continue;
+                }
+                int next = grid.cellIndex(nextCol, nextRow);
+                if (closed[next] == generation) {
+                    continue;
+                }
+                float tentative = gScore[current] + (diagonal ? DIAGONAL_COST : 1f);
+                if (visited[next] != generation || tentative < gScore[next]) {
+                    visit(next, current, tentative, tentative + heuristic(nextCol, nextRow, goalCol, goalRow));
+                    push(next, fScore[next]);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the straight segment between two world positions only
+     * crosses free cells.
+     */
+    public static boolean hasLineOfSight(OccupancyGrid grid, float x0, float y0, float x1, float y1) {
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        float step = grid.getCellSize() * 0.5f;
+        int samples = Math.max(1, (int) Math.ceil(length / step));
+        for (int i = 0; i <= samples; i++) {
+            float t = (float) i / samples;
+            int col = (int) Math.floor((x0 + dx * t) / grid.getCellSize());
+            int row = (int) Math.floor((y0 + dy * t) / grid.getCellSize());
+            if (grid.isBlocked(col, row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private NavigationPath buildPath(OccupancyGrid grid, int goal, int startCell, int goalCell) {
+        // Walk back from the goal; pathBuffer ends up in reverse order
+        int length = 0;
+        for (int cell = goal; cell != -1; cell = parent[cell]) {
+            pathBuffer[length++] = cell;
+        }
+
+        // String-pull: keep only the waypoints needed to stay in line of sight
+        float[] xs = new float[length];
+        float[] ys = new float[length];
+        int count = 0;
+        int anchor = length - 1;
+        while (anchor > 0) {
+            int next = anchor - 1;
+            while (next > 0 && hasLineOfSight(grid, grid.centerX(pathBuffer[anchor]), grid.centerY(pathBuffer[anchor]),
+                    grid.centerX(pathBuffer[next - 1]), grid.centerY(pathBuffer[next - 1]))) {
+                next--;
+            }
+            xs[count] = grid.centerX(pathBuffer[next]);
+            ys[count] = grid.centerY(pathBuffer[next]);
+            count++;
+            anchor = next;
+        }
+        return new NavigationPath(Arrays.copyOf(xs, count), Arrays.copyOf(ys, count), startCell, goalCell);
+    }
+
+    private int nearestFreeCell(OccupancyGrid grid, int cell) {
+        if (!grid.isBlocked(cell)) {
+            return cell;
+        }
+        int col = grid.columnOf(cell);
+        int row = grid.rowOf(cell);
+        for (int radius = 1; radius <= FREE_CELL_SEARCH_RADIUS; radius++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    if (Math.abs(dx) != radius && Math.abs(dy) != radius) {
+                        continue;
+                    }
+                    if (!grid.isBlocked(col + dx, row + dy)) {
+                        return grid.cellIndex(col + dx, row + dy);
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static float heuristic(int col, int row, int goalCol, int goalRow) {
+        int dx = Math.abs(col - goalCol);
+        int dy = Math.abs(row - goalRow);
+        return Math.max(dx, dy) + (DIAGONAL_COST - 1f) * Math.min(dx, dy);
+    }
+
+    private void visit(int cell, int from, float g, float f) {
+        visited[cell] = generation;
+        parent[cell] = from;
+        gScore[cell] = g;
+        fScore[cell] = f;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    private void ensureCapacity(int cells) {
+        if (gScore.length >= cells) {
+            return;
+        }
+        gScore = new float[cells];
+        fScore = new float[cells];
+        parent = new int[cells];
+        visited = new int[cells];
+        closed = new int[cells];
+        // Cells may be pushed more than once when their score improves
+        heap = new int[cells * 4];
+        heapKey = new float[cells * 4];
+        pathBuffer = new int[cells];
+        generation = 0;
+    }
+
+    // Heap entries keep the score they were pushed with, so improving a cell's
+    // score just pushes a new entry and the stale one is skipped when popped
+    private void push(int cell, float key) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+            heapKey = Arrays.copyOf(heapKey, heapKey.length * 2);
+        }
+        int index = heapSize++;
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            if (heapKey[parentIndex] <= key) {
+                break;
+            }
+            heap[index] = heap[parentIndex];
+            heapKey[index] = heapKey[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = cell;
+        heapKey[index] = key;
+    }
+
+    private int pop() {
+        int result = heap[0];
+        heapSize--;
+        if (heapSize == 0) {
+            return result;
+        }
+        int last = heap[heapSize];
+        float lastKey = heapKey[heapSize];
+        int index = 0;
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) {
+                child++;
+            }
+            if (lastKey <= heapKey[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapKey[index] = heapKey[child];
+            index = child;
+        }
+        heap[index] = last;
+        heapKey[index] = lastKey;
+        return result;
+    }
+}
@@ -0,0 +1,240 @@
+package project.game.application.movement.navigation;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.engine.entitysystem.movement.api.IPositionable;
+
+/**
+ * Tracks a moving target and computes where pursuers should aim to meet it.
+ *
+ * The target's velocity is estimated from its position changes and smoothed
+ * exponentially, so a single jittery frame does not swing the aim point. For a
+ * pursuer moving at constant speed s from relative position r to a target
+ * moving at velocity v, the earliest meeting time t is the smallest positive
+ * root of {@code (v.v - s^2) t^2 + 2 (r.v) t + r.r = 0}. When there is no root
+ * the target cannot be caught, and the aim point falls back to a lead capped
+ * at {@link #MAX_LEAD_TIME}.
+ *
+ * The target should be observed once per tick with {@link #observe(float)};
+ * any number of pursuers can then be solved against it, one at a time or in a
+ * single pass with {@link #solveBatch}. Solving does not allocate.
+ */
+public class InterceptSolver {
+
+    public static final float DEFAULT_SMOOTHING_TIME = 0.2f;
+    public static final float MAX_LEAD_TIME = 2f;
+
+    // A target that has not moved for this long is treated as stopped
+    private static final float STALE_TIME = 0.25f;
+    private static final float EPSILON = 1e-6f;
+
+    private final IPositionable target;
+    private final float smoothingTime;
+
+    private float targetX;
+    private float targetY;
+    private float velocityX;
+    private float velocityY;
+    private float unchangedTime;
+    private boolean observed;
+
+    /**
+     * Creates a solver for a target.
+     *
+     * @param target        The target to intercept
+     * @param smoothingTime Time constant of the velocity smoothing in seconds;
+     *                      zero uses the raw estimate
+     */
+    public InterceptSolver(IPositionable target, float smoothingTime) {
+        if (target == null) {
+            throw new IllegalArgumentException("Intercept target cannot be null");
+        }
+        if (smoothingTime < 0) {
+            throw new IllegalArgumentException("Smoothing time must be non-negative: " + smoothingTime);
+        }
+        this.target = target;
+        this.smoothingTime = smoothingTime;
+    }
+
+    /**
+     * Samples the target's position and updates its smoothed velocity.
+     *
+     * Ticks in which the target has not moved are accumulated rather than
+     * read as a stop, so observing more often than the target is updated does
+     * not drag the estimate towards zero.
+     *
+     * @param deltaTime Time since the previous observation
+     */
+    public void observe(float deltaTime) {
+        float x = target.getX();
+        float y = target.getY();
+        if (!observed) {
+            targetX = x;
+            targetY = y;
+            observed = true;
+            return;
+        }
+        if (deltaTime <= 0) {
+            return;
+        }
+
+        unchangedTime += deltaTime;
+        float elapsed = unchangedTime;
+        float sampleX;
+        float sampleY;
+        if (x != targetX || y != targetY) {
+            sampleX = (x - targetX) / elapsed;
+            sampleY = (y - targetY) / elapsed;
+            targetX = x;
+            targetY = y;
+            unchangedTime = 0;
+        } else if (unchangedTime >= STALE_TIME) {
+            sampleX = 0;
+            sampleY = 0;
+            elapsed = deltaTime;
+        } else {
+            return;
+        }
+
+        float blend = smoothingTime > 0 ? 1f - (float) Math.exp(-elapsed / smoothingTime) : 1f;
+        velocityX += (sampleX - velocityX) * blend;
+        velocityY += (sampleY - velocityY) * blend;
+    }
+
+    /**
+     * Computes the aim point for one pursuer.
+     *
+     * @param pursuerX X position of the pursuer
+     * @param pursuerY Y position of the pursuer
+     * @param speed    Speed of the pursuer
+     * @param aim      Receives the point to head for
+     * @return Time until interception, or -1 if the target cannot be caught
+     */
+    public float solve(float pursuerX, float pursuerY, float speed, Vector2 aim) {
+        float rx = targetX - pursuerX;
+        float ry = targetY - pursuerY;
+        float time = interceptTime(rx, ry, velocityX, velocityY, speed);
+        float lead = time >= 0 ? time : fallbackLead(rx, ry, speed);
+        aim.set(targetX + velocityX * lead, targetY + velocityY * lead);
+        return time;
+    }
+
+    /**
+     * Computes aim points for many pursuers against the same target.
+     *
+     * @param pursuerX X positions of the pursuers
+     * @param pursuerY Y positions of the pursuers
+     * @param speeds   Speeds of the pursuers
+     * @param count    Number of pursuers to solve
+     * @param aimX     Receives the x of each aim point
+     * @param aimY     Receives the y of each aim point
+     * @param times    Receives each time to interception or -1; may be null
+     * @return The number of pursuers that can catch the target
+     */
+    public int solveBatch(float[] pursuerX, float[] pursuerY, float[] speeds, int count, float[] aimX,
+            float[] aimY, float[] times) {
+        float tx = targetX;
+        float ty = targetY;
+        float vx = velocityX;
+        float vy = velocityY;
+        float v2 = vx * vx + vy * vy;
+        int reachable = 0;
+        for (int i = 0; i < count; i++) {
+            float rx = tx - pursuerX[i];
+            float ry = ty - pursuerY[i];
+            float time = interceptTime(rx, ry, vx, vy, v2, speeds[i]);
+            float lead;
+            if (time >= 0) {
+                lead = time;
+                reachable++;
+            } else {
+                lead = fallbackLead(rx, ry, speeds[i]);
+            }
+            aimX[i] = tx + vx * lead;
+            aimY[i] = ty + vy * lead;
+            if (times != null) {
+                times[i] = time;
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Computes the earliest time at which a pursuer moving at constant speed
+     * can meet a target moving at constant velocity.
+     *
+     * @param rx    X offset from pursuer to target
+     * @param ry    Y offset from pursuer to target
+     * @param vx    Target velocity along x
+     * @param vy    Target velocity along y
+     * @param speed Pursuer speed
+     * @return The meeting time, or -1 if they never meet
+     */
+    public static float interceptTime(float rx, float ry, float vx, float vy, float speed) {
+        return interceptTime(rx, ry, vx, vy, vx * vx + vy * vy, speed);
+    }
+
+    private static float interceptTime(float rx, float ry, float vx, float vy, float v2, float speed) {
+        float c = rx * rx + ry * ry;
+        if (c < EPSILON) {
+            return 0f;
+        }
+        float a = v2 - speed * speed;
+        float b = 2f * (rx * vx + ry * vy);
+
+        if (Math.abs(a) < EPSILON) {
+            // Equal speeds: the quadratic degenerates to b t + c = 0
+            return b < 0 ? -c / b : -1f;
+        }
+
+        float discriminant = b * b - 4f * a * c;
+        if (discriminant < 0) {
+            return -1f;
+        }
+        // Numerically stable roots: q / a and c / q
+        float root = (float) Math.sqrt(discriminant);
+        float q = -0.5f * (b + (b >= 0 ? root : -root));
+        float t1 = q / a;
+        float t2 = q != 0 ? c / q : -1f;
+        float earliest = Math.min(t1, t2);
+        if (earliest > 0) {
+            return earliest;
+        }
+        float latest = Math.max(t1, t2);
+        return latest > 0 ? latest : -1f;
+    }
+
+    /**
+     * Lead used when the target cannot be caught: the time the pursuer needs
+     * to cover the current distance, capped so the aim point stays nearby.
+     */
+    private static float fallbackLead(float rx, float ry, float speed) {
+        if (speed <= 0) {
+            return 0f;
+        }
+        return Math.min((float) Math.sqrt(rx * rx + ry * ry) / speed, MAX_LEAD_TIME);
+    }
+
+    public float getTargetX() {
+        return targetX;
+    }
+
+    public float getTargetY() {
+        return targetY;
+    }
+
+    public float getTargetVelocityX() {
+        return velocityX;
+    }
+
+    public float getTargetVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Whether the target's position has been sampled at least once.
+     */
+    public boolean hasObserved() {
+        return observed;
+    }
+}
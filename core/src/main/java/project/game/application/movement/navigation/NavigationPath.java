@@ -0,0 +1,46 @@
+package project.game.application.movement.navigation;
+
+/**
+ * An immutable list of world-space waypoints produced by the pathfinder.
+ *
+ * The first waypoint is the first point to steer towards after leaving the
+ * start cell; the last waypoint is the centre of the goal cell.
+ */
+public final class NavigationPath {
+
+    private final float[] xs;
+    private final float[] ys;
+    private final int startCell;
+    private final int goalCell;
+
+    NavigationPath(float[] xs, float[] ys, int startCell, int goalCell) {
+        this.xs = xs;
+        this.ys = ys;
+        this.startCell = startCell;
+        this.goalCell = goalCell;
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public boolean isEmpty() {
+        return xs.length == 0;
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    public int getStartCell() {
+        return startCell;
+    }
+
+    public int getGoalCell() {
+        return goalCell;
+    }
+}
@@ -0,0 +1,141 @@
+package project.game.application.movement.navigation;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid for finding nearby agents, rebuilt from scratch every frame.
+ *
+ * Agents are bucketed with a counting sort into flat arrays, so rebuilding and
+ * querying do not allocate once the buffers have grown to the agent count.
+ * Positions outside the world are clamped into the border cells.
+ */
+public class NeighbourGrid {
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;
+    private final int[] cellCount;
+
+    private float[] xs = new float[0];
+    private float[] ys = new float[0];
+    private int[] agentCell = new int[0];
+    private int[] sorted = new int[0];
+    private int agentCount;
+
+    /**
+     * Creates a neighbour grid.
+     *
+     * @param worldWidth  Width of the world in pixels
+     * @param worldHeight Height of the world in pixels
+     * @param cellSize    Cell size in pixels; should be at least the largest
+     *                    query radius
+     */
+    public NeighbourGrid(float worldWidth, float worldHeight, float cellSize) {
+        if (worldWidth <= 0 || worldHeight <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("World dimensions and cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.cellStart = new int[columns * rows + 1];
+        this.cellCount = new int[columns * rows];
+    }
+
+    /**
+     * Starts a rebuild for the given number of agents. Positions are then set
+     * with {@link #setPosition} and the rebuild finished with {@link #build()}.
+     */
+    public void begin(int count) {
+        if (xs.length < count) {
+            int capacity = Math.max(count, xs.length * 2);
+            xs = new float[capacity];
+            ys = new float[capacity];
+            agentCell = new int[capacity];
+            sorted = new int[capacity];
+        }
+        agentCount = count;
+    }
+
+    public void setPosition(int agent, float x, float y) {
+        xs[agent] = x;
+        ys[agent] = y;
+    }
+
+    /**
+     * Buckets the agents into cells.
+     */
+    public void build() {
+        Arrays.fill(cellCount, 0);
+        for (int i = 0; i < agentCount; i++) {
+            int cell = cellIndex(columnOf(xs[i]), rowOf(ys[i]));
+            agentCell[i] = cell;
+            cellCount[cell]++;
+        }
+        int offset = 0;
+        for (int cell = 0; cell < cellCount.length; cell++) {
+            cellStart[cell] = offset;
+            offset += cellCount[cell];
+        }
+        cellStart[cellCount.length] = offset;
+
+        // Reuse cellCount as the insertion cursor for each cell
+        Arrays.fill(cellCount, 0);
+        for (int i = 0; i < agentCount; i++) {
+            int cell = agentCell[i];
+            sorted[cellStart[cell] + cellCount[cell]++] = i;
+        }
+    }
+
+    /**
+     * Collects the agents in the 3x3 block of cells around a position.
+     * Candidates still need a distance check.
+     *
+     * @param x   X coordinate in pixels
+     * @param y   Y coordinate in pixels
+     * @param out Buffer receiving agent indices; must hold all agents
+     * @return The number of candidates written
+     */
+    public int query(float x, float y, int[] out) {
+        int col = columnOf(x);
+        int row = rowOf(y);
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                int cell = cellIndex(c, r);
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    out[count++] = sorted[k];
+                }
+            }
+        }
+        return count;
+    }
+
+    public float getX(int agent) {
+        return xs[agent];
+    }
+
+    public float getY(int agent) {
+        return ys[agent];
+    }
+
+    public int getAgentCount() {
+        return agentCount;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    private int columnOf(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellSize)));
+    }
+
+    private int rowOf(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellSize)));
+    }
+
+    private int cellIndex(int col, int row) {
+        return row * columns + col;
+    }
+}
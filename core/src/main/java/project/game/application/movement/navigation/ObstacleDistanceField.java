@@ -0,0 +1,351 @@
+package project.game.application.movement.navigation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.common.logging.core.GameLogger;
+import project.game.engine.entitysystem.entity.base.Entity;
+
+/**
+ * A precomputed distance field over the game world for static obstacles.
+ *
+ * The world is divided into square cells. Each cell stores the distance from
+ * its centre to the surface of the nearest obstacle (clamped to a maximum
+ * influence distance) and the index of that obstacle. Movement strategies can
+ * then sample the field in constant time instead of iterating over every
+ * obstacle each frame.
+ *
+ * When a registered obstacle moves or is deactivated, {@link #refresh()}
+ * rebuilds only the cells inside its area of influence. A different set of
+ * obstacles needs a new {@link #build(List)}. The field is shared by every
+ * strategy that samples it and is only changed from the game thread.
+ */
+public class ObstacleDistanceField {
+
+    private static final GameLogger LOGGER = new GameLogger(ObstacleDistanceField.class);
+
+    public static final float DEFAULT_CELL_SIZE = 16f;
+    public static final float DEFAULT_MAX_DISTANCE = 480f;
+
+    // Tolerance before an obstacle is considered to have moved
+    private static final float MOVE_EPSILON = 0.5f;
+
+    private final float cellSize;
+    private final float invCellSize;
+    private final float maxDistance;
+    private final int columns;
+    private final int rows;
+
+    // Distance to the nearest obstacle surface and index of that obstacle
+    private final float[] distances;
+    private final int[] nearest;
+
+    // Obstacles from the last build, indexed as in the nearest array
+    private final List<Entity> obstacles = new ArrayList<>();
+
+    // Geometry each obstacle was last stamped with
+    private float[] stampedX = new float[0];
+    private float[] stampedY = new float[0];
+    private float[] stampedRadius = new float[0];
+    private boolean[] stampedActive = new boolean[0];
+
+    private int regionRebuilds = 0;
+
+    /**
+     * Creates an empty field covering the given world area with default cell
+     * size and influence distance.
+     *
+     * @param worldWidth  Width of the world in pixels
+     * @param worldHeight Height of the world in pixels
+     */
+    public ObstacleDistanceField(float worldWidth, float worldHeight) {
+        this(worldWidth, worldHeight, DEFAULT_CELL_SIZE, DEFAULT_MAX_DISTANCE);
+    }
+
+    /**
+     * Creates an empty field covering the given world area.
+     *
+     * @param worldWidth  Width of the world in pixels
+     * @param worldHeight Height of the world in pixels
+     * @param cellSize    Size of a grid cell in pixels
+     * @param maxDistance Distance beyond which obstacles have no influence
+     */
+    public ObstacleDistanceField(float worldWidth, float worldHeight, float cellSize, float maxDistance) {
+        if (worldWidth <= 0 || worldHeight <= 0) {
+            throw new IllegalArgumentException("World dimensions must be positive");
+        }
+        if (cellSize <= 0 || maxDistance <= 0) {
+            throw new IllegalArgumentException("Cell size and max distance must be positive");
+        }
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        this.maxDistance = maxDistance;
+        this.columns = (int) Math.ceil(worldWidth / cellSize);
+        this.rows = (int) Math.ceil(worldHeight / cellSize);
+        this.distances = new float[columns * rows];
+        this.nearest = new int[columns * rows];
+        clearRegion(0, 0, columns - 1, rows - 1);
+    }
+
+    /**
+     * Builds the whole field from the given obstacles, replacing any obstacles
+     * previously registered.
+     *
+     * @param obstacleEntities The obstacles to stamp into the field
+     */
+    public void build(List<? extends Entity> obstacleEntities) {
+        obstacles.clear();
+        if (obstacleEntities != null) {
+            for (Entity obstacle : obstacleEntities) {
+                if (obstacle != null && !obstacles.contains(obstacle)) {
+                    obstacles.add(obstacle);
+                }
+            }
+        }
+        ensureCapacity(obstacles.size());
+        for (int i = 0; i < obstacles.size(); i++) {
+            snapshot(i);
+        }
+        rebuildRegion(0, 0, columns - 1, rows - 1);
+        LOGGER.info("Obstacle field built: {0}x{1} cells, {2} obstacles", columns, rows, obstacles.size());
+    }
+
+    /**
+     * Checks every registered obstacle for changes and rebuilds only the regions
+     * of those that changed. This is cheap when nothing moved, so it can be
+     * called once per frame.
+     *
+     * @return The number of obstacles whose region was rebuilt
+     */
+    public int refresh() {
+        int changed = 0;
+        for (int i = 0; i < obstacles.size(); i++) {
+            if (hasChanged(i)) {
+                rebuildObstacle(i);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Samples the distance from a world position to the nearest obstacle
+     * surface using bilinear interpolation between cell centres.
+     *
+     * @param x World x coordinate
+     * @param y World y coordinate
+     * @return The distance, clamped to the field's maximum distance
+     */
+    public float distanceAt(float x, float y) {
+        float gx = x * invCellSize - 0.5f;
+        float gy = y * invCellSize - 0.5f;
+        int x0 = (int) Math.floor(gx);
+        int y0 = (int) Math.floor(gy);
+        float tx = gx - x0;
+        float ty = gy - y0;
+
+        float d00 = cellDistance(x0, y0);
+        float d10 = cellDistance(x0 + 1, y0);
+        float d01 = cellDistance(x0, y0 + 1);
+        float d11 = cellDistance(x0 + 1, y0 + 1);
+
+        float bottom = d00 + (d10 - d00) * tx;
+        float top = d01 + (d11 - d01) * tx;
+        return bottom + (top - bottom) * ty;
+    }
+
+    /**
+     * Gets the obstacle nearest to a world position.
+     *
+     * @param x World x coordinate
+     * @param y World y coordinate
+     * @return The nearest obstacle, or null if none is within range
+     */
+    public Entity nearestObstacleAt(float x, float y) {
+        int index = cellIndex(x, y);
+        if (index < 0) {
+            return null;
+        }
+        int obstacleIndex = nearest[index];
+        return obstacleIndex >= 0 ? obstacles.get(obstacleIndex) : null;
+    }
+
+    /**
+     * Computes the normalised gradient of the field at a world position. The
+     * gradient points away from the nearest obstacles.
+     *
+     * @param x   World x coordinate
+     * @param y   World y coordinate
+     * @param out Vector receiving the result
+     * @return The out vector, zero if the field is flat at this position
+     */
+    public Vector2 gradientAt(float x, float y, Vector2 out) {
+        float dx = distanceAt(x + cellSize, y) - distanceAt(x - cellSize, y);
+        float dy = distanceAt(x, y + cellSize) - distanceAt(x, y - cellSize);
+        out.set(dx, dy);
+        if (out.len2() > 0.0001f) {
+            out.nor();
+        } else {
+            out.setZero();
+        }
+        return out;
+    }
+
+    /**
+     * Checks whether a world position lies within the field.
+     */
+    public boolean contains(float x, float y) {
+        return cellIndex(x, y) >= 0;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public float getMaxDistance() {
+        return maxDistance;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of partial rebuilds performed since the field was created.
+     */
+    public int getRegionRebuildCount() {
+        return regionRebuilds;
+    }
+
+    private void rebuildObstacle(int index) {
+        float oldX = stampedX[index];
+        float oldY = stampedY[index];
+        float oldRadius = stampedRadius[index];
+        boolean wasActive = stampedActive[index];
+
+        snapshot(index);
+
+        // Rebuild the union of the old and new areas of influence
+        float reach = maxDistance + Math.max(oldRadius, stampedRadius[index]);
+        float minX = Math.min(wasActive ? oldX : stampedX[index], stampedX[index]) - reach;
+        float minY = Math.min(wasActive ? oldY : stampedY[index], stampedY[index]) - reach;
+        float maxX = Math.max(wasActive ? oldX : stampedX[index], stampedX[index]) + reach;
+        float maxY = Math.max(wasActive ? oldY : stampedY[index], stampedY[index]) + reach;
+        rebuildRegion(toColumn(minX), toRow(minY), toColumn(maxX), toRow(maxY));
+    }
+
+    private void rebuildRegion(int minCol, int minRow, int maxCol, int maxRow) {
+        clearRegion(minCol, minRow, maxCol, maxRow);
+        for (int i = 0; i < obstacles.size(); i++) {
+            if (stampedActive[i]) {
+                stamp(i, minCol, minRow, maxCol, maxRow);
+            }
+        }
+        regionRebuilds++;
+    }
+
+    private void clearRegion(int minCol, int minRow, int maxCol, int maxRow) {
+        for (int row = minRow; row <= maxRow; row++) {
+            int start = row * columns + minCol;
+            int end = row * columns + maxCol + 1;
+            Arrays.fill(distances, start, end, maxDistance);
+            Arrays.fill(nearest, start, end, -1);
+        }
+    }
+
+    /**
+     * Stamps one obstacle into the cells of its area of influence that fall
+     * inside the given clip region, keeping the minimum distance per cell.
+     */
+    private void stamp(int index, int clipMinCol, int clipMinRow, int clipMaxCol, int clipMaxRow) {
+        float ox = stampedX[index];
+        float oy = stampedY[index];
+        float radius = stampedRadius[index];
+        float reach = maxDistance + radius;
+
+        int minCol = Math.max(clipMinCol, toColumn(ox - reach));
+        int minRow = Math.max(clipMinRow, toRow(oy - reach));
+        int maxCol = Math.min(clipMaxCol, toColumn(ox + reach));
+        int maxRow = Math.min(clipMaxRow, toRow(oy + reach));
+
+        for (int row = minRow; row <= maxRow; row++) {
+            float dy = (row + 0.5f) * cellSize - oy;
+            for (int col = minCol; col <= maxCol; col++) {
+                float dx = (col + 0.5f) * cellSize - ox;
+                float distance = (float) Math.sqrt(dx * dx + dy * dy) - radius;
+                if (distance < 0) {
+                    distance = 0;
+                }
+                int cell = row * columns + col;
+                if (distance < distances[cell]) {
+                    distances[cell] = distance;
+                    nearest[cell] = index;
+                }
+            }
+        }
+    }
+
+    private boolean hasChanged(int index) {
+        Entity obstacle = obstacles.get(index);
+        if (obstacle.isActive() != stampedActive[index]) {
+            return true;
+        }
+        return Math.abs(obstacle.getX() - stampedX[index]) > MOVE_EPSILON
+                || Math.abs(obstacle.getY() - stampedY[index]) > MOVE_EPSILON
+                || Math.abs(radiusOf(obstacle) - stampedRadius[index]) > MOVE_EPSILON;
+    }
+
+    private void snapshot(int index) {
+        Entity obstacle = obstacles.get(index);
+        stampedX[index] = obstacle.getX();
+        stampedY[index] = obstacle.getY();
+        stampedRadius[index] = radiusOf(obstacle);
+        stampedActive[index] = obstacle.isActive();
+    }
+
+    private void ensureCapacity(int size) {
+        if (stampedX.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, stampedX.length * 2);
+        stampedX = Arrays.copyOf(stampedX, capacity);
+        stampedY = Arrays.copyOf(stampedY, capacity);
+        stampedRadius = Arrays.copyOf(stampedRadius, capacity);
+        stampedActive = Arrays.copyOf(stampedActive, capacity);
+    }
+
+    private float cellDistance(int col, int row) {
+        if (col < 0 || row < 0 || col >= columns || row >= rows) {
+            return maxDistance;
+        }
+        return distances[row * columns + col];
+    }
+
+    private int cellIndex(float x, float y) {
+        int col = (int) Math.floor(x * invCellSize);
+        int row = (int) Math.floor(y * invCellSize);
+        if (col < 0 || row < 0 || col >= columns || row >= rows) {
+            return -1;
+        }
+        return row * columns + col;
+    }
+
+    private int toColumn(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x * invCellSize)));
+    }
+
+    private int toRow(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y * invCellSize)));
+    }
+
+    private static float radiusOf(Entity obstacle) {
+        return Math.max(obstacle.getWidth(), obstacle.getHeight()) / 2;
+    }
+}
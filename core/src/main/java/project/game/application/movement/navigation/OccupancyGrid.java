@@ -0,0 +1,162 @@
+package project.game.application.movement.navigation;
+
+import java.util.List;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+import project.game.application.entity.obstacle.Rock;
+
+/**
+ * An immutable grid of blocked and free cells used for pathfinding.
+ *
+ * Cells are blocked when their centre lies within an obstacle's radius plus a
+ * clearance for the navigating agent. Since the grid never changes after it is
+ * built, it can be shared safely between the game thread and pathfinding
+ * worker threads.
+ */
+public final class OccupancyGrid {
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final boolean[] blocked;
+
+    private OccupancyGrid(float cellSize, int columns, int rows, boolean[] blocked) {
+        this.cellSize = cellSize;
+        this.columns = columns;
+        this.rows = rows;
+        this.blocked = blocked;
+    }
+
+    /**
+     * Builds a grid from the physics bodies of the given rocks.
+     *
+     * @param rocks          The rocks to mark as blocked
+     * @param worldWidth     Width of the world in pixels
+     * @param worldHeight    Height of the world in pixels
+     * @param cellSize       Size of a grid cell in pixels
+     * @param clearance      Extra distance to keep from each rock, usually the
+     *                       agent's radius
+     * @param pixelsToMeters Conversion factor between pixels and Box2D units
+     * @return The occupancy grid
+     */
+    public static OccupancyGrid fromRocks(List<Rock> rocks, float worldWidth, float worldHeight, float cellSize,
+            float clearance, float pixelsToMeters) {
+        if (worldWidth <= 0 || worldHeight <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("World dimensions and cell size must be positive");
+        }
+        int columns = (int) Math.ceil(worldWidth / cellSize);
+        int rows = (int) Math.ceil(worldHeight / cellSize);
+        boolean[] blocked = new boolean[columns * rows];
+
+        if (rocks != null) {
+            for (Rock rock : rocks) {
+                if (rock == null || !rock.isActive() || rock.getBody() == null) {
+                    continue;
+                }
+                Body body = rock.getBody();
+                float centerX = body.getPosition().x * pixelsToMeters;
+                float centerY = body.getPosition().y * pixelsToMeters;
+                float radius = bodyRadius(body) * pixelsToMeters + clearance;
+                markCircle(blocked, columns, rows, cellSize, centerX, centerY, radius);
+            }
+        }
+        return new OccupancyGrid(cellSize, columns, rows, blocked);
+    }
+
+    private static float bodyRadius(Body body) {
+        float radius = 0;
+        for (Fixture fixture : body.getFixtureList()) {
+            radius = Math.max(radius, fixture.getShape().getRadius());
+        }
+        return radius;
+    }
+
+    private static void markCircle(boolean[] blocked, int columns, int rows, float cellSize, float centerX,
+            float centerY, float radius) {
+        int minCol = Math.max(0, (int) Math.floor((centerX - radius) / cellSize));
+        int maxCol = Math.min(columns - 1, (int) Math.floor((centerX + radius) / cellSize));
+        int minRow = Math.max(0, (int) Math.floor((centerY - radius) / cellSize));
+        int maxRow = Math.min(rows - 1, (int) Math.floor((centerY + radius) / cellSize));
+        float radiusSquared = radius * radius;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            float dy = (row + 0.5f) * cellSize - centerY;
+            for (int col = minCol; col <= maxCol; col++) {
+                float dx = (col + 0.5f) * cellSize - centerX;
+                if (dx * dx + dy * dy <= radiusSquared) {
+                    blocked[row * columns + col] = true;
+                }
+            }
+        }
+    }
+
+    public boolean isBlocked(int col, int row) {
+        if (col < 0 || row < 0 || col >= columns || row >= rows) {
+            return true;
+        }
+        return blocked[row * columns + col];
+    }
+
+    public boolean isBlocked(int cell) {
+        return blocked[cell];
+    }
+
+    /**
+     * Gets the cell index containing a world position, clamped to the grid.
+     */
+    public int cellAt(float x, float y) {
+        return cellIndex(columnAt(x), rowAt(y));
+    }
+
+    public int columnAt(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellSize)));
+    }
+
+    public int rowAt(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellSize)));
+    }
+
+    public int cellIndex(int col, int row) {
+        return row * columns + col;
+    }
+
+    public int columnOf(int cell) {
+        return cell % columns;
+    }
+
+    public int rowOf(int cell) {
+        return cell / columns;
+    }
+
+    /**
+     * Gets the world x coordinate of a cell's centre.
+     */
+    public float centerX(int cell) {
+        return (columnOf(cell) + 0.5f) * cellSize;
+    }
+
+    /**
+     * Gets the world y coordinate of a cell's centre.
+     */
+    public float centerY(int cell) {
+        return (rowOf(cell) + 0.5f) * cellSize;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCellCount() {
+        return blocked.length;
+    }
+}
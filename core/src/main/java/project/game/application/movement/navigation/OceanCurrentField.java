@@ -0,0 +1,356 @@
+package project.game.application.movement.navigation;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.common.logging.core.GameLogger;
+
+/**
+ * A shared, time-varying ocean current sampled by drifting entities.
+ *
+ * The current is a steady base flow plus the curl of a sum of travelling
+ * waves, which gives swirling, divergence-free flow so neighbouring entities
+ * drift coherently without bunching up. The field is baked into a grid of
+ * velocity samples at a low frequency, each bake describing the current at a
+ * future point in time. Sampling blends bilinearly between grid cells and
+ * linearly between the two most recent bakes, so the per-entity cost is a
+ * handful of array reads regardless of how complex the current is.
+ *
+ * Bakes run on a background worker thread between {@link #start()} and
+ * {@link #stop()}, and on the game thread otherwise. The field is advanced
+ * from the game thread with {@link #update(float)}; sampling, starting and
+ * stopping are only safe from the game thread.
+ */
+public class OceanCurrentField {
+
+    private static final GameLogger LOGGER = new GameLogger(OceanCurrentField.class);
+
+    public static final float DEFAULT_CELL_SIZE = 64f;
+    public static final float DEFAULT_BAKE_INTERVAL = 0.5f;
+    private static final int WAVE_COUNT = 4;
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final float bakeInterval;
+    private ExecutorService worker;
+
+    // Steady flow and travelling wave parameters for the stream function
+    private final float baseFlowX;
+    private final float baseFlowY;
+    private final float[] waveAmplitude = new float[WAVE_COUNT];
+    private final float[] waveKx = new float[WAVE_COUNT];
+    private final float[] waveKy = new float[WAVE_COUNT];
+    private final float[] waveSpeed = new float[WAVE_COUNT];
+    private final float[] wavePhase = new float[WAVE_COUNT];
+
+    private float time;
+    private Bake previous;
+    private Bake next;
+    private CompletableFuture<Bake> pending;
+    private final AtomicLong bakeCount = new AtomicLong();
+    private long lateBakes;
+
+    /**
+     * Creates a current field with default resolution and bake rate.
+     *
+     * @param worldWidth  Width of the world in pixels
+     * @param worldHeight Height of the world in pixels
+     * @param baseFlowX   Steady flow along x in pixels per second
+     * @param baseFlowY   Steady flow along y in pixels per second
+     * @param swirl       Peak speed of the swirling component in pixels per
+     *                    second
+     * @param seed        Seed for the wave layout
+     * @param background  Whether to start baking on a background thread
+     *                    straight away
+     */
+    public OceanCurrentField(float worldWidth, float worldHeight, float baseFlowX, float baseFlowY, float swirl,
+            long seed, boolean background) {
+        this(worldWidth, worldHeight, DEFAULT_CELL_SIZE, DEFAULT_BAKE_INTERVAL, baseFlowX, baseFlowY, swirl, seed,
+                background);
+    }
+
+    /**
+     * Creates a current field.
+     *
+     * @param worldWidth   Width of the world in pixels
+     * @param worldHeight  Height of the world in pixels
+     * @param cellSize     Spacing of the baked samples in pixels
+     * @param bakeInterval Seconds of simulated time between bakes
+     * @param baseFlowX    Steady flow along x in pixels per second
+     * @param baseFlowY    Steady flow along y in pixels per second
+     * @param swirl        Peak speed of the swirling component in pixels per
+     *                     second
+     * @param seed         Seed for the wave layout
+     * @param background   Whether to start baking on a background thread
+     *                     straight away
+     */
+    public OceanCurrentField(float worldWidth, float worldHeight, float cellSize, float bakeInterval,
+            float baseFlowX, float baseFlowY, float swirl, long seed, boolean background) {
+        if (worldWidth <= 0 || worldHeight <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("World dimensions and cell size must be positive");
+        }
+        if (bakeInterval <= 0) {
+            throw new IllegalArgumentException("Bake interval must be positive: " + bakeInterval);
+        }
+        this.cellSize = cellSize;
+        // One extra sample per axis so the far edge can be interpolated
+        this.columns = (int) Math.ceil(worldWidth / cellSize) + 1;
+        this.rows = (int) Math.ceil(worldHeight / cellSize) + 1;
+        this.bakeInterval = bakeInterval;
+        this.baseFlowX = baseFlowX;
+        this.baseFlowY = baseFlowY;
+        initializeWaves(worldWidth, worldHeight, swirl, seed);
+
+        this.previous = bake(0f);
+        this.next = bake(bakeInterval);
+
+        if (background) {
+            start();
+        }
+
+        LOGGER.info("OceanCurrentField created with {0}x{1} samples, base flow ({2}, {3})", columns, rows,
+                baseFlowX, baseFlowY);
+    }
+
+    /**
+     * Picks wavelengths between a third and the whole of the world size so the
+     * swirls are large compared to an entity, and scales amplitudes so the
+     * swirl speed peaks at roughly the requested value.
+     */
+    private void initializeWaves(float worldWidth, float worldHeight, float swirl, long seed) {
+        Random random = new Random(seed);
+        float worldSize = Math.max(worldWidth, worldHeight);
+        for (int i = 0; i < WAVE_COUNT; i++) {
+            float angle = random.nextFloat() * (float) Math.PI * 2f;
+            float wavelength = worldSize * (0.33f + random.nextFloat() * 0.67f);
+            float k = (float) Math.PI * 2f / wavelength;
+            waveKx[i] = (float) Math.cos(angle) * k;
+            waveKy[i] = (float) Math.sin(angle) * k;
+            // Velocity from the curl scales with k, so divide it back out
+            waveAmplitude[i] = swirl / WAVE_COUNT / k;
+            waveSpeed[i] = 0.05f + random.nextFloat() * 0.15f;
+            wavePhase[i] = random.nextFloat() * (float) Math.PI * 2f;
+        }
+    }
+
+    /**
+     * Starts baking on a background worker thread. Does nothing if the worker
+     * is already running.
+     */
+    public void start() {
+        if (worker != null) {
+            return;
+        }
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ocean-current-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        requestBake(next.time + bakeInterval);
+    }
+
+    /**
+     * Stops the worker thread. Later bakes run on the game thread until the
+     * field is started again.
+     */
+    public void stop() {
+        if (worker == null) {
+            return;
+        }
+        worker.shutdownNow();
+        worker = null;
+        pending = null;
+    }
+
+    public boolean isStarted() {
+        return worker != null;
+    }
+
+    /**
+     * Advances the field's clock. Swaps in a new bake when the current pair has
+     * been used up and starts the next one.
+     *
+     * @param deltaTime Simulated time since the last update
+     */
+    public void update(float deltaTime) {
+        if (deltaTime <= 0) {
+            return;
+        }
+        time += deltaTime;
+
+        while (time >= next.time) {
+            Bake upcoming = takeBake(next.time + bakeInterval);
+            if (upcoming == null) {
+                // The worker has fallen behind; hold the latest bake until it
+                // catches up
+                lateBakes++;
+                time = next.time;
+                break;
+            }
+            previous = next;
+            next = upcoming;
+            if (worker != null) {
+                requestBake(next.time + bakeInterval);
+            }
+        }
+    }
+
+    private Bake takeBake(float bakeTime) {
+        if (worker == null) {
+            return bake(bakeTime);
+        }
+        if (pending == null || !pending.isDone()) {
+            return null;
+        }
+        Bake result = pending.isCompletedExceptionally() ? null : pending.getNow(null);
+        pending = null;
+        if (result == null) {
+            // Recover from a failed or rejected bake on the game thread
+            return bake(bakeTime);
+        }
+        return result;
+    }
+
+    private void requestBake(float bakeTime) {
+        CompletableFuture<Bake> future = new CompletableFuture<>();
+        pending = future;
+        try {
+            worker.execute(() -> {
+                try {
+                    future.complete(bake(bakeTime));
+                } catch (Exception e) {
+                    LOGGER.error("Ocean current bake failed: {0}", e.getMessage());
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Evaluates the current at every grid sample for the given time. Only reads
+     * immutable wave parameters, so it can run on any thread.
+     */
+    private Bake bake(float bakeTime) {
+        float[] velocityX = new float[columns * rows];
+        float[] velocityY = new float[columns * rows];
+        for (int row = 0; row < rows; row++) {
+            float y = row * cellSize;
+            for (int col = 0; col < columns; col++) {
+                float x = col * cellSize;
+                // v = (d psi / dy, -d psi / dx) for psi = sum a sin(k.p + w t + phi)
+                float vx = baseFlowX;
+                float vy = baseFlowY;
+                for (int i = 0; i < WAVE_COUNT; i++) {
+                    float phase = waveKx[i] * x + waveKy[i] * y + waveSpeed[i] * bakeTime + wavePhase[i];
+                    float derivative = waveAmplitude[i] * (float) Math.cos(phase);
+                    vx += derivative * waveKy[i];
+                    vy -= derivative * waveKx[i];
+                }
+                velocityX[row * columns + col] = vx;
+                velocityY[row * columns + col] = vy;
+            }
+        }
+        bakeCount.incrementAndGet();
+        return new Bake(bakeTime, velocityX, velocityY);
+    }
+
+    /**
+     * Samples the current at a world position.
+     *
+     * @param x   X coordinate in pixels
+     * @param y   Y coordinate in pixels
+     * @param out Vector receiving the current in pixels per second
+     * @return The out vector
+     */
+    public Vector2 sample(float x, float y, Vector2 out) {
+        float gx = Math.max(0f, Math.min(columns - 1.001f, x / cellSize));
+        float gy = Math.max(0f, Math.min(rows - 1.001f, y / cellSize));
+        int col = (int) gx;
+        int row = (int) gy;
+        float fx = gx - col;
+        float fy = gy - row;
+
+        int i00 = row * columns + col;
+        int i10 = i00 + 1;
+        int i01 = i00 + columns;
+        int i11 = i01 + 1;
+        float w00 = (1 - fx) * (1 - fy);
+        float w10 = fx * (1 - fy);
+        float w01 = (1 - fx) * fy;
+        float w11 = fx * fy;
+
+        Bake a = previous;
+        Bake b = next;
+        float t = (time - a.time) / (b.time - a.time);
+        t = Math.max(0f, Math.min(1f, t));
+
+        float ax = a.velocityX[i00] * w00 + a.velocityX[i10] * w10 + a.velocityX[i01] * w01
+                + a.velocityX[i11] * w11;
+        float ay = a.velocityY[i00] * w00 + a.velocityY[i10] * w10 + a.velocityY[i01] * w01
+                + a.velocityY[i11] * w11;
+        float bx = b.velocityX[i00] * w00 + b.velocityX[i10] * w10 + b.velocityX[i01] * w01
+                + b.velocityX[i11] * w11;
+        float by = b.velocityY[i00] * w00 + b.velocityY[i10] * w10 + b.velocityY[i01] * w01
+                + b.velocityY[i11] * w11;
+        return out.set(ax + (bx - ax) * t, ay + (by - ay) * t);
+    }
+
+    public float getTime() {
+        return time;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public long getBakeCount() {
+        return bakeCount.get();
+    }
+
+    /**
+     * Gets the number of times a bake was not ready when it was needed.
+     */
+    public long getLateBakeCount() {
+        return lateBakes;
+    }
+
+    /**
+     * Stops the worker thread. The field keeps returning its last bakes.
+     */
+    public void dispose() {
+        stop();
+        LOGGER.info("OceanCurrentField disposed after {0} bakes, {1} late", bakeCount.get(), lateBakes);
+    }
+
+    /**
+     * Velocity samples for one point in time. Immutable once published.
+     */
+    private static final class Bake {
+        final float time;
+        final float[] velocityX;
+        final float[] velocityY;
+
+        Bake(float time, float[] velocityX, float[] velocityY) {
+            this.time = time;
+            this.velocityX = velocityX;
+            this.velocityY = velocityY;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package project.game.application.movement.navigation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe least-recently-used cache of paths keyed by start cell and
+ * goal cell.
+ */
+public class PathCache {
+
+    private final int capacity;
+    private final LinkedHashMap<Long, NavigationPath> paths;
+
+    /**
+     * Creates a cache holding at most the given number of paths.
+     *
+     * @param capacity Maximum number of cached paths
+     */
+    public PathCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Path cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.paths = new LinkedHashMap<Long, NavigationPath>(capacity * 2, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, NavigationPath> eldest) {
+                return size() > PathCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Combines a start cell and goal cell into a cache key.
+     */
+    public static long key(int startCell, int goalCell) {
+        return ((long) startCell << 32) | (goalCell & 0xffffffffL);
+    }
+
+    public synchronized NavigationPath get(long key) {
+        return paths.get(key);
+    }
+
+    public synchronized void put(long key, NavigationPath path) {
+        paths.put(key, path);
+    }
+
+    public synchronized void clear() {
+        paths.clear();
+    }
+
+    public synchronized int size() {
+        return paths.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
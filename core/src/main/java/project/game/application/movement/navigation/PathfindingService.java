@@ -0,0 +1,181 @@
+package project.game.application.movement.navigation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import project.game.common.logging.core.GameLogger;
+
+/**
+ * Pathfinding service for NPC navigation.
+ *
+ * Runs A* over a cached {@link OccupancyGrid} and keeps recent results in an
+ * LRU {@link PathCache} keyed by start cell and goal cell. Paths can be found
+ * synchronously on the calling thread or requested asynchronously, in which
+ * case the search runs on a single background worker thread. Identical
+ * requests that are already in flight share the same result.
+ */
+public class PathfindingService {
+
+    private static final GameLogger LOGGER = new GameLogger(PathfindingService.class);
+
+    // Cached in place of unreachable results so they are not searched again
+    private static final NavigationPath UNREACHABLE = new NavigationPath(new float[0], new float[0], -1, -1);
+
+    private volatile OccupancyGrid grid;
+    private final PathCache cache;
+    private final GridPathfinder pathfinder = new GridPathfinder();
+    private final GridPathfinder workerPathfinder = new GridPathfinder();
+    private final ExecutorService worker;
+    private final Map<Long, CompletableFuture<NavigationPath>> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong searchNanos = new AtomicLong();
+
+    /**
+     * Creates a pathfinding service.
+     *
+     * @param grid          The occupancy grid to search
+     * @param cacheCapacity Maximum number of cached paths
+     */
+    public PathfindingService(OccupancyGrid grid, int cacheCapacity) {
+        if (grid == null) {
+            throw new IllegalArgumentException("Occupancy grid cannot be null");
+        }
+        this.grid = grid;
+        this.cache = new PathCache(cacheCapacity);
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pathfinding-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LOGGER.info("PathfindingService created with {0}x{1} grid", grid.getColumns(), grid.getRows());
+    }
+
+    /**
+     * Replaces the occupancy grid, for example after obstacles change. Cached
+     * paths are discarded.
+     */
+    public void setGrid(OccupancyGrid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("Occupancy grid cannot be null");
+        }
+        this.grid = grid;
+        cache.clear();
+    }
+
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Finds a path on the calling thread, using the cache when possible.
+     *
+     * @return The path, or null if the goal is unreachable
+     */
+    public NavigationPath findPath(float startX, float startY, float goalX, float goalY) {
+        OccupancyGrid currentGrid = grid;
+        long key = PathCache.key(currentGrid.cellAt(startX, startY), currentGrid.cellAt(goalX, goalY));
+        NavigationPath cached = cache.get(key);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return resolve(cached);
+        }
+        synchronized (pathfinder) {
+            return resolve(search(pathfinder, currentGrid, key));
+        }
+    }
+
+    /**
+     * Requests a path asynchronously. Cached paths complete immediately;
+     * otherwise the search runs on the worker thread.
+     *
+     * @return A future completed with the path, or with null if the goal is
+     *         unreachable
+     */
+    public CompletableFuture<NavigationPath> requestPath(float startX, float startY, float goalX, float goalY) {
+        OccupancyGrid currentGrid = grid;
+        long key = PathCache.key(currentGrid.cellAt(startX, startY), currentGrid.cellAt(goalX, goalY));
+        NavigationPath cached = cache.get(key);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return CompletableFuture.completedFuture(resolve(cached));
+        }
+
+        CompletableFuture<NavigationPath> future = new CompletableFuture<>();
+        CompletableFuture<NavigationPath> existing = pending.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            worker.execute(() -> {
+                try {
+                    NavigationPath path = resolve(search(workerPathfinder, currentGrid, key));
+                    pending.remove(key, future);
+                    future.complete(path);
+                } catch (Exception e) {
+                    LOGGER.error("Path request failed: {0}", e.getMessage());
+                    pending.remove(key, future);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private NavigationPath search(GridPathfinder finder, OccupancyGrid searchGrid, long key) {
+        long start = System.nanoTime();
+        NavigationPath path = finder.findPath(searchGrid, (int) (key >>> 32), (int) key);
+        searchNanos.addAndGet(System.nanoTime() - start);
+        searches.incrementAndGet();
+
+        NavigationPath result = path != null ? path : UNREACHABLE;
+        // Do not cache results computed against a grid that has since been replaced
+        if (searchGrid == grid) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private static NavigationPath resolve(NavigationPath path) {
+        return path == UNREACHABLE ? null : path;
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getSearchCount() {
+        return searches.get();
+    }
+
+    /**
+     * Gets the average search time in microseconds.
+     */
+    public float getAverageSearchMicros() {
+        long count = searches.get();
+        return count == 0 ? 0 : searchNanos.get() / 1000f / count;
+    }
+
+    public int getCachedPathCount() {
+        return cache.size();
+    }
+
+    /**
+     * Stops the worker thread. Pending requests are abandoned.
+     */
+    public void dispose() {
+        worker.shutdownNow();
+        pending.clear();
+        LOGGER.info("PathfindingService disposed after {0} searches, {1} cache hits", searches.get(),
+                cacheHits.get());
+    }
+}
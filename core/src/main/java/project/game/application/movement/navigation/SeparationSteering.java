@@ -0,0 +1,276 @@
+package project.game.application.movement.navigation;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.common.logging.core.GameLogger;
+import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.management.MovementManager;
+
+/**
+ * Keeps drifting entities apart before their physics bodies touch.
+ *
+ * Each frame the entities are bucketed into a {@link NeighbourGrid}. For every
+ * nearby pair the point of closest approach within a short time horizon is
+ * predicted from their current velocities, and if the pair would come closer
+ * than two radii plus a margin, both are pushed apart along the predicted
+ * separation. Each entity takes half of the correction, in the spirit of
+ * reciprocal velocity obstacles, so neither side has to fully give way.
+ * Conflicts that are closer in time are corrected more strongly.
+ *
+ * Fewer touching pairs means fewer Box2D contacts and collision callbacks. The
+ * steering can be toggled at runtime and keeps separate contact rates for the
+ * time spent on and off, so the effect can be compared in a running game.
+ */
+public class SeparationSteering {
+
+    private static final GameLogger LOGGER = new GameLogger(SeparationSteering.class);
+
+    private final NeighbourGrid grid;
+    private final float separation;
+    private final float timeHorizon;
+    private final float maxCorrectionSpeed;
+
+    private IMovable[] movables = new IMovable[0];
+    private float[] velocityX = new float[0];
+    private float[] velocityY = new float[0];
+    private float[] correctionX = new float[0];
+    private float[] correctionY = new float[0];
+    private int[] candidates = new int[0];
+    private boolean enabled = true;
+
+    // Steering statistics
+    private long frames;
+    private long pairChecks;
+    private long conflicts;
+
+    // Contact rates with the steering on and off
+    private long lastContactCount = -1;
+    private long contactsEnabled;
+    private long contactsDisabled;
+    private float timeEnabled;
+    private float timeDisabled;
+
+    /**
+     * Creates a separation steering layer.
+     *
+     * @param worldWidth         Width of the world in pixels
+     * @param worldHeight        Height of the world in pixels
+     * @param radius             Radius of one entity in pixels
+     * @param margin             Extra gap to keep between entities in pixels
+     * @param timeHorizon        How far ahead to look for conflicts in seconds
+     * @param maxCorrectionSpeed Cap on the correction applied to one entity in
+     *                           pixels per second
+     */
+    public SeparationSteering(float worldWidth, float worldHeight, float radius, float margin, float timeHorizon,
+            float maxCorrectionSpeed) {
+        if (radius <= 0 || margin < 0) {
+            throw new IllegalArgumentException("Radius must be positive and margin non-negative");
+        }
+        if (timeHorizon <= 0 || maxCorrectionSpeed <= 0) {
+            throw new IllegalArgumentException("Time horizon and correction speed must be positive");
+        }
+        this.separation = 2 * radius + margin;
+        this.timeHorizon = timeHorizon;
+        this.maxCorrectionSpeed = maxCorrectionSpeed;
+        // Only neighbouring cells are searched, so a cell spans the separation
+        // plus the distance a pair can close at the correction speed
+        this.grid = new NeighbourGrid(worldWidth, worldHeight, separation + maxCorrectionSpeed * timeHorizon);
+    }
+
+    /**
+     * Applies one frame of separation to the entities moved by the given
+     * managers. Call after the managers have been updated and before positions
+     * are pushed to the physics bodies.
+     *
+     * @param managers  Movement managers of the entities to keep apart
+     * @param deltaTime Time since the last frame
+     */
+    public void apply(List<? extends MovementManager> managers, float deltaTime) {
+        if (!enabled || managers == null || deltaTime <= 0) {
+            return;
+        }
+        int count = gather(managers);
+        if (count < 2) {
+            return;
+        }
+        frames++;
+
+        for (int i = 0; i < count; i++) {
+            float x = grid.getX(i);
+            float y = grid.getY(i);
+            int found = grid.query(x, y, candidates);
+            for (int c = 0; c < found; c++) {
+                int j = candidates[c];
+                // Each pair is handled once, from its lower index
+                if (j > i) {
+                    separatePair(i, j);
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            float cx = correctionX[i];
+            float cy = correctionY[i];
+            float length2 = cx * cx + cy * cy;
+            if (length2 == 0) {
+                continue;
+            }
+            if (length2 > maxCorrectionSpeed * maxCorrectionSpeed) {
+                float scale = maxCorrectionSpeed / (float) Math.sqrt(length2);
+                cx *= scale;
+                cy *= scale;
+            }
+            IMovable movable = movables[i];
+            movable.setX(movable.getX() + cx * deltaTime);
+            movable.setY(movable.getY() + cy * deltaTime);
+        }
+    }
+
+    private int gather(List<? extends MovementManager> managers) {
+        int size = managers.size();
+        ensureCapacity(size);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            MovementManager manager = managers.get(i);
+            if (manager == null || manager.getMovableEntity() == null) {
+                continue;
+            }
+            IMovable movable = manager.getMovableEntity();
+            Vector2 velocity = movable.getVelocity();
+            movables[count] = movable;
+            velocityX[count] = velocity.x;
+            velocityY[count] = velocity.y;
+            correctionX[count] = 0;
+            correctionY[count] = 0;
+            count++;
+        }
+        grid.begin(count);
+        for (int i = 0; i < count; i++) {
+            grid.setPosition(i, movables[i].getX(), movables[i].getY());
+        }
+        grid.build();
+        return count;
+    }
+
+    /**
+     * Predicts the closest approach of a pair and splits the correction needed
+     * to keep them apart between both entities.
+     */
+    private void separatePair(int i, int j) {
+        pairChecks++;
+        float dx = grid.getX(i) - grid.getX(j);
+        float dy = grid.getY(i) - grid.getY(j);
+        float dvx = velocityX[i] - velocityX[j];
+        float dvy = velocityY[i] - velocityY[j];
+
+        // Time of closest approach, limited to the horizon
+        float dv2 = dvx * dvx + dvy * dvy;
+        float t = 0f;
+        if (dv2 > 1e-6f) {
+            t = Math.max(0f, Math.min(timeHorizon, -(dx * dvx + dy * dvy) / dv2));
+        }
+        float px = dx + dvx * t;
+        float py = dy + dvy * t;
+        float distance2 = px * px + py * py;
+        if (distance2 >= separation * separation) {
+            return;
+        }
+        conflicts++;
+
+        float distance = (float) Math.sqrt(distance2);
+        float nx;
+        float ny;
+        if (distance > 1e-3f) {
+            nx = px / distance;
+            ny = py / distance;
+        } else {
+            // Exactly overlapping; pick a fixed axis so the pair still parts
+            nx = 1f;
+            ny = 0f;
+        }
+
+        // Close the gap over the remaining time to impact, more urgently the
+        // sooner it happens
+        float urgency = 1f - t / timeHorizon;
+        float push = (separation - distance) / timeHorizon * (0.5f + urgency) * 0.5f;
+        correctionX[i] += nx * push;
+        correctionY[i] += ny * push;
+        correctionX[j] -= nx * push;
+        correctionY[j] -= ny * push;
+    }
+
+    private void ensureCapacity(int size) {
+        if (movables.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, movables.length * 2);
+        movables = new IMovable[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        correctionX = new float[capacity];
+        correctionY = new float[capacity];
+        candidates = new int[capacity];
+    }
+
+    /**
+     * Attributes contacts that began since the last call to whether the
+     * steering was on or off during the frame.
+     *
+     * @param totalContacts Running count of contacts between the steered
+     *                      entities
+     * @param deltaTime     Time since the last frame
+     */
+    public void recordContacts(long totalContacts, float deltaTime) {
+        long contacts = lastContactCount < 0 ? 0 : Math.max(0, totalContacts - lastContactCount);
+        lastContactCount = totalContacts;
+        if (enabled) {
+            contactsEnabled += contacts;
+            timeEnabled += deltaTime;
+        } else {
+            contactsDisabled += contacts;
+            timeDisabled += deltaTime;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        LOGGER.info("Separation steering {0}", enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * Gets the contacts per second seen while the steering was on, or -1 if
+     * it has not been on.
+     */
+    public float getContactRateEnabled() {
+        return timeEnabled > 0 ? contactsEnabled / timeEnabled : -1f;
+    }
+
+    /**
+     * Gets the contacts per second seen while the steering was off, or -1 if
+     * it has not been off.
+     */
+    public float getContactRateDisabled() {
+        return timeDisabled > 0 ? contactsDisabled / timeDisabled : -1f;
+    }
+
+    public long getPairChecks() {
+        return pairChecks;
+    }
+
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    public void logStatistics() {
+        LOGGER.info("Separation steering: {0} frames, {1} pair checks, {2} conflicts corrected", frames, pairChecks,
+                conflicts);
+        LOGGER.info("Contacts per second: {0} with separation ({1}s), {2} without ({3}s)",
+                getContactRateEnabled(), timeEnabled, getContactRateDisabled(), timeDisabled);
+    }
+}
@@ -40,44 +40,36 @@ public class AcceleratedMovementStrategy extends AbstractMovementStrategy implem
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            // Clamp delta to prevent excessively large updates.
-            deltaTime = Math.min(deltaTime, 1 / 30f);
-
-            // Get current velocity
-            Vector2 velocity = getSafeVelocity(movable);
-            boolean isMoving = velocity.len2() > 0.0001f;
-
-            // Update current speed based on acceleration/deceleration
-            if (isMoving) {
-                currentSpeed += acceleration * deltaTime;
-                if (currentSpeed > maxSpeed) {
-                    currentSpeed = maxSpeed;
-                }
-            } else {
-                currentSpeed -= deceleration * deltaTime;
-                if (currentSpeed < 0) {
-                    currentSpeed = 0;
-                }
+        // Clamp delta to prevent excessively large updates.
+        deltaTime = Math.min(deltaTime, 1 / 30f);
+
+        // Get current velocity
+        Vector2 velocity = getSafeVelocity(movable);
+        boolean isMoving = velocity.len2() > 0.0001f;
+
+        // Update current speed based on acceleration/deceleration
+        if (isMoving) {
+            currentSpeed += acceleration * deltaTime;
+            if (currentSpeed > maxSpeed) {
+                currentSpeed = maxSpeed;
+            }
+        } else {
+            currentSpeed -= deceleration * deltaTime;
+            if (currentSpeed < 0) {
+                currentSpeed = 0;
             }
+        }
 
-            // If we're moving, apply movement
-            if (isMoving && currentSpeed > 0) {
-                // Create a normalized copy of the velocity vector
-                Vector2 normalizedVelocity = new Vector2(velocity).nor();
+        // If we're moving, apply movement
+        if (isMoving && currentSpeed > 0) {
+            // Create a normalized copy of the velocity vector
+            Vector2 normalizedVelocity = new Vector2(velocity).nor();
 
-                // Scale by current speed and deltaTime
-                Vector2 movement = normalizedVelocity.scl(currentSpeed * deltaTime);
+            // Scale by current speed and deltaTime
+            Vector2 movement = normalizedVelocity.scl(currentSpeed * deltaTime);
 
-                // Apply movement
-                applyMovement(movable, movement);
-            }
-
-        } catch (Exception e) {
-            handleMovementException(e, "Error in AcceleratedMovementStrategy: " + e.getMessage());
-            if (lenientMode) {
-                movable.setVelocity(0, 0);
-            }
+            // Apply movement
+            applyMovement(movable, movement);
         }
     }
 
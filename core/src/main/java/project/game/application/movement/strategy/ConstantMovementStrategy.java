@@ -29,23 +29,18 @@ public class ConstantMovementStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            // Get current velocity
-            Vector2 velocity = getSafeVelocity(movable);
+        // Get current velocity
+        Vector2 velocity = getSafeVelocity(movable);
 
-            // If velocity is zero, nothing to do
-            if (velocity.len2() < 0.0001f) {
-                return;
-            }
-
-            // Normalize and scale by speed and deltaTime
-            Vector2 movement = new Vector2(velocity).nor().scl(speed * deltaTime);
+        // If velocity is zero, nothing to do
+        if (velocity.len2() < 0.0001f) {
+            return;
+        }
 
-            // Apply movement
-            applyMovement(movable, movement);
+        // Normalize and scale by speed and deltaTime
+        Vector2 movement = new Vector2(velocity).nor().scl(speed * deltaTime);
 
-        } catch (Exception e) {
-            handleMovementException(e, "Error in ConstantMovementStrategy: " + e.getMessage());
-        }
+        // Apply movement
+        applyMovement(movable, movement);
     }
 }
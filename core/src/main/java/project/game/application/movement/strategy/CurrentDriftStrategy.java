@@ -0,0 +1,62 @@
+package project.game.application.movement.strategy;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.application.movement.api.StrategyType;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.common.exception.MovementException;
+import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
+
+/**
+ * Drifts an entity with a shared {@link OceanCurrentField}.
+ * 
+ * The entity moves with the current sampled at its position, scaled by a
+ * per-entity factor so that lighter and heavier objects drift at slightly
+ * different speeds. Neighbouring entities sample nearby parts of the same
+ * field, so they move coherently.
+ */
+public class CurrentDriftStrategy extends AbstractMovementStrategy {
+
+    private final OceanCurrentField currentField;
+    private final float speedScale;
+    private final Vector2 current = new Vector2();
+    private final Vector2 movement = new Vector2();
+
+    /**
+     * Creates a drift strategy.
+     * 
+     * @param currentField The shared current field
+     * @param speedScale   Multiplier applied to the sampled current
+     * @param lenientMode  Whether to use lenient mode
+     */
+    public CurrentDriftStrategy(OceanCurrentField currentField, float speedScale, boolean lenientMode) {
+        super(CurrentDriftStrategy.class, lenientMode);
+        if (currentField == null) {
+            throw new MovementException("Current field cannot be null in CurrentDriftStrategy");
+        }
+        this.currentField = currentField;
+        this.speedScale = validateSpeed(speedScale, 1f);
+    }
+
+    public OceanCurrentField getCurrentField() {
+        return currentField;
+    }
+
+    public float getSpeedScale() {
+        return speedScale;
+    }
+
+    @Override
+    public StrategyType getStrategyType() {
+        return StrategyType.CURRENT_DRIFT;
+    }
+
+    @Override
+    public void move(IMovable movable, float deltaTime) {
+        currentField.sample(movable.getX(), movable.getY(), current).scl(speedScale);
+        movement.set(current).scl(deltaTime);
+        applyMovement(movable, movement);
+        movable.setVelocity(current);
+    }
+}
@@ -8,6 +8,8 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import project.game.application.movement.api.StrategyType;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IPositionable;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
@@ -30,13 +32,23 @@ public class FollowMovementStrategy extends AbstractMovementStrategy {
     private final float speed;
     private final List<Vector2> pathPoints;
     private final Vector2 lastTargetPosition;
+    private final RandomStream random;
     private float pathProgress = 0f;
 
     /**
      * Constructs a FollowMovementStrategy with the specified parameters.
      */
     public FollowMovementStrategy(IPositionable target, float speed, boolean lenientMode) {
+        this(target, speed, RandomProvider.getInstance().nextStream(), lenientMode);
+    }
+
+    /**
+     * Constructs a FollowMovementStrategy that curves its paths with draws
+     * from the given stream.
+     */
+    public FollowMovementStrategy(IPositionable target, float speed, RandomStream random, boolean lenientMode) {
         super(FollowMovementStrategy.class, lenientMode);
+        this.random = random != null ? random : RandomProvider.getInstance().nextStream();
 
         // Validate target
         validateTarget(target, "Target");
@@ -57,81 +69,77 @@ public class FollowMovementStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            Vector2 currentPosition = new Vector2(movable.getX(), movable.getY());
-            Vector2 targetPosition = new Vector2(target.getX(), target.getY());
-
-            // Check if target has moved enough to recalculate path
-            boolean shouldRecalculatePath = pathPoints.isEmpty() ||
-                    new Vector2(lastTargetPosition).sub(targetPosition).len2() > PATH_RECALC_THRESHOLD
-                            * PATH_RECALC_THRESHOLD;
-
-            // Calculate distance to target
-            float distanceToTarget = currentPosition.dst(targetPosition);
-
-            // If close enough to target, just move directly to it
-            if (distanceToTarget < ARRIVAL_THRESHOLD) {
-                // Instead of slowing down, maintain speed when close to target
-                // This ensures continuous movement when reaching the target
-                Vector2 direction = new Vector2(targetPosition).sub(currentPosition).nor();
-                Vector2 moveVec = new Vector2(direction).scl(speed * deltaTime);
-
-                applyMovement(movable, moveVec);
-                updateVelocity(movable, moveVec, deltaTime);
-                return;
-            }
+        Vector2 currentPosition = new Vector2(movable.getX(), movable.getY());
+        Vector2 targetPosition = new Vector2(target.getX(), target.getY());
+
+        // Check if target has moved enough to recalculate path
+        boolean shouldRecalculatePath = pathPoints.isEmpty() ||
+                new Vector2(lastTargetPosition).sub(targetPosition).len2() > PATH_RECALC_THRESHOLD
+                        * PATH_RECALC_THRESHOLD;
+
+        // Calculate distance to target
+        float distanceToTarget = currentPosition.dst(targetPosition);
+
+        // If close enough to target, just move directly to it
+        if (distanceToTarget < ARRIVAL_THRESHOLD) {
+            // Instead of slowing down, maintain speed when close to target
+            // This ensures continuous movement when reaching the target
+            Vector2 direction = new Vector2(targetPosition).sub(currentPosition).nor();
+            Vector2 moveVec = new Vector2(direction).scl(speed * deltaTime);
+
+            applyMovement(movable, moveVec);
+            updateVelocity(movable, moveVec, deltaTime);
+            return;
+        }
 
-            // If we need a new path, calculate it
-            if (shouldRecalculatePath) {
-                calculateSmoothPath(currentPosition, targetPosition);
-                // Reset progress to 0 to start a new path
-                pathProgress = 0f;
-                lastTargetPosition.set(targetPosition);
-            }
+        // If we need a new path, calculate it
+        if (shouldRecalculatePath) {
+            calculateSmoothPath(currentPosition, targetPosition);
+            // Reset progress to 0 to start a new path
+            pathProgress = 0f;
+            lastTargetPosition.set(targetPosition);
+        }
 
-            // Follow the path
-            if (!pathPoints.isEmpty()) {
-                // Advance along the path based on speed and delta time
-                pathProgress += PATH_PROGRESS_SPEED * deltaTime * (speed / 50f);
+        // Follow the path
+        if (!pathPoints.isEmpty()) {
+            // Advance along the path based on speed and delta time
+            pathProgress += PATH_PROGRESS_SPEED * deltaTime * (speed / 50f);
 
-                // Clamp progress to [0,1]
-                pathProgress = MathUtils.clamp(pathProgress, 0f, 1f);
+            // Clamp progress to [0,1]
+            pathProgress = MathUtils.clamp(pathProgress, 0f, 1f);
 
-                // If we've reached the end of the path, force recalculation on next update
-                if (pathProgress >= 0.95f) {
-                    lastTargetPosition.set(-999999, -999999); // Force recalculation
-                }
+            // If we've reached the end of the path, force recalculation on next update
+            if (pathProgress >= 0.95f) {
+                lastTargetPosition.set(-999999, -999999); // Force recalculation
+            }
 
-                // Interpolate along the path
-                int index = (int) (pathProgress * (pathPoints.size() - 1));
-                if (index < pathPoints.size() - 1) {
-                    float segmentProgress = (pathProgress * (pathPoints.size() - 1)) - index;
-                    Vector2 currentPoint = pathPoints.get(index);
-                    Vector2 nextPoint = pathPoints.get(index + 1);
-
-                    // Interpolate between path points
-                    float moveX = currentPoint.x + (nextPoint.x - currentPoint.x) * segmentProgress;
-                    float moveY = currentPoint.y + (nextPoint.y - currentPoint.y) * segmentProgress;
-
-                    // Calculate direction and move
-                    Vector2 direction = new Vector2(moveX - movable.getX(), moveY - movable.getY());
-                    float length = direction.len();
-                    if (length > 0.0001f) {
-                        direction.nor();
-                        // Fixed: Always use full speed rather than slowing down when close
-                        float moveSpeed = speed * deltaTime;
-                        Vector2 moveVec = new Vector2(direction).scl(moveSpeed);
-
-                        applyMovement(movable, moveVec);
-                        updateVelocity(movable, direction.scl(speed), 1.0f);
-                    }
+            // Interpolate along the path
+            int index = (int) (pathProgress * (pathPoints.size() - 1));
+            if (index < pathPoints.size() - 1) {
+                float segmentProgress = (pathProgress * (pathPoints.size() - 1)) - index;
+                Vector2 currentPoint = pathPoints.get(index);
+                Vector2 nextPoint = pathPoints.get(index + 1);
+
+                // Interpolate between path points
+                float moveX = currentPoint.x + (nextPoint.x - currentPoint.x) * segmentProgress;
+                float moveY = currentPoint.y + (nextPoint.y - currentPoint.y) * segmentProgress;
+
+                // Calculate direction and move
+                Vector2 direction = new Vector2(moveX - movable.getX(), moveY - movable.getY());
+                float length = direction.len();
+                if (length > 0.0001f) {
+                    direction.nor();
+                    // Fixed: Always use full speed rather than slowing down when close
+                    float moveSpeed = speed * deltaTime;
+                    Vector2 moveVec = new Vector2(direction).scl(moveSpeed);
+
+                    applyMovement(movable, moveVec);
+                    updateVelocity(movable, direction.scl(speed), 1.0f);
                 }
-            } else {
-                // Fallback direct movement if path calculation failed
-                directMovement(movable, targetPosition, deltaTime);
             }
-        } catch (Exception e) {
-            handleMovementException(e, "Error in FollowMovementStrategy: " + e.getMessage());
+        } else {
+            // Fallback direct movement if path calculation failed
+            directMovement(movable, targetPosition, deltaTime);
         }
     }
 
@@ -157,7 +165,7 @@ public class FollowMovementStrategy extends AbstractMovementStrategy {
                     MAX_CONTROL_POINT_DISTANCE);
 
             // Create a slight curve by offsetting control points
-            float randomOffset = MathUtils.random(-0.3f, 0.3f);
+            float randomOffset = random.nextFloat(-0.3f, 0.3f);
             Vector2 controlPoint1 = new Vector2(start)
                     .add(new Vector2(direction).scl(distance * 0.3f))
                     .add(new Vector2(perpendicular).scl(controlPointDistance * randomOffset));
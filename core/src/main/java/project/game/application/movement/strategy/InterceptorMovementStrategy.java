@@ -3,40 +3,38 @@ package project.game.application.movement.strategy;
 import com.badlogic.gdx.math.Vector2;
 
 import project.game.application.movement.api.StrategyType;
+import project.game.application.movement.navigation.InterceptSolver;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
 
 /**
  * Advanced movement strategy that predicts where a moving target will be and
  * attempts to intercept it.
- * 
- * Uses vector math to calculate interception points.
+ *
+ * Uses an {@link InterceptSolver} to head for the point where the entity,
+ * moving at its own speed, meets the target on its current course.
  */
 public class InterceptorMovementStrategy extends AbstractMovementStrategy {
 
-    private static final float PREDICTION_TIME = 0.5f;
     private static final float MIN_DISTANCE = 10f;
-    private final IMovable target;
+    private static final float DIRECTION_SMOOTHING = 0.3f;
     private final float speed;
-    private final Vector2 lastTargetPos;
-    private final Vector2 targetVelocity;
-    private final Vector2 persistentDirection = new Vector2(1, 0);
-    private float directionChangeSmoothing = 0.2f;
-    private boolean isApproaching = false;
+    private final InterceptSolver solver;
+    private final Vector2 aim = new Vector2();
+    private final Vector2 step = new Vector2();
+    private float directionX = 1f;
+    private float directionY = 0f;
 
     public InterceptorMovementStrategy(IMovable target, float speed, boolean lenientMode) {
         super(InterceptorMovementStrategy.class, lenientMode);
 
         // Validate target
         validateTarget(target, "Target");
-        this.target = target;
 
         // Validate speed
         this.speed = validateSpeed(speed, 200f);
 
-        // Correctly initialize with position data, not velocity
-        this.lastTargetPos = new Vector2(target.getX(), target.getY());
-        this.targetVelocity = new Vector2(0, 0);
+        this.solver = target != null ? new InterceptSolver(target, InterceptSolver.DEFAULT_SMOOTHING_TIME) : null;
     }
 
     @Override
@@ -44,95 +42,64 @@ public class InterceptorMovementStrategy extends AbstractMovementStrategy {
         return StrategyType.INTERCEPTOR;
     }
 
+    /**
+     * Gets the solver tracking the target.
+     */
+    public InterceptSolver getSolver() {
+        return solver;
+    }
+
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            // Get the target's current position (not velocity)
-            Vector2 currentTargetPos = new Vector2(target.getX(), target.getY());
-
-            // Calculate target's velocity based on position change
-            Vector2 targetDelta = new Vector2(currentTargetPos).sub(lastTargetPos);
-            targetVelocity.set(targetDelta.scl(1f / deltaTime));
-
-            // Update last known position
-            lastTargetPos.set(currentTargetPos);
-
-            // Calculate vector from movable object to target
-            Vector2 toTarget = new Vector2(currentTargetPos).sub(movable.getX(), movable.getY());
-            float distance = toTarget.len();
-
-            // If we're very close to target, maintain minimum distance
-            if (distance < MIN_DISTANCE) {
-                Vector2 avoidance = new Vector2(toTarget).nor().scl(-MIN_DISTANCE);
-                movable.setX(currentTargetPos.x + avoidance.x);
-                movable.setY(currentTargetPos.y + avoidance.y);
-                return;
-            }
-
-            // Direct vector to target (without prediction)
-            Vector2 directDir = new Vector2(toTarget).nor();
-
-            // Calculate predicted target position based on target's velocity
-            Vector2 predictedPos = new Vector2(currentTargetPos).add(
-                    new Vector2(targetVelocity).scl(PREDICTION_TIME));
-
-            // Calculate direction to predicted position
-            Vector2 interceptDir = new Vector2(predictedPos).sub(movable.getX(), movable.getY());
-
-            // Detect if target is approaching (moving toward the interceptor)
-            Vector2 normalizedToTarget = new Vector2(toTarget).nor();
-            Vector2 normalizedTargetVelocity = new Vector2(targetVelocity);
-
-            // Only normalize if not close to zero (avoid NaN)
-            if (normalizedTargetVelocity.len2() > 0.001f) {
-                normalizedTargetVelocity.nor();
-            } else {
-                normalizedTargetVelocity.set(0, 0);
-            }
-
-            float dotProduct = normalizedToTarget.dot(normalizedTargetVelocity);
-
-            // Detect if target is approaching
-            isApproaching = dotProduct < -0.1f;
-
-            // Movement strategy depends on whether target is approaching
-            Vector2 movementDir;
-
-            if (isApproaching) {
-                // Target is moving toward us - move directly toward target
-                // This ensures we don't back away when the target approaches
-                movementDir = directDir;
-                // Use less smoothing when target approaches for quicker response
-                directionChangeSmoothing = 0.4f;
-            } else {
-                // Target is not approaching - use interception prediction
-                movementDir = interceptDir.nor();
-                directionChangeSmoothing = 0.2f;
-            }
-
-            // Gradually blend new direction with persistent direction for smoothness
-            // but guarantee forward movement by ensuring dot product with toTarget is
-            // positive
-            persistentDirection.lerp(movementDir, directionChangeSmoothing).nor();
-
-            // Force movement toward target if we're heading away
-            float directionDot = persistentDirection.dot(normalizedToTarget);
-            if (directionDot < 0.3f) {
-                // Blend more toward direct direction if we're not heading toward target
-                persistentDirection.lerp(directDir, 0.5f).nor();
+        if (solver == null) {
+            return;
+        }
+        solver.observe(deltaTime);
+
+        float x = movable.getX();
+        float y = movable.getY();
+        float toTargetX = solver.getTargetX() - x;
+        float toTargetY = solver.getTargetY() - y;
+        float distance = (float) Math.sqrt(toTargetX * toTargetX + toTargetY * toTargetY);
+
+        // If we're very close to target, maintain minimum distance
+        if (distance < MIN_DISTANCE) {
+            if (distance > 0) {
+                movable.setX(solver.getTargetX() - toTargetX / distance * MIN_DISTANCE);
+                movable.setY(solver.getTargetY() - toTargetY / distance * MIN_DISTANCE);
             }
+            return;
+        }
 
-            // Calculate actual movement vector
-            Vector2 moveVec = new Vector2(persistentDirection).scl(speed * deltaTime);
-
-            // Apply movement
-            applyMovement(movable, moveVec);
-
-            // Update velocity for animations
-            updateVelocity(movable, moveVec, deltaTime);
+        // Head for the intercept point, or straight at the target if the
+        // aim point coincides with our position
+        solver.solve(x, y, speed, aim);
+        float aimX = aim.x - x;
+        float aimY = aim.y - y;
+        float aimLength = (float) Math.sqrt(aimX * aimX + aimY * aimY);
+        if (aimLength > 0) {
+            aimX /= aimLength;
+            aimY /= aimLength;
+        } else {
+            aimX = toTargetX / distance;
+            aimY = toTargetY / distance;
+        }
 
-        } catch (Exception e) {
-            handleMovementException(e, "Error in InterceptorMovementStrategy: " + e.getMessage());
+        // Blend towards the new heading so the intercept point's jitter
+        // does not show as wobble
+        directionX += (aimX - directionX) * DIRECTION_SMOOTHING;
+        directionY += (aimY - directionY) * DIRECTION_SMOOTHING;
+        float directionLength = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+        if (directionLength > 0) {
+            directionX /= directionLength;
+            directionY /= directionLength;
+        } else {
+            directionX = aimX;
+            directionY = aimY;
         }
+
+        step.set(directionX, directionY).scl(speed * deltaTime);
+        applyMovement(movable, step);
+        updateVelocity(movable, step, deltaTime);
     }
-}
\ No newline at end of file
+}
@@ -10,7 +10,9 @@ import project.game.application.entity.item.Trash;
 import project.game.application.movement.api.StrategyType;
 import project.game.common.exception.MovementException;
 import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
 import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
 
 /**
@@ -18,8 +20,15 @@ import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrate
  * 
  * This strategy continuously finds the closest trash object and directs
  * movement toward it.
+ * 
+ * When a decision scheduler is set, target re-selection runs a few times per
+ * second through the scheduler and steering follows the last selected target
+ * in between.
  */
-public class NearestTrashStrategy extends AbstractMovementStrategy {
+public class NearestTrashStrategy extends AbstractMovementStrategy implements IDecisionSchedulerAware {
+
+    // Seconds between scheduled target re-selections
+    private static final float TARGET_DECISION_INTERVAL = 0.25f;
 
     private final float speed;
     private final Vector2 direction;
@@ -27,6 +36,7 @@ public class NearestTrashStrategy extends AbstractMovementStrategy {
     private List<Trash> trashEntities;
     private Trash currentTarget;
     private final Entity targetingEntity;
+    private AIDecisionScheduler.ScheduledDecision targetDecision;
 
     /**
      * Constructs a new NearestTrashStrategy.
@@ -58,6 +68,29 @@ public class NearestTrashStrategy extends AbstractMovementStrategy {
         }
     }
 
+    /**
+     * Gets the list of trash entities being targeted.
+     * 
+     * @return The trash entities
+     */
+    public List<Trash> getTrashEntities() {
+        return trashEntities;
+    }
+
+    /**
+     * Moves target re-selection onto the given scheduler.
+     */
+    @Override
+    public void setDecisionScheduler(AIDecisionScheduler scheduler) {
+        if (targetDecision != null) {
+            targetDecision.cancel();
+            targetDecision = null;
+        }
+        if (scheduler != null) {
+            targetDecision = scheduler.register(this::reselectTarget, TARGET_DECISION_INTERVAL);
+        }
+    }
+
     /**
      * Filters the trash entities based on a custom predicate.
      * 
@@ -131,50 +164,42 @@ public class NearestTrashStrategy extends AbstractMovementStrategy {
      */
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            if (movable == null) {
-                if (lenientMode) {
-                    logger.warn("Entity is null in NearestTrashStrategy.move; skipping movement");
-                    return;
-                } else {
-                    throw new MovementException("Entity cannot be null in NearestTrashStrategy");
-                }
-            }
-
-            // Update our targeting entity with the movable's position
-            targetingEntity.setX(movable.getX());
-            targetingEntity.setY(movable.getY());
-
-            // Look for a new nearest trash
-            Trash nearestTrash = findNearestTrash(targetingEntity);
-
-            // Decide whether to update the current target
-            if (shouldSwitchTarget(currentTarget, nearestTrash, targetingEntity)) {
-                currentTarget = nearestTrash;
-                if (currentTarget != null) {
-                    logger.debug("Switching to new trash target at ({0}, {1})",
-                            currentTarget.getEntity().getX(), currentTarget.getEntity().getY());
-                }
-            }
+        // Update our targeting entity with the movable's position
+        targetingEntity.setX(movable.getX());
+        targetingEntity.setY(movable.getY());
+
+        if (targetDecision == null) {
+            reselectTarget();
+        } else if (currentTarget == null || !currentTarget.getEntity().isActive()) {
+            // Target was collected; ask for a new one without waiting for the interval
+            targetDecision.request();
+        }
 
-            // Calculate movement vector and velocity
-            Vector2 velocity = calculateMovementVectorToTarget(currentTarget, targetingEntity);
+        // Calculate movement vector and velocity
+        Vector2 velocity = calculateMovementVectorToTarget(currentTarget, targetingEntity);
 
-            // Apply movement with deltaTime
-            velocity.scl(deltaTime);
+        // Apply movement with deltaTime
+        velocity.scl(deltaTime);
 
-            // Update movable position
-            applyMovement(movable, velocity);
+        // Update movable position
+        applyMovement(movable, velocity);
 
-            // Update velocity for animations
-            updateVelocity(movable, velocity, deltaTime);
+        // Update velocity for animations
+        updateVelocity(movable, velocity, deltaTime);
+    }
 
-        } catch (MovementException e) {
-            handleMovementException(e, "Error in NearestTrashStrategy.move");
-        } catch (NullPointerException | IllegalArgumentException e) {
-            handleMovementException(e, "Parameter error in NearestTrashStrategy.move");
-        } catch (Exception e) {
-            handleMovementException(e, "Unexpected error in NearestTrashStrategy.move");
+    /**
+     * Looks for a new nearest trash and decides whether to switch to it.
+     */
+    private void reselectTarget() {
+        Trash nearestTrash = findNearestTrash(targetingEntity);
+
+        if (shouldSwitchTarget(currentTarget, nearestTrash, targetingEntity)) {
+            currentTarget = nearestTrash;
+            if (currentTarget != null && logger.isDebugEnabled()) {
+                logger.debug("Switching to new trash target at ({0}, {1})",
+                        currentTarget.getEntity().getX(), currentTarget.getEntity().getY());
+            }
         }
     }
 
@@ -5,17 +5,38 @@ import java.util.List;
 
 import com.badlogic.gdx.math.Vector2;
 
+import project.game.application.movement.api.IObstacleFieldAware;
 import project.game.application.movement.api.StrategyType;
+import project.game.application.movement.navigation.ObstacleDistanceField;
 import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
 import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
 
 /**
  * A pure obstacle avoidance strategy that focuses only on avoiding obstacles.
  * This is designed to be combined with other strategies using the decorator
  * pattern.
+ * 
+ * When an obstacle distance field is set, obstacle queries sample the field in
+ * constant time instead of iterating over every obstacle.
+ * 
+ * When a decision scheduler is set, the avoidance decision (which obstacle to
+ * steer around and how strongly) is replanned through the scheduler, while
+ * steering against the last decision still runs every frame.
  */
-public class ObstacleAvoidanceStrategy extends AbstractMovementStrategy {
+public class ObstacleAvoidanceStrategy extends AbstractMovementStrategy
+        implements IObstacleFieldAware, IDecisionSchedulerAware {
+
+    // Seconds between scheduled avoidance replans
+    private static final float AVOIDANCE_DECISION_INTERVAL = 0.1f;
+
+    // Number of field samples taken along the lookahead ray
+    private static final int LOOKAHEAD_SAMPLES = 4;
+    // Distance either side of the direction of travel at which the field is
+    // probed to choose a steering direction
+    private static final float FIELD_PROBE_DISTANCE = 40f;
 
     private final float speed;
     private final Vector2 persistentDirection = new Vector2(1, 0);
@@ -35,6 +56,14 @@ public class ObstacleAvoidanceStrategy extends AbstractMovementStrategy {
     private boolean isAvoiding = false;
     private float avoidanceTimer = 0;
     private float avoidanceWeight = 5.0f;
+    private ObstacleDistanceField obstacleField;
+
+    // Scheduled avoidance decision and the state it was planned from
+    private AIDecisionScheduler.ScheduledDecision avoidanceDecision;
+    private IMovable plannedMovable;
+    private final Vector2 plannedVelocity = new Vector2();
+    private ObstacleAvoidanceResult plannedAvoidance;
+    private boolean plannedNearby;
 
     /**
      * Constructor for pure obstacle avoidance
@@ -70,6 +99,39 @@ public class ObstacleAvoidanceStrategy extends AbstractMovementStrategy {
         obstacles.remove(obstacle);
     }
 
+    /**
+     * Set a precomputed obstacle distance field to sample instead of iterating
+     * over the obstacle list. Pass null to go back to per-obstacle checks.
+     */
+    @Override
+    public void setObstacleField(ObstacleDistanceField obstacleField) {
+        this.obstacleField = obstacleField;
+        if (obstacleField != null && obstacleField.getMaxDistance() < avoidanceRadius * 1.5f) {
+            logger.warn("Obstacle field range {0} is shorter than the avoidance check distance {1}",
+                    obstacleField.getMaxDistance(), avoidanceRadius * 1.5f);
+        }
+    }
+
+    @Override
+    public ObstacleDistanceField getObstacleField() {
+        return obstacleField;
+    }
+
+    /**
+     * Moves avoidance replanning onto the given scheduler.
+     */
+    @Override
+    public void setDecisionScheduler(AIDecisionScheduler scheduler) {
+        if (avoidanceDecision != null) {
+            avoidanceDecision.cancel();
+            avoidanceDecision = null;
+        }
+        plannedAvoidance = null;
+        if (scheduler != null) {
+            avoidanceDecision = scheduler.register(this::replanAvoidance, AVOIDANCE_DECISION_INTERVAL);
+        }
+    }
+
     /**
      * Set the radius at which to start avoiding obstacles
      */
@@ -107,96 +169,133 @@ public class ObstacleAvoidanceStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            // Start with current direction or use a default
-            Vector2 movementDir;
-            if (persistentDirection.len2() < 0.001f) {
-                persistentDirection.set(1, 0);
-            }
-            movementDir = new Vector2(persistentDirection);
+        // Start with current direction or use a default
+        Vector2 movementDir;
+        if (persistentDirection.len2() < 0.001f) {
+            persistentDirection.set(1, 0);
+        }
+        movementDir = new Vector2(persistentDirection);
+
+        // Store current position
+        Vector2 currentPos = new Vector2(movable.getX(), movable.getY());
 
-            // Store current position
-            Vector2 currentPos = new Vector2(movable.getX(), movable.getY());
+        // Get current velocity for direction-aware obstacle detection
+        Vector2 currentVelocity = getSafeVelocity(movable);
+        if (currentVelocity.len2() < 0.001f) {
+            currentVelocity.set(movementDir);
+        }
 
-            // Get current velocity for direction-aware obstacle detection
-            Vector2 currentVelocity = getSafeVelocity(movable);
-            if (currentVelocity.len2() < 0.001f) {
-                currentVelocity.set(movementDir);
+        // Calculate obstacle avoidance forces with direction awareness
+        ObstacleAvoidanceResult avoidanceResult;
+        boolean nearbyObstacles;
+        if (avoidanceDecision == null) {
+            avoidanceResult = calculateObstacleAvoidance(movable, currentVelocity);
+            nearbyObstacles = hasNearbyObstacles(currentPos, currentVelocity);
+        } else {
+            plannedMovable = movable;
+            plannedVelocity.set(currentVelocity);
+            if (plannedAvoidance == null) {
+                replanAvoidance();
+            } else if (isWithinCriticalRadius(currentPos, plannedAvoidance.nearestObstacle)) {
+                // Too close to wait for the next scheduled replan
+                avoidanceDecision.request();
             }
+            // The force is modified below, so work on a copy of the planned one
+            avoidanceResult = new ObstacleAvoidanceResult(new Vector2(plannedAvoidance.force),
+                    plannedAvoidance.shouldAvoid, plannedAvoidance.nearestObstacle);
+            nearbyObstacles = plannedNearby;
+        }
+        Vector2 avoidanceForce = avoidanceResult.force;
 
-            // Calculate obstacle avoidance forces with direction awareness
-            ObstacleAvoidanceResult avoidanceResult = calculateObstacleAvoidance(movable, currentVelocity);
-            Vector2 avoidanceForce = avoidanceResult.force;
+        float currentSpeed = speed;
 
-            float currentSpeed = speed;
+        // Reset avoidance state if no obstacles are nearby
+        if (!nearbyObstacles) {
+            isAvoiding = false;
+            avoidanceTimer = 0;
+            lastAvoidanceForce.setZero();
+            directionChangeSmoothing = 0.2f; // Reset to normal smoothing
+        }
 
-            // Reset avoidance state if no obstacles are nearby
-            if (!hasNearbyObstacles(currentPos, currentVelocity)) {
-                isAvoiding = false;
+        // Check if we need to avoid obstacles
+        if (avoidanceResult.shouldAvoid) {
+            if (!isAvoiding) {
+                lastSafePosition.set(currentPos);
+                isAvoiding = true;
                 avoidanceTimer = 0;
-                lastAvoidanceForce.setZero();
-                directionChangeSmoothing = 0.2f; // Reset to normal smoothing
             }
 
-            // Check if we need to avoid obstacles
-            if (avoidanceResult.shouldAvoid) {
-                if (!isAvoiding) {
-                    lastSafePosition.set(currentPos);
-                    isAvoiding = true;
-                    avoidanceTimer = 0;
-                }
+            avoidanceTimer += deltaTime;
+            if (avoidanceTimer <= maxAvoidanceTime) {
+                // Calculate tangential avoidance direction with momentum
+                Vector2 avoidDir = calculateTangentialAvoidance(currentPos, avoidanceResult.nearestObstacle,
+                        currentVelocity, deltaTime);
 
-                avoidanceTimer += deltaTime;
-                if (avoidanceTimer <= maxAvoidanceTime) {
-                    // Calculate tangential avoidance direction with momentum
-                    Vector2 avoidDir = calculateTangentialAvoidance(currentPos, avoidanceResult.nearestObstacle,
-                            currentVelocity, deltaTime);
-
-                    // Blend with previous avoidance force for smoother transitions
-                    if (lastAvoidanceForce.len2() > 0) {
-                        avoidDir.scl(0.7f).add(lastAvoidanceForce.scl(0.3f));
-                        avoidDir.nor();
-                    }
-
-                    movementDir.set(avoidDir);
-                    lastAvoidanceForce.set(avoidDir);
-                } else {
-                    isAvoiding = false;
+                // Blend with previous avoidance force for smoother transitions
+                if (lastAvoidanceForce.len2() > 0) {
+                    avoidDir.scl(0.7f).add(lastAvoidanceForce.scl(0.3f));
+                    avoidDir.nor();
                 }
+
+                movementDir.set(avoidDir);
+                lastAvoidanceForce.set(avoidDir);
             } else {
                 isAvoiding = false;
-
-                // Gradual return to normal movement
-                if (avoidanceForce.len2() > 0.001f) {
-                    // Blend movement direction with avoidance force
-                    movementDir.scl(1.5f).add(avoidanceForce.scl(avoidanceWeight));
-                    movementDir.nor();
-                    directionChangeSmoothing = 0.4f;
-                    lastAvoidanceForce.set(avoidanceForce).nor();
-                } else {
-                    directionChangeSmoothing = 0.2f;
-                    lastAvoidanceForce.setZero();
-                }
             }
+        } else {
+            isAvoiding = false;
+
+            // Gradual return to normal movement
+            if (avoidanceForce.len2() > 0.001f) {
+                // Blend movement direction with avoidance force
+                movementDir.scl(1.5f).add(avoidanceForce.scl(avoidanceWeight));
+                movementDir.nor();
+                directionChangeSmoothing = 0.4f;
+                lastAvoidanceForce.set(avoidanceForce).nor();
+            } else {
+                directionChangeSmoothing = 0.2f;
+                lastAvoidanceForce.setZero();
+            }
+        }
 
-            // Blend direction changes more smoothly
-            persistentDirection.lerp(movementDir, directionChangeSmoothing).nor();
+        // Blend direction changes more smoothly
+        persistentDirection.lerp(movementDir, directionChangeSmoothing).nor();
 
-            // Apply movement with consistent speed
-            Vector2 moveVec = new Vector2(persistentDirection).scl(currentSpeed * deltaTime);
+        // Apply movement with consistent speed
+        Vector2 moveVec = new Vector2(persistentDirection).scl(currentSpeed * deltaTime);
 
-            // Apply movement
-            applyMovement(movable, moveVec);
+        // Apply movement
+        applyMovement(movable, moveVec);
 
-            // Update velocity for animations
-            updateVelocity(movable, moveVec, deltaTime);
+        // Update velocity for animations
+        updateVelocity(movable, moveVec, deltaTime);
+    }
 
-        } catch (Exception e) {
-            handleMovementException(e, "Error in ObstacleAvoidanceStrategy: " + e.getMessage());
+    /**
+     * Recomputes the avoidance decision from the last known position and
+     * velocity.
+     */
+    private void replanAvoidance() {
+        if (plannedMovable == null) {
+            return;
         }
+        plannedAvoidance = calculateObstacleAvoidance(plannedMovable, plannedVelocity);
+        plannedNearby = hasNearbyObstacles(new Vector2(plannedMovable.getX(), plannedMovable.getY()),
+                plannedVelocity);
+    }
+
+    private boolean isWithinCriticalRadius(Vector2 position, Entity obstacle) {
+        if (obstacle == null) {
+            return false;
+        }
+        float obstacleRadius = Math.max(obstacle.getWidth(), obstacle.getHeight()) / 2;
+        return position.dst(obstacle.getX(), obstacle.getY()) - obstacleRadius < criticalRadius;
     }
 
     private boolean hasNearbyObstacles(Vector2 position, Vector2 direction) {
+        if (obstacleField != null)
+            return hasNearbyObstaclesInField(position, direction);
+
         if (obstacles == null || obstacles.isEmpty())
             return false;
 
@@ -277,6 +376,10 @@ public class ObstacleAvoidanceStrategy extends AbstractMovementStrategy {
     }
 
     private ObstacleAvoidanceResult calculateObstacleAvoidance(IMovable movable, Vector2 currentDirection) {
+        if (obstacleField != null) {
+            return calculateFieldAvoidance(movable, currentDirection);
+        }
+
         if (obstacles == null || obstacles.isEmpty()) {
             return new ObstacleAvoidanceResult(new Vector2(0, 0), false, null);
         }
@@ -350,6 +453,100 @@ public class ObstacleAvoidanceStrategy extends AbstractMovementStrategy {
         return new ObstacleAvoidanceResult(avoidanceForce, shouldAvoid, nearestObstacle);
     }
 
+    /**
+     * Field-based version of {@link #hasNearbyObstacles}; only the obstacle
+     * nearest to the position is considered.
+     */
+    private boolean hasNearbyObstaclesInField(Vector2 position, Vector2 direction) {
+        Entity obstacle = obstacleField.nearestObstacleAt(position.x, position.y);
+        if (obstacle == null || !obstacle.isActive())
+            return false;
+
+        Vector2 toObstacle = new Vector2(obstacle.getX(), obstacle.getY()).sub(position);
+        float distance = toObstacle.len();
+
+        if (distance < criticalRadius)
+            return true;
+
+        if (distance < avoidanceRadius * 1.5f) {
+            Vector2 forward = new Vector2(direction).nor();
+            return forward.dot(toObstacle.nor()) > -0.866f;
+        }
+        return false;
+    }
+
+    /**
+     * Field-based version of {@link #calculateObstacleAvoidance}. Instead of
+     * projecting every obstacle onto the lookahead ray, the field is sampled at
+     * a fixed number of points along the ray, so the cost does not depend on the
+     * number of obstacles.
+     *
+     * The steering direction comes from the field's slope across the direction
+     * of travel, probed on both sides, rather than from the nearest obstacle
+     * alone. The field includes every obstacle in range, so between two rocks
+     * the pushes cancel out as they do in the list version, instead of
+     * steering away from the nearer rock into the other one.
+     */
+    private ObstacleAvoidanceResult calculateFieldAvoidance(IMovable movable, Vector2 currentDirection) {
+        float x = movable.getX();
+        float y = movable.getY();
+        Entity nearestObstacle = obstacleField.nearestObstacleAt(x, y);
+        if (nearestObstacle == null || !nearestObstacle.isActive()
+                || (movable instanceof Entity && ((Entity) movable) == nearestObstacle)) {
+            return new ObstacleAvoidanceResult(new Vector2(0, 0), false, null);
+        }
+
+        Vector2 movablePos = new Vector2(x, y);
+        Vector2 forwardDir = new Vector2(currentDirection).nor();
+        float effectiveDistance = obstacleField.distanceAt(x, y);
+        boolean shouldAvoid = effectiveDistance < criticalRadius * 1.5f;
+
+        // Count lookahead samples that fall inside the clearance zone of an obstacle
+        int blockedSamples = 0;
+        for (int i = 1; i <= LOOKAHEAD_SAMPLES; i++) {
+            float step = lookaheadDistance * i / LOOKAHEAD_SAMPLES;
+            if (obstacleField.distanceAt(x + forwardDir.x * step, y + forwardDir.y * step) < criticalRadius * 2) {
+                blockedSamples++;
+            }
+        }
+        if (blockedSamples > 0) {
+            shouldAvoid = true;
+        }
+
+        Vector2 avoidanceForce = new Vector2(0, 0);
+        Vector2 toObstacle = new Vector2(nearestObstacle.getX(), nearestObstacle.getY()).sub(movablePos);
+        float obstacleRadius = Math.max(nearestObstacle.getWidth(), nearestObstacle.getHeight()) / 2;
+        float projectedDist = toObstacle.dot(forwardDir);
+
+        if (effectiveDistance < avoidanceRadius * 1.2f && projectedDist > -obstacleRadius) {
+            float directionFactor = (forwardDir.dot(toObstacle.nor()) + 1) * 0.5f;
+            float strength = 1 + directionFactor * directionWeight;
+
+            // Push towards the clearer side by how much more crowded the other
+            // side is, which is zero midway between two obstacles
+            Vector2 left = new Vector2(-forwardDir.y, forwardDir.x);
+            float leftClearance = obstacleField.distanceAt(x + left.x * FIELD_PROBE_DISTANCE,
+                    y + left.y * FIELD_PROBE_DISTANCE);
+            float rightClearance = obstacleField.distanceAt(x - left.x * FIELD_PROBE_DISTANCE,
+                    y - left.y * FIELD_PROBE_DISTANCE);
+            float lateral = calculateAvoidanceStrength(Math.min(rightClearance, avoidanceRadius))
+                    - calculateAvoidanceStrength(Math.min(leftClearance, avoidanceRadius));
+
+            // Increase avoidance strength when the path ahead is blocked
+            if (blockedSamples > 0) {
+                strength *= 2.0f;
+            }
+            avoidanceForce.add(left.scl(lateral * strength));
+        }
+
+        // A long blocked stretch usually means several obstacles in a row
+        if (blockedSamples > 1) {
+            avoidanceForce.scl(1.5f + (blockedSamples - 1) * 0.2f);
+        }
+
+        return new ObstacleAvoidanceResult(avoidanceForce, shouldAvoid, nearestObstacle);
+    }
+
     private Vector2 calculateAvoidanceDirection(Vector2 position, Entity obstacle, Vector2 forward) {
         Vector2 toObstacle = new Vector2(obstacle.getX(), obstacle.getY()).sub(position);
         Vector2 perpendicular = new Vector2(-forward.y, forward.x);
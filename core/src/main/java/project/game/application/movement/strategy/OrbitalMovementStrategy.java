@@ -1,13 +1,18 @@
 package project.game.application.movement.strategy;
 
+import java.util.concurrent.TimeUnit;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import project.game.application.movement.api.StrategyType;
 import project.game.common.exception.MovementException;
+import project.game.common.util.math.MovementUtils;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IPositionable;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
+import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogSite;
 
 /**
  * Makes an entity orbit around a target entity.
@@ -24,6 +29,7 @@ public class OrbitalMovementStrategy extends AbstractMovementStrategy {
     private float currentAngle = 0;
     private Vector2 lastValidPosition = null;
     private static final float MIN_SAFE_DISTANCE = 20f;
+    private static final LogSite LARGE_MOVEMENT_LOG = new LogSite("OrbitalMovementStrategy.move");
 
     public OrbitalMovementStrategy(IPositionable target, float orbitRadius, float rotationSpeed, float eccentricity,
             boolean lenientMode) {
@@ -71,69 +77,67 @@ public class OrbitalMovementStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            // Make sure we have a valid last position reference
-            if (lastValidPosition == null) {
-                lastValidPosition = new Vector2(movable.getX(), movable.getY());
-            }
+        // Make sure we have a valid last position reference
+        if (lastValidPosition == null) {
+            lastValidPosition = new Vector2(movable.getX(), movable.getY());
+        }
 
-            // Guard against extremely large delta time values
-            float safeDeltaTime = Math.min(deltaTime, 0.1f);
+        // Guard against extremely large delta time values
+        float safeDeltaTime = Math.min(deltaTime, 0.1f);
 
-            // Update the current angle - smooth the rotation step
-            currentAngle += rotationSpeed * safeDeltaTime;
+        // Update the current angle - smooth the rotation step
+        currentAngle += rotationSpeed * safeDeltaTime;
 
-            // Keep angle between 0 and 2π
-            currentAngle = currentAngle % (2 * MathUtils.PI);
+        // Keep angle between 0 and 2π
+        currentAngle = currentAngle % (2 * MathUtils.PI);
 
-            // Calculate the current radius based on the elliptical orbit formula
-            // with guard against division by zero or negative values
-            float denominator = 1 + eccentricity * MathUtils.cos(currentAngle);
-            if (denominator < 0.1f)
-                denominator = 0.1f; // Safety check
+        // Calculate the current radius based on the elliptical orbit formula
+        // with guard against division by zero or negative values
+        float denominator = 1 + eccentricity * MovementUtils.cos(currentAngle);
+        if (denominator < 0.1f)
+            denominator = 0.1f; // Safety check
 
-            float currentRadius = orbitRadius * (1 - eccentricity * eccentricity) / denominator;
+        float currentRadius = orbitRadius * (1 - eccentricity * eccentricity) / denominator;
 
-            // Ensure minimum safe distance
-            currentRadius = Math.max(currentRadius, MIN_SAFE_DISTANCE);
+        // Ensure minimum safe distance
+        currentRadius = Math.max(currentRadius, MIN_SAFE_DISTANCE);
 
-            // Calculate the orbital position relative to the target
-            float orbitX = currentRadius * MathUtils.cos(currentAngle);
-            float orbitY = currentRadius * MathUtils.sin(currentAngle);
+        // Calculate the orbital position relative to the target
+        float orbitX = currentRadius * MovementUtils.cos(currentAngle);
+        float orbitY = currentRadius * MovementUtils.sin(currentAngle);
 
-            // Calculate new absolute position
-            float newX = target.getX() + orbitX;
-            float newY = target.getY() + orbitY;
+        // Calculate new absolute position
+        float newX = target.getX() + orbitX;
+        float newY = target.getY() + orbitY;
 
-            // Check for reasonable movement (prevent teleportation)
-            Vector2 newPos = new Vector2(newX, newY);
-            if (lastValidPosition.dst(newPos) > orbitRadius * 0.5f) {
-                // Position change is too large - interpolate to create a smoother transition
-                newPos.set(lastValidPosition).lerp(newPos, 0.1f);
-                logger.warn("Detected large movement in OrbitalMovementStrategy, smoothing transition");
-            }
-
-            // Set position and update last valid position
-            movable.setX(newPos.x);
-            movable.setY(newPos.y);
-            lastValidPosition.set(newPos);
+        // Check for reasonable movement (prevent teleportation)
+        Vector2 newPos = new Vector2(newX, newY);
+        if (lastValidPosition.dst(newPos) > orbitRadius * 0.5f) {
+            // Position change is too large - interpolate to create a smoother transition
+            newPos.set(lastValidPosition.x + (newX - lastValidPosition.x) * 0.1f,
+                    lastValidPosition.y + (newY - lastValidPosition.y) * 0.1f);
+            // Fires every frame until the orbit catches up with a moving target
+            logger.logAtMostEvery(LARGE_MOVEMENT_LOG, 1, TimeUnit.SECONDS, LogLevel.WARN,
+                    "Detected large movement in OrbitalMovementStrategy, smoothing transition");
+        }
 
-            // Calculate velocity for proper facing direction
-            // Use a small step ahead to calculate direction vector
-            float nextAngle = currentAngle + rotationSpeed * 0.01f;
-            float nextX = currentRadius * MathUtils.cos(nextAngle);
-            float nextY = currentRadius * MathUtils.sin(nextAngle);
+        // Set position and update last valid position
+        movable.setX(newPos.x);
+        movable.setY(newPos.y);
+        lastValidPosition.set(newPos);
 
-            Vector2 velocityDirection = new Vector2(nextX - orbitX, nextY - orbitY).nor();
-            
-            // Scale by rotation speed and radius to get appropriate magnitude
-            float velocityMagnitude = Math.abs(rotationSpeed) * currentRadius;
-            Vector2 velocity = velocityDirection.scl(velocityMagnitude);
+        // Calculate velocity for proper facing direction
+        // Use a small step ahead to calculate direction vector
+        float nextAngle = currentAngle + rotationSpeed * 0.01f;
+        float nextX = currentRadius * MovementUtils.cos(nextAngle);
+        float nextY = currentRadius * MovementUtils.sin(nextAngle);
 
-            movable.setVelocity(velocity);
+        Vector2 velocityDirection = MovementUtils.normalise(new Vector2(nextX - orbitX, nextY - orbitY));
+        
+        // Scale by rotation speed and radius to get appropriate magnitude
+        float velocityMagnitude = Math.abs(rotationSpeed) * currentRadius;
+        Vector2 velocity = velocityDirection.scl(velocityMagnitude);
 
-        } catch (Exception e) {
-            handleMovementException(e, "Error in OrbitalMovementStrategy: " + e.getMessage());
-        }
+        movable.setVelocity(velocity);
     }
 }
\ No newline at end of file
@@ -0,0 +1,244 @@
+package project.game.application.movement.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.application.entity.item.Trash;
+import project.game.application.movement.api.StrategyType;
+import project.game.application.movement.navigation.NavigationPath;
+import project.game.application.movement.navigation.OccupancyGrid;
+import project.game.application.movement.navigation.PathfindingService;
+import project.game.common.exception.MovementException;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
+import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
+import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
+
+/**
+ * A movement strategy that follows A* paths to the nearest trash entity.
+ *
+ * Paths are requested asynchronously from a {@link PathfindingService} and
+ * followed waypoint by waypoint, so the entity routes around rock clusters
+ * instead of pushing straight into them. While a path is being computed the
+ * entity steers directly towards its target.
+ */
+public class PathFollowingStrategy extends AbstractMovementStrategy implements IDecisionSchedulerAware {
+
+    // Seconds between path refreshes while following the same target
+    private static final float REPATH_INTERVAL = 0.5f;
+
+    // Seconds between scheduled target re-selections
+    private static final float TARGET_DECISION_INTERVAL = 0.25f;
+
+    private final float speed;
+    private final PathfindingService pathfindingService;
+    private final float minTargetSwitchDistance = 20.0f;
+    private final Vector2 direction = new Vector2(1, 0);
+    private List<Trash> trashEntities;
+    private Trash currentTarget;
+
+    // Path state
+    private NavigationPath path;
+    private int waypointIndex;
+    private int pathGoalCell = -1;
+    private float timeSinceRepath;
+    private CompletableFuture<NavigationPath> pendingPath;
+
+    // Last known position, used by scheduled target selection
+    private float lastX;
+    private float lastY;
+    private AIDecisionScheduler.ScheduledDecision targetDecision;
+
+    /**
+     * Constructs a new PathFollowingStrategy.
+     *
+     * @param speed              The movement speed
+     * @param trashEntities      The list of trash entities to target
+     * @param pathfindingService The service used to find paths
+     * @param lenientMode        Whether to use lenient mode for error handling
+     */
+    public PathFollowingStrategy(float speed, List<Trash> trashEntities, PathfindingService pathfindingService,
+            boolean lenientMode) {
+        super(PathFollowingStrategy.class, lenientMode);
+        if (pathfindingService == null) {
+            throw new MovementException("PathfindingService cannot be null in PathFollowingStrategy");
+        }
+        this.speed = validateSpeed(speed, 200f);
+        this.trashEntities = trashEntities != null ? trashEntities : new ArrayList<>();
+        this.pathfindingService = pathfindingService;
+
+        logger.info("PathFollowingStrategy initialized with {0} trash entities", this.trashEntities.size());
+    }
+
+    /**
+     * Updates the list of trash entities to target.
+     *
+     * @param trashEntities The new list of trash entities
+     */
+    public void updateTrashEntities(List<Trash> trashEntities) {
+        if (trashEntities != null) {
+            this.trashEntities = new ArrayList<>(trashEntities);
+        }
+    }
+
+    /**
+     * Moves target re-selection onto the given scheduler.
+     */
+    @Override
+    public void setDecisionScheduler(AIDecisionScheduler scheduler) {
+        if (targetDecision != null) {
+            targetDecision.cancel();
+            targetDecision = null;
+        }
+        if (scheduler != null) {
+            targetDecision = scheduler.register(this::reselectTarget, TARGET_DECISION_INTERVAL);
+        }
+    }
+
+    public Trash getCurrentTarget() {
+        return currentTarget;
+    }
+
+    public NavigationPath getPath() {
+        return path;
+    }
+
+    @Override
+    public StrategyType getStrategyType() {
+        return StrategyType.PATH_FOLLOWING;
+    }
+
+    @Override
+    public void move(IMovable movable, float deltaTime) {
+        lastX = movable.getX();
+        lastY = movable.getY();
+
+        if (targetDecision == null) {
+            reselectTarget();
+        } else if (!isValidTarget(currentTarget)) {
+            targetDecision.request();
+        }
+
+        if (isValidTarget(currentTarget)) {
+            updatePath(deltaTime);
+            steerAlongPath();
+        }
+
+        Vector2 moveVec = new Vector2(direction).scl(speed * deltaTime);
+        applyMovement(movable, moveVec);
+        updateVelocity(movable, moveVec, deltaTime);
+    }
+
+    /**
+     * Picks up a finished path request and requests a new path when the target
+     * moved to another cell or the current path is getting old.
+     */
+    private void updatePath(float deltaTime) {
+        if (pendingPath != null && pendingPath.isDone()) {
+            adoptPath(pendingPath.isCompletedExceptionally() ? null : pendingPath.getNow(null));
+            pendingPath = null;
+        }
+
+        timeSinceRepath += deltaTime;
+        OccupancyGrid grid = pathfindingService.getGrid();
+        float goalX = currentTarget.getEntity().getX();
+        float goalY = currentTarget.getEntity().getY();
+        int goalCell = grid.cellAt(goalX, goalY);
+
+        if (pendingPath == null
+                && (path == null || goalCell != pathGoalCell || timeSinceRepath >= REPATH_INTERVAL)) {
+            pathGoalCell = goalCell;
+            timeSinceRepath = 0;
+            pendingPath = pathfindingService.requestPath(lastX, lastY, goalX, goalY);
+
+            // Cached paths are available straight away
+            if (pendingPath.isDone()) {
+                adoptPath(pendingPath.isCompletedExceptionally() ? null : pendingPath.getNow(null));
+                pendingPath = null;
+            }
+        }
+    }
+
+    private void adoptPath(NavigationPath newPath) {
+        // Ignore results for a goal we are no longer heading to
+        if (newPath != null && newPath.getGoalCell() != pathGoalCell) {
+            return;
+        }
+        path = newPath;
+        waypointIndex = 0;
+    }
+
+    /**
+     * Steers towards the current waypoint, or directly at the target once the
+     * last waypoint is reached or when no path is available.
+     */
+    private void steerAlongPath() {
+        float targetX = currentTarget.getEntity().getX();
+        float targetY = currentTarget.getEntity().getY();
+
+        if (path != null && !path.isEmpty()) {
+            float arrivalRadius = pathfindingService.getGrid().getCellSize() * 0.75f;
+            while (waypointIndex < path.size() - 1
+                    && Vector2.dst(lastX, lastY, path.getX(waypointIndex), path.getY(waypointIndex)) < arrivalRadius) {
+                waypointIndex++;
+            }
+            if (waypointIndex < path.size() - 1) {
+                targetX = path.getX(waypointIndex);
+                targetY = path.getY(waypointIndex);
+            }
+        }
+
+        float dx = targetX - lastX;
+        float dy = targetY - lastY;
+        if (dx * dx + dy * dy > 0.0001f) {
+            direction.set(dx, dy).nor();
+        }
+    }
+
+    private void reselectTarget() {
+        Trash nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+        for (Trash trash : trashEntities) {
+            if (!isValidTarget(trash)) {
+                continue;
+            }
+            float distance = Vector2.dst(lastX, lastY, trash.getEntity().getX(), trash.getEntity().getY());
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = trash;
+            }
+        }
+
+        if (nearest == null || nearest == currentTarget) {
+            if (!isValidTarget(currentTarget)) {
+                currentTarget = nearest;
+            }
+            return;
+        }
+
+        // Only switch between live targets if the new one is clearly closer
+        if (isValidTarget(currentTarget)) {
+            float currentDistance = Vector2.dst(lastX, lastY, currentTarget.getEntity().getX(),
+                    currentTarget.getEntity().getY());
+            if (nearestDistance >= currentDistance - minTargetSwitchDistance) {
+                return;
+            }
+        }
+
+        currentTarget = nearest;
+        path = null;
+        pathGoalCell = -1;
+        pendingPath = null;
+        if (logger.isDebugEnabled()) {
+            logger.debug("Path following switched to trash at ({0}, {1})", nearest.getEntity().getX(),
+                    nearest.getEntity().getY());
+        }
+    }
+
+    private static boolean isValidTarget(Trash trash) {
+        return trash != null && trash.getEntity().isActive();
+    }
+}
@@ -3,13 +3,15 @@ package project.game.application.movement.strategy;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.math.MathUtils;
-
 import project.game.application.movement.api.StrategyType;
 import project.game.common.config.factory.GameConstantsFactory;
 import project.game.common.exception.MovementException;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
 
 /**
@@ -17,21 +19,37 @@ import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrate
  * 
  * The entity moves in a random direction at a random speed for a random
  * duration. The strategy pool is provided in the constructor.
+ * 
+ * When a decision scheduler is set, switching is requested from the scheduler
+ * once the duration runs out and the current strategy keeps running until the
+ * switch is made.
  */
-public class RandomisedMovementStrategy extends AbstractMovementStrategy {
+public class RandomisedMovementStrategy extends AbstractMovementStrategy implements IDecisionSchedulerAware {
 
     private final List<IMovementStrategy> strategyPool;
     private final float minDuration;
     private final float maxDuration;
     private IMovementStrategy currentStrategy;
     private float remainingTime;
+    private AIDecisionScheduler.ScheduledDecision switchDecision;
+    private final RandomStream random;
 
     /**
      * Constructs a RandomisedMovementStrategy with the specified parameters.
      */
     public RandomisedMovementStrategy(List<IMovementStrategy> strategyPool, float minDuration, float maxDuration,
             boolean lenientMode) {
+        this(strategyPool, minDuration, maxDuration, RandomProvider.getInstance().nextStream(), lenientMode);
+    }
+
+    /**
+     * Constructs a RandomisedMovementStrategy that draws its switches from the
+     * given stream. The stream must not be shared with another entity.
+     */
+    public RandomisedMovementStrategy(List<IMovementStrategy> strategyPool, float minDuration, float maxDuration,
+            RandomStream random, boolean lenientMode) {
         super(RandomisedMovementStrategy.class, lenientMode);
+        this.random = random != null ? random : RandomProvider.getInstance().nextStream();
 
         // Validate strategy pool
         this.strategyPool = validateStrategyPool(strategyPool);
@@ -42,10 +60,30 @@ public class RandomisedMovementStrategy extends AbstractMovementStrategy {
         this.maxDuration = durations[1];
 
         // Initialize state
-        this.remainingTime = MathUtils.random(this.minDuration, this.maxDuration);
+        this.remainingTime = this.random.nextFloat(this.minDuration, this.maxDuration);
         pickRandomStrategy();
     }
 
+    /**
+     * Moves strategy switching onto the given scheduler.
+     */
+    @Override
+    public void setDecisionScheduler(AIDecisionScheduler scheduler) {
+        if (switchDecision != null) {
+            switchDecision.cancel();
+            switchDecision = null;
+        }
+        if (scheduler != null) {
+            // Only runs when requested
+            switchDecision = scheduler.register(this::switchStrategy, 0);
+        }
+        for (IMovementStrategy strategy : strategyPool) {
+            if (strategy instanceof IDecisionSchedulerAware) {
+                ((IDecisionSchedulerAware) strategy).setDecisionScheduler(scheduler);
+            }
+        }
+    }
+
     @Override
     public StrategyType getStrategyType() {
         return StrategyType.RANDOMIZED;
@@ -53,22 +91,26 @@ public class RandomisedMovementStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            remainingTime -= deltaTime;
-            if (remainingTime <= 0) {
-                pickRandomStrategy();
-                remainingTime = MathUtils.random(minDuration, maxDuration);
-            }
-            if (currentStrategy != null) {
-                currentStrategy.move(movable, deltaTime);
+        remainingTime -= deltaTime;
+        if (remainingTime <= 0) {
+            if (switchDecision == null) {
+                switchStrategy();
+            } else {
+                switchDecision.request();
             }
-        } catch (Exception e) {
-            handleMovementException(e, "Error in RandomisedMovementStrategy: " + e.getMessage());
         }
+        if (currentStrategy != null) {
+            currentStrategy.move(movable, deltaTime);
+        }
+    }
+
+    private void switchStrategy() {
+        pickRandomStrategy();
+        remainingTime = random.nextFloat(minDuration, maxDuration);
     }
 
     private void pickRandomStrategy() {
-        currentStrategy = strategyPool.get(MathUtils.random(strategyPool.size() - 1));
+        currentStrategy = strategyPool.get(random.nextInt(strategyPool.size()));
     }
 
     /**
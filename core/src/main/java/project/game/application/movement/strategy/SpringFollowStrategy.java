@@ -43,29 +43,24 @@ public class SpringFollowStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            // Calculate spring force based on distance to target (Hooke's Law)
-            Vector2 toTarget = new Vector2(target.getX() - movable.getX(), target.getY() - movable.getY());
-            Vector2 springForce = new Vector2(toTarget).scl(springConstant);
+        // Calculate spring force based on distance to target (Hooke's Law)
+        Vector2 toTarget = new Vector2(target.getX() - movable.getX(), target.getY() - movable.getY());
+        Vector2 springForce = new Vector2(toTarget).scl(springConstant);
 
-            // Apply damping force based on current velocity
-            Vector2 dampingForce = new Vector2(velocity).scl(-damping);
+        // Apply damping force based on current velocity
+        Vector2 dampingForce = new Vector2(velocity).scl(-damping);
 
-            // Calculate total force
-            Vector2 totalForce = springForce.add(dampingForce);
+        // Calculate total force
+        Vector2 totalForce = springForce.add(dampingForce);
 
-            // Update velocity (F = ma, assuming mass = 1)
-            velocity.add(totalForce.x * deltaTime, totalForce.y * deltaTime);
+        // Update velocity (F = ma, assuming mass = 1)
+        velocity.add(totalForce.x * deltaTime, totalForce.y * deltaTime);
 
-            // Update position
-            movable.setX(movable.getX() + velocity.x * deltaTime);
-            movable.setY(movable.getY() + velocity.y * deltaTime);
+        // Update position
+        movable.setX(movable.getX() + velocity.x * deltaTime);
+        movable.setY(movable.getY() + velocity.y * deltaTime);
 
-            // Update movable's velocity for animations
-            movable.setVelocity(velocity);
-
-        } catch (Exception e) {
-            handleMovementException(e, "Error in SpringFollowStrategy: " + e.getMessage());
-        }
+        // Update movable's velocity for animations
+        movable.setVelocity(velocity);
     }
 }
\ No newline at end of file
@@ -4,6 +4,9 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import project.game.application.movement.api.StrategyType;
+import project.game.common.util.math.MovementUtils;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.strategy.AbstractMovementStrategy;
 
@@ -27,12 +30,21 @@ public class ZigZagMovemenStrategy extends AbstractMovementStrategy {
     private float waveAmplitude = 0f;
 
     public ZigZagMovemenStrategy(float speed, float amplitude, float frequency, boolean lenientMode) {
+        this(speed, amplitude, frequency, RandomProvider.getInstance().nextStream(), lenientMode);
+    }
+
+    /**
+     * Creates a zig-zag strategy whose wave phase is drawn from the given
+     * stream.
+     */
+    public ZigZagMovemenStrategy(float speed, float amplitude, float frequency, RandomStream random,
+            boolean lenientMode) {
         super(ZigZagMovemenStrategy.class, lenientMode);
         this.speed = validateSpeed(speed, 200f);
         this.amplitude = amplitude;
         this.frequency = validateNonNegative(frequency, "Frequency", 1.0f);
         this.elapsedTime = 0f;
-        this.wavePhase = MathUtils.random(0f, MathUtils.PI2);
+        this.wavePhase = random != null ? random.nextFloat(0f, MathUtils.PI2) : 0f;
         this.waveAmplitude = amplitude * 0.3f;
     }
 
@@ -43,46 +55,41 @@ public class ZigZagMovemenStrategy extends AbstractMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            elapsedTime += deltaTime;
-
-            // Get current velocity to determine primary direction
-            Vector2 velocity = getSafeVelocity(movable);
+        elapsedTime += deltaTime;
 
-            // If velocity is too small, we can't determine a direction for zigzag
-            if (velocity.len2() < 0.0001f) {
-                return;
-            }
+        // Get current velocity to determine primary direction
+        Vector2 velocity = getSafeVelocity(movable);
 
-            // Create a normalized copy of the primary direction
-            Vector2 primaryDirection = new Vector2(velocity).nor();
+        // If velocity is too small, we can't determine a direction for zigzag
+        if (velocity.len2() < 0.0001f) {
+            return;
+        }
 
-            // Calculate perpendicular vector (rotate 90 degrees)
-            Vector2 perpVector = new Vector2(-primaryDirection.y, primaryDirection.x);
+        // Create a normalized copy of the primary direction
+        Vector2 primaryDirection = MovementUtils.normalise(new Vector2(velocity));
 
-            // Forward movement with drift factor applied
-            Vector2 movementDelta = new Vector2(primaryDirection).scl(speed * deltaTime * driftFactor);
+        // Calculate perpendicular vector (rotate 90 degrees)
+        Vector2 perpVector = new Vector2(-primaryDirection.y, primaryDirection.x);
 
-            // Primary zigzag oscillation
-            float primaryOscillation = amplitude * MathUtils.sin(frequency * elapsedTime);
+        // Forward movement with drift factor applied
+        Vector2 movementDelta = new Vector2(primaryDirection).scl(speed * deltaTime * driftFactor);
 
-            // Secondary zigzag oscillation with different phase for more natural motion
-            float secondaryOscillation = waveAmplitude * MathUtils.sin(frequency * 1.7f * elapsedTime + wavePhase);
+        // Primary zigzag oscillation
+        float primaryOscillation = amplitude * MovementUtils.sin(frequency * elapsedTime);
 
-            // Combined oscillation
-            float totalOscillation = (primaryOscillation + secondaryOscillation) * deltaTime;
+        // Secondary zigzag oscillation with different phase for more natural motion
+        float secondaryOscillation = waveAmplitude * MovementUtils.sin(frequency * 1.7f * elapsedTime + wavePhase);
 
-            // Add zigzag oscillation to movement
-            movementDelta.add(new Vector2(perpVector).scl(totalOscillation));
+        // Combined oscillation
+        float totalOscillation = (primaryOscillation + secondaryOscillation) * deltaTime;
 
-            // Apply movement
-            applyMovement(movable, movementDelta);
+        // Add zigzag oscillation to movement
+        movementDelta.add(new Vector2(perpVector).scl(totalOscillation));
 
-            // Update velocity for animations
-            updateVelocity(movable, movementDelta, deltaTime);
+        // Apply movement
+        applyMovement(movable, movementDelta);
 
-        } catch (Exception e) {
-            handleMovementException(e, "Error in ZigZagMovementStrategy: " + e.getMessage());
-        }
+        // Update velocity for animations
+        updateVelocity(movable, movementDelta, deltaTime);
     }
 }
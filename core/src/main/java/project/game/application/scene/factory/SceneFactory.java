@@ -7,7 +7,9 @@ import java.util.function.Supplier;
 import project.game.application.scene.main.GameScene1;
 import project.game.application.scene.main.GameScene2;
 import project.game.application.scene.main.MainMenuScene;
+import project.game.application.scene.main.StressScene;
 import project.game.application.scene.overlay.GameOverScene;
+import project.game.application.scene.stress.StressConfig;
 import project.game.common.logging.core.GameLogger;
 import project.game.engine.io.management.SceneInputManager;
 import project.game.engine.scene.api.IScene;
@@ -23,8 +25,16 @@ public class SceneFactory {
     private final SceneManager sceneManager;
     private final SceneInputManager inputManager;
     private final Map<String, Supplier<IScene>> sceneCreators;
+    private final Map<String, Supplier<IScene>> lazySceneCreators;
 
     public SceneFactory(SceneManager sceneManager, SceneInputManager inputManager) {
+        this(sceneManager, inputManager, StressConfig.defaults());
+    }
+
+    /**
+     * @param stressConfig Entity counts and budget for the "stress" scene
+     */
+    public SceneFactory(SceneManager sceneManager, SceneInputManager inputManager, StressConfig stressConfig) {
         this.sceneManager = sceneManager;
         this.inputManager = inputManager;
 
@@ -39,6 +49,11 @@ public class SceneFactory {
         sceneCreators.put("game", () -> new GameScene1(sceneManager, inputManager));
         sceneCreators.put("gameover", () -> new GameOverScene(sceneManager, inputManager));
         sceneCreators.put("game2", () -> new GameScene2(sceneManager, inputManager));
+
+        // Only built when selected, as it loads its own world and background
+        // workers
+        lazySceneCreators = new HashMap<>();
+        lazySceneCreators.put("stress", () -> new StressScene(sceneManager, inputManager, stressConfig));
     }
 
     /**
@@ -48,7 +63,11 @@ public class SceneFactory {
         sceneCreators.forEach((name, creator) -> {
             IScene scene = creator.get();
             sceneManager.addScene(name, scene);
-            LOGGER.info("Registered scene: " + name);
+            LOGGER.info("Registered scene: {0}", name);
+        });
+        lazySceneCreators.forEach((name, creator) -> {
+            sceneManager.addLazyScene(name, creator);
+            LOGGER.info("Registered lazy scene: {0}", name);
         });
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package project.game.application.scene.main;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
@@ -17,6 +18,7 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextField;
 import com.badlogic.gdx.utils.Array;
@@ -25,12 +27,19 @@ import project.game.application.entity.api.IEntityRemovalListener;
 import project.game.application.entity.factory.EntityFactoryManager;
 import project.game.application.entity.item.Trash;
 import project.game.application.entity.obstacle.Rock;
+import project.game.application.movement.navigation.ObstacleDistanceField;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.application.movement.navigation.OccupancyGrid;
+import project.game.application.movement.navigation.PathfindingService;
+import project.game.application.movement.navigation.SeparationSteering;
 import project.game.application.scene.overlay.Options;
 import project.game.application.scene.overlay.Scenetransition;
 import project.game.application.scene.ui.AudioUI;
 import project.game.common.config.api.IGameConstants;
 import project.game.common.config.factory.GameConstantsFactory;
 import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
 import project.game.engine.audio.config.AudioConfig;
 import project.game.engine.audio.management.AudioManager;
 import project.game.engine.audio.music.MusicManager;
@@ -38,14 +47,23 @@ import project.game.engine.audio.sound.SoundManager;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.entity.management.EntityManager;
 import project.game.engine.entitysystem.movement.core.NPCMovementManager;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
+import project.game.engine.entitysystem.movement.management.MovementFailureCounter;
+import project.game.engine.entitysystem.movement.management.MovementLODPolicy;
+import project.game.engine.entitysystem.movement.management.SimulationClock;
 import project.game.engine.entitysystem.physics.boundary.WorldBoundaryFactory;
 import project.game.engine.entitysystem.physics.management.CollisionManager;
 import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogSite;
+import project.game.engine.profiling.FramePhase;
+import project.game.engine.profiling.FrameProfiler;
 import project.game.engine.scene.management.HealthManager;
 import project.game.engine.scene.management.Scene;
 import project.game.engine.scene.management.SceneManager;
 import project.game.engine.scene.management.ScoreManager;
 import project.game.engine.scene.management.TimeManager;
+import project.game.engine.scene.ui.ProfilerOverlay;
 
 /**
  * Base game scene class that contains common functionality for game scenes.
@@ -53,6 +71,9 @@ import project.game.engine.scene.management.TimeManager;
 public abstract class AbstractGameScene extends Scene implements IEntityRemovalListener {
 
     protected static final GameLogger LOGGER = new GameLogger(AbstractGameScene.class);
+    private static final LogSite ENTITY_REMOVAL_LOG = new LogSite("AbstractGameScene.onEntityRemove");
+    private static final LogSite TRASH_REMOVAL_LOG = new LogSite("AbstractGameScene.onEntityRemove.trash");
+    private static final LogSite KEY_PRESS_LOG = new LogSite("AbstractGameScene.input");
 
     // Menu
     protected final HealthManager healthManager;
@@ -78,6 +99,9 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
     // Movement
     protected NPCMovementManager npcMovementManager;
     protected List<NPCMovementManager> trashMovementManagers = new ArrayList<>();
+    protected MovementLODPolicy movementLODPolicy;
+    protected AIDecisionScheduler decisionScheduler;
+    protected final SimulationClock movementClock = new SimulationClock();
 
     // Entities
     protected List<Entity> existingEntities;
@@ -93,6 +117,10 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
     protected Matrix4 debugMatrix;
     protected Box2DDebugRenderer debugRenderer;
     protected CollisionManager collisionManager;
+    protected ObstacleDistanceField obstacleField;
+    protected PathfindingService pathfindingService;
+    protected OceanCurrentField currentField;
+    protected SeparationSteering trashSeparation;
 
     // Sprite sheet identifiers
     protected static final String ROCK_SPRITESHEET = "rock_sprites";
@@ -111,6 +139,12 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
     protected TimeManager timer;
     protected boolean showTimer = true;
 
+    // Frame profiling, shown with F3
+    protected final FrameProfiler frameProfiler = new FrameProfiler();
+    // Filled by countActiveBodies() each frame instead of allocating a new one
+    private final Array<Body> bodies = new Array<>();
+    protected ProfilerOverlay profilerOverlay;
+
     /**
      * Constructor for the base game scene.
      * 
@@ -159,10 +193,10 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
             return;
         }
 
-        LOGGER.info("Removing entity: {0}", entity.getID());
         existingEntities.remove(entity);
         entity.removeFromManager(entityManager);
-        LOGGER.info("Entity removed from manager: {0}", entity.getID());
+        LOGGER.logAtMostEvery(ENTITY_REMOVAL_LOG, 1, TimeUnit.SECONDS, LogLevel.INFO,
+                "Entity removed from manager: {0}", entity.getID());
 
         for (Trash trash : new ArrayList<>(trashes)) {
             if (trash.getEntity().equals(entity)) {
@@ -170,12 +204,14 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
                 NPCMovementManager trashManager = trash.getMovementManager();
                 if (trashManager != null) {
                     trashMovementManagers.remove(trashManager);
-                    LOGGER.info("Trash movement manager removed for entity: {0}", entity.getID());
+                    trashManager.dispose();
+                    LOGGER.debug("Trash movement manager removed for entity: {0}", entity.getID());
                 }
 
                 trashes.remove(trash);
                 audioManager.playSoundEffect("points");
-                LOGGER.info("Trash removed: {0}", trash.getEntity().getID());
+                LOGGER.logAtMostEvery(TRASH_REMOVAL_LOG, 1, TimeUnit.SECONDS, LogLevel.INFO, "Trash removed: {0}",
+                        trash.getEntity().getID());
                 scoreManager.addScore(100);
                 break;
             }
@@ -184,6 +220,8 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
 
     @Override
     public void render(float deltaTime) {
+        frameProfiler.beginFrame();
+        frameProfiler.phase(FramePhase.INPUT);
         input();
         timer.update(deltaTime);
 
@@ -211,7 +249,12 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
             return;
         }
 
+        frameProfiler.phase(FramePhase.MOVEMENT);
         try {
+            advanceMovementClock(deltaTime);
+            beginMovementLODFrame(camera.position.x, camera.position.y);
+            updateDecisions(deltaTime);
+
             if (npcMovementManager != null) {
                 npcMovementManager.updateMovement();
             }
@@ -223,6 +266,7 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
                     }
                 }
             }
+            applyTrashSeparation(deltaTime);
 
             // Make sure collision handling catches up with new positions
             if (collisionManager != null) {
@@ -233,32 +277,31 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
             LOGGER.error("Exception during game update: {0}", e.getMessage());
         }
 
+        frameProfiler.phase(FramePhase.DRAW);
         draw();
 
-
+        frameProfiler.phase(FramePhase.PHYSICS_STEP);
         // Only step the physics if we have active bodies
-        int activeBodyCount = 0;
-        Array<Body> bodies = new Array<>();
-        world.getBodies(bodies);
-        for (Body body : bodies) {
-            if (body.isActive()) {
-                activeBodyCount++;
-            }
-        }
+        int activeBodyCount = countActiveBodies();
 
         // Ensure we have enough bodies for physics to work
         if (activeBodyCount > 1) {
             float timeStep = 1.0f / 60.0f;
             int velocityIterations = 6;
             int positionIterations = 2;
-            world.step(timeStep, velocityIterations, positionIterations);
+            collisionManager.stepWorld(timeStep, velocityIterations, positionIterations);
 
+            frameProfiler.phase(FramePhase.REMOVALS);
             collisionManager.processRemovalQueue();
+            frameProfiler.phase(FramePhase.CONTACTS);
             collisionManager.processCollisions();
+            frameProfiler.phase(FramePhase.SYNC);
             collisionManager.syncEntityPositions(constants.PIXELS_TO_METERS());
+            refreshObstacleField();
         } else {
             LOGGER.warn("Not enough active bodies for physics simulation");
         }
+        endProfiledFrame();
     }
 
     @Override
@@ -277,6 +320,18 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
         Gdx.input.setInputProcessor(inputMultiplexer);
         Gdx.input.setCursorPosition(0, 0);
 
+        // Every scene is built at startup, so the gauges follow the one on
+        // screen rather than the last one constructed
+        if (entityManager != null) {
+            entityManager.bindMetrics();
+        }
+        if (collisionManager != null) {
+            collisionManager.bindMetrics();
+        }
+        if (currentField != null) {
+            currentField.start();
+        }
+
         if (audioManager == null) {
             config = config != null ? config : new AudioConfig();
             audioManager = AudioManager.getInstance(MusicManager.getInstance(), SoundManager.getInstance(), config);
@@ -295,6 +350,9 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
     @Override
     public void hide() {
         timer.stop();
+        if (currentField != null) {
+            currentField.stop();
+        }
     }
 
     @Override
@@ -319,6 +377,29 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
             audioManager.dispose();
         }
 
+        if (movementLODPolicy != null) {
+            movementLODPolicy.logStatistics();
+        }
+        MovementFailureCounter.getInstance().logStatistics();
+
+        // Stop scheduled decisions before the services they use go away
+        if (npcMovementManager != null) {
+            npcMovementManager.dispose();
+        }
+        for (NPCMovementManager trashManager : trashMovementManagers) {
+            trashManager.dispose();
+        }
+
+        if (pathfindingService != null) {
+            pathfindingService.dispose();
+        }
+        if (trashSeparation != null) {
+            trashSeparation.logStatistics();
+        }
+        if (currentField != null) {
+            currentField.dispose();
+        }
+
         LOGGER.info("BaseGameScene disposed");
     }
 
@@ -345,6 +426,9 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
             // Create entity manager
             entityManager = new EntityManager();
 
+            // Expensive AI decisions share a fixed budget per frame
+            decisionScheduler = new AIDecisionScheduler(500);
+
             // Initialize lists
             rocks = new ArrayList<>();
             trashes = new ArrayList<>();
@@ -371,10 +455,21 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
 
             // Create scene-specific entities
             createRocks();
+            buildObstacleField();
+            buildPathfinding();
+            buildCurrentField();
+            buildTrashSeparation();
             createTrash();
             createMainCharacter();
             createSeaTurtle();
 
+            // Throttle trash movement when it is far from the player or offscreen
+            movementLODPolicy = new MovementLODPolicy();
+            for (NPCMovementManager trashManager : trashMovementManagers) {
+                trashManager.setLODPolicy(movementLODPolicy);
+                trashManager.setTickClock(movementClock);
+            }
+
             // Create world boundaries last
             WorldBoundaryFactory.createScreenBoundaries(world, constants.GAME_WIDTH(), constants.GAME_HEIGHT(), 0.5f,
                     constants.PIXELS_TO_METERS());
@@ -393,6 +488,9 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
             audioManager.setMusicVolume(config.getMusicVolume());
             audioManager.setSoundEnabled(config.isSoundEnabled());
 
+            profilerOverlay = new ProfilerOverlay(frameProfiler, skin);
+            sceneUIManager.getStage().addActor(profilerOverlay);
+
             LOGGER.info("BaseGameScene initialization complete");
 
         } catch (Exception e) {
@@ -411,6 +509,125 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
 
     protected abstract void initializeGameAssets();
 
+    /**
+     * Builds the obstacle distance field from the rocks created for this scene.
+     * Rocks are static, so the field only needs partial rebuilds afterwards.
+     */
+    protected void buildObstacleField() {
+        obstacleField = new ObstacleDistanceField(constants.GAME_WIDTH(), constants.GAME_HEIGHT());
+        List<Entity> rockEntities = new ArrayList<>();
+        for (Rock rock : rocks) {
+            rockEntities.add(rock.getEntity());
+        }
+        obstacleField.build(rockEntities);
+    }
+
+    /**
+     * Builds the occupancy grid and pathfinding service from the rocks' physics
+     * bodies, keeping enough clearance for the sea turtle to pass.
+     */
+    protected void buildPathfinding() {
+        float clearance = Math.max(constants.SEA_TURTLE_WIDTH(), constants.SEA_TURTLE_HEIGHT()) / 2;
+        OccupancyGrid grid = OccupancyGrid.fromRocks(rocks, constants.GAME_WIDTH(), constants.GAME_HEIGHT(),
+                32f, clearance, constants.PIXELS_TO_METERS());
+        pathfindingService = new PathfindingService(grid, 256);
+    }
+
+    /**
+     * Builds the shared ocean current that trash drifts with. The steady flow
+     * is kept weak compared to the swirls so trash circulates rather than
+     * piling up against one edge of the screen. Every scene is built at
+     * startup, so the field only bakes in the background while the scene is
+     * shown.
+     */
+    protected void buildCurrentField() {
+        RandomStream random = RandomProvider.getInstance().nextStream();
+        currentField = new OceanCurrentField(constants.GAME_WIDTH(), constants.GAME_HEIGHT(),
+                20f * random.nextSign(), 0f, 100f, random.nextLong(), false);
+        entityFactoryManager.setTrashCurrentField(currentField);
+    }
+
+    /**
+     * Builds the steering layer that keeps drifting trash from bumping into
+     * each other.
+     */
+    protected void buildTrashSeparation() {
+        float radius = Math.max(constants.TRASH_WIDTH(), constants.TRASH_HEIGHT()) / 2;
+        trashSeparation = new SeparationSteering(constants.GAME_WIDTH(), constants.GAME_HEIGHT(), radius, 4f, 0.5f,
+                60f);
+    }
+
+    /**
+     * Pushes trash apart after the trash movement managers have been updated,
+     * and records how many trash contacts began since the last frame.
+     */
+    protected void applyTrashSeparation(float deltaTime) {
+        if (trashSeparation == null) {
+            return;
+        }
+        trashSeparation.apply(trashMovementManagers, deltaTime);
+        if (collisionManager != null) {
+            trashSeparation.recordContacts(
+                    collisionManager.getContactStatistics().getContactCount(Trash.class, Trash.class), deltaTime);
+        }
+    }
+
+    /**
+     * Counts the Box2D bodies that take part in the next physics step.
+     */
+    protected int countActiveBodies() {
+        world.getBodies(bodies);
+        int activeBodyCount = 0;
+        for (int i = 0; i < bodies.size; i++) {
+            if (bodies.get(i).isActive()) {
+                activeBodyCount++;
+            }
+        }
+        return activeBodyCount;
+    }
+
+    /**
+     * Rebuilds the parts of the obstacle field whose rocks moved or were removed
+     * since the last frame.
+     */
+    protected void refreshObstacleField() {
+        if (obstacleField != null) {
+            obstacleField.refresh();
+        }
+    }
+
+    /**
+     * Advances the clock that drives movement managers, and the ocean current
+     * along with it, to the next tick. Must be called once per frame before
+     * movement managers are updated.
+     */
+    protected void advanceMovementClock(float deltaTime) {
+        movementClock.advance(deltaTime);
+        if (currentField != null) {
+            currentField.update(deltaTime);
+        }
+    }
+
+    /**
+     * Starts a new movement level-of-detail frame centred on the given focus
+     * point. Must be called before movement managers are updated.
+     */
+    protected void beginMovementLODFrame(float focusX, float focusY) {
+        if (movementLODPolicy != null) {
+            movementLODPolicy.beginFrame(focusX, focusY, camera);
+        }
+    }
+
+    /**
+     * Runs the AI decisions that are due this frame within the scheduler's
+     * budget. Must be called before movement managers are updated.
+     */
+    protected void updateDecisions(float deltaTime) {
+        if (decisionScheduler != null) {
+            decisionScheduler.update(deltaTime);
+        }
+    }
+
     protected World getWorld() {
         return world;
     }
@@ -437,7 +654,8 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
     protected void input() {
         for (Integer key : inputManager.getKeyBindings().keySet()) {
             if (inputManager.isKeyJustPressed(key)) {
-                LOGGER.info("Direction Key pressed: {0}", Input.Keys.toString(key));
+                LOGGER.logAtMostEvery(KEY_PRESS_LOG, 1, TimeUnit.SECONDS, LogLevel.INFO,
+                        "Direction Key pressed: {0}", Input.Keys.toString(key));
                 if (audioManager != null) {
                     audioManager.playSoundEffect("keybuttons");
                 } else {
@@ -454,6 +672,16 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
             options.getRebindMenu().setVisible(false);
         }
 
+        // Toggle the frame profiler overlay
+        if (inputManager.isKeyJustPressed(Input.Keys.F3) && profilerOverlay != null) {
+            profilerOverlay.toggle();
+        }
+
+        // Toggle trash separation (debugging purposes)
+        if (inputManager.isKeyJustPressed(Input.Keys.F8) && trashSeparation != null) {
+            trashSeparation.setEnabled(!trashSeparation.isEnabled());
+        }
+
         // Toggle pause menu
         if (inputManager.isKeyJustPressed(Input.Keys.P)) {
             if (isVolumePopupOpen) {
@@ -478,6 +706,34 @@ public abstract class AbstractGameScene extends Scene implements IEntityRemovalL
         }
     }
 
+    /**
+     * Acts and draws the scene's stage, including the profiler overlay, as the
+     * UI phase of the frame.
+     */
+    protected void drawStage() {
+        frameProfiler.phase(FramePhase.UI);
+        Stage stage = sceneUIManager.getStage();
+        stage.act(Gdx.graphics.getDeltaTime());
+        stage.draw();
+        if (stage.getBatch() instanceof SpriteBatch) {
+            frameProfiler.addRenderCalls(((SpriteBatch) stage.getBatch()).renderCalls);
+        }
+    }
+
+    /**
+     * Records the frame's GL statistics and scene size, and ends the
+     * profiler's frame.
+     */
+    protected void endProfiledFrame() {
+        if (profilerOverlay != null) {
+            profilerOverlay.recordGlStatistics();
+        }
+        frameProfiler.setCounts(existingEntities != null ? existingEntities.size() : 0,
+                world != null ? world.getBodyCount() : 0,
+                world != null ? world.getContactCount() : 0);
+        frameProfiler.endFrame();
+    }
+
     /**
      * Removes the on-screen key binding message.
      */
@@ -1,11 +1,8 @@
 package project.game.application.scene.main;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.utils.Array;
 
 import project.game.application.entity.item.Trash;
 import project.game.application.entity.obstacle.Rock;
@@ -17,6 +14,7 @@ import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.movement.core.NPCMovementManager;
 import project.game.engine.entitysystem.movement.core.PlayerMovementManager;
 import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.profiling.FramePhase;
 import project.game.engine.scene.management.SceneManager;
 
 public class GameScene1 extends AbstractGameScene {
@@ -116,6 +114,7 @@ public class GameScene1 extends AbstractGameScene {
                 .setInitialVelocity(0, 0)
                 .setLenientMode(true)
                 .withConstantMovement()
+                .withTickClock(movementClock)
                 .build();
 
         boat = new Boat(boatEntity, world, playerMovementManager, boatDirectionalSprites);
@@ -156,7 +155,7 @@ public class GameScene1 extends AbstractGameScene {
             collisionManager.addEntity(rock, null);
             existingEntities.add(rock.getEntity());
         }
-        LOGGER.info("Created " + numRocks + " rocks for GameScene1");
+        LOGGER.info("Created {0} rocks for GameScene1", numRocks);
     }
 
     @Override
@@ -179,7 +178,7 @@ public class GameScene1 extends AbstractGameScene {
                 existingEntities.add(trash.getEntity());
             }
         }
-        LOGGER.info("Created " + numTrash + " trash objects for GameScene1");
+        LOGGER.info("Created {0} trash objects for GameScene1", numTrash);
     }
 
     @Override
@@ -188,6 +187,7 @@ public class GameScene1 extends AbstractGameScene {
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, constants.GAME_WIDTH(), constants.GAME_HEIGHT());
         batch.end();
+        frameProfiler.addRenderCalls(batch.renderCalls);
 
         // Draw entities
         batch.begin();
@@ -210,10 +210,10 @@ public class GameScene1 extends AbstractGameScene {
         }
 
         batch.end();
+        frameProfiler.addRenderCalls(batch.renderCalls);
 
         // Draw stage
-        sceneUIManager.getStage().act(Gdx.graphics.getDeltaTime());
-        sceneUIManager.getStage().draw();
+        drawStage();
     }
 
     @Override
@@ -234,6 +234,8 @@ public class GameScene1 extends AbstractGameScene {
 
     @Override
     public void render(float deltaTime) {
+        frameProfiler.beginFrame();
+        frameProfiler.phase(FramePhase.INPUT);
         input();
         timer.update(deltaTime);
 
@@ -249,7 +251,12 @@ public class GameScene1 extends AbstractGameScene {
             return;
         }
 
+        frameProfiler.phase(FramePhase.MOVEMENT);
         try {
+            advanceMovementClock(deltaTime);
+            beginMovementLODFrame(boat.getEntity().getX(), boat.getEntity().getY());
+            updateDecisions(deltaTime);
+
             if (playerMovementManager != null) {
                 playerMovementManager.updateMovement();
             }
@@ -265,6 +272,7 @@ public class GameScene1 extends AbstractGameScene {
                     }
                 }
             }
+            applyTrashSeparation(deltaTime);
 
             // Make sure collision handling catches up with new positions
             if (collisionManager != null) {
@@ -275,31 +283,31 @@ public class GameScene1 extends AbstractGameScene {
             LOGGER.error("Exception during game update: " + e.getMessage());
         }
 
+        frameProfiler.phase(FramePhase.DRAW);
         draw();
 
+        frameProfiler.phase(FramePhase.PHYSICS_STEP);
         // Only step the physics if we have active bodies
-        int activeBodyCount = 0;
-        Array<Body> bodies = new Array<>();
-        world.getBodies(bodies);
-        for (Body body : bodies) {
-            if (body.isActive()) {
-                activeBodyCount++;
-            }
-        }
+        int activeBodyCount = countActiveBodies();
 
         // Ensure we have enough bodies for physics to work
         if (activeBodyCount > 1) {
             float timeStep = 1.0f / 60.0f;
             int velocityIterations = 6;
             int positionIterations = 2;
-            world.step(timeStep, velocityIterations, positionIterations);
+            collisionManager.stepWorld(timeStep, velocityIterations, positionIterations);
 
+            frameProfiler.phase(FramePhase.REMOVALS);
             collisionManager.processRemovalQueue();
+            frameProfiler.phase(FramePhase.CONTACTS);
             collisionManager.processCollisions();
+            frameProfiler.phase(FramePhase.SYNC);
             collisionManager.syncEntityPositions(constants.PIXELS_TO_METERS());
+            refreshObstacleField();
         } else {
             LOGGER.warn("Not enough active bodies for physics simulation");
         }
+        endProfiledFrame();
 
         if (trashes.isEmpty()) {
             float remainingTime = timer.getRemainingTime();
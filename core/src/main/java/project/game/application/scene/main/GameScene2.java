@@ -3,12 +3,9 @@ package project.game.application.scene.main;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.utils.Array;
 
 import project.game.application.entity.item.Trash;
 import project.game.application.entity.npc.SeaTurtle;
@@ -22,6 +19,7 @@ import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.movement.core.NPCMovementManager;
 import project.game.engine.entitysystem.movement.core.PlayerMovementManager;
 import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.profiling.FramePhase;
 import project.game.engine.scene.management.SceneManager;
 
 public class GameScene2 extends AbstractGameScene {
@@ -67,7 +65,7 @@ public class GameScene2 extends AbstractGameScene {
 
     public void reduceTurtleHealth() {
         turtleHealth--;
-        LOGGER.info("Turtle health reduced to " + turtleHealth);
+        LOGGER.info("Turtle health reduced to {0}", turtleHealth);
 
         // Play sound effect for health loss
         audioManager.playSoundEffect("collision");
@@ -165,6 +163,7 @@ public class GameScene2 extends AbstractGameScene {
                 .setInitialVelocity(0, 0)
                 .setLenientMode(true)
                 .withConstantMovement()
+                .withTickClock(movementClock)
                 .build();
 
         boat = new Boat(boatEntity, world, playerMovementManager, boatDirectionalSprites);
@@ -239,6 +238,11 @@ public class GameScene2 extends AbstractGameScene {
                         trashEntities,
                         rockEntities,
                         customWeights)
+                .withObstacleField(obstacleField)
+                .withDecisionScheduler(decisionScheduler)
+                .withPathfinding(pathfindingService)
+                .withStrategyFlattening(true)
+                .withTickClock(movementClock)
                 .setLenientMode(true)
                 .build();
 
@@ -266,7 +270,7 @@ public class GameScene2 extends AbstractGameScene {
             collisionManager.addEntity(rock, null);
             existingEntities.add(rock.getEntity());
         }
-        LOGGER.info("Created " + numRocks + " rocks for GameScene2");
+        LOGGER.info("Created {0} rocks for GameScene2", numRocks);
     }
 
     @Override
@@ -287,10 +291,10 @@ public class GameScene2 extends AbstractGameScene {
                 }
 
                 existingEntities.add(trash.getEntity());
-                LOGGER.info("Created and registered trash entity " + i + " with movement manager");
+                LOGGER.debug("Created and registered trash entity {0} with movement manager", i);
             }
         }
-        LOGGER.info("Created " + numTrash + " trash objects for GameScene2");
+        LOGGER.info("Created {0} trash objects for GameScene2", numTrash);
     }
 
     @Override
@@ -299,6 +303,7 @@ public class GameScene2 extends AbstractGameScene {
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, constants.GAME_WIDTH(), constants.GAME_HEIGHT());
         batch.end();
+        frameProfiler.addRenderCalls(batch.renderCalls);
 
         // Draw entities
         batch.begin();
@@ -331,10 +336,10 @@ public class GameScene2 extends AbstractGameScene {
         }
 
         batch.end();
+        frameProfiler.addRenderCalls(batch.renderCalls);
 
         // Draw stage
-        sceneUIManager.getStage().act(Gdx.graphics.getDeltaTime());
-        sceneUIManager.getStage().draw();
+        drawStage();
     }
 
     @Override
@@ -355,6 +360,8 @@ public class GameScene2 extends AbstractGameScene {
 
     @Override
     public void render(float deltaTime) {
+        frameProfiler.beginFrame();
+        frameProfiler.phase(FramePhase.INPUT);
         input();
         timer.update(deltaTime);
 
@@ -370,7 +377,12 @@ public class GameScene2 extends AbstractGameScene {
             return;
         }
 
+        frameProfiler.phase(FramePhase.MOVEMENT);
         try {
+            advanceMovementClock(deltaTime);
+            beginMovementLODFrame(boat.getEntity().getX(), boat.getEntity().getY());
+            updateDecisions(deltaTime);
+
             if (playerMovementManager != null) {
                 playerMovementManager.updateMovement();
             }
@@ -386,6 +398,7 @@ public class GameScene2 extends AbstractGameScene {
                     }
                 }
             }
+            applyTrashSeparation(deltaTime);
 
             // Make sure collision handling catches up with new positions
             if (collisionManager != null) {
@@ -396,31 +409,31 @@ public class GameScene2 extends AbstractGameScene {
             LOGGER.error("Exception during game update: {0}", e.getMessage());
         }
 
+        frameProfiler.phase(FramePhase.DRAW);
         draw();
 
+        frameProfiler.phase(FramePhase.PHYSICS_STEP);
         // Only step the physics if we have active bodies
-        int activeBodyCount = 0;
-        Array<Body> bodies = new Array<>();
-        world.getBodies(bodies);
-        for (Body body : bodies) {
-            if (body.isActive()) {
-                activeBodyCount++;
-            }
-        }
+        int activeBodyCount = countActiveBodies();
 
         // Ensure we have enough bodies for physics to work
         if (activeBodyCount > 1) {
             float timeStep = 1.0f / 60.0f;
             int velocityIterations = 6;
             int positionIterations = 2;
-            world.step(timeStep, velocityIterations, positionIterations);
+            collisionManager.stepWorld(timeStep, velocityIterations, positionIterations);
 
+            frameProfiler.phase(FramePhase.REMOVALS);
             collisionManager.processRemovalQueue();
+            frameProfiler.phase(FramePhase.CONTACTS);
             collisionManager.processCollisions();
+            frameProfiler.phase(FramePhase.SYNC);
             collisionManager.syncEntityPositions(constants.PIXELS_TO_METERS());
+            refreshObstacleField();
         } else {
             LOGGER.warn("Not enough active bodies for physics simulation");
         }
+        endProfiledFrame();
 
         if (trashes.isEmpty()) {
             float remainingTime = timer.getRemainingTime();
@@ -0,0 +1,370 @@
+package project.game.application.scene.main;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import project.game.application.entity.npc.SeaTurtle;
+import project.game.application.entity.player.Boat;
+import project.game.application.movement.builder.PlayerMovementBuilder;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.application.scene.stress.StressConfig;
+import project.game.application.scene.stress.StressPopulation;
+import project.game.application.scene.stress.StressRamp;
+import project.game.engine.asset.management.CustomAssetManager;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.core.NPCMovementManager;
+import project.game.engine.entitysystem.movement.core.PlayerMovementManager;
+import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.profiling.FramePhase;
+import project.game.engine.scene.management.SceneManager;
+
+/**
+ * Scene that fills the ocean with thousands of trash, rocks and collector
+ * NPCs and grows them until frames exceed the budget, to find where the game
+ * stops scaling.
+ *
+ * Collectors are sea turtles covering every movement strategy, see
+ * {@link StressPopulation}. Counts grow as described in {@link StressRamp},
+ * timed by the scene's frame profiler; with vsync on, the time spent waiting
+ * for the display is not included. There is no timer or win condition, and
+ * collected trash is replaced. The result is logged and shown on screen once
+ * the ramp finishes.
+ *
+ * The scene is registered lazily, so it is only built when selected, and
+ * entities are spawned when it is first shown.
+ */
+public class StressScene extends AbstractGameScene {
+
+    private static final String BOAT_SPRITESHEET = "boat_sprites";
+    private static final String BOAT_ENTITY = "boat";
+    private static final String SEA_TURTLE_SPRITESHEET = "sea_turtle_sprites";
+    private static final String SEA_TURTLE_ENTITY = "sea_turtle";
+
+    private final StressConfig config;
+
+    // Assigned during create(), which runs in the base constructor, so these
+    // must not have initialisers
+    private Boat boat;
+    private PlayerMovementManager playerMovementManager;
+    private Texture boatSpritesheet;
+    private TextureRegion[] boatDirectionalSprites;
+    private TextureRegion[] collectorSprites;
+
+    private StressPopulation population;
+    private StressRamp ramp;
+    private boolean resultLogged;
+    private int livesLost;
+
+    // Reused every frame so the scene does not add to the garbage it measures
+    private final StringBuilder countsText = new StringBuilder();
+    private final StringBuilder statusText = new StringBuilder();
+    private int shownTrash = -1;
+    private int shownRocks = -1;
+    private int shownCollectors = -1;
+    private int shownSteps = -1;
+    private boolean shownFinished;
+
+    public StressScene(SceneManager sceneManager, SceneInputManager inputManager, StressConfig config) {
+        super(sceneManager, inputManager, 0);
+        this.config = config != null ? config : StressConfig.defaults();
+        setShowTimer(false);
+    }
+
+    @Override
+    public void show() {
+        super.show();
+        if (population == null) {
+            population = new StressPopulation.Builder()
+                    .withWorld(world, entityManager, collisionManager, entityFactoryManager)
+                    .withLists(existingEntities, rocks, trashes, trashMovementManagers)
+                    .withNavigation(obstacleField, pathfindingService, currentField, decisionScheduler)
+                    .withTiming(movementClock, movementLODPolicy)
+                    .withTarget(playerMovementManager.getMovableEntity())
+                    .withCollectorSprites(collectorSprites)
+                    .build();
+            ramp = new StressRamp(config);
+            LOGGER.info("Stress run: {0}", config.describe());
+            population.fillTo(ramp.getTargetTrash(), ramp.getTargetRocks(), ramp.getTargetCollectors());
+            frameProfiler.reset();
+        }
+    }
+
+    @Override
+    public void onEntityRemove(Entity entity) {
+        if (population != null) {
+            population.onEntityRemove(entity);
+        } else {
+            super.onEntityRemove(entity);
+        }
+    }
+
+    @Override
+    protected void initializeGameAssets() {
+        CustomAssetManager assetManager = CustomAssetManager.getInstance();
+
+        assetManager.loadTextureAssets("trash1.png");
+        assetManager.loadTextureAssets("trash2.png");
+        assetManager.loadTextureAssets("trash3.png");
+        assetManager.loadTextureAssets("steamboat.png");
+        assetManager.loadTextureAssets("seaturtle.png");
+        assetManager.loadTextureAssets("Rocks.png");
+        assetManager.loadTextureAssets("ocean_background.jpg");
+        assetManager.update();
+        assetManager.loadAndFinish();
+
+        backgroundTexture = assetManager.getAsset("ocean_background.jpg", Texture.class);
+
+        // Boat sprite sheet (7x7), same directions as the game scenes
+        boatSpritesheet = assetManager.getAsset("steamboat.png", Texture.class);
+        TextureRegion[] boatTextureRegions = assetManager.createSpriteSheet(BOAT_SPRITESHEET, "steamboat.png", 7, 7);
+        boatDirectionalSprites = new TextureRegion[8];
+        boatDirectionalSprites[Boat.DIRECTION_UP] = boatTextureRegions[0];
+        boatDirectionalSprites[Boat.DIRECTION_RIGHT] = boatTextureRegions[11];
+        boatDirectionalSprites[Boat.DIRECTION_DOWN] = boatTextureRegions[23];
+        boatDirectionalSprites[Boat.DIRECTION_LEFT] = boatTextureRegions[35];
+        boatDirectionalSprites[Boat.DIRECTION_UP_RIGHT] = boatTextureRegions[7];
+        boatDirectionalSprites[Boat.DIRECTION_DOWN_RIGHT] = boatTextureRegions[14];
+        boatDirectionalSprites[Boat.DIRECTION_DOWN_LEFT] = boatTextureRegions[28];
+        boatDirectionalSprites[Boat.DIRECTION_UP_LEFT] = boatTextureRegions[42];
+        assetManager.registerDirectionalSprites(BOAT_ENTITY, boatDirectionalSprites);
+
+        // Sea turtle sprite sheet (4x2), shared by all collectors
+        TextureRegion[] turtleRegions = assetManager.createSpriteSheet(SEA_TURTLE_SPRITESHEET, "seaturtle.png", 4, 2);
+        collectorSprites = new TextureRegion[8];
+        collectorSprites[SeaTurtle.DIRECTION_UP] = turtleRegions[7];
+        collectorSprites[SeaTurtle.DIRECTION_RIGHT] = turtleRegions[2];
+        collectorSprites[SeaTurtle.DIRECTION_DOWN] = turtleRegions[0];
+        collectorSprites[SeaTurtle.DIRECTION_LEFT] = turtleRegions[1];
+        collectorSprites[SeaTurtle.DIRECTION_UP_RIGHT] = turtleRegions[5];
+        collectorSprites[SeaTurtle.DIRECTION_DOWN_RIGHT] = turtleRegions[3];
+        collectorSprites[SeaTurtle.DIRECTION_DOWN_LEFT] = turtleRegions[4];
+        collectorSprites[SeaTurtle.DIRECTION_UP_LEFT] = turtleRegions[6];
+        assetManager.registerDirectionalSprites(SEA_TURTLE_ENTITY, collectorSprites);
+
+        rockImage = assetManager.getAsset("Rocks.png", Texture.class);
+        rockRegions = assetManager.createSpriteSheet(ROCK_SPRITESHEET, "Rocks.png", 3, 3);
+
+        trashTextures = new Texture[3];
+        trashRegions = new TextureRegion[3];
+        String[] trashPaths = { "trash1.png", "trash2.png", "trash3.png" };
+        for (int i = 0; i < trashPaths.length; i++) {
+            trashTextures[i] = assetManager.getAsset(trashPaths[i], Texture.class);
+            trashRegions[i] = new TextureRegion(trashTextures[i]);
+        }
+        trashImage = trashTextures[0];
+
+        LOGGER.info("Stress scene assets initialized successfully");
+    }
+
+    @Override
+    protected void createMainCharacter() {
+        Entity boatEntity = new Entity(
+                constants.PLAYER_START_X(),
+                constants.PLAYER_START_Y(),
+                constants.PLAYER_WIDTH(),
+                constants.PLAYER_HEIGHT(),
+                true);
+
+        playerMovementManager = new PlayerMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(boatEntity)
+                .setSpeed(constants.PLAYER_SPEED())
+                .setInitialVelocity(0, 0)
+                .setLenientMode(true)
+                .withConstantMovement()
+                .withTickClock(movementClock)
+                .build();
+
+        boat = new Boat(boatEntity, world, playerMovementManager, boatDirectionalSprites);
+        boat.setCollisionManager(collisionManager);
+        // The boat cannot die here; hits are only counted
+        boat.setLifeLossCallback(() -> livesLost++);
+
+        entityManager.addSpriteEntity(boat);
+        collisionManager.addEntity(boat, playerMovementManager);
+        existingEntities.add(boatEntity);
+    }
+
+    @Override
+    protected void createSeaTurtle() {
+        // Collectors are spawned by the stress population
+    }
+
+    @Override
+    protected void createRocks() {
+        // Rocks are spawned by the stress population
+    }
+
+    @Override
+    protected void createTrash() {
+        // Trash is spawned by the stress population
+    }
+
+    @Override
+    public void render(float deltaTime) {
+        frameProfiler.beginFrame();
+        frameProfiler.phase(FramePhase.INPUT);
+        input();
+
+        frameProfiler.phase(FramePhase.MOVEMENT);
+        try {
+            // Replace trash collected last frame
+            population.fillTo(ramp.getTargetTrash(), ramp.getTargetRocks(), ramp.getTargetCollectors());
+
+            advanceMovementClock(deltaTime);
+            beginMovementLODFrame(boat.getEntity().getX(), boat.getEntity().getY());
+            updateDecisions(deltaTime);
+
+            playerMovementManager.updateMovement();
+            population.updateCollectors();
+            for (NPCMovementManager trashManager : trashMovementManagers) {
+                trashManager.updateMovement();
+            }
+            applyTrashSeparation(deltaTime);
+
+            collisionManager.updateGame(constants.GAME_WIDTH(), constants.GAME_HEIGHT(),
+                    constants.PIXELS_TO_METERS());
+        } catch (Exception e) {
+            LOGGER.error("Exception during stress update: {0}", e.getMessage());
+        }
+
+        frameProfiler.phase(FramePhase.DRAW);
+        draw();
+
+        frameProfiler.phase(FramePhase.PHYSICS_STEP);
+        int activeBodyCount = countActiveBodies();
+
+        if (activeBodyCount > 1) {
+            collisionManager.stepWorld(1.0f / 60.0f, 6, 2);
+
+            frameProfiler.phase(FramePhase.REMOVALS);
+            collisionManager.processRemovalQueue();
+            frameProfiler.phase(FramePhase.CONTACTS);
+            collisionManager.processCollisions();
+            frameProfiler.phase(FramePhase.SYNC);
+            collisionManager.syncEntityPositions(constants.PIXELS_TO_METERS());
+            refreshObstacleField();
+        }
+        endProfiledFrame();
+
+        advanceRamp();
+    }
+
+    /**
+     * Feeds the frame that just ended to the ramp, and spawns the next step's
+     * entities when it grows.
+     */
+    private void advanceRamp() {
+        if (ramp.recordFrame(frameProfiler.getLastFrameNanos())) {
+            StressRamp.Step last = ramp.getSteps().get(ramp.getSteps().size() - 1);
+            LOGGER.info("Stress step sustained: {0}", last);
+            population.fillTo(ramp.getTargetTrash(), ramp.getTargetRocks(), ramp.getTargetCollectors());
+        } else if (ramp.isFinished() && !resultLogged) {
+            resultLogged = true;
+            LOGGER.info("Stress run finished ({0} boat hits, {1} collector hits, {2} trash collected):\n{3}",
+                    livesLost, population.getCollectorHits(), population.getTrashCollected(), ramp.report());
+        }
+    }
+
+    @Override
+    protected void draw() {
+        batch.begin();
+        batch.draw(backgroundTexture, 0, 0, constants.GAME_WIDTH(), constants.GAME_HEIGHT());
+        batch.end();
+        frameProfiler.addRenderCalls(batch.renderCalls);
+
+        batch.begin();
+        entityManager.draw(batch);
+
+        float top = sceneUIManager.getStage().getHeight();
+        updateHudText();
+        upheavalFont.draw(batch, countsText, 50, top - 30);
+        if (statusText.length() > 0) {
+            upheavalFont.draw(batch, statusText, 50, top - 60);
+        }
+
+        batch.end();
+        frameProfiler.addRenderCalls(batch.renderCalls);
+
+        drawStage();
+    }
+
+    /**
+     * Rebuilds the HUD lines only when the counts or ramp state they show
+     * have changed.
+     */
+    private void updateHudText() {
+        int trash = population.getTrashCount();
+        int rocks = population.getRockCount();
+        int collectors = population.getCollectorCount();
+        if (trash != shownTrash || rocks != shownRocks || collectors != shownCollectors) {
+            shownTrash = trash;
+            shownRocks = rocks;
+            shownCollectors = collectors;
+            countsText.setLength(0);
+            countsText.append("Stress: ").append(population.getEntityCount()).append(" entities (")
+                    .append(trash).append(" trash, ").append(rocks).append(" rocks, ")
+                    .append(collectors).append(" collectors)");
+        }
+
+        int steps = ramp.getSteps().size();
+        boolean finished = ramp.isFinished();
+        if (steps == shownSteps && finished == shownFinished) {
+            return;
+        }
+        shownSteps = steps;
+        shownFinished = finished;
+        statusText.setLength(0);
+        if (finished) {
+            int max = ramp.getMaxSustainableEntities();
+            if (max >= 0) {
+                statusText.append("Max sustainable: ").append(max).append(" entities");
+            } else {
+                statusText.append("Over budget from the start");
+            }
+        } else if (steps > 0) {
+            StressRamp.Step last = ramp.getSteps().get(steps - 1);
+            statusText.append("Last step: ");
+            appendMillis(statusText, last.getAverageMillis());
+            statusText.append(" ms avg, budget ");
+            appendMillis(statusText, config.getFrameBudgetMillis());
+            statusText.append(" ms");
+        }
+    }
+
+    /**
+     * Appends a value with two decimals, as "%.2f" would.
+     */
+    private static void appendMillis(StringBuilder builder, double millis) {
+        long hundredths = Math.round(millis * 100);
+        builder.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+
+    @Override
+    public void dispose() {
+        if (population != null) {
+            population.dispose();
+        }
+        super.dispose();
+
+        if (boatSpritesheet != null) {
+            boatSpritesheet.dispose();
+        }
+
+        if (boat != null) {
+            if (boat.getBody() != null) {
+                world.destroyBody(boat.getBody());
+            }
+            entityManager.removeSpriteEntity(boat);
+            boat = null;
+        }
+    }
+
+    public StressRamp getRamp() {
+        return ramp;
+    }
+}
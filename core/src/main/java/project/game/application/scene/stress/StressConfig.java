@@ -0,0 +1,232 @@
+package project.game.application.scene.stress;
+
+/**
+ * Entity counts and frame-time budget for a stress run.
+ *
+ * A run starts with the initial counts and grows each count by its step until
+ * frames exceed the budget or the total reaches the maximum; see
+ * {@link StressRamp}.
+ *
+ * The same options are accepted by the desktop launcher and the headless
+ * scene runner, see {@link Builder#parseOption(String)}.
+ */
+public class StressConfig {
+
+    /** Prefix shared by all stress options. */
+    public static final String OPTION_PREFIX = "--stress-";
+
+    private final int initialTrash;
+    private final int initialRocks;
+    private final int initialCollectors;
+    private final int trashStep;
+    private final int rockStep;
+    private final int collectorStep;
+    private final int maxEntities;
+    private final double frameBudgetMillis;
+    private final int settleFrames;
+    private final int measureFrames;
+
+    private StressConfig(Builder builder) {
+        this.initialTrash = builder.initialTrash;
+        this.initialRocks = builder.initialRocks;
+        this.initialCollectors = builder.initialCollectors;
+        this.trashStep = builder.trashStep;
+        this.rockStep = builder.rockStep;
+        this.collectorStep = builder.collectorStep;
+        this.maxEntities = builder.maxEntities;
+        this.frameBudgetMillis = builder.frameBudgetMillis;
+        this.settleFrames = builder.settleFrames;
+        this.measureFrames = builder.measureFrames;
+    }
+
+    /**
+     * The configuration used when no options are given.
+     */
+    public static StressConfig defaults() {
+        return new Builder().build();
+    }
+
+    public int getInitialTrash() {
+        return initialTrash;
+    }
+
+    public int getInitialRocks() {
+        return initialRocks;
+    }
+
+    public int getInitialCollectors() {
+        return initialCollectors;
+    }
+
+    public int getTrashStep() {
+        return trashStep;
+    }
+
+    public int getRockStep() {
+        return rockStep;
+    }
+
+    public int getCollectorStep() {
+        return collectorStep;
+    }
+
+    public int getMaxEntities() {
+        return maxEntities;
+    }
+
+    public double getFrameBudgetMillis() {
+        return frameBudgetMillis;
+    }
+
+    public int getSettleFrames() {
+        return settleFrames;
+    }
+
+    public int getMeasureFrames() {
+        return measureFrames;
+    }
+
+    public String describe() {
+        return initialTrash + " trash, " + initialRocks + " rocks, " + initialCollectors
+                + " collectors, growing by " + trashStep + "/" + rockStep + "/" + collectorStep
+                + " per step up to " + maxEntities + " entities, " + frameBudgetMillis + " ms budget";
+    }
+
+    public static class Builder {
+        private int initialTrash = 1000;
+        private int initialRocks = 20;
+        private int initialCollectors = 30;
+        private int trashStep = 500;
+        private int rockStep = 10;
+        private int collectorStep = 15;
+        private int maxEntities = 20000;
+        private double frameBudgetMillis = 1000.0 / 60.0;
+        private int settleFrames = 60;
+        private int measureFrames = 120;
+
+        public Builder withInitialCounts(int trash, int rocks, int collectors) {
+            if (trash < 0 || rocks < 0 || collectors < 0) {
+                throw new IllegalArgumentException("Initial counts must be non-negative");
+            }
+            this.initialTrash = trash;
+            this.initialRocks = rocks;
+            this.initialCollectors = collectors;
+            return this;
+        }
+
+        public Builder withSteps(int trash, int rocks, int collectors) {
+            if (trash < 0 || rocks < 0 || collectors < 0) {
+                throw new IllegalArgumentException("Steps must be non-negative");
+            }
+            this.trashStep = trash;
+            this.rockStep = rocks;
+            this.collectorStep = collectors;
+            return this;
+        }
+
+        public Builder withMaxEntities(int maxEntities) {
+            if (maxEntities <= 0) {
+                throw new IllegalArgumentException("Maximum entity count must be positive");
+            }
+            this.maxEntities = maxEntities;
+            return this;
+        }
+
+        public Builder withFrameBudgetMillis(double frameBudgetMillis) {
+            if (!(frameBudgetMillis > 0)) {
+                throw new IllegalArgumentException("Frame budget must be positive");
+            }
+            this.frameBudgetMillis = frameBudgetMillis;
+            return this;
+        }
+
+        /**
+         * Sets how many frames are skipped after each step, while new
+         * entities settle, and how many frames are then averaged.
+         */
+        public Builder withFrames(int settleFrames, int measureFrames) {
+            if (settleFrames < 0 || measureFrames <= 0) {
+                throw new IllegalArgumentException("Settle frames must be non-negative and measure frames positive");
+            }
+            this.settleFrames = settleFrames;
+            this.measureFrames = measureFrames;
+            return this;
+        }
+
+        /**
+         * Applies a {@code --stress-<name>=<value>} option:
+         * <ul>
+         * <li>{@code trash}, {@code rocks}, {@code collectors}: initial
+         * counts</li>
+         * <li>{@code trash-step}, {@code rocks-step},
+         * {@code collectors-step}: growth per step</li>
+         * <li>{@code max}: total entity count at which the ramp stops</li>
+         * <li>{@code budget-ms}: frame-time budget in milliseconds</li>
+         * <li>{@code settle}, {@code measure}: frames skipped and averaged per
+         * step</li>
+         * </ul>
+         *
+         * @param arg A command line argument
+         * @return false if the argument is not a stress option
+         * @throws IllegalArgumentException if it is a stress option but
+         *                                  unknown or malformed
+         */
+        public boolean parseOption(String arg) {
+            if (!arg.startsWith(OPTION_PREFIX)) {
+                return false;
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            String name = arg.substring(OPTION_PREFIX.length(), equals);
+            String value = arg.substring(equals + 1);
+            try {
+                switch (name) {
+                    case "trash":
+                        withInitialCounts(Integer.parseInt(value), initialRocks, initialCollectors);
+                        break;
+                    case "rocks":
+                        withInitialCounts(initialTrash, Integer.parseInt(value), initialCollectors);
+                        break;
+                    case "collectors":
+                        withInitialCounts(initialTrash, initialRocks, Integer.parseInt(value));
+                        break;
+                    case "trash-step":
+                        withSteps(Integer.parseInt(value), rockStep, collectorStep);
+                        break;
+                    case "rocks-step":
+                        withSteps(trashStep, Integer.parseInt(value), collectorStep);
+                        break;
+                    case "collectors-step":
+                        withSteps(trashStep, rockStep, Integer.parseInt(value));
+                        break;
+                    case "max":
+                        withMaxEntities(Integer.parseInt(value));
+                        break;
+                    case "budget-ms":
+                        withFrameBudgetMillis(Double.parseDouble(value));
+                        break;
+                    case "settle":
+                        withFrames(Integer.parseInt(value), measureFrames);
+                        break;
+                    case "measure":
+                        withFrames(settleFrames, Integer.parseInt(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for " + OPTION_PREFIX + name + ": " + value);
+            }
+            return true;
+        }
+
+        public StressConfig build() {
+            if (trashStep + rockStep + collectorStep == 0) {
+                throw new IllegalStateException("At least one step must be positive");
+            }
+            return new StressConfig(this);
+        }
+    }
+}
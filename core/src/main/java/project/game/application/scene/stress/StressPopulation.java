@@ -0,0 +1,471 @@
+package project.game.application.scene.stress;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.physics.box2d.World;
+
+import project.game.application.entity.api.IEntityRemovalListener;
+import project.game.application.entity.factory.EntityFactoryManager;
+import project.game.application.entity.item.Trash;
+import project.game.application.entity.npc.SeaTurtle;
+import project.game.application.entity.obstacle.Rock;
+import project.game.application.movement.builder.NPCMovementBuilder;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.application.movement.navigation.ObstacleDistanceField;
+import project.game.application.movement.navigation.OceanCurrentField;
+import project.game.application.movement.navigation.PathfindingService;
+import project.game.common.config.api.IGameConstants;
+import project.game.common.config.factory.GameConstantsFactory;
+import project.game.common.logging.core.GameLogger;
+import project.game.common.util.math.RandomProvider;
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.entity.management.EntityManager;
+import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.core.NPCMovementManager;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
+import project.game.engine.entitysystem.movement.management.MovementLODPolicy;
+import project.game.engine.entitysystem.movement.management.SimulationClock;
+import project.game.engine.entitysystem.physics.management.CollisionManager;
+
+/**
+ * Spawns and tracks the trash, rocks and collector NPCs of a stress scene.
+ *
+ * Trash, rocks and the movement managers of trash are added to the owning
+ * scene's lists, so its usual update and dispose code covers them. Collectors
+ * are sea turtles, kept in their own list; each gets the next
+ * {@link CollectorMovement} in turn so every movement strategy is exercised.
+ *
+ * Collected trash is removed through {@link #onEntityRemove(Entity)} and
+ * replaced by the next {@link #fillTo(int, int, int)}, so counts stay at
+ * their targets. The obstacle field is rebuilt whenever rocks are added;
+ * pathfinding keeps the grid it was built with.
+ */
+public class StressPopulation implements IEntityRemovalListener {
+
+    private static final GameLogger LOGGER = new GameLogger(StressPopulation.class);
+
+    /**
+     * Placement tries per entity. Crowded scenes would otherwise spend most
+     * of a spawn checking overlaps with every existing entity.
+     */
+    private static final int PLACEMENT_RETRIES = 3;
+
+    /**
+     * The movement given to collectors, assigned in declaration order.
+     */
+    public enum CollectorMovement {
+        TRASH_COLLECTOR,
+        PATH_FOLLOWING,
+        CONSTANT,
+        ACCELERATED,
+        ZIGZAG,
+        FOLLOW,
+        SPRING_FOLLOW,
+        SPIRAL,
+        ORBITAL,
+        INTERCEPTOR,
+        OBSTACLE_AVOIDANCE,
+        RANDOMISED,
+        OCEAN_CURRENT,
+        CURRENT_DRIFT,
+        COMPOSITE
+    }
+
+    private final IGameConstants constants;
+    private final World world;
+    private final EntityManager entityManager;
+    private final CollisionManager collisionManager;
+    private final EntityFactoryManager entityFactoryManager;
+    private final List<Entity> existingEntities;
+    private final List<Rock> rocks;
+    private final List<Trash> trashes;
+    private final List<NPCMovementManager> trashMovementManagers;
+    private final ObstacleDistanceField obstacleField;
+    private final PathfindingService pathfindingService;
+    private final OceanCurrentField currentField;
+    private final AIDecisionScheduler decisionScheduler;
+    private final SimulationClock movementClock;
+    private final MovementLODPolicy movementLODPolicy;
+    private final IMovable target;
+    private final TextureRegion[] collectorSprites;
+    private final RandomStream random;
+
+    private final List<Entity> rockEntities = new ArrayList<>();
+    private final Map<Entity, Trash> trashByEntity = new IdentityHashMap<>();
+    private final List<SeaTurtle> collectors = new ArrayList<>();
+    private final List<NPCMovementManager> collectorMovementManagers = new ArrayList<>();
+    private final int[] collectorsByMovement = new int[CollectorMovement.values().length];
+
+    private int trashCollected;
+    private int collectorHits;
+
+    private StressPopulation(Builder builder) {
+        this.constants = GameConstantsFactory.getConstants();
+        this.world = builder.world;
+        this.entityManager = builder.entityManager;
+        this.collisionManager = builder.collisionManager;
+        this.entityFactoryManager = builder.entityFactoryManager;
+        this.existingEntities = builder.existingEntities;
+        this.rocks = builder.rocks;
+        this.trashes = builder.trashes;
+        this.trashMovementManagers = builder.trashMovementManagers;
+        this.obstacleField = builder.obstacleField;
+        this.pathfindingService = builder.pathfindingService;
+        this.currentField = builder.currentField;
+        this.decisionScheduler = builder.decisionScheduler;
+        this.movementClock = builder.movementClock;
+        this.movementLODPolicy = builder.movementLODPolicy;
+        this.target = builder.target;
+        this.collectorSprites = builder.collectorSprites;
+        this.random = RandomProvider.getInstance().nextStream();
+
+        entityFactoryManager.setMaxPlacementRetries(PLACEMENT_RETRIES);
+        for (Rock rock : rocks) {
+            rockEntities.add(rock.getEntity());
+        }
+        for (Trash trash : trashes) {
+            trashByEntity.put(trash.getEntity(), trash);
+        }
+    }
+
+    /**
+     * Spawns whatever is missing to reach the given counts. Nothing is
+     * removed when a count is already higher.
+     *
+     * @return The number of entities spawned
+     */
+    public int fillTo(int trashCount, int rockCount, int collectorCount) {
+        int spawned = 0;
+        int rocksBefore = rocks.size();
+        while (rocks.size() < rockCount) {
+            addRock();
+            spawned++;
+        }
+        if (rocks.size() != rocksBefore && obstacleField != null) {
+            obstacleField.build(rockEntities);
+        }
+        while (trashes.size() < trashCount) {
+            if (!addTrash()) {
+                break;
+            }
+            spawned++;
+        }
+        while (collectors.size() < collectorCount) {
+            addCollector();
+            spawned++;
+        }
+        return spawned;
+    }
+
+    /**
+     * Updates the collectors' movement. Trash and rocks are updated by the
+     * owning scene.
+     */
+    public void updateCollectors() {
+        for (NPCMovementManager collectorManager : collectorMovementManagers) {
+            collectorManager.updateMovement();
+        }
+    }
+
+    @Override
+    public void onEntityRemove(Entity entity) {
+        if (entity == null) {
+            return;
+        }
+        existingEntities.remove(entity);
+        entity.removeFromManager(entityManager);
+
+        Trash trash = trashByEntity.remove(entity);
+        if (trash != null) {
+            NPCMovementManager trashManager = trash.getMovementManager();
+            if (trashManager != null) {
+                trashMovementManagers.remove(trashManager);
+                trashManager.dispose();
+            }
+            trashes.remove(trash);
+            trashCollected++;
+        }
+    }
+
+    /**
+     * Destroys the collectors' bodies and cancels their scheduled decisions.
+     * Trash and rocks are disposed of with the owning scene's lists.
+     */
+    public void dispose() {
+        for (NPCMovementManager collectorManager : collectorMovementManagers) {
+            collectorManager.dispose();
+        }
+        for (SeaTurtle collector : collectors) {
+            if (collector.getBody() != null) {
+                world.destroyBody(collector.getBody());
+            }
+            entityManager.removeSpriteEntity(collector);
+            existingEntities.remove(collector.getEntity());
+        }
+        collectors.clear();
+        collectorMovementManagers.clear();
+    }
+
+    public int getEntityCount() {
+        return trashes.size() + rocks.size() + collectors.size();
+    }
+
+    public int getTrashCount() {
+        return trashes.size();
+    }
+
+    public int getRockCount() {
+        return rocks.size();
+    }
+
+    public int getCollectorCount() {
+        return collectors.size();
+    }
+
+    /**
+     * Number of collectors moving with the given strategy.
+     */
+    public int getCollectorCount(CollectorMovement movement) {
+        return collectorsByMovement[movement.ordinal()];
+    }
+
+    public int getTrashCollected() {
+        return trashCollected;
+    }
+
+    /**
+     * Number of times a collector hit the player.
+     */
+    public int getCollectorHits() {
+        return collectorHits;
+    }
+
+    private void addRock() {
+        Rock rock = entityFactoryManager.createRock();
+        rocks.add(rock);
+        rockEntities.add(rock.getEntity());
+        entityManager.addSpriteEntity(rock);
+        collisionManager.addEntity(rock, null);
+        existingEntities.add(rock.getEntity());
+    }
+
+    private boolean addTrash() {
+        Trash trash = entityFactoryManager.createTrash();
+        if (trash == null) {
+            return false;
+        }
+        trashes.add(trash);
+        trashByEntity.put(trash.getEntity(), trash);
+        entityManager.addSpriteEntity(trash);
+
+        NPCMovementManager trashMovementManager = trash.getMovementManager();
+        if (trashMovementManager != null) {
+            trashMovementManager.setLODPolicy(movementLODPolicy);
+            trashMovementManager.setTickClock(movementClock);
+            trashMovementManagers.add(trashMovementManager);
+            collisionManager.addEntity(trash, trashMovementManager);
+        }
+
+        existingEntities.add(trash.getEntity());
+        return true;
+    }
+
+    private void addCollector() {
+        CollectorMovement movement = CollectorMovement.values()[collectors.size()
+                % CollectorMovement.values().length];
+        float width = constants.SEA_TURTLE_WIDTH();
+        float height = constants.SEA_TURTLE_HEIGHT();
+        Entity entity = new Entity(
+                random.nextFloat() * (constants.GAME_WIDTH() - width),
+                random.nextFloat() * (constants.GAME_HEIGHT() - height),
+                width,
+                height,
+                true);
+
+        NPCMovementManager movementManager = createCollectorMovement(entity, movement);
+        SeaTurtle collector = new SeaTurtle(entity, world, movementManager, collectorSprites);
+        collector.setEntityRemovalListener(this);
+        collector.setCollisionManager(collisionManager);
+        collector.setHealthCallback(() -> collectorHits++);
+
+        collectors.add(collector);
+        collectorMovementManagers.add(movementManager);
+        collectorsByMovement[movement.ordinal()]++;
+        entityManager.addSpriteEntity(collector);
+        collisionManager.addEntity(collector, movementManager);
+        existingEntities.add(entity);
+    }
+
+    private NPCMovementManager createCollectorMovement(Entity entity, CollectorMovement movement) {
+        float speed = constants.NPC_SPEED();
+        float angle = random.nextFloat() * (float) (2 * Math.PI);
+        MovementStrategyFactory factory = MovementStrategyFactory.getInstance();
+        NPCMovementBuilder builder = new NPCMovementBuilder(factory)
+                .withEntity(entity)
+                .setSpeed(speed)
+                .setInitialVelocity((float) Math.cos(angle), (float) Math.sin(angle))
+                .setLenientMode(true)
+                .withTickClock(movementClock);
+
+        switch (movement) {
+            case TRASH_COLLECTOR:
+                builder.withTrashCollector(trashes, rockEntities, new float[] { 0.40f, 0.60f })
+                        .withObstacleField(obstacleField)
+                        .withDecisionScheduler(decisionScheduler)
+                        .withPathfinding(pathfindingService)
+                        .withStrategyFlattening(true);
+                break;
+            case PATH_FOLLOWING:
+                builder.withPathFollowing(trashes, pathfindingService)
+                        .withDecisionScheduler(decisionScheduler);
+                break;
+            case CONSTANT:
+                builder.withConstantMovement();
+                break;
+            case ACCELERATED: {
+                List<IMovementStrategy> additional = new ArrayList<>();
+                additional.add(factory.createZigZagMovement(speed, 40f, 1.5f, true));
+                builder.withCompositeMovement(factory.createAcceleratedMovement(200f, 100f, speed, true),
+                        additional, new float[] { 0.7f, 0.3f });
+                break;
+            }
+            case ZIGZAG:
+                builder.withZigZagMovement(40f, 1.5f);
+                break;
+            case FOLLOW:
+                builder.withFollowMovement(target);
+                break;
+            case SPRING_FOLLOW:
+                builder.withSpringFollow(target, 2f, 1.5f);
+                break;
+            case SPIRAL:
+                builder.withSpiralApproach(target, 0.5f, 20f);
+                break;
+            case ORBITAL:
+                builder.withOrbitalMovement(target, 150f + random.nextFloat() * 200f, 1f, 0.2f);
+                break;
+            case INTERCEPTOR:
+                builder.withInterceptorMovement(target);
+                break;
+            case OBSTACLE_AVOIDANCE:
+                builder.withInterceptorAndObstacleAvoidance(target, rockEntities)
+                        .withObstacleField(obstacleField);
+                break;
+            case RANDOMISED: {
+                List<IMovementStrategy> pool = new ArrayList<>();
+                pool.add(factory.createConstantMovement(speed, true));
+                pool.add(factory.createZigZagMovement(speed, 40f, 1.5f, true));
+                pool.add(factory.createFollowMovement(target, speed, true));
+                builder.withRandomisedMovement(pool, 0.5f, 2f);
+                break;
+            }
+            case OCEAN_CURRENT:
+                builder.withOceanCurrentMovement(60f, 40f, 30f, 1.5f, 0.7f, 0.3f);
+                break;
+            case CURRENT_DRIFT:
+                builder.withCurrentDrift(currentField, 1f);
+                break;
+            case COMPOSITE: {
+                List<IMovementStrategy> additional = new ArrayList<>();
+                additional.add(factory.createZigZagMovement(speed, 40f, 1.5f, true));
+                additional.add(factory.createFollowMovement(target, speed, true));
+                builder.withCompositeMovement(factory.createConstantMovement(speed, true), additional,
+                        new float[] { 0.5f, 0.3f, 0.2f });
+                break;
+            }
+            default:
+                LOGGER.warn("No stress movement for {0}, using constant movement", movement);
+                builder.withConstantMovement();
+                break;
+        }
+        return builder.build();
+    }
+
+    public static class Builder {
+        private World world;
+        private EntityManager entityManager;
+        private CollisionManager collisionManager;
+        private EntityFactoryManager entityFactoryManager;
+        private List<Entity> existingEntities;
+        private List<Rock> rocks;
+        private List<Trash> trashes;
+        private List<NPCMovementManager> trashMovementManagers;
+        private ObstacleDistanceField obstacleField;
+        private PathfindingService pathfindingService;
+        private OceanCurrentField currentField;
+        private AIDecisionScheduler decisionScheduler;
+        private SimulationClock movementClock;
+        private MovementLODPolicy movementLODPolicy;
+        private IMovable target;
+        private TextureRegion[] collectorSprites;
+
+        public Builder withWorld(World world, EntityManager entityManager, CollisionManager collisionManager,
+                EntityFactoryManager entityFactoryManager) {
+            this.world = world;
+            this.entityManager = entityManager;
+            this.collisionManager = collisionManager;
+            this.entityFactoryManager = entityFactoryManager;
+            return this;
+        }
+
+        /**
+         * Sets the scene's lists that spawned entities are added to.
+         */
+        public Builder withLists(List<Entity> existingEntities, List<Rock> rocks, List<Trash> trashes,
+                List<NPCMovementManager> trashMovementManagers) {
+            this.existingEntities = existingEntities;
+            this.rocks = rocks;
+            this.trashes = trashes;
+            this.trashMovementManagers = trashMovementManagers;
+            return this;
+        }
+
+        public Builder withNavigation(ObstacleDistanceField obstacleField, PathfindingService pathfindingService,
+                OceanCurrentField currentField, AIDecisionScheduler decisionScheduler) {
+            this.obstacleField = obstacleField;
+            this.pathfindingService = pathfindingService;
+            this.currentField = currentField;
+            this.decisionScheduler = decisionScheduler;
+            return this;
+        }
+
+        public Builder withTiming(SimulationClock movementClock, MovementLODPolicy movementLODPolicy) {
+            this.movementClock = movementClock;
+            this.movementLODPolicy = movementLODPolicy;
+            return this;
+        }
+
+        /**
+         * Sets what following, orbiting and intercepting collectors chase,
+         * usually the player.
+         */
+        public Builder withTarget(IMovable target) {
+            this.target = target;
+            return this;
+        }
+
+        public Builder withCollectorSprites(TextureRegion[] collectorSprites) {
+            this.collectorSprites = collectorSprites;
+            return this;
+        }
+
+        public StressPopulation build() {
+            if (world == null || entityManager == null || collisionManager == null || entityFactoryManager == null) {
+                throw new IllegalStateException("World, entity, collision and factory managers must be set");
+            }
+            if (existingEntities == null || rocks == null || trashes == null || trashMovementManagers == null) {
+                throw new IllegalStateException("Entity lists must be set");
+            }
+            if (movementClock == null || target == null || collectorSprites == null) {
+                throw new IllegalStateException("Movement clock, target and collector sprites must be set");
+            }
+            return new StressPopulation(this);
+        }
+    }
+}
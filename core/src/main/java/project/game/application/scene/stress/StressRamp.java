@@ -0,0 +1,215 @@
+package project.game.application.scene.stress;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Grows a stress scene's entity counts step by step until frames take longer
+ * than the budget.
+ *
+ * Each step skips the configured number of settle frames, while new entities
+ * spawn and collide their way apart, then averages the frame time over the
+ * measure frames. A step whose average is within budget is sustainable and
+ * the counts grow by their steps; the first step over budget, or reaching the
+ * maximum entity count, finishes the ramp. The maximum sustainable count is
+ * the total of the last step within budget.
+ */
+public class StressRamp {
+
+    private final StressConfig config;
+    private final List<Step> steps = new ArrayList<>();
+
+    private int targetTrash;
+    private int targetRocks;
+    private int targetCollectors;
+    private int framesInStep;
+    private long measuredNanos;
+    private long maxMeasuredNanos;
+    private int maxSustainableEntities = -1;
+    private boolean finished;
+    private boolean capped;
+
+    public StressRamp(StressConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Stress configuration cannot be null");
+        }
+        this.config = config;
+        this.targetTrash = config.getInitialTrash();
+        this.targetRocks = config.getInitialRocks();
+        this.targetCollectors = config.getInitialCollectors();
+        if (getTargetEntities() > config.getMaxEntities()) {
+            throw new IllegalArgumentException("Initial counts exceed the maximum of " + config.getMaxEntities());
+        }
+    }
+
+    /**
+     * Records the duration of a frame run with the current targets.
+     *
+     * @param frameNanos Time taken by the frame
+     * @return true if the step ended and the targets grew, so more entities
+     *         should be spawned
+     */
+    public boolean recordFrame(long frameNanos) {
+        if (finished) {
+            return false;
+        }
+        framesInStep++;
+        if (framesInStep <= config.getSettleFrames()) {
+            return false;
+        }
+        measuredNanos += frameNanos;
+        maxMeasuredNanos = Math.max(maxMeasuredNanos, frameNanos);
+        if (framesInStep < config.getSettleFrames() + config.getMeasureFrames()) {
+            return false;
+        }
+
+        double averageMillis = measuredNanos / 1e6 / config.getMeasureFrames();
+        boolean sustained = averageMillis <= config.getFrameBudgetMillis();
+        steps.add(new Step(targetTrash, targetRocks, targetCollectors, averageMillis, maxMeasuredNanos / 1e6,
+                sustained));
+        framesInStep = 0;
+        measuredNanos = 0;
+        maxMeasuredNanos = 0;
+
+        if (!sustained) {
+            finished = true;
+            return false;
+        }
+        maxSustainableEntities = getTargetEntities();
+        int next = maxSustainableEntities + config.getTrashStep() + config.getRockStep() + config.getCollectorStep();
+        if (next > config.getMaxEntities()) {
+            finished = true;
+            capped = true;
+            return false;
+        }
+        targetTrash += config.getTrashStep();
+        targetRocks += config.getRockStep();
+        targetCollectors += config.getCollectorStep();
+        return true;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Whether the ramp stopped at the maximum entity count rather than the
+     * budget, so the true limit is higher.
+     */
+    public boolean isCapped() {
+        return capped;
+    }
+
+    /**
+     * Total entity count of the last step within budget, or -1 if no step
+     * was.
+     */
+    public int getMaxSustainableEntities() {
+        return maxSustainableEntities;
+    }
+
+    public int getTargetTrash() {
+        return targetTrash;
+    }
+
+    public int getTargetRocks() {
+        return targetRocks;
+    }
+
+    public int getTargetCollectors() {
+        return targetCollectors;
+    }
+
+    public int getTargetEntities() {
+        return targetTrash + targetRocks + targetCollectors;
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public StressConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * One line per measured step followed by the result.
+     */
+    public String report() {
+        StringBuilder builder = new StringBuilder();
+        for (Step step : steps) {
+            builder.append(step).append('\n');
+        }
+        if (!finished) {
+            builder.append("Ramp not finished");
+        } else if (maxSustainableEntities < 0) {
+            builder.append("Initial counts already exceed the ")
+                    .append(String.format(Locale.ROOT, "%.2f", config.getFrameBudgetMillis())).append(" ms budget");
+        } else {
+            builder.append("Max sustainable: ").append(maxSustainableEntities).append(" entities");
+            if (capped) {
+                builder.append(" (stopped at the ").append(config.getMaxEntities()).append(" entity limit)");
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The counts and frame times of a measured step.
+     */
+    public static class Step {
+        private final int trash;
+        private final int rocks;
+        private final int collectors;
+        private final double averageMillis;
+        private final double maxMillis;
+        private final boolean sustained;
+
+        Step(int trash, int rocks, int collectors, double averageMillis, double maxMillis, boolean sustained) {
+            this.trash = trash;
+            this.rocks = rocks;
+            this.collectors = collectors;
+            this.averageMillis = averageMillis;
+            this.maxMillis = maxMillis;
+            this.sustained = sustained;
+        }
+
+        public int getEntities() {
+            return trash + rocks + collectors;
+        }
+
+        public int getTrash() {
+            return trash;
+        }
+
+        public int getRocks() {
+            return rocks;
+        }
+
+        public int getCollectors() {
+            return collectors;
+        }
+
+        public double getAverageMillis() {
+            return averageMillis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public boolean isSustained() {
+            return sustained;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%6d entities (%d trash, %d rocks, %d collectors): %7.2f ms avg, %7.2f ms max%s",
+                    getEntities(), trash, rocks, collectors, averageMillis, maxMillis,
+                    sustained ? "" : "  over budget");
+        }
+    }
+}
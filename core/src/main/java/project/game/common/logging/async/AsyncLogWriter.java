@@ -0,0 +1,517 @@
+package project.game.common.logging.async;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import project.game.engine.logging.api.ILogManager;
+import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogRotationPolicy;
+import project.game.engine.logging.base.MessageTemplate;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
+
+/**
+ * Writes log lines from a background thread, so logging threads only copy an
+ * event into a ring buffer.
+ *
+ * The buffer is a fixed array of pre-sized event slots. Logging threads claim
+ * a slot with a compare-and-set on the claim sequence, fill it and publish it;
+ * no lock is taken. The writer thread formats published events in order,
+ * collects the bytes in a direct buffer and writes them to the log file's
+ * channel whenever the buffer fills or the ring runs empty. Lines are not
+ * forced to disk.
+ *
+ * Messages are formatted on the writer thread with cached
+ * {@link MessageTemplate}s, and arguments are formatted there too, so mutable arguments
+ * show their state at that time rather than when they were logged. Events
+ * with more than {@value #MAX_ARGS} arguments are formatted by the logging
+ * thread. What happens when the ring is full is set by the
+ * {@link LogOverflowPolicy}; dropped events are counted and reported in the
+ * log.
+ *
+ * With a {@link LogRotationPolicy}, the writer thread also switches files:
+ * when the current file is full or too old, it asks the log manager for a
+ * new one between two events, so no line is split across files and logging
+ * threads never wait for the switch.
+ */
+public class AsyncLogWriter implements Closeable {
+
+    /** Arguments a slot holds before the message is formatted up front. */
+    public static final int MAX_ARGS = 8;
+
+    private static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int BYTE_BUFFER_SIZE = 64 * 1024;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private volatile long written;
+
+    private final LogOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int sampleThreshold;
+    private final AtomicInteger sampleCounter = new AtomicInteger();
+    private final AtomicLong droppedSinceReport = new AtomicLong();
+    private final Counter droppedCounter;
+    private final Counter charsCounter;
+
+    private final LogRotationPolicy rotationPolicy;
+    private final ILogManager logManager;
+    // Only touched by the writer thread, and by close() once it has stopped
+    private FileChannel channel;
+    private long fileBytes;
+    private long fileOpenedMillis;
+    private final PrintStream console;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE);
+    private final StringBuilder line = new StringBuilder(256);
+    private final StringBuilder consoleText = new StringBuilder(4096);
+    private final ZoneId zone = ZoneId.systemDefault();
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedSecondText;
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * Opens the log file for appending and starts the writer thread.
+     *
+     * @param logFile        File the lines are appended to
+     * @param capacity       Number of event slots, rounded up to a power of
+     *                       two
+     * @param overflowPolicy What to do when the ring is full
+     * @param sampleRate     For {@link LogOverflowPolicy#SAMPLE}, keep one
+     *                       in this many events while the ring is nearly
+     *                       full
+     * @param console        Stream each line is echoed to, or null
+     * @throws IOException if the file cannot be opened
+     */
+    public AsyncLogWriter(Path logFile, int capacity, LogOverflowPolicy overflowPolicy, int sampleRate,
+            PrintStream console) throws IOException {
+        this(logFile, capacity, overflowPolicy, sampleRate, console, LogRotationPolicy.NONE, null);
+    }
+
+    /**
+     * Opens the log file for appending and starts the writer thread, which
+     * rotates files as the policy asks.
+     *
+     * @param rotationPolicy When to switch files
+     * @param logManager     Supplies the next file on rotation, and compresses
+     *                       and prunes the old ones
+     * @throws IOException if the file cannot be opened
+     * @see #AsyncLogWriter(Path, int, LogOverflowPolicy, int, PrintStream)
+     */
+    public AsyncLogWriter(Path logFile, int capacity, LogOverflowPolicy overflowPolicy, int sampleRate,
+            PrintStream console, LogRotationPolicy rotationPolicy, ILogManager logManager) throws IOException {
+        if (rotationPolicy == null) {
+            throw new IllegalArgumentException("Rotation policy cannot be null");
+        }
+        if (rotationPolicy.isEnabled() && logManager == null) {
+            throw new IllegalArgumentException("Rotation needs a log manager");
+        }
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null");
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive: " + sampleRate);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.sampleThreshold = size - size / 4;
+        this.droppedCounter = MetricsRegistry.getInstance().counter("log.async.dropped");
+        this.charsCounter = MetricsRegistry.getInstance().counter("log.chars");
+        MetricsRegistry.getInstance().gauge("log.async.backlog", () -> claimed.get() - consumed);
+
+        this.rotationPolicy = rotationPolicy;
+        this.logManager = logManager;
+        openChannel(logFile);
+        this.console = console;
+        this.thread = new Thread(this::runWriter, "async-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Enqueues a message that needs no formatting.
+     *
+     * @return false if the event was dropped
+     */
+    public boolean append(LogLevel level, String loggerName, String message, Throwable thrown) {
+        return append(level, loggerName, message, null, thrown);
+    }
+
+    /**
+     * Enqueues a message pattern and its arguments.
+     *
+     * @param args The arguments, or null if {@code format} is a finished
+     *             message
+     * @return false if the event was dropped
+     */
+    public boolean append(LogLevel level, String loggerName, String format, Object[] args, Throwable thrown) {
+        if (args != null && args.length > MAX_ARGS) {
+            format = MessageTemplate.of(format).format(args, args.length);
+            args = null;
+        }
+        long sequence = claim(level);
+        if (sequence < 0) {
+            countDropped();
+            return false;
+        }
+        Slot slot = fill(sequence, level, loggerName, format, thrown);
+        if (args == null) {
+            slot.argCount = -1;
+        } else {
+            System.arraycopy(args, 0, slot.args, 0, args.length);
+            slot.argCount = args.length;
+        }
+        published.lazySet((int) (sequence & mask), sequence);
+        return true;
+    }
+
+    /**
+     * Enqueues a message pattern and up to four arguments without an
+     * argument array.
+     *
+     * @param count Number of arguments used; the rest are ignored
+     * @return false if the event was dropped
+     */
+    public boolean append(LogLevel level, String loggerName, String format, int count, Object arg1, Object arg2,
+            Object arg3, Object arg4) {
+        long sequence = claim(level);
+        if (sequence < 0) {
+            countDropped();
+            return false;
+        }
+        Slot slot = fill(sequence, level, loggerName, format, null);
+        Object[] args = slot.args;
+        args[0] = arg1;
+        args[1] = arg2;
+        args[2] = arg3;
+        args[3] = arg4;
+        slot.argCount = count;
+        published.lazySet((int) (sequence & mask), sequence);
+        return true;
+    }
+
+    private Slot fill(long sequence, LogLevel level, String loggerName, String format, Throwable thrown) {
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.timestamp = System.currentTimeMillis();
+        slot.level = level;
+        slot.loggerName = loggerName;
+        slot.format = format;
+        slot.thrown = thrown;
+        return slot;
+    }
+
+    private void countDropped() {
+        droppedSinceReport.incrementAndGet();
+        droppedCounter.increment();
+    }
+
+    /**
+     * Claims the next slot, applying the overflow policy when the ring is
+     * full.
+     *
+     * @return The claimed sequence, or -1 if the event is dropped
+     */
+    private long claim(LogLevel level) {
+        boolean important = level.compareSeverity(LogLevel.WARN) >= 0;
+        boolean sampled = false;
+        while (true) {
+            long sequence = claimed.get();
+            long backlog = sequence - consumed;
+            if (backlog >= slots.length) {
+                // A writer thread that died would never free a slot
+                if (overflowPolicy != LogOverflowPolicy.BLOCK || !running || !thread.isAlive()
+                        || Thread.currentThread() == thread) {
+                    return -1;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                continue;
+            }
+            if (overflowPolicy == LogOverflowPolicy.SAMPLE && backlog >= sampleThreshold && !important
+                    && !sampled) {
+                if (sampleCounter.incrementAndGet() % sampleRate != 0) {
+                    return -1;
+                }
+                sampled = true;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Waits until every event enqueued before the call has been written to
+     * the file, or until the timeout passes.
+     *
+     * @return true if everything was written in time
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long target = claimed.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (written < target) {
+            if (!thread.isAlive() || System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Number of events enqueued but not yet written.
+     */
+    public long getBacklog() {
+        return claimed.get() - consumed;
+    }
+
+    /**
+     * Stops the writer thread after it has written every enqueued event, and
+     * closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void runWriter() {
+        while (true) {
+            long next = consumed;
+            int index = (int) (next & mask);
+            if (published.get(index) == next) {
+                Slot slot = slots[index];
+                try {
+                    format(slot);
+                } catch (RuntimeException e) {
+                    // An argument's toString() failed; one bad event must not
+                    // stop the writer thread
+                    formatFailed(slot, e);
+                }
+                long timestamp = slot.timestamp;
+                slot.clear();
+                consumed = next + 1;
+                if (rotationPolicy.isEnabled()
+                        && rotationPolicy.shouldRotate(fileBytes + bytes.position(), fileOpenedMillis, timestamp)) {
+                    rotate();
+                }
+                continue;
+            }
+            // Caught up with the logging threads
+            reportDropped();
+            writePending(next);
+            if (!running && claimed.get() == next) {
+                return;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void format(Slot slot) {
+        line.setLength(0);
+        appendTimestamp(slot.timestamp);
+        line.append(" [").append(slot.level).append("] ").append(slot.loggerName).append(": ");
+        if (slot.argCount < 0) {
+            line.append(slot.format);
+        } else {
+            MessageTemplate.of(slot.format).appendTo(line, slot.args, slot.argCount);
+        }
+        charsCounter.add(line.length());
+        line.append(System.lineSeparator());
+        if (slot.thrown != null) {
+            StringWriter trace = new StringWriter();
+            slot.thrown.printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+        emit(line);
+    }
+
+    /**
+     * Writes the unformatted pattern in place of a message that could not be
+     * formatted.
+     */
+    private void formatFailed(Slot slot, RuntimeException e) {
+        line.setLength(0);
+        appendTimestamp(slot.timestamp);
+        line.append(" [").append(slot.level).append("] ").append(slot.loggerName).append(": ")
+                .append(slot.format).append(" [message could not be formatted: ").append(e.getClass().getName())
+                .append(']').append(System.lineSeparator());
+        emit(line);
+    }
+
+    private void reportDropped() {
+        long dropped = droppedSinceReport.getAndSet(0);
+        if (dropped == 0) {
+            return;
+        }
+        line.setLength(0);
+        appendTimestamp(System.currentTimeMillis());
+        line.append(" [").append(LogLevel.WARN).append("] ").append(AsyncLogWriter.class.getName())
+                .append(": ").append(dropped).append(" log events dropped, ring buffer full")
+                .append(System.lineSeparator());
+        emit(line);
+    }
+
+    /**
+     * Appends the time as yyyy-MM-dd HH:mm:ss.SSS, formatting the date and
+     * time only when the second changes.
+     */
+    private void appendTimestamp(long millis) {
+        long second = Math.floorDiv(millis, 1000L);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedSecondText = SECOND_FORMATTER.format(LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zone));
+        }
+        int fraction = (int) Math.floorMod(millis, 1000L);
+        line.append(cachedSecondText).append('.');
+        if (fraction < 100) {
+            line.append('0');
+        }
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction);
+    }
+
+    private void emit(CharSequence text) {
+        if (console != null) {
+            consoleText.append(text);
+        }
+        byte[] encoded = text.toString().getBytes(StandardCharsets.UTF_8);
+        int offset = 0;
+        while (offset < encoded.length) {
+            if (!bytes.hasRemaining()) {
+                drainBytes();
+            }
+            int length = Math.min(bytes.remaining(), encoded.length - offset);
+            bytes.put(encoded, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Writes the collected bytes and console text, and marks the events
+     * before {@code upTo} as written.
+     */
+    private void writePending(long upTo) {
+        drainBytes();
+        if (console != null && consoleText.length() > 0) {
+            console.print(consoleText);
+            console.flush();
+            consoleText.setLength(0);
+        }
+        written = upTo;
+    }
+
+    /**
+     * Writes out the current file and continues in the one the log manager
+     * hands back. If that fails, logging carries on in the current file and
+     * the next attempt waits for another full file's worth.
+     */
+    private void rotate() {
+        drainBytes();
+        FileChannel previous = channel;
+        try {
+            File next = logManager.rollOver();
+            openChannel(next.toPath());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to rotate log file: " + e.getMessage());
+            fileBytes = 0;
+            fileOpenedMillis = System.currentTimeMillis();
+            return;
+        }
+        try {
+            previous.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close rotated log file: " + e.getMessage());
+        }
+    }
+
+    private void openChannel(Path logFile) throws IOException {
+        channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        fileBytes = channel.size();
+        fileOpenedMillis = System.currentTimeMillis();
+    }
+
+    private void drainBytes() {
+        bytes.flip();
+        fileBytes += bytes.remaining();
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write log file: " + e.getMessage());
+        }
+        bytes.clear();
+    }
+
+    /**
+     * A pre-sized event in the ring. Written by the thread that claimed it,
+     * read by the writer thread after the publish.
+     */
+    private static final class Slot {
+        private final Object[] args = new Object[MAX_ARGS];
+        private long timestamp;
+        private LogLevel level;
+        private String loggerName;
+        private String format;
+        private int argCount;
+        private Throwable thrown;
+
+        /**
+         * Drops references so logged objects are not kept alive by the ring.
+         */
+        private void clear() {
+            // The fixed-arity append always fills the first four
+            Arrays.fill(args, 0, Math.max(argCount, 4), null);
+            format = null;
+            thrown = null;
+        }
+    }
+}
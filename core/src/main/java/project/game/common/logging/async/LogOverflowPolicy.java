@@ -0,0 +1,26 @@
+package project.game.common.logging.async;
+
+/**
+ * What an {@link AsyncLogWriter} does with an event when its ring buffer
+ * cannot take it.
+ */
+public enum LogOverflowPolicy {
+
+    /**
+     * Drops the event. The logging thread never waits.
+     */
+    DROP,
+
+    /**
+     * Waits for the writer thread to free a slot. Nothing is lost, but a slow
+     * disk stalls the logging thread.
+     */
+    BLOCK,
+
+    /**
+     * Once the buffer is three-quarters full, keeps only every Nth event below
+     * WARN, and drops events when it is full. Warnings and errors are kept
+     * while there is room.
+     */
+    SAMPLE
+}
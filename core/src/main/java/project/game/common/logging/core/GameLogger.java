@@ -4,23 +4,49 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
+import project.game.common.logging.async.AsyncLogWriter;
 import project.game.common.logging.util.LogPaths;
 import project.game.engine.logging.api.ILogger;
 import project.game.engine.logging.api.ILoggerEvent;
 import project.game.engine.logging.api.LogLevel;
 import project.game.engine.logging.base.AbstractLogger;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
 
+/**
+ * Logger that writes to the console and a shared log file.
+ *
+ * By default each line is formatted and written by the logging thread under
+ * a global lock. With {@link LoggerConfig#isAsync()} lines are instead handed
+ * to an {@link AsyncLogWriter}, which formats and writes them on its own
+ * thread; the logging thread only copies the pattern and arguments into a
+ * ring buffer.
+ *
+ * Files are rotated by the {@link LoggerConfig#getRotationPolicy()}. In async
+ * mode the writer thread switches files, so logging threads never wait for
+ * it; in sync mode the logging thread that fills the file opens the next one
+ * under the lock. Either way the {@link LogManager} compresses and prunes
+ * the old file in the background.
+ */
 public class GameLogger extends AbstractLogger {
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
     private static final Object LOCK = new Object();
     private static volatile PrintWriter sharedFileWriter;
+    private static volatile AsyncLogWriter asyncWriter;
+    private static LogManager logManager;
+    private static long sharedFileBytes;
+    private static long sharedFileOpenedMillis;
+    private static boolean shutdownHookAdded = false;
     private static volatile boolean isInitialized = false;
     private static LoggerConfig config;
+    private static final Counter[] MESSAGES_BY_LEVEL = createLevelCounters();
+    private static final Counter CHARS_WRITTEN = MetricsRegistry.getInstance().counter("log.chars");
 
     static {
         // Default configuration, can be overridden
@@ -31,12 +57,30 @@ public class GameLogger extends AbstractLogger {
                 .build();
     }
 
+    private static Counter[] createLevelCounters() {
+        LogLevel[] levels = LogLevel.values();
+        Counter[] counters = new Counter[levels.length];
+        for (LogLevel level : levels) {
+            counters[level.ordinal()] = MetricsRegistry.getInstance()
+                    .counter("log.messages." + level.name().toLowerCase(Locale.ROOT));
+        }
+        return counters;
+    }
+
     public static void configure(LoggerConfig newConfig) {
         synchronized (LOCK) {
             config = newConfig;
             if (isInitialized) {
                 // If already initialized, apply new configuration
-                LogManager.createInstance(config.getLogDirectory(), config.getMaxLogFiles());
+                logManager = LogManager.createInstance(config.getLogDirectory(), config.getMaxLogFiles());
+                applyRetention();
+                if (logManager.getCurrentLogFile() != null) {
+                    try {
+                        openWriter(logManager.getCurrentLogFile());
+                    } catch (IOException e) {
+                        System.err.println("Failed to reopen log file: " + e.getMessage());
+                    }
+                }
             }
         }
     }
@@ -52,10 +96,8 @@ public class GameLogger extends AbstractLogger {
 
     public void dispose() {
         synchronized (LOCK) {
-            if (sharedFileWriter != null) {
-                flush();
-                sharedFileWriter.close();
-                sharedFileWriter = null;
+            if (sharedFileWriter != null || asyncWriter != null) {
+                closeWriters();
                 isInitialized = false;
             }
         }
@@ -76,6 +118,11 @@ public class GameLogger extends AbstractLogger {
 
     @Override
     public void flush() {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.flush(1, TimeUnit.SECONDS);
+            return;
+        }
         synchronized (LOCK) {
             if (sharedFileWriter != null) {
                 sharedFileWriter.flush();
@@ -83,14 +130,54 @@ public class GameLogger extends AbstractLogger {
         }
     }
 
+    /**
+     * Hands the pattern and arguments to the async writer unformatted, so the
+     * logging thread does not pay for the formatting.
+     */
+    @Override
+    public void log(LogLevel level, String format, Object... args) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            MESSAGES_BY_LEVEL[level.ordinal()].increment();
+            writer.append(level, getName(), format, args, null);
+        } else {
+            super.log(level, format, args);
+        }
+    }
+
+    @Override
+    protected void logArguments(LogLevel level, String format, int count, Object arg1, Object arg2, Object arg3,
+            Object arg4) {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            MESSAGES_BY_LEVEL[level.ordinal()].increment();
+            writer.append(level, getName(), format, count, arg1, arg2, arg3, arg4);
+        } else {
+            super.logArguments(level, format, count, arg1, arg2, arg3, arg4);
+        }
+    }
+
     @Override
     protected void doLog(LogLevel level, String message, Throwable thrown) {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            MESSAGES_BY_LEVEL[level.ordinal()].increment();
+            writer.append(level, getName(), message, thrown);
+            return;
+        }
+
         String timestamp = TIME_FORMATTER.format(LocalDateTime.now());
-        String logEntry = MessageFormat.format("{0} [{1}] {2}: {3}",
-                timestamp, level, getName(), message);
+        String logEntry = timestamp + " [" + level + "] " + getName() + ": " + message;
+        MESSAGES_BY_LEVEL[level.ordinal()].increment();
+        CHARS_WRITTEN.add(logEntry.length());
 
         // Write to console
-        System.out.println(logEntry);
+        if (config.isConsoleOutput()) {
+            System.out.println(logEntry);
+        }
 
         // Write to file
         synchronized (LOCK) {
@@ -100,6 +187,12 @@ public class GameLogger extends AbstractLogger {
                     thrown.printStackTrace(sharedFileWriter);
                     thrown.printStackTrace(System.out);
                 }
+                // Characters stand in for bytes; log lines are nearly all ASCII
+                sharedFileBytes += logEntry.length() + 1;
+                if (config.getRotationPolicy().shouldRotate(sharedFileBytes, sharedFileOpenedMillis,
+                        System.currentTimeMillis())) {
+                    rotateSharedFile();
+                }
             }
         }
     }
@@ -108,25 +201,117 @@ public class GameLogger extends AbstractLogger {
         if (!isInitialized) {
             synchronized (LOCK) {
                 if (!isInitialized) {
-                    LogManager logManager = LogManager.createInstance(
+                    logManager = LogManager.createInstance(
                             config.getLogDirectory(),
                             config.getMaxLogFiles());
+                    applyRetention();
 
                     if (logManager.getCurrentLogFile() == null) {
-                        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
-                        File logFile = new File(logManager.getLogDirectory(), timestamp + ".log");
                         try {
-                            logFile.getParentFile().mkdirs();
-                            sharedFileWriter = new PrintWriter(new FileWriter(logFile, true), true);
-                            logManager.setCurrentLogFile(logFile);
+                            openWriter(logManager.rollOver());
                         } catch (IOException e) {
                             System.err.println("Failed to create log file: " + e.getMessage());
                             throw new RuntimeException("Failed to initialize logger", e);
                         }
+                    } else if (sharedFileWriter == null && asyncWriter == null) {
+                        try {
+                            openWriter(logManager.getCurrentLogFile());
+                        } catch (IOException e) {
+                            System.err.println("Failed to reopen log file: " + e.getMessage());
+                            throw new RuntimeException("Failed to initialize logger", e);
+                        }
                     }
                     isInitialized = true;
                 }
             }
         }
     }
+
+    /**
+     * Opens the writer the configuration asks for on the log file, closing
+     * the other one. Must hold the lock.
+     */
+    private static void openWriter(File logFile) throws IOException {
+        if (config.isAsync()) {
+            if (asyncWriter == null) {
+                closeWriters();
+                asyncWriter = new AsyncLogWriter(logFile.toPath(), config.getAsyncBufferSize(),
+                        config.getOverflowPolicy(), config.getSampleRate(),
+                        config.isConsoleOutput() ? System.out : null, config.getRotationPolicy(), logManager);
+                addShutdownHook();
+            }
+        } else if (sharedFileWriter == null) {
+            closeWriters();
+            openSharedFile(logFile);
+        }
+    }
+
+    private static void openSharedFile(File logFile) throws IOException {
+        sharedFileWriter = new PrintWriter(new FileWriter(logFile, true), true);
+        sharedFileBytes = logFile.length();
+        sharedFileOpenedMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Continues the synchronous writer in a new file. Must hold the lock.
+     */
+    private static void rotateSharedFile() {
+        PrintWriter previous = sharedFileWriter;
+        try {
+            openSharedFile(logManager.rollOver());
+        } catch (IOException e) {
+            System.err.println("Failed to rotate log file: " + e.getMessage());
+            sharedFileBytes = 0;
+            sharedFileOpenedMillis = System.currentTimeMillis();
+            return;
+        }
+        previous.close();
+    }
+
+    /**
+     * Passes the retention settings on to the log manager. Must hold the
+     * lock.
+     */
+    private static void applyRetention() {
+        logManager.setCompressRotatedLogs(config.isCompressRotatedLogs());
+        logManager.setMaxTotalBytes(config.getMaxTotalBytes());
+    }
+
+    /**
+     * Writes out and closes both writers. Must hold the lock.
+     */
+    private static void closeWriters() {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            // Later events go to the synchronous path, or nowhere, rather than
+            // into a ring nobody reads
+            asyncWriter = null;
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close log file: " + e.getMessage());
+            }
+        }
+        if (sharedFileWriter != null) {
+            sharedFileWriter.flush();
+            sharedFileWriter.close();
+            sharedFileWriter = null;
+        }
+    }
+
+    /**
+     * Makes sure events still in the async ring reach the file when the JVM
+     * exits without disposing of the logger.
+     */
+    private static void addShutdownHook() {
+        if (shutdownHookAdded) {
+            return;
+        }
+        shutdownHookAdded = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            synchronized (LOCK) {
+                closeWriters();
+            }
+        }, "log-shutdown"));
+    }
 }
\ No newline at end of file
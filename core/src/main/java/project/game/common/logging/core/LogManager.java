@@ -3,21 +3,42 @@ package project.game.common.logging.core;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
 
+import project.game.common.logging.util.LogCompressor;
 import project.game.engine.logging.api.ILogManager;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
 
 /**
  * Base implementation of ILogManager.
  * This class handles log file management and rotation.
+ *
+ * Rotated files are gzipped on a background thread. Retention keeps at most
+ * {@link #getMaxLogFiles()} files, plain or compressed, and at most
+ * {@link #getMaxTotalBytes()} bytes between them, deleting the oldest first;
+ * the current file and files still being compressed are never deleted.
  */
 public class LogManager implements ILogManager {
 
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Counter ROTATIONS = MetricsRegistry.getInstance().counter("log.rotations");
+
     private static volatile LogManager instance;
     private final String logDirectory;
     private int maxLogFiles;
+    private volatile long maxTotalBytes;
+    private boolean compressRotatedLogs = true;
     private File currentLogFile;
+    private final Set<File> pendingCompression = new HashSet<>();
+    private LogCompressor compressor;
+    private String lastBaseName;
+    private int lastSuffix;
 
     protected LogManager(String logDirectory, int maxLogFiles) {
         this.logDirectory = logDirectory;
@@ -42,25 +63,70 @@ public class LogManager implements ILogManager {
         this.currentLogFile = logFile;
     }
 
+    /**
+     * Creates a new, empty log file named after the current time and makes it
+     * current. The previous file, if any, is compressed in the background
+     * when compression is on, and retention runs afterwards on the same
+     * thread, so the caller only pays for creating the file.
+     */
     @Override
-    public final void cleanupOldLogs() {
+    public synchronized File rollOver() throws IOException {
+        File previous = currentLogFile;
+        File next = newLogFile();
+        currentLogFile = next;
+        if (previous != null) {
+            ROTATIONS.increment();
+            if (compressRotatedLogs) {
+                pendingCompression.add(previous);
+                getCompressor().compress(previous, () -> {
+                    synchronized (this) {
+                        pendingCompression.remove(previous);
+                    }
+                    cleanupOldLogs();
+                });
+            } else {
+                getCompressor().execute(this::cleanupOldLogs);
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public final synchronized void cleanupOldLogs() {
         File dir = new File(logDirectory);
         if (!dir.exists() || !dir.isDirectory()) {
             return;
         }
 
         File[] logFiles = dir.listFiles(this::isValidLogFile);
-        if (logFiles == null || logFiles.length <= maxLogFiles) {
+        if (logFiles == null) {
+            return;
+        }
+        long totalBytes = 0;
+        for (File file : logFiles) {
+            totalBytes += file.length();
+        }
+        int fileCount = logFiles.length;
+        if (fileCount <= maxLogFiles && !overByteLimit(totalBytes)) {
             return;
         }
 
         // Sort by last modified time
         Arrays.sort(logFiles, Comparator.comparingLong(File::lastModified));
 
-        // Delete oldest files until we're at the limit
-        for (int i = 0; i < logFiles.length - maxLogFiles; i++) {
+        // Delete oldest files until we're within both limits
+        for (File file : logFiles) {
+            if (fileCount <= maxLogFiles && !overByteLimit(totalBytes)) {
+                break;
+            }
+            if (file.equals(currentLogFile) || pendingCompression.contains(file)) {
+                continue;
+            }
+            long length = file.length();
             try {
-                Files.delete(logFiles[i].toPath());
+                Files.delete(file.toPath());
+                fileCount--;
+                totalBytes -= length;
             } catch (IOException e) {
                 // Log error through standard error since logger might not be initialized
                 System.err.println("Failed to delete old log file: " + e.getMessage());
@@ -86,18 +152,90 @@ public class LogManager implements ILogManager {
         }
     }
 
+    @Override
+    public long getMaxTotalBytes() {
+        return maxTotalBytes;
+    }
+
+    @Override
+    public void setMaxTotalBytes(long maxTotalBytes) {
+        if (maxTotalBytes >= 0) {
+            this.maxTotalBytes = maxTotalBytes;
+            cleanupOldLogs();
+        }
+    }
+
+    public synchronized boolean isCompressRotatedLogs() {
+        return compressRotatedLogs;
+    }
+
+    /**
+     * Sets whether rotated files are gzipped. Applies to later rotations.
+     */
+    public synchronized void setCompressRotatedLogs(boolean compressRotatedLogs) {
+        this.compressRotatedLogs = compressRotatedLogs;
+    }
+
     /**
      * Template method that can be overridden by subclasses to customize log file
      * filtering.
-     * 
+     *
      * @param file the file to check
      * @return true if this is a valid log file that should be included in rotation
      */
     protected boolean isValidLogFile(File file) {
-        return file.isFile() && file.getName().endsWith(".log");
+        String name = file.getName();
+        return file.isFile() && (name.endsWith(".log") || name.endsWith(".log.gz"));
+    }
+
+    private boolean overByteLimit(long totalBytes) {
+        return maxTotalBytes > 0 && totalBytes > maxTotalBytes;
+    }
+
+    /**
+     * Creates a file named after the current time. Files rotated within the
+     * same second get a counter, which keeps counting up so names sort in
+     * order even after older files of that second are pruned.
+     */
+    private File newLogFile() throws IOException {
+        File dir = new File(logDirectory);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create log directory " + dir);
+        }
+        String baseName = LocalDateTime.now().format(FILE_NAME_FORMATTER);
+        int suffix = baseName.equals(lastBaseName) ? lastSuffix + 1 : 0;
+        File file = logFileName(dir, baseName, suffix);
+        // An archive of the same name would be overwritten when this file is
+        // compressed
+        while (new File(file.getPath() + ".gz").exists() || !file.createNewFile()) {
+            file = logFileName(dir, baseName, ++suffix);
+        }
+        lastBaseName = baseName;
+        lastSuffix = suffix;
+        return file;
+    }
+
+    private static File logFileName(File dir, String baseName, int suffix) {
+        return new File(dir, suffix == 0 ? baseName + ".log" : baseName + "-" + suffix + ".log");
+    }
+
+    private LogCompressor getCompressor() {
+        if (compressor == null) {
+            compressor = new LogCompressor();
+        }
+        return compressor;
     }
 
     private void initializeLogManager() {
+        // Archives left half-written by a session that ended mid-compression
+        File[] partial = new File(logDirectory).listFiles((dir, name) -> name.endsWith(LogCompressor.TEMP_SUFFIX));
+        if (partial != null) {
+            for (File file : partial) {
+                if (!file.delete()) {
+                    System.err.println("Failed to delete partial log archive: " + file.getName());
+                }
+            }
+        }
         cleanupOldLogs();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,11 @@
 package project.game.common.logging.core;
 
+import java.util.concurrent.TimeUnit;
+
+import project.game.common.logging.async.AsyncLogWriter;
+import project.game.common.logging.async.LogOverflowPolicy;
 import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogRotationPolicy;
 
 /**
  * Configuration for the logging system.
@@ -11,11 +16,27 @@ public class LoggerConfig {
     private final String logDirectory;
     private final int maxLogFiles;
     private final LogLevel defaultLogLevel;
+    private final boolean async;
+    private final int asyncBufferSize;
+    private final LogOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final boolean consoleOutput;
+    private final LogRotationPolicy rotationPolicy;
+    private final long maxTotalBytes;
+    private final boolean compressRotatedLogs;
 
     private LoggerConfig(Builder builder) {
         this.logDirectory = builder.logDirectory;
         this.maxLogFiles = builder.maxLogFiles;
         this.defaultLogLevel = builder.defaultLogLevel;
+        this.async = builder.async;
+        this.asyncBufferSize = builder.asyncBufferSize;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.sampleRate = builder.sampleRate;
+        this.consoleOutput = builder.consoleOutput;
+        this.rotationPolicy = builder.rotationPolicy;
+        this.maxTotalBytes = builder.maxTotalBytes;
+        this.compressRotatedLogs = builder.compressRotatedLogs;
     }
 
     public String getLogDirectory() {
@@ -30,10 +51,57 @@ public class LoggerConfig {
         return defaultLogLevel;
     }
 
+    /**
+     * Whether lines are written by an {@link AsyncLogWriter} rather than by
+     * the logging thread.
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    public int getAsyncBufferSize() {
+        return asyncBufferSize;
+    }
+
+    public LogOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public boolean isConsoleOutput() {
+        return consoleOutput;
+    }
+
+    public LogRotationPolicy getRotationPolicy() {
+        return rotationPolicy;
+    }
+
+    /**
+     * Total size the kept log files may take, or 0 for no limit.
+     */
+    public long getMaxTotalBytes() {
+        return maxTotalBytes;
+    }
+
+    public boolean isCompressRotatedLogs() {
+        return compressRotatedLogs;
+    }
+
     public static class Builder {
         private String logDirectory;
         private int maxLogFiles = 10;
         private LogLevel defaultLogLevel = LogLevel.INFO;
+        private boolean async = false;
+        private int asyncBufferSize = 8192;
+        private LogOverflowPolicy overflowPolicy = LogOverflowPolicy.DROP;
+        private int sampleRate = 10;
+        private boolean consoleOutput = true;
+        private LogRotationPolicy rotationPolicy = LogRotationPolicy.of(32L * 1024 * 1024, 0, TimeUnit.MILLISECONDS);
+        private long maxTotalBytes = 256L * 1024 * 1024;
+        private boolean compressRotatedLogs = true;
 
         public Builder withLogDirectory(String logDirectory) {
             this.logDirectory = logDirectory;
@@ -52,6 +120,78 @@ public class LoggerConfig {
             return this;
         }
 
+        /**
+         * Hands lines to a background writer thread through a ring buffer
+         * instead of writing them on the logging thread.
+         */
+        public Builder withAsync(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * Sets the number of events the async ring buffer holds, rounded up to
+         * a power of two.
+         */
+        public Builder withAsyncBufferSize(int asyncBufferSize) {
+            if (asyncBufferSize >= 2) {
+                this.asyncBufferSize = asyncBufferSize;
+            }
+            return this;
+        }
+
+        /**
+         * Sets what happens to events when the async ring buffer is full, and
+         * for {@link LogOverflowPolicy#SAMPLE} how many events share one
+         * slot while it is nearly full.
+         */
+        public Builder withOverflowPolicy(LogOverflowPolicy overflowPolicy, int sampleRate) {
+            if (overflowPolicy != null) {
+                this.overflowPolicy = overflowPolicy;
+            }
+            if (sampleRate > 0) {
+                this.sampleRate = sampleRate;
+            }
+            return this;
+        }
+
+        /**
+         * Sets whether lines are also printed to standard output.
+         */
+        public Builder withConsoleOutput(boolean consoleOutput) {
+            this.consoleOutput = consoleOutput;
+            return this;
+        }
+
+        /**
+         * Starts a new log file once the current one reaches
+         * {@code maxFileBytes} or has been written to for
+         * {@code maxFileAge}. A limit of 0 turns that check off.
+         */
+        public Builder withRotation(long maxFileBytes, long maxFileAge, TimeUnit unit) {
+            this.rotationPolicy = LogRotationPolicy.of(maxFileBytes, maxFileAge, unit);
+            return this;
+        }
+
+        /**
+         * Caps the total size of the kept log files, on top of the file
+         * count. 0 removes the cap.
+         */
+        public Builder withMaxTotalBytes(long maxTotalBytes) {
+            if (maxTotalBytes >= 0) {
+                this.maxTotalBytes = maxTotalBytes;
+            }
+            return this;
+        }
+
+        /**
+         * Sets whether rotated log files are gzipped in the background.
+         */
+        public Builder withCompression(boolean compressRotatedLogs) {
+            this.compressRotatedLogs = compressRotatedLogs;
+            return this;
+        }
+
         public LoggerConfig build() {
             if (logDirectory == null || logDirectory.trim().isEmpty()) {
                 throw new IllegalStateException("Log directory must be specified");
@@ -0,0 +1,105 @@
+package project.game.common.logging.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips rotated log files on a background thread.
+ *
+ * Each file is compressed to {@code name.gz.tmp}, renamed to {@code name.gz}
+ * once complete and then deleted, so a crash never leaves a truncated
+ * archive under the final name. The archive keeps the original's
+ * modification time, which retention sorts by.
+ */
+public class LogCompressor {
+
+    /** Suffix of archives still being written. */
+    public static final String TEMP_SUFFIX = ".gz.tmp";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExecutorService executor;
+
+    public LogCompressor() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-compressor");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a file for compression.
+     *
+     * @param file       The rotated log file
+     * @param onComplete Run on the compressor thread after the file is
+     *                   compressed, or after it failed, or null
+     */
+    public void compress(File file, Runnable onComplete) {
+        executor.execute(() -> {
+            try {
+                gzip(file);
+            } catch (IOException e) {
+                // The logger itself may be the one being compressed
+                System.err.println("Failed to compress log file " + file.getName() + ": " + e.getMessage());
+            }
+            if (onComplete != null) {
+                onComplete.run();
+            }
+        });
+    }
+
+    /**
+     * Runs a task on the compressor thread once the files queued before it
+     * are compressed.
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Compresses the queued files, waiting at most the timeout.
+     *
+     * @return true if every queued file was handled in time
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void gzip(File file) throws IOException {
+        if (!file.isFile()) {
+            return;
+        }
+        File archive = new File(file.getPath() + ".gz");
+        File temp = new File(file.getPath() + TEMP_SUFFIX);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file.toPath());
+                OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp.toPath()), BUFFER_SIZE)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp.toPath());
+            throw e;
+        }
+        Files.move(temp.toPath(), archive.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        archive.setLastModified(file.lastModified());
+        Files.delete(file.toPath());
+    }
+}
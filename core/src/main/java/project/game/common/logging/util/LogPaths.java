@@ -135,7 +135,7 @@ public final class LogPaths {
         for (String path : potentialBadPaths) {
             File badDir = new File(path);
             if (badDir.exists()) {
-                File[] logFiles = badDir.listFiles((dir, name) -> name.endsWith(".log"));
+                File[] logFiles = badDir.listFiles((dir, name) -> name.endsWith(".log") || name.endsWith(".log.gz"));
                 if (logFiles != null) {
                     for (File logFile : logFiles) {
                         File destFile = new File(globalDir, logFile.getName());
@@ -1,16 +1,49 @@
 package project.game.common.util.math;
 
+import com.badlogic.gdx.math.Vector2;
+
 import project.game.common.exception.MovementException;
 import project.game.common.logging.core.GameLogger;
 
 /**
- * Calculates the adjusted speed for an entity moving diagonally to maintain
- * the overall velocity consistency.
+ * Movement math helpers.
+ *
+ * Besides speed adjustments, this provides the fast math used on per-tick and
+ * per-frame paths: interpolated table lookups for sine and cosine, octant
+ * classification of a direction without atan2, and normalisation through a
+ * fast inverse square root.
  */
 public class MovementUtils {
 
     private static final GameLogger LOGGER = new GameLogger(MovementUtils.class);
 
+    // Directions returned by octant(), counter-clockwise from +x
+    public static final int OCTANT_RIGHT = 0;
+    public static final int OCTANT_UP_RIGHT = 1;
+    public static final int OCTANT_UP = 2;
+    public static final int OCTANT_UP_LEFT = 3;
+    public static final int OCTANT_LEFT = 4;
+    public static final int OCTANT_DOWN_LEFT = 5;
+    public static final int OCTANT_DOWN = 6;
+    public static final int OCTANT_DOWN_RIGHT = 7;
+
+    // tan(22.5 degrees), the slope of the boundary between octants
+    private static final float OCTANT_SLOPE = 0.41421356f;
+
+    private static final int SIN_BITS = 12;
+    private static final int SIN_COUNT = 1 << SIN_BITS;
+    private static final int SIN_MASK = SIN_COUNT - 1;
+    private static final float RADIANS_TO_INDEX = SIN_COUNT / (2f * (float) Math.PI);
+
+    // One extra entry so interpolation never wraps inside the table
+    private static final float[] SIN_TABLE = new float[SIN_COUNT + 1];
+
+    static {
+        for (int i = 0; i <= SIN_COUNT; i++) {
+            SIN_TABLE[i] = (float) Math.sin(i * 2.0 * Math.PI / SIN_COUNT);
+        }
+    }
+
     /**
      * Calculates the adjusted speed for diagonal movement.
      * 
@@ -27,7 +60,9 @@ public class MovementUtils {
 
         try {
             float adjustedSpeed = speed / (float) Math.sqrt(2);
-            LOGGER.trace("Calculated diagonal speed: {0} (from base speed: {1})", adjustedSpeed, speed);
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("Calculated diagonal speed: {0} (from base speed: {1})", adjustedSpeed, speed);
+            }
             return adjustedSpeed;
         } catch (Exception e) {
             String errorMessage = "Error calculating diagonal speed: " + e.getMessage();
@@ -51,4 +86,93 @@ public class MovementUtils {
 
         return isValid;
     }
+
+    /**
+     * Table-based sine, linearly interpolated between 4096 samples per turn.
+     * The absolute error is below 1e-6 within one turn of zero. Further out
+     * the float resolution of the angle dominates, reaching about 2e-5 at 100
+     * radians, so callers should keep long-running angles wrapped.
+     *
+     * @param radians the angle in radians
+     * @return the sine of the angle
+     */
+    public static float sin(float radians) {
+        return lookup(radians * RADIANS_TO_INDEX);
+    }
+
+    /**
+     * Table-based cosine with the same accuracy as {@link #sin(float)}.
+     *
+     * @param radians the angle in radians
+     * @return the cosine of the angle
+     */
+    public static float cos(float radians) {
+        return lookup(radians * RADIANS_TO_INDEX + SIN_COUNT / 4);
+    }
+
+    private static float lookup(float index) {
+        int floor = (int) index;
+        if (index < floor) {
+            floor--;
+        }
+        float fraction = index - floor;
+        int i = floor & SIN_MASK;
+        float a = SIN_TABLE[i];
+        return a + (SIN_TABLE[i + 1] - a) * fraction;
+    }
+
+    /**
+     * Classifies a direction into one of eight 45 degree sectors centred on
+     * the axes and diagonals, using only comparisons. Gives the same sectors
+     * as bucketing {@code atan2(y, x)} at 22.5 degree offsets, apart from
+     * directions lying exactly on a boundary.
+     *
+     * @param x the x component of the direction
+     * @param y the y component of the direction
+     * @return one of the OCTANT_ constants; {@link #OCTANT_RIGHT} for a zero
+     *         vector
+     */
+    public static int octant(float x, float y) {
+        float ax = Math.abs(x);
+        float ay = Math.abs(y);
+        if (ay <= ax * OCTANT_SLOPE) {
+            return x >= 0 ? OCTANT_RIGHT : OCTANT_LEFT;
+        }
+        if (ax < ay * OCTANT_SLOPE) {
+            return y > 0 ? OCTANT_UP : OCTANT_DOWN;
+        }
+        if (y > 0) {
+            return x > 0 ? OCTANT_UP_RIGHT : OCTANT_UP_LEFT;
+        }
+        return x > 0 ? OCTANT_DOWN_RIGHT : OCTANT_DOWN_LEFT;
+    }
+
+    /**
+     * Computes {@code 1 / sqrt(value)} in float precision. The JIT compiles
+     * the square root to a single hardware instruction, which benchmarks at
+     * least as fast as the bit-level approximation with Newton steps while
+     * being exact, so that is what is used.
+     *
+     * @param value a positive, finite value
+     * @return the inverse square root
+     */
+    public static float invSqrt(float value) {
+        return 1f / (float) Math.sqrt(value);
+    }
+
+    /**
+     * Normalises a vector in place with one inverse square root and two
+     * multiplications. A zero vector is left unchanged, as with
+     * {@link Vector2#nor()}.
+     *
+     * @param vector the vector to normalise
+     * @return the same vector
+     */
+    public static Vector2 normalise(Vector2 vector) {
+        float length2 = vector.x * vector.x + vector.y * vector.y;
+        if (length2 == 0f) {
+            return vector;
+        }
+        return vector.scl(invSqrt(length2));
+    }
 }
@@ -0,0 +1,52 @@
+package project.game.common.util.math;
+
+import project.game.common.logging.core.GameLogger;
+
+/**
+ * Hands out independent {@link RandomStream}s, one per entity or strategy.
+ *
+ * Streams are split from a single root, so a run can be replayed by setting
+ * the same seed before the world is created. Splitting is synchronised; the
+ * streams themselves are owned by one caller each and never contend.
+ */
+public class RandomProvider {
+
+    private static final GameLogger LOGGER = new GameLogger(RandomProvider.class);
+    private static final RandomProvider INSTANCE = new RandomProvider();
+
+    private final RandomStream root;
+    private long seed;
+
+    private RandomProvider() {
+        this.seed = System.nanoTime() ^ 0x5DEECE66DL;
+        this.root = new RandomStream(seed);
+    }
+
+    public static RandomProvider getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets a new stream, independent of every other stream handed out.
+     */
+    public synchronized RandomStream nextStream() {
+        return root.split();
+    }
+
+    /**
+     * Restarts the provider from the given seed. Streams handed out afterwards
+     * repeat the same sequence as after any earlier call with that seed.
+     */
+    public synchronized void setSeed(long seed) {
+        this.seed = seed;
+        root.setSeed(seed);
+        LOGGER.info("Random provider seeded with {0}", Long.toString(seed));
+    }
+
+    /**
+     * Gets the seed the provider was last started from, for reproducing a run.
+     */
+    public synchronized long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,101 @@
+package project.game.common.util.math;
+
+/**
+ * A small, fast, splittable random number stream based on xoroshiro128**.
+ *
+ * Each entity or strategy owns its own stream, so streams are not
+ * synchronised and draws never allocate. New independent streams are made
+ * with {@link #split()}, which makes a whole run reproducible from the seed
+ * of the stream it started from.
+ */
+public final class RandomStream {
+
+    private static final float FLOAT_UNIT = 1f / (1 << 24);
+
+    private long s0;
+    private long s1;
+
+    /**
+     * Creates a stream from a seed. Any seed is valid, including zero.
+     */
+    public RandomStream(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Resets the stream to the start of the sequence for the given seed.
+     */
+    public void setSeed(long seed) {
+        // Expand the seed with SplitMix64 so similar seeds give unrelated
+        // states and the state is never all zero
+        long z = seed;
+        z += 0x9E3779B97F4A7C15L;
+        s0 = mix(z);
+        z += 0x9E3779B97F4A7C15L;
+        s1 = mix(z);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public long nextLong() {
+        long a = s0;
+        long b = s1;
+        long result = Long.rotateLeft(a * 5, 7) * 9;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 24) ^ b ^ (b << 16);
+        s1 = Long.rotateLeft(b, 37);
+        return result;
+    }
+
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Returns a value from 0 (inclusive) to bound (exclusive).
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        // Multiply-shift keeps the bias below 2^-32, which is plenty for games
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Returns a value from 0 (inclusive) to 1 (exclusive).
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    /**
+     * Returns a value from min (inclusive) to max (exclusive).
+     */
+    public float nextFloat(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Returns -1 or 1 with equal probability.
+     */
+    public float nextSign() {
+        return nextBoolean() ? 1f : -1f;
+    }
+
+    /**
+     * Creates a new stream whose sequence is independent of this one. Advances
+     * this stream.
+     */
+    public RandomStream split() {
+        return new RandomStream(mix(nextLong()));
+    }
+}
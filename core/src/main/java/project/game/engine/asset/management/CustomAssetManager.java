@@ -8,17 +8,26 @@ import java.util.Set;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import project.game.common.logging.core.GameLogger;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
+import project.game.engine.profiling.event.AssetFinishLoadingEvent;
+import project.game.engine.profiling.event.AssetLoadEvent;
+import project.game.engine.profiling.event.AssetUnloadEvent;
 
 public class CustomAssetManager implements Disposable {
 
     private static final GameLogger LOGGER = new GameLogger(CustomAssetManager.class);
+    private static final Counter LOAD_REQUESTS = MetricsRegistry.getInstance().counter("assets.load.requests");
+    private static final Counter UNLOADS = MetricsRegistry.getInstance().counter("assets.unloaded");
     private static CustomAssetManager instance;
     private final AssetManager asset_Manager;
 
@@ -36,6 +45,11 @@ public class CustomAssetManager implements Disposable {
 
     private CustomAssetManager() {
         asset_Manager = new AssetManager();
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("assets.loaded", asset_Manager::getLoadedAssets);
+        metrics.gauge("assets.queued", asset_Manager::getQueuedAssets);
+        metrics.gauge("assets.texture.bytes", this::estimateTextureBytes);
     }
 
     public static synchronized CustomAssetManager getInstance() {
@@ -49,7 +63,10 @@ public class CustomAssetManager implements Disposable {
      * Generalized asset loading method with reference counting
      */
     public synchronized <T> void loadAsset(String filePath, Class<T> type) {
-        if (!asset_Manager.isLoaded(filePath, type)) {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        boolean queued = !asset_Manager.isLoaded(filePath, type);
+        if (queued) {
             try {
                 asset_Manager.load(filePath, type);
                 LOGGER.info("Loading asset: {0}", filePath);
@@ -59,7 +76,17 @@ public class CustomAssetManager implements Disposable {
                 return;
             }
         }
-        assetReferenceCount.put(filePath, assetReferenceCount.getOrDefault(filePath, 0) + 1);
+        LOAD_REQUESTS.increment();
+        int references = assetReferenceCount.getOrDefault(filePath, 0) + 1;
+        assetReferenceCount.put(filePath, references);
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = filePath;
+            event.assetType = type.getSimpleName();
+            event.queued = queued;
+            event.references = references;
+            event.commit();
+        }
     }
 
     public void loadTextureAssets(String filePath) {
@@ -229,7 +256,16 @@ public class CustomAssetManager implements Disposable {
      * Ensures all assets finish loading
      */
     public void loadAndFinish() {
+        AssetFinishLoadingEvent event = new AssetFinishLoadingEvent();
+        event.begin();
+        int queued = asset_Manager.getQueuedAssets();
         asset_Manager.finishLoading();
+        event.end();
+        if (event.shouldCommit()) {
+            event.queued = queued;
+            event.loaded = asset_Manager.getLoadedAssets();
+            event.commit();
+        }
         LOGGER.info("All assets finished loading.");
     }
 
@@ -249,16 +285,28 @@ public class CustomAssetManager implements Disposable {
      */
     public synchronized void unloadAsset(String filePath) {
         if (assetReferenceCount.containsKey(filePath)) {
+            AssetUnloadEvent event = new AssetUnloadEvent();
+            event.begin();
             int count = assetReferenceCount.get(filePath);
+            boolean unloaded = false;
             if (count > 1) {
                 assetReferenceCount.put(filePath, count - 1);
             } else {
                 if (asset_Manager.isLoaded(filePath)) {
                     asset_Manager.unload(filePath);
+                    unloaded = true;
+                    UNLOADS.increment();
                     LOGGER.info("Unloaded asset: {0}", filePath);
                 }
                 assetReferenceCount.remove(filePath);
             }
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = filePath;
+                event.unloaded = unloaded;
+                event.references = count - 1;
+                event.commit();
+            }
         } else {
             LOGGER.info("Attempted to unload non-existent asset: {0}", filePath);
         }
@@ -277,6 +325,40 @@ public class CustomAssetManager implements Disposable {
         LOGGER.info("All assets disposed.");
     }
 
+    /**
+     * Estimates the memory held by loaded textures from their size and pixel
+     * format, ignoring mipmaps. AssetManager is synchronized, so this can be
+     * read from a metrics thread.
+     */
+    private double estimateTextureBytes() {
+        Array<Texture> textures = asset_Manager.getAll(Texture.class, new Array<Texture>());
+        long bytes = 0;
+        for (Texture texture : textures) {
+            Pixmap.Format format = texture.getTextureData().getFormat();
+            bytes += (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(format);
+        }
+        return bytes;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) {
+            return 4;
+        }
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
     /**
      * Updates asset loading progress
      */
@@ -4,9 +4,13 @@ import project.game.application.scene.ui.AudioUI;
 import project.game.engine.audio.api.IAudioConfig;
 import project.game.engine.audio.api.IMusic;
 import project.game.engine.audio.api.ISound;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
 
 public class AudioManager {
 
+    private static final Counter MUSIC_PLAYED = MetricsRegistry.getInstance().counter("audio.music.played");
+    private static final Counter SOUNDS_PLAYED = MetricsRegistry.getInstance().counter("audio.sounds.played");
     private static volatile AudioManager instance;
     private final IMusic musicManager;
     private final ISound soundManager;
@@ -49,6 +53,7 @@ public class AudioManager {
 
     public void playMusic(String trackName) {
         musicManager.playMusic(trackName);
+        MUSIC_PLAYED.increment();
     }
 
     public void stopMusic() {
@@ -61,6 +66,7 @@ public class AudioManager {
 
     public void playSoundEffect(String key) {
         soundManager.playSoundEffect(key);
+        SOUNDS_PLAYED.increment();
     }
 
     public void setSoundEnabled(boolean enabled) {
@@ -40,7 +40,7 @@ public class SoundManager implements ISound {
 
         Sound sound = Gdx.audio.newSound(Gdx.files.internal(filePath));
         soundEffects.put(key, sound);
-        LOGGER.info("Successfully loaded sound effect: " + filePath + " with key: " + key);
+        LOGGER.info("Successfully loaded sound effect: {0} with key: {1}", filePath, key);
 
     }
 
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -15,6 +16,12 @@ import project.game.engine.entitysystem.entity.api.IRenderable;
 import project.game.engine.entitysystem.entity.api.ISpriteRenderable;
 import project.game.engine.entitysystem.entity.base.Entity;
 import project.game.engine.entitysystem.physics.api.ICollidableVisitor;
+import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogSite;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
+import project.game.engine.profiling.event.EntityRemoveEvent;
+import project.game.engine.profiling.event.EntitySpawnEvent;
 
 /**
  * EntityManager class that manages entities and renderables
@@ -22,6 +29,15 @@ import project.game.engine.entitysystem.physics.api.ICollidableVisitor;
 public class EntityManager {
 
 	private static final GameLogger LOGGER = new GameLogger(EntityManager.class);
+	private static final Counter SPAWNED = MetricsRegistry.getInstance().counter("entities.spawned");
+	private static final Counter REMOVED = MetricsRegistry.getInstance().counter("entities.removed");
+	// Removals come in bursts when trash is collected, so they are logged at
+	// most once a second per site with a count of the rest
+	private static final LogSite RENDERABLE_REMOVAL_LOG = new LogSite("EntityManager.removeRenderableEntity");
+	private static final LogSite SPRITE_REMOVAL_LOG = new LogSite("EntityManager.removeSpriteEntity");
+	private static final LogSite ENTITY_REMOVAL_LOG = new LogSite("EntityManager.removeEntity");
+	private static final LogSite RENDERABLE_LIST_LOG = new LogSite("EntityManager.printRenderableList");
+	private static final LogSite ENTITY_LIST_LOG = new LogSite("EntityManager.printEntityList");
 	private final List<IRenderable> renderables;
 	private final List<ISpriteRenderable> spriteRenderables;
 	private final List<Entity> entityList;
@@ -44,6 +60,14 @@ public class EntityManager {
 		this.entityIDs = new HashSet<>();
 	}
 
+	/**
+	 * Points the entities.active gauge at this manager. Called by the scene
+	 * that owns it when the scene is shown.
+	 */
+	public void bindMetrics() {
+		MetricsRegistry.getInstance().gauge("entities.active", entityList::size);
+	}
+
 	/**
 	 * Register an entity extractor for a specific type
 	 * 
@@ -81,6 +105,8 @@ public class EntityManager {
 			}
 			entityIDs.add(entity.getID());
 			entityList.add(entity);
+			SPAWNED.increment();
+			EntitySpawnEvent.emit(entity, entity.getID(), entityList.size());
 		}
 		return true;
 	}
@@ -95,7 +121,10 @@ public class EntityManager {
 		if (entity != null) {
 			entityIDs.remove(entity.getID());
 			entityList.remove(entity);
-			LOGGER.info("Renderable entity removed: {0", entity.getID());
+			REMOVED.increment();
+			EntityRemoveEvent.emit(entity, entity.getID(), entityList.size());
+			LOGGER.logAtMostEvery(RENDERABLE_REMOVAL_LOG, 1, TimeUnit.SECONDS, LogLevel.INFO,
+					"Renderable entity removed: {0}", entity.getID());
 		}
 		printRenderableList();
 	}
@@ -112,6 +141,8 @@ public class EntityManager {
 			}
 			entityIDs.add(entity.getID());
 			entityList.add(entity);
+			SPAWNED.increment();
+			EntitySpawnEvent.emit(entity, entity.getID(), entityList.size());
 		}
 		return true;
 	}
@@ -126,7 +157,10 @@ public class EntityManager {
 		if (entity != null) {
 			entityIDs.remove(entity.getID());
 			entityList.remove(entity);
-			LOGGER.info("Sprite entity removed: {0}", entity.getID());
+			REMOVED.increment();
+			EntityRemoveEvent.emit(entity, entity.getID(), entityList.size());
+			LOGGER.logAtMostEvery(SPRITE_REMOVAL_LOG, 1, TimeUnit.SECONDS, LogLevel.INFO,
+					"Sprite entity removed: {0}", entity.getID());
 		}
 		printRenderableList();
 	}
@@ -138,6 +172,8 @@ public class EntityManager {
 		}
 		entityIDs.add(entity.getID());
 		entityList.add(entity);
+		SPAWNED.increment();
+		EntitySpawnEvent.emit(entity, entity.getID(), entityList.size());
 		return true;
 	}
 
@@ -146,10 +182,12 @@ public class EntityManager {
 			LOGGER.error("Entity is null");
 			return;
 		}
-		LOGGER.info("Removing entity: {0}", entity.getID());
 		entityList.remove(entity);
 		entityIDs.remove(entity.getID());
-		LOGGER.info("Entity removed: {0}", entity.getID());
+		REMOVED.increment();
+		EntityRemoveEvent.emit(entity, entity.getID(), entityList.size());
+		LOGGER.logAtMostEvery(ENTITY_REMOVAL_LOG, 1, TimeUnit.SECONDS, LogLevel.INFO, "Entity removed: {0}",
+				entity.getID());
 		printEntityList();
 	}
 
@@ -189,23 +227,19 @@ public class EntityManager {
 		return entityList.contains(entity);
 	}
 
+	/**
+	 * Logs how many renderables remain. Listing every ID on each removal made
+	 * clearing a crowded scene quadratic in log output.
+	 */
 	private void printRenderableList() {
-		LOGGER.info("Current renderable entities:");
-		for (IRenderable renderable : renderables) {
-			Entity entity = extractEntity(renderable);
-			if (entity != null) {
-				LOGGER.info("Renderable entity ID: {0}", entity.getID());
-			}
-		}
+		LOGGER.logAtMostEvery(RENDERABLE_LIST_LOG, 5, TimeUnit.SECONDS, LogLevel.DEBUG,
+				"Current renderable entities: {0} renderables, {1} sprites", renderables.size(),
+				spriteRenderables.size());
 	}
 
 	private void printEntityList() {
-		LOGGER.info("Current entities:");
-		for (Entity entity : entityList) {
-			if (entity != null) {
-				LOGGER.info("Entity ID: {0}", entity.getID());
-			}
-		}
+		LOGGER.logAtMostEvery(ENTITY_LIST_LOG, 5, TimeUnit.SECONDS, LogLevel.DEBUG, "Current entities: {0}",
+				entityList.size());
 	}
 
 	/**
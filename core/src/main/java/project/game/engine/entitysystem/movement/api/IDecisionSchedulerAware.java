@@ -0,0 +1,16 @@
+package project.game.engine.entitysystem.movement.api;
+
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
+
+/**
+ * Interface for movement strategies whose expensive decisions can be spread
+ * across frames by an {@link AIDecisionScheduler}.
+ */
+public interface IDecisionSchedulerAware {
+
+    /**
+     * Sets the scheduler used for expensive decisions. Pass null to make
+     * decisions every frame.
+     */
+    void setDecisionScheduler(AIDecisionScheduler scheduler);
+}
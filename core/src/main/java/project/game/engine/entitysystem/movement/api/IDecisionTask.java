@@ -0,0 +1,14 @@
+package project.game.engine.entitysystem.movement.api;
+
+/**
+ * Interface for expensive AI decisions that are refreshed by a scheduler
+ * instead of every frame.
+ */
+@FunctionalInterface
+public interface IDecisionTask {
+
+    /**
+     * Recomputes the decision from the latest known state.
+     */
+    void decide();
+}
@@ -0,0 +1,17 @@
+package project.game.engine.entitysystem.movement.api;
+
+/**
+ * Interface for movement strategies that only pass movement on to another
+ * strategy, such as composite wrappers and plain decorators. Strategies that
+ * implement this can be skipped when a strategy tree is flattened.
+ */
+public interface IDelegatingStrategy extends IMovementStrategy {
+
+    /**
+     * Gets the strategy that movement is delegated to.
+     * 
+     * @return The delegate, or null if this strategy adds behaviour of its own
+     *         and cannot be skipped
+     */
+    IMovementStrategy getDelegate();
+}
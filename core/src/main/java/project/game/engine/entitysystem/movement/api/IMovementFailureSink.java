@@ -0,0 +1,20 @@
+package project.game.engine.entitysystem.movement.api;
+
+/**
+ * Receives movement failures that reach the update boundary.
+ * 
+ * Strategies are validated when they are built, so a failure during an update
+ * is a bug rather than bad configuration. Sinks count such failures instead of
+ * logging every frame, which keeps a repeating failure from flooding the log
+ * and keeps string building off the update path.
+ */
+public interface IMovementFailureSink {
+
+    /**
+     * Records a failure raised while moving an entity.
+     * 
+     * @param source The strategy that failed
+     * @param error  The error it raised
+     */
+    void recordFailure(IMovementStrategy source, Exception error);
+}
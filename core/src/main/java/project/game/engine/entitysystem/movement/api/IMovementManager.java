@@ -5,6 +5,9 @@ import java.util.Set;
 
 import com.badlogic.gdx.math.Vector2;
 
+import project.game.engine.io.binding.DirectionTable;
+import project.game.engine.io.management.KeyboardState;
+
 /**
  * Interface for movement managers.
  */
@@ -16,4 +19,6 @@ public interface IMovementManager {
 
     void updateVelocity(Set<Integer> pressedKeys, Map<Integer, Vector2> keyBindings);
 
+    void updateVelocity(KeyboardState keyboard, DirectionTable directions);
+
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package project.game.engine.entitysystem.movement.api;
+
+/**
+ * Source of simulation time for movement updates.
+ * 
+ * Movement managers read the time step from an injected clock rather than
+ * from the graphics backend, so movement can run headless and at simulated
+ * rates.
+ */
+public interface ITickClock {
+
+    /**
+     * Gets the time step of the current tick, in seconds.
+     */
+    float getDeltaTime();
+
+    /**
+     * Gets the index of the current tick. Increases by one every tick.
+     */
+    long getTick();
+}
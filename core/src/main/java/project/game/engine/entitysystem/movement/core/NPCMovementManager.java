@@ -3,7 +3,10 @@ package project.game.engine.entitysystem.movement.core;
 import project.game.application.movement.builder.NPCMovementBuilder;
 import project.game.common.exception.MovementException;
 import project.game.common.logging.core.GameLogger;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
 import project.game.engine.entitysystem.movement.management.MovementManager;
+import project.game.engine.entitysystem.movement.strategy.FusedMovementStrategy;
 
 /**
  * NPCMovementManager is a class that extends MovementManager and
@@ -19,6 +22,28 @@ public class NPCMovementManager extends MovementManager {
                 checkBuilder(builder).getInitialVelocity(),
                 checkBuilder(builder).getMovementStrategy(),
                 checkBuilder(builder).isLenientMode());
+        if (builder.getTickClock() != null) {
+            setTickClock(builder.getTickClock());
+        }
+        if (builder.getFailureSink() != null) {
+            setFailureSink(builder.getFailureSink());
+        }
+    }
+
+    /**
+     * Cancels the decisions the strategy registered with a decision scheduler,
+     * so the scheduler stops running them and no longer holds the strategy.
+     * Call when the entity is removed or its scene is disposed.
+     */
+    public void dispose() {
+        IMovementStrategy strategy = getMovementStrategy();
+        // A flattened strategy's decisions were registered by its source tree
+        if (strategy instanceof FusedMovementStrategy) {
+            strategy = ((FusedMovementStrategy) strategy).getSource();
+        }
+        if (strategy instanceof IDecisionSchedulerAware) {
+            ((IDecisionSchedulerAware) strategy).setDecisionScheduler(null);
+        }
     }
 
     private static NPCMovementBuilder checkBuilder(NPCMovementBuilder builder) {
@@ -19,6 +19,12 @@ public class PlayerMovementManager extends MovementManager {
                 checkBuilder(builder).getInitialVelocity(),
                 checkBuilder(builder).getMovementStrategy(),
                 checkBuilder(builder).isLenientMode());
+        if (builder.getTickClock() != null) {
+            setTickClock(builder.getTickClock());
+        }
+        if (builder.getFailureSink() != null) {
+            setFailureSink(builder.getFailureSink());
+        }
     }
 
     private static PlayerMovementBuilder checkBuilder(PlayerMovementBuilder builder) {
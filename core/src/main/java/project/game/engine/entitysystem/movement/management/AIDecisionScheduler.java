@@ -0,0 +1,236 @@
+package project.game.engine.entitysystem.movement.management;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import project.game.common.logging.core.GameLogger;
+import project.game.engine.entitysystem.movement.api.IDecisionTask;
+
+/**
+ * Time-sliced scheduler for expensive AI decisions such as target selection
+ * and avoidance replanning.
+ *
+ * Each registered decision has a refresh interval. Once per frame the
+ * scheduler runs decisions that are due, in round-robin order, until the
+ * per-frame budget is used up. Decisions that do not fit are deferred to the
+ * next frame. Decisions can also be requested explicitly (for example when a
+ * target disappears); requested decisions run before interval-based ones.
+ *
+ * At least one due decision runs every frame so that a single slow decision
+ * cannot stall the others indefinitely.
+ */
+public class AIDecisionScheduler {
+
+    private static final GameLogger LOGGER = new GameLogger(AIDecisionScheduler.class);
+
+    private final List<ScheduledDecision> decisions = new ArrayList<>();
+    private final ArrayDeque<ScheduledDecision> requested = new ArrayDeque<>();
+    private long budgetNanos;
+    private int cursor = 0;
+    private boolean hasCancelled = false;
+
+    // Statistics
+    private long lastFrameNanos;
+    private int lastFrameDecisions;
+    private int lastFrameDeferred;
+    private long totalDecisions;
+    private long framesOverBudget;
+
+    /**
+     * Creates a scheduler with the given per-frame budget.
+     *
+     * @param budgetMicros Time budget per frame in microseconds
+     */
+    public AIDecisionScheduler(long budgetMicros) {
+        setBudgetMicros(budgetMicros);
+    }
+
+    /**
+     * Registers a decision.
+     *
+     * @param task     The decision to refresh
+     * @param interval Seconds between refreshes; zero or less means the decision
+     *                 only runs when requested
+     * @return A handle used to request or cancel the decision
+     */
+    public ScheduledDecision register(IDecisionTask task, float interval) {
+        if (task == null) {
+            throw new IllegalArgumentException("Decision task cannot be null");
+        }
+        ScheduledDecision decision = new ScheduledDecision(this, task, interval);
+        decisions.add(decision);
+        return decision;
+    }
+
+    /**
+     * Runs due decisions within the frame budget. Call once per frame before
+     * movement is updated.
+     *
+     * @param deltaTime Time elapsed since the last frame
+     */
+    public void update(float deltaTime) {
+        long start = System.nanoTime();
+
+        if (hasCancelled) {
+            decisions.removeIf(decision -> decision.cancelled);
+            hasCancelled = false;
+            cursor = 0;
+        }
+
+        int due = 0;
+        for (int i = 0; i < decisions.size(); i++) {
+            ScheduledDecision decision = decisions.get(i);
+            decision.timeSinceDecision += deltaTime;
+            if (decision.isDue()) {
+                due++;
+            }
+        }
+
+        int ran = 0;
+
+        // Explicit requests first
+        while (!requested.isEmpty()) {
+            if (ran > 0 && System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+            ScheduledDecision decision = requested.poll();
+            if (decision.cancelled || !decision.requested) {
+                continue;
+            }
+            run(decision);
+            ran++;
+        }
+
+        // Then interval-based decisions, continuing where the last frame stopped
+        int count = decisions.size();
+        for (int visited = 0; visited < count; visited++) {
+            if (ran > 0 && System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+            if (cursor >= count) {
+                cursor = 0;
+            }
+            ScheduledDecision decision = decisions.get(cursor++);
+            if (!decision.cancelled && decision.isDue()) {
+                run(decision);
+                ran++;
+            }
+        }
+
+        lastFrameNanos = System.nanoTime() - start;
+        lastFrameDecisions = ran;
+        lastFrameDeferred = Math.max(0, due - ran);
+        totalDecisions += ran;
+        if (lastFrameNanos > budgetNanos) {
+            framesOverBudget++;
+        }
+    }
+
+    private void run(ScheduledDecision decision) {
+        decision.timeSinceDecision = 0;
+        decision.requested = false;
+        try {
+            decision.task.decide();
+        } catch (Exception e) {
+            LOGGER.error("Error running scheduled decision: {0}", e.getMessage());
+        }
+    }
+
+    public void setBudgetMicros(long budgetMicros) {
+        if (budgetMicros <= 0) {
+            throw new IllegalArgumentException("Decision budget must be positive");
+        }
+        this.budgetNanos = budgetMicros * 1000L;
+    }
+
+    public long getBudgetMicros() {
+        return budgetNanos / 1000L;
+    }
+
+    public int getDecisionCount() {
+        return decisions.size();
+    }
+
+    /**
+     * Gets the time spent running decisions in the last frame, in microseconds.
+     */
+    public long getLastFrameMicros() {
+        return lastFrameNanos / 1000L;
+    }
+
+    public int getLastFrameDecisions() {
+        return lastFrameDecisions;
+    }
+
+    /**
+     * Gets the number of due decisions that were pushed to a later frame.
+     */
+    public int getLastFrameDeferred() {
+        return lastFrameDeferred;
+    }
+
+    public long getTotalDecisions() {
+        return totalDecisions;
+    }
+
+    public long getFramesOverBudget() {
+        return framesOverBudget;
+    }
+
+    /**
+     * Handle for a decision registered with the scheduler.
+     */
+    public static final class ScheduledDecision {
+
+        private final AIDecisionScheduler scheduler;
+        private final IDecisionTask task;
+        private final float interval;
+        private float timeSinceDecision;
+        private boolean requested = false;
+        private boolean cancelled = false;
+
+        private ScheduledDecision(AIDecisionScheduler scheduler, IDecisionTask task, float interval) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.interval = interval;
+            // New decisions are due straight away
+            this.timeSinceDecision = Math.max(interval, 0);
+        }
+
+        /**
+         * Asks for the decision to be refreshed as soon as the budget allows.
+         */
+        public void request() {
+            if (!requested && !cancelled) {
+                requested = true;
+                scheduler.requested.add(this);
+            }
+        }
+
+        /**
+         * Removes the decision from the scheduler.
+         */
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                scheduler.hasCancelled = true;
+            }
+        }
+
+        /**
+         * Gets the time since the decision was last refreshed, in seconds.
+         */
+        public float getTimeSinceDecision() {
+            return timeSinceDecision;
+        }
+
+        public boolean isPending() {
+            return isDue();
+        }
+
+        private boolean isDue() {
+            return requested || (interval > 0 && timeSinceDecision >= interval);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package project.game.engine.entitysystem.movement.management;
+
+import com.badlogic.gdx.Gdx;
+
+import project.game.engine.entitysystem.movement.api.ITickClock;
+
+/**
+ * Tick clock backed by the LibGDX graphics frame timer. Used by movement
+ * managers that have not been given a clock of their own.
+ */
+public final class GdxFrameClock implements ITickClock {
+
+    public static final GdxFrameClock INSTANCE = new GdxFrameClock();
+
+    private GdxFrameClock() {
+    }
+
+    @Override
+    public float getDeltaTime() {
+        return Gdx.graphics.getDeltaTime();
+    }
+
+    @Override
+    public long getTick() {
+        return Gdx.graphics.getFrameId();
+    }
+}
@@ -0,0 +1,75 @@
+package project.game.engine.entitysystem.movement.management;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import project.game.common.logging.core.GameLogger;
+import project.game.engine.entitysystem.movement.api.IMovementFailureSink;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
+
+/**
+ * Counts movement failures per strategy class.
+ * 
+ * The first failure of each class is logged with its stack trace; later ones
+ * are only counted, and {@link #logStatistics()} reports the totals. Managers
+ * report to the shared instance unless given another sink.
+ */
+public class MovementFailureCounter implements IMovementFailureSink {
+
+    private static final GameLogger LOGGER = new GameLogger(MovementFailureCounter.class);
+    private static final Counter FAILURES = MetricsRegistry.getInstance().counter("movement.failures");
+    private static final MovementFailureCounter INSTANCE = new MovementFailureCounter();
+
+    private final Map<Class<?>, long[]> failureCounts = new IdentityHashMap<>();
+    private long totalFailures;
+
+    public static MovementFailureCounter getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public synchronized void recordFailure(IMovementStrategy source, Exception error) {
+        totalFailures++;
+        FAILURES.increment();
+        Class<?> sourceClass = source != null ? source.getClass() : Void.class;
+        long[] count = failureCounts.get(sourceClass);
+        if (count == null) {
+            count = new long[1];
+            failureCounts.put(sourceClass, count);
+            LOGGER.error("First movement failure in " + sourceClass.getSimpleName()
+                    + "; further failures are only counted", error);
+        }
+        count[0]++;
+    }
+
+    public synchronized long getTotalFailures() {
+        return totalFailures;
+    }
+
+    /**
+     * Gets the number of failures recorded for a strategy class.
+     */
+    public synchronized long getFailureCount(Class<?> strategyClass) {
+        long[] count = failureCounts.get(strategyClass);
+        return count != null ? count[0] : 0;
+    }
+
+    public synchronized void reset() {
+        failureCounts.clear();
+        totalFailures = 0;
+    }
+
+    /**
+     * Logs the number of failures recorded per strategy class.
+     */
+    public synchronized void logStatistics() {
+        if (totalFailures == 0) {
+            return;
+        }
+        for (Map.Entry<Class<?>, long[]> entry : failureCounts.entrySet()) {
+            LOGGER.warn("{0} failed {1} times", entry.getKey().getSimpleName(), entry.getValue()[0]);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package project.game.engine.entitysystem.movement.management;
+
+import com.badlogic.gdx.graphics.Camera;
+
+import project.game.common.logging.core.GameLogger;
+import project.game.engine.entitysystem.movement.api.IMovable;
+
+/**
+ * Movement level-of-detail policy.
+ *
+ * Assigns each movement manager an update tier from its distance to a focus
+ * point (usually the player) and whether it is inside the camera frustum:
+ * <ul>
+ * <li>{@link MovementLODTier#FULL}: visible and near the focus, updated every
+ * frame</li>
+ * <li>{@link MovementLODTier#REDUCED}: visible or within the far distance,
+ * updated every N frames</li>
+ * <li>{@link MovementLODTier#DORMANT}: offscreen and far away, not updated</li>
+ * </ul>
+ *
+ * Skipped frames accumulate their delta time, which is applied in one step on
+ * the next update so that movement covers the same distance as it would at
+ * full rate. Time spent dormant is capped so that waking up does not cause a
+ * large jump.
+ *
+ * {@link #beginFrame} must be called once per frame before any managers are
+ * updated.
+ */
+public class MovementLODPolicy {
+
+    private static final GameLogger LOGGER = new GameLogger(MovementLODPolicy.class);
+
+    private final float nearDistanceSquared;
+    private final float farDistanceSquared;
+    private final int reducedInterval;
+    private final float frustumMargin;
+    private final float maxCatchUpDelta;
+
+    private long frame = 0;
+    private int nextPhase = 0;
+    private float focusX;
+    private float focusY;
+    private Camera camera;
+
+    // Per-tier statistics
+    private final int[] managersPerTier = new int[MovementLODTier.values().length];
+    private final long[] updatesPerTier = new long[MovementLODTier.values().length];
+    private final long[] skipsPerTier = new long[MovementLODTier.values().length];
+
+    /**
+     * Creates a policy with default distances and a reduced update interval of
+     * two frames.
+     */
+    public MovementLODPolicy() {
+        this(600f, 1400f, 2, 64f, 0.25f);
+    }
+
+    /**
+     * Creates a movement LOD policy.
+     *
+     * @param nearDistance    Distance from the focus within which visible
+     *                        entities update every frame
+     * @param farDistance     Distance from the focus beyond which offscreen
+     *                        entities become dormant
+     * @param reducedInterval Number of frames between updates in the reduced
+     *                        tier
+     * @param frustumMargin   Extra margin in pixels around the camera frustum
+     * @param maxCatchUpDelta Maximum accumulated delta time applied in one
+     *                        catch-up step
+     */
+    public MovementLODPolicy(float nearDistance, float farDistance, int reducedInterval, float frustumMargin,
+            float maxCatchUpDelta) {
+        if (nearDistance < 0 || farDistance < nearDistance) {
+            throw new IllegalArgumentException("Distances must satisfy 0 <= near <= far");
+        }
+        if (reducedInterval < 1) {
+            throw new IllegalArgumentException("Reduced interval must be at least 1 frame");
+        }
+        this.nearDistanceSquared = nearDistance * nearDistance;
+        this.farDistanceSquared = farDistance * farDistance;
+        this.reducedInterval = reducedInterval;
+        this.frustumMargin = Math.max(0, frustumMargin);
+        this.maxCatchUpDelta = maxCatchUpDelta > 0 ? maxCatchUpDelta : 0.25f;
+    }
+
+    /**
+     * Starts a new frame. Tiers are re-evaluated lazily for each manager on its
+     * first update in the frame.
+     *
+     * @param focusX X coordinate of the focus point
+     * @param focusY Y coordinate of the focus point
+     * @param camera Camera used for visibility checks, may be null
+     */
+    public void beginFrame(float focusX, float focusY, Camera camera) {
+        this.frame++;
+        this.focusX = focusX;
+        this.focusY = focusY;
+        this.camera = camera;
+        for (int i = 0; i < managersPerTier.length; i++) {
+            managersPerTier[i] = 0;
+        }
+    }
+
+    /**
+     * Registers a manager with this policy and assigns it an update phase so
+     * that reduced-tier updates are spread across frames.
+     */
+    void attach(MovementManager manager) {
+        manager.lodPhase = nextPhase++;
+        manager.lodAccumulatedDelta = 0;
+        manager.lodEvaluatedFrame = -1;
+    }
+
+    /**
+     * Decides whether the manager should update on this call.
+     *
+     * @param manager The movement manager
+     * @param delta   Delta time of this call
+     * @return The delta time to apply, or 0 if the update should be skipped
+     */
+    float admit(MovementManager manager, float delta) {
+        if (manager.lodEvaluatedFrame != frame) {
+            MovementLODTier previous = manager.lodTier;
+            manager.lodTier = classify(manager.getMovableEntity());
+            manager.lodEvaluatedFrame = frame;
+            managersPerTier[manager.lodTier.ordinal()]++;
+
+            // Time spent dormant is only partially recovered
+            if (previous == MovementLODTier.DORMANT && manager.lodTier != MovementLODTier.DORMANT) {
+                manager.lodAccumulatedDelta = Math.min(manager.lodAccumulatedDelta, maxCatchUpDelta);
+            }
+        }
+
+        MovementLODTier tier = manager.lodTier;
+        boolean update;
+        switch (tier) {
+            case FULL:
+                update = true;
+                break;
+            case REDUCED:
+                update = (frame + manager.lodPhase) % reducedInterval == 0;
+                break;
+            default:
+                update = false;
+                break;
+        }
+
+        if (!update) {
+            manager.lodAccumulatedDelta += delta;
+            if (tier == MovementLODTier.DORMANT) {
+                manager.lodAccumulatedDelta = Math.min(manager.lodAccumulatedDelta, maxCatchUpDelta);
+            }
+            skipsPerTier[tier.ordinal()]++;
+            return 0;
+        }
+
+        float catchUp = Math.min(manager.lodAccumulatedDelta + delta, maxCatchUpDelta + delta);
+        manager.lodAccumulatedDelta = 0;
+        updatesPerTier[tier.ordinal()]++;
+        return catchUp;
+    }
+
+    private MovementLODTier classify(IMovable movable) {
+        float dx = movable.getX() - focusX;
+        float dy = movable.getY() - focusY;
+        float distanceSquared = dx * dx + dy * dy;
+        boolean visible = isVisible(movable);
+
+        if (visible && distanceSquared <= nearDistanceSquared) {
+            return MovementLODTier.FULL;
+        }
+        if (visible || distanceSquared <= farDistanceSquared) {
+            return MovementLODTier.REDUCED;
+        }
+        return MovementLODTier.DORMANT;
+    }
+
+    private boolean isVisible(IMovable movable) {
+        if (camera == null) {
+            return true;
+        }
+        return camera.frustum.boundsInFrustum(movable.getX(), movable.getY(), 0,
+                frustumMargin, frustumMargin, 1f);
+    }
+
+    /**
+     * Gets the number of managers evaluated in the given tier this frame.
+     */
+    public int getManagerCount(MovementLODTier tier) {
+        return managersPerTier[tier.ordinal()];
+    }
+
+    /**
+     * Gets the total number of updates performed in the given tier.
+     */
+    public long getUpdateCount(MovementLODTier tier) {
+        return updatesPerTier[tier.ordinal()];
+    }
+
+    /**
+     * Gets the total number of updates skipped in the given tier.
+     */
+    public long getSkippedCount(MovementLODTier tier) {
+        return skipsPerTier[tier.ordinal()];
+    }
+
+    /**
+     * Resets the cumulative update and skip counters.
+     */
+    public void resetCounters() {
+        for (int i = 0; i < updatesPerTier.length; i++) {
+            updatesPerTier[i] = 0;
+            skipsPerTier[i] = 0;
+        }
+    }
+
+    /**
+     * Logs the per-tier counters at debug level.
+     */
+    public void logStatistics() {
+        for (MovementLODTier tier : MovementLODTier.values()) {
+            LOGGER.debug("LOD {0}: managers={1}, updates={2}, skipped={3}", tier,
+                    managersPerTier[tier.ordinal()], updatesPerTier[tier.ordinal()],
+                    skipsPerTier[tier.ordinal()]);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package project.game.engine.entitysystem.movement.management;
+
+/**
+ * Level-of-detail tiers used by {@link MovementLODPolicy} to decide how often a
+ * movement manager is updated.
+ */
+public enum MovementLODTier {
+    /** Updated every frame. */
+    FULL,
+    /** Updated every N frames with the accumulated delta time. */
+    REDUCED,
+    /** Not updated until it moves back into a higher tier. */
+    DORMANT
+}
@@ -8,18 +8,40 @@ import com.badlogic.gdx.math.Vector2;
 import project.game.common.exception.MovementException;
 import project.game.common.logging.core.GameLogger;
 import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.api.IMovementFailureSink;
 import project.game.engine.entitysystem.movement.api.IMovementManager;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.api.ITickClock;
+import project.game.engine.io.binding.DirectionTable;
+import project.game.engine.io.management.KeyboardState;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.MetricsRegistry;
+import project.game.engine.profiling.event.MovementEvaluationEvent;
 
 /**
  * MovementManager manages movement for entities implementing IMovable.
+ * 
+ * The movable and strategy are checked when the manager is built, so updates
+ * run the strategy without further checks. This is the only place a failure
+ * during an update is caught: it is reported to the failure sink, and then the
+ * entity is stopped in lenient mode or the failure is rethrown otherwise.
  */
 public class MovementManager implements IMovementManager {
 
     private static final GameLogger LOGGER = new GameLogger(MovementManager.class);
+    private static final Counter UPDATES = MetricsRegistry.getInstance().counter("movement.updates");
     private final IMovable movable;
     private final boolean lenientMode;
     private IMovementStrategy movementStrategy;
+    private ITickClock tickClock = GdxFrameClock.INSTANCE;
+    private IMovementFailureSink failureSink = MovementFailureCounter.getInstance();
+
+    // Level-of-detail state, managed by MovementLODPolicy
+    private MovementLODPolicy lodPolicy;
+    MovementLODTier lodTier = MovementLODTier.FULL;
+    float lodAccumulatedDelta;
+    long lodEvaluatedFrame = -1;
+    int lodPhase;
 
     /**
      * Constructs a MovementManager with the specified parameters.
@@ -75,29 +97,99 @@ public class MovementManager implements IMovementManager {
         this.movementStrategy = movementStrategy;
     }
 
+    /**
+     * Sets the clock that drives movement updates. Managers use the LibGDX
+     * frame timer until a clock is set.
+     */
+    public void setTickClock(ITickClock tickClock) {
+        if (tickClock == null) {
+            String msg = "Tick clock cannot be null.";
+            LOGGER.fatal(msg);
+            throw new MovementException(msg);
+        }
+        this.tickClock = tickClock;
+    }
+
+    public ITickClock getTickClock() {
+        return tickClock;
+    }
+
+    /**
+     * Sets the sink that failed updates are reported to. Managers report to
+     * the shared {@link MovementFailureCounter} until a sink is set.
+     */
+    public void setFailureSink(IMovementFailureSink failureSink) {
+        if (failureSink == null) {
+            String msg = "Failure sink cannot be null.";
+            LOGGER.fatal(msg);
+            throw new MovementException(msg);
+        }
+        this.failureSink = failureSink;
+    }
+
+    public IMovementFailureSink getFailureSink() {
+        return failureSink;
+    }
+
+    /**
+     * Sets the level-of-detail policy used to throttle updates of this manager.
+     * Pass null to update every frame.
+     */
+    public void setLODPolicy(MovementLODPolicy lodPolicy) {
+        this.lodPolicy = lodPolicy;
+        if (lodPolicy != null) {
+            lodPolicy.attach(this);
+        } else {
+            lodTier = MovementLODTier.FULL;
+        }
+    }
+
+    public MovementLODPolicy getLODPolicy() {
+        return lodPolicy;
+    }
+
+    /**
+     * Gets the level-of-detail tier this manager was last assigned.
+     */
+    public MovementLODTier getLODTier() {
+        return lodTier;
+    }
+
     public boolean isLenientMode() {
         return lenientMode;
     }
 
     public void applyMovementUpdate(float dt) {
-        if (movementStrategy == null) {
-            LOGGER.fatal("Cannot update position: movement strategy is not set.");
-            return;
-        }
-
+        UPDATES.increment();
+        MovementEvaluationEvent event = new MovementEvaluationEvent();
+        event.begin();
+        boolean failed = true;
         try {
             movementStrategy.move(movable, dt);
-        } catch (Exception e) {
-            String errorMessage = "Error during movement strategy update: " + e.getMessage();
-            LOGGER.fatal(errorMessage, e);
-            if (lenientMode) {
-                movable.clearVelocity();
-            } else {
-                throw new MovementException(errorMessage, e);
+            failed = false;
+        } catch (RuntimeException e) {
+            handleUpdateFailure(e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.strategy = movementStrategy.getClass().getSimpleName();
+                event.entityType = movable.getClass().getSimpleName();
+                event.deltaTime = dt;
+                event.failed = failed;
+                event.commit();
             }
         }
     }
 
+    private void handleUpdateFailure(RuntimeException e) {
+        failureSink.recordFailure(movementStrategy, e);
+        if (lenientMode) {
+            movable.clearVelocity();
+        } else {
+            throw new MovementException("Error during movement strategy update: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public IMovable getMovableEntity() {
         return movable;
@@ -105,15 +197,14 @@ public class MovementManager implements IMovementManager {
 
     @Override
     public void updateMovement() {
-        float dt = com.badlogic.gdx.Gdx.graphics.getDeltaTime();
-        try {
-            applyMovementUpdate(dt);
-        } catch (Exception e) {
-            LOGGER.fatal("Error updating movement: " + e.getMessage(), e);
-            if (!lenientMode) {
-                throw new MovementException("Failed to update movement", e);
+        float dt = tickClock.getDeltaTime();
+        if (lodPolicy != null) {
+            dt = lodPolicy.admit(this, dt);
+            if (dt <= 0) {
+                return;
             }
         }
+        applyMovementUpdate(dt);
     }
 
     @Override
@@ -136,4 +227,18 @@ public class MovementManager implements IMovementManager {
 
         movable.setVelocity(resultVelocity);
     }
+
+    /**
+     * Sets the velocity from the held direction keys using a precomputed
+     * direction table, without boxing or allocation.
+     * 
+     * @param keyboard   The current keyboard state
+     * @param directions The compiled key bindings
+     */
+    @Override
+    public void updateVelocity(KeyboardState keyboard, DirectionTable directions) {
+        int mask = directions.maskOf(keyboard);
+        float speed = movable.getSpeed();
+        movable.setVelocity(directions.getX(mask) * speed, directions.getY(mask) * speed);
+    }
 }
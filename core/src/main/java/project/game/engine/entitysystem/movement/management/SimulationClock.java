@@ -0,0 +1,90 @@
+package project.game.engine.entitysystem.movement.management;
+
+import project.game.engine.entitysystem.movement.api.ITickClock;
+
+/**
+ * Tick clock advanced explicitly by its owner.
+ * 
+ * Scenes advance it once per frame with the frame's delta time; headless
+ * harnesses can advance it by a fixed step as fast as they like.
+ */
+public class SimulationClock implements ITickClock {
+
+    private final float fixedDelta;
+    private float deltaTime;
+    private long tick;
+    private double elapsedTime;
+
+    /**
+     * Creates a clock that is advanced with a variable time step.
+     */
+    public SimulationClock() {
+        this.fixedDelta = 0;
+    }
+
+    /**
+     * Creates a clock with a fixed time step used by {@link #step()}.
+     * 
+     * @param fixedDelta Time step in seconds
+     */
+    public SimulationClock(float fixedDelta) {
+        if (fixedDelta <= 0) {
+            throw new IllegalArgumentException("Fixed time step must be positive: " + fixedDelta);
+        }
+        this.fixedDelta = fixedDelta;
+    }
+
+    /**
+     * Starts a new tick with the given time step.
+     * 
+     * @param deltaTime Time step in seconds
+     */
+    public void advance(float deltaTime) {
+        if (deltaTime < 0 || Float.isNaN(deltaTime)) {
+            throw new IllegalArgumentException("Time step cannot be negative: " + deltaTime);
+        }
+        this.deltaTime = deltaTime;
+        this.tick++;
+        this.elapsedTime += deltaTime;
+    }
+
+    /**
+     * Starts a new tick with the fixed time step.
+     */
+    public void step() {
+        if (fixedDelta <= 0) {
+            throw new IllegalStateException("Clock has no fixed time step");
+        }
+        advance(fixedDelta);
+    }
+
+    /**
+     * Resets the clock to tick zero.
+     */
+    public void reset() {
+        deltaTime = 0;
+        tick = 0;
+        elapsedTime = 0;
+    }
+
+    @Override
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+
+    @Override
+    public long getTick() {
+        return tick;
+    }
+
+    public float getFixedDelta() {
+        return fixedDelta;
+    }
+
+    /**
+     * Gets the total simulated time since the clock was created or reset.
+     */
+    public double getElapsedTime() {
+        return elapsedTime;
+    }
+}
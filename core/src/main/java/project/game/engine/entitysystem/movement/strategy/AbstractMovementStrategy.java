@@ -125,17 +125,6 @@ public abstract class AbstractMovementStrategy implements IMovementStrategy {
         return value;
     }
 
-    /**
-     * Handles exceptions during movement updates
-     * 
-     * @param e            The exception to handle
-     * @param errorMessage The error message to log
-     * @throws MovementException if not in lenient mode
-     */
-    protected void handleMovementException(Exception e, String errorMessage) {
-        logger.error(errorMessage, e);
-    }
-
     /**
      * Safe method to get velocity, ensuring a non-null vector is returned
      * 
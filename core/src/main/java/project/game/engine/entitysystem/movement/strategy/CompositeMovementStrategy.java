@@ -6,7 +6,6 @@ import java.util.List;
 import com.badlogic.gdx.math.Vector2;
 
 import project.game.common.exception.MovementException;
-import project.game.common.logging.core.GameLogger;
 import project.game.engine.entitysystem.movement.api.ICompositeMovementStrategy;
 import project.game.engine.entitysystem.movement.api.IMovable;
 import project.game.engine.entitysystem.movement.api.IMovementStrategy;
@@ -17,7 +16,6 @@ import project.game.engine.entitysystem.movement.api.IMovementStrategy;
  */
 public class CompositeMovementStrategy implements ICompositeMovementStrategy {
 
-    private static final GameLogger LOGGER = new GameLogger(CompositeMovementStrategy.class);
     private final List<IMovementStrategy> strategies = new ArrayList<>();
     private float[] weights;
 
@@ -189,36 +187,30 @@ public class CompositeMovementStrategy implements ICompositeMovementStrategy {
 
     @Override
     public void move(IMovable movable, float deltaTime) {
-        try {
-            // Create temporary state for capturing movement from each strategy
-            TempMovableState tempState = new TempMovableState(movable);
-            Vector2 resultVelocity = new Vector2(0, 0);
-
-            // Apply each strategy with its weight
-            for (int i = 0; i < strategies.size(); i++) {
-                IMovementStrategy strategy = strategies.get(i);
-                if (strategy != null) {
-                    // Reset temp state position for each strategy so they all start from the
-                    // original position
-                    if (i > 0)
-                        tempState.resetPosition(movable);
-
-                    float weight = weights[i];
-                    applyStrategyWithWeight(strategy, tempState, deltaTime, weight, resultVelocity);
-                }
+        // Create temporary state for capturing movement from each strategy
+        TempMovableState tempState = new TempMovableState(movable);
+        Vector2 resultVelocity = new Vector2(0, 0);
+
+        // Apply each strategy with its weight
+        for (int i = 0; i < strategies.size(); i++) {
+            IMovementStrategy strategy = strategies.get(i);
+            if (strategy != null) {
+                // Reset temp state position for each strategy so they all start from the
+                // original position
+                if (i > 0)
+                    tempState.resetPosition(movable);
+
+                float weight = weights[i];
+                applyStrategyWithWeight(strategy, tempState, deltaTime, weight, resultVelocity);
             }
+        }
 
-            // Apply the final weighted position and velocity to the actual movable
-            movable.setX(tempState.finalX);
-            movable.setY(tempState.finalY);
-
-            // Make sure velocity is set consistently
-            movable.setVelocity(resultVelocity);
+        // Apply the final weighted position and velocity to the actual movable
+        movable.setX(tempState.finalX);
+        movable.setY(tempState.finalY);
 
-        } catch (Exception e) {
-            LOGGER.error("Error in CompositeMovementStrategy: " + e.getMessage(), e);
-            throw new MovementException("Failed to apply composite movement", e);
-        }
+        // Make sure velocity is set consistently
+        movable.setVelocity(resultVelocity);
     }
 
     /**
@@ -0,0 +1,203 @@
+package project.game.engine.entitysystem.movement.strategy;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.application.movement.api.StrategyType;
+import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+
+/**
+ * A flattened form of a tree of composite and delegating strategies, produced
+ * by {@link MovementStrategyCompiler}.
+ *
+ * The tree is stored as a flat program of leaf strategies and group markers
+ * with weights normalised and multiplied out at compile time. Every leaf runs
+ * against a single reusable scratch state starting from the entity's original
+ * position, exactly as {@link CompositeMovementStrategy} does, and the
+ * weighted position and velocity deltas are accumulated directly. Velocity
+ * carried from one sibling to the next is blended per group so leaves observe
+ * the same input velocity as in the unflattened tree.
+ *
+ * Weights are captured when the strategy is compiled; later changes to the
+ * source composites are not picked up. A leaf that fails leaves the entity
+ * untouched, since leaves only ever move the scratch state.
+ */
+public class FusedMovementStrategy extends AbstractMovementStrategy {
+
+    // Program opcodes; non-negative values are leaf indices
+    static final int BEGIN_GROUP = -1;
+    static final int END_GROUP = -2;
+
+    private final IMovementStrategy source;
+    private final IMovementStrategy[] leaves;
+    private final int[] program;
+    // Weight of a leaf relative to the root, used for position
+    private final float[] effectiveWeights;
+    // Weight of a leaf or group relative to its own group, used for velocity
+    private final float[] localWeights;
+
+    // Per-group velocity accumulators and saved speeds, indexed by depth
+    private final float[] groupVelocityX;
+    private final float[] groupVelocityY;
+    private final float[] groupSpeed;
+
+    private final ScratchMovable scratch = new ScratchMovable();
+    private final Vector2 resultVelocity = new Vector2();
+
+    FusedMovementStrategy(IMovementStrategy source, IMovementStrategy[] leaves, int[] program,
+            float[] effectiveWeights, float[] localWeights, int maxDepth, boolean lenientMode) {
+        super(FusedMovementStrategy.class, lenientMode);
+        this.source = source;
+        this.leaves = leaves;
+        this.program = program;
+        this.effectiveWeights = effectiveWeights;
+        this.localWeights = localWeights;
+        this.groupVelocityX = new float[maxDepth + 1];
+        this.groupVelocityY = new float[maxDepth + 1];
+        this.groupSpeed = new float[maxDepth + 1];
+    }
+
+    /**
+     * Gets the strategy this one was compiled from.
+     */
+    public IMovementStrategy getSource() {
+        return source;
+    }
+
+    public int getLeafCount() {
+        return leaves.length;
+    }
+
+    /**
+     * Reports the source strategy's type so callers checking types see the
+     * same behaviour as before flattening.
+     */
+    @Override
+    public StrategyType getStrategyType() {
+        return source.getStrategyType();
+    }
+
+    @Override
+    public void move(IMovable movable, float deltaTime) {
+        float originX = movable.getX();
+        float originY = movable.getY();
+        float deltaX = 0;
+        float deltaY = 0;
+        scratch.reset(movable);
+
+        int depth = 0;
+        groupVelocityX[0] = 0;
+        groupVelocityY[0] = 0;
+
+        for (int pc = 0; pc < program.length; pc++) {
+            int op = program[pc];
+            if (op >= 0) {
+                scratch.x = originX;
+                scratch.y = originY;
+                leaves[op].move(scratch, deltaTime);
+
+                float weight = effectiveWeights[pc];
+                deltaX += (scratch.x - originX) * weight;
+                deltaY += (scratch.y - originY) * weight;
+
+                float localWeight = localWeights[pc];
+                groupVelocityX[depth] += scratch.velocity.x * localWeight;
+                groupVelocityY[depth] += scratch.velocity.y * localWeight;
+            } else if (op == BEGIN_GROUP) {
+                depth++;
+                groupVelocityX[depth] = 0;
+                groupVelocityY[depth] = 0;
+                groupSpeed[depth] = scratch.speed;
+            } else {
+                // A nested composite hands its blended velocity on to the
+                // next sibling, and speed changes inside it do not leak out
+                float velocityX = groupVelocityX[depth];
+                float velocityY = groupVelocityY[depth];
+                scratch.speed = groupSpeed[depth];
+                scratch.velocity.set(velocityX, velocityY);
+                depth--;
+
+                float localWeight = localWeights[pc];
+                groupVelocityX[depth] += velocityX * localWeight;
+                groupVelocityY[depth] += velocityY * localWeight;
+            }
+        }
+
+        movable.setX(originX + deltaX);
+        movable.setY(originY + deltaY);
+        movable.setVelocity(resultVelocity.set(groupVelocityX[0], groupVelocityY[0]));
+    }
+
+    /**
+     * Scratch state that leaves move instead of the real entity.
+     */
+    private static final class ScratchMovable implements IMovable {
+        private float x, y;
+        private float speed;
+        private final Vector2 velocity = new Vector2();
+
+        void reset(IMovable source) {
+            this.x = source.getX();
+            this.y = source.getY();
+            this.speed = source.getSpeed();
+            this.velocity.set(source.getVelocity());
+        }
+
+        @Override
+        public float getX() {
+            return x;
+        }
+
+        @Override
+        public float getY() {
+            return y;
+        }
+
+        @Override
+        public void setX(float x) {
+            this.x = x;
+        }
+
+        @Override
+        public void setY(float y) {
+            this.y = y;
+        }
+
+        @Override
+        public float getSpeed() {
+            return speed;
+        }
+
+        @Override
+        public void setSpeed(float speed) {
+            this.speed = speed;
+        }
+
+        @Override
+        public Vector2 getVelocity() {
+            return velocity;
+        }
+
+        @Override
+        public void setVelocity(Vector2 velocity) {
+            this.velocity.set(velocity);
+        }
+
+        @Override
+        public void setVelocity(float x, float y) {
+            this.velocity.set(x, y);
+        }
+
+        @Override
+        public void normalizeVelocity() {
+            if (velocity.len2() > 0) {
+                velocity.nor();
+            }
+        }
+
+        @Override
+        public void clearVelocity() {
+            velocity.set(0, 0);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package project.game.engine.entitysystem.movement.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import project.game.common.exception.MovementException;
+import project.game.common.logging.core.GameLogger;
+import project.game.engine.entitysystem.movement.api.IDelegatingStrategy;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+
+/**
+ * Flattens trees of {@link CompositeMovementStrategy} and
+ * {@link IDelegatingStrategy} wrappers into a single
+ * {@link FusedMovementStrategy}.
+ *
+ * Delegating wrappers are skipped, nested composites are inlined with their
+ * weights multiplied through, and any other strategy becomes a leaf. Intended
+ * to run once when a movement manager is built, after the strategy tree has
+ * been fully configured.
+ */
+public final class MovementStrategyCompiler {
+
+    private static final GameLogger LOGGER = new GameLogger(MovementStrategyCompiler.class);
+
+    private final List<IMovementStrategy> leaves = new ArrayList<>();
+    private final Map<IMovementStrategy, Boolean> visiting = new IdentityHashMap<>();
+    private int[] program = new int[8];
+    private float[] effectiveWeights = new float[8];
+    private float[] localWeights = new float[8];
+    private int length = 0;
+    private int maxDepth = 0;
+
+    private MovementStrategyCompiler() {
+    }
+
+    /**
+     * Compiles a strategy tree.
+     *
+     * @param strategy The root of the strategy tree
+     * @return A fused strategy, or the original strategy if it does not
+     *         contain a composite to flatten
+     */
+    public static IMovementStrategy compile(IMovementStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy to compile cannot be null");
+        }
+
+        // The fused strategy takes its lenient mode from the outermost wrapper
+        boolean lenientMode = false;
+        boolean lenientModeFound = false;
+        IMovementStrategy root = strategy;
+        while (!(root instanceof CompositeMovementStrategy)) {
+            if (!lenientModeFound && root instanceof AbstractMovementStrategy) {
+                lenientModeFound = true;
+                lenientMode = ((AbstractMovementStrategy) root).lenientMode;
+            }
+            IMovementStrategy delegate = delegateOf(root);
+            if (delegate == null) {
+                return strategy;
+            }
+            root = delegate;
+        }
+
+        MovementStrategyCompiler compiler = new MovementStrategyCompiler();
+        compiler.emitGroup((CompositeMovementStrategy) root, 1f, 0);
+
+        FusedMovementStrategy fused = new FusedMovementStrategy(
+                strategy,
+                compiler.leaves.toArray(new IMovementStrategy[0]),
+                Arrays.copyOf(compiler.program, compiler.length),
+                Arrays.copyOf(compiler.effectiveWeights, compiler.length),
+                Arrays.copyOf(compiler.localWeights, compiler.length),
+                compiler.maxDepth,
+                lenientMode);
+        LOGGER.debug("Compiled {0} into {1} leaves, depth {2}", strategy.getClass().getSimpleName(),
+                compiler.leaves.size(), compiler.maxDepth);
+        return fused;
+    }
+
+    private void emitGroup(CompositeMovementStrategy composite, float groupWeight, int depth) {
+        if (visiting.put(composite, Boolean.TRUE) != null) {
+            throw new MovementException("Cannot compile a strategy tree that contains itself");
+        }
+        maxDepth = Math.max(maxDepth, depth);
+
+        List<IMovementStrategy> children = composite.getAllStrategies();
+        for (int i = 0; i < children.size(); i++) {
+            IMovementStrategy child = unwrap(children.get(i));
+            if (child == null) {
+                continue;
+            }
+            float weight = composite.getWeight(i);
+            if (child instanceof CompositeMovementStrategy) {
+                append(FusedMovementStrategy.BEGIN_GROUP, 0, 0);
+                emitGroup((CompositeMovementStrategy) child, groupWeight * weight, depth + 1);
+                append(FusedMovementStrategy.END_GROUP, 0, weight);
+            } else {
+                append(leaves.size(), groupWeight * weight, weight);
+                leaves.add(child);
+            }
+        }
+
+        visiting.remove(composite);
+    }
+
+    /**
+     * Follows delegating wrappers down to a composite, or returns the strategy
+     * itself if it is not a skippable wrapper around one.
+     */
+    private static IMovementStrategy unwrap(IMovementStrategy strategy) {
+        IMovementStrategy current = strategy;
+        while (current != null && !(current instanceof CompositeMovementStrategy)) {
+            IMovementStrategy delegate = delegateOf(current);
+            if (delegate == null) {
+                return strategy;
+            }
+            current = delegate;
+        }
+        return current;
+    }
+
+    private static IMovementStrategy delegateOf(IMovementStrategy strategy) {
+        return strategy instanceof IDelegatingStrategy ? ((IDelegatingStrategy) strategy).getDelegate() : null;
+    }
+
+    private void append(int op, float effectiveWeight, float localWeight) {
+        if (length == program.length) {
+            program = Arrays.copyOf(program, length * 2);
+            effectiveWeights = Arrays.copyOf(effectiveWeights, length * 2);
+            localWeights = Arrays.copyOf(localWeights, length * 2);
+        }
+        program[length] = op;
+        effectiveWeights[length] = effectiveWeight;
+        localWeights[length] = localWeight;
+        length++;
+    }
+}
@@ -0,0 +1,66 @@
+package project.game.engine.entitysystem.physics.collision.detection;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Counts Box2D contacts as they begin, in total and per pair of body user data
+ * classes. Counts are cumulative; callers interested in a rate take deltas.
+ */
+public class ContactStatistics {
+
+    private final Map<Class<?>, Map<Class<?>, long[]>> pairCounts = new IdentityHashMap<>();
+    private long totalContacts;
+
+    /**
+     * Records the start of a contact between two bodies.
+     *
+     * @param userDataA User data of the first body, may be null
+     * @param userDataB User data of the second body, may be null
+     */
+    public void record(Object userDataA, Object userDataB) {
+        totalContacts++;
+        Class<?> classA = userDataA != null ? userDataA.getClass() : Void.class;
+        Class<?> classB = userDataB != null ? userDataB.getClass() : Void.class;
+        counter(classA, classB)[0]++;
+        if (classA != classB) {
+            counter(classB, classA)[0]++;
+        }
+    }
+
+    public long getTotalContacts() {
+        return totalContacts;
+    }
+
+    /**
+     * Gets the number of contacts recorded between two classes of user data, in
+     * either order.
+     */
+    public long getContactCount(Class<?> classA, Class<?> classB) {
+        Map<Class<?>, long[]> row = pairCounts.get(classA);
+        if (row == null) {
+            return 0;
+        }
+        long[] count = row.get(classB);
+        return count != null ? count[0] : 0;
+    }
+
+    public void reset() {
+        pairCounts.clear();
+        totalContacts = 0;
+    }
+
+    private long[] counter(Class<?> classA, Class<?> classB) {
+        Map<Class<?>, long[]> row = pairCounts.get(classA);
+        if (row == null) {
+            row = new IdentityHashMap<>();
+            pairCounts.put(classA, row);
+        }
+        long[] count = row.get(classB);
+        if (count == null) {
+            count = new long[1];
+            row.put(classB, count);
+        }
+        return count;
+    }
+}
@@ -83,8 +83,8 @@ public class CollisionVisitorResolver {
     }
 
     public void debugPrintRegistrations() {
-        LOGGER.info("Registered targets: " + collisionTargets.size());
-        LOGGER.info("Registered visitors: " + collisionVisitors.size());
+        LOGGER.info("Registered targets: {0}", collisionTargets.size());
+        LOGGER.info("Registered visitors: {0}", collisionVisitors.size());
     }
 
     /**
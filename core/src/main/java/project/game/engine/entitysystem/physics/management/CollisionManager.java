@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Contact;
@@ -27,10 +28,18 @@ import project.game.engine.entitysystem.movement.management.MovementManager;
 import project.game.engine.entitysystem.physics.api.ICollidableVisitor;
 import project.game.engine.entitysystem.physics.api.ICollisionPairHandler;
 import project.game.engine.entitysystem.physics.collision.detection.CollisionPairTracker;
+import project.game.engine.entitysystem.physics.collision.detection.ContactStatistics;
 import project.game.engine.entitysystem.physics.collision.resolution.CollisionResponseHandler;
 import project.game.engine.entitysystem.physics.collision.resolution.CollisionVisitorResolver;
 import project.game.engine.entitysystem.physics.lifecycle.PhysicsBodyRemovalRequest;
 import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogSite;
+import project.game.engine.metrics.Counter;
+import project.game.engine.metrics.Histogram;
+import project.game.engine.metrics.MetricsRegistry;
+import project.game.engine.profiling.event.ContactBurstEvent;
+import project.game.engine.profiling.event.WorldStepEvent;
 
 /**
  * CollisionManager is a class that manages the collision detection and
@@ -39,6 +48,13 @@ import project.game.engine.io.management.SceneInputManager;
 public class CollisionManager implements ContactListener {
 
     private static final GameLogger LOGGER = new GameLogger(CollisionManager.class);
+    private static final LogSite REMOVAL_SCHEDULED_LOG = new LogSite("CollisionManager.scheduleBodyRemoval");
+    private static final LogSite REMOVAL_REPEATED_LOG = new LogSite("CollisionManager.scheduleBodyRemoval.repeated");
+    private static final Counter CONTACTS_BEGUN = MetricsRegistry.getInstance().counter("physics.contacts.begun");
+    private static final Counter CONTACTS_ENDED = MetricsRegistry.getInstance().counter("physics.contacts.ended");
+    private static final Counter BODIES_REMOVED = MetricsRegistry.getInstance().counter("physics.bodies.removed");
+    private static final Histogram STEP_MICROS = MetricsRegistry.getInstance().histogram("physics.step.micros",
+            100, 250, 500, 1000, 2000, 4000, 8000, 16000);
     private final World world;
     private final List<Runnable> collisionQueue;
     private final SceneInputManager inputManager;
@@ -48,7 +64,10 @@ public class CollisionManager implements ContactListener {
     private final Map<MovementManager, Boolean> playerControlledMap;
     private final Queue<PhysicsBodyRemovalRequest> removalQueue = new LinkedList<>();
     private final Set<Entity> entitiesScheduledForRemoval = new HashSet<>();
+    private final ContactStatistics contactStatistics = new ContactStatistics();
     private boolean collided = false;
+    private int contactsBegunThisStep;
+    private int contactsEndedThisStep;
     private float collisionMovementStrength;
     private float movementThreshold;
     private long defaultCollisionDuration;
@@ -64,6 +83,14 @@ public class CollisionManager implements ContactListener {
         collisionResolver.registerBoundary();
     }
 
+    /**
+     * Points the physics.removals.queued gauge at this manager. Called by the
+     * scene that owns it when the scene is shown.
+     */
+    public void bindMetrics() {
+        MetricsRegistry.getInstance().gauge("physics.removals.queued", removalQueue::size);
+    }
+
     /**
      * Configure collision-related parameters
      * 
@@ -84,10 +111,45 @@ public class CollisionManager implements ContactListener {
         world.setContactListener(this);
     }
 
+    /**
+     * Steps the world. While a flight recording is running the step is
+     * recorded as a {@link WorldStepEvent}, and the contacts that began and
+     * ended during it as a {@link ContactBurstEvent}.
+     */
+    public void stepWorld(float timeStep, int velocityIterations, int positionIterations) {
+        contactsBegunThisStep = 0;
+        contactsEndedThisStep = 0;
+
+        WorldStepEvent event = new WorldStepEvent();
+        event.begin();
+        long start = System.nanoTime();
+        world.step(timeStep, velocityIterations, positionIterations);
+        STEP_MICROS.record((System.nanoTime() - start) / 1000.0);
+        event.end();
+        if (event.shouldCommit()) {
+            event.timeStep = timeStep;
+            event.velocityIterations = velocityIterations;
+            event.positionIterations = positionIterations;
+            event.bodies = world.getBodyCount();
+            event.contacts = world.getContactCount();
+            event.commit();
+        }
+        CONTACTS_BEGUN.add(contactsBegunThisStep);
+        CONTACTS_ENDED.add(contactsEndedThisStep);
+        ContactBurstEvent.emit(contactsBegunThisStep, contactsEndedThisStep);
+    }
+
     public boolean collision() {
         return collided;
     }
 
+    /**
+     * Gets the running count of contacts that have begun, by body type.
+     */
+    public ContactStatistics getContactStatistics() {
+        return contactStatistics;
+    }
+
     /**
      * Add an entity to the collision manager with its associated movement manager.
      * If the movement manager is a PlayerMovementManager, it will be marked as
@@ -117,9 +179,12 @@ public class CollisionManager implements ContactListener {
         if (!entitiesScheduledForRemoval.contains(entity)) {
             removalQueue.add(new PhysicsBodyRemovalRequest(body, entity, removalListener));
             entitiesScheduledForRemoval.add(entity);
-            System.out.println("Scheduled removal for entity: " + entity);
+            LOGGER.logAtMostEvery(REMOVAL_SCHEDULED_LOG, 1, TimeUnit.SECONDS, LogLevel.DEBUG,
+                    "Scheduled removal for entity: {0}", entity);
         } else {
-            System.out.println("Entity already scheduled for removal: " + entity);
+            // Every contact with an entity awaiting removal lands here
+            LOGGER.logAtMostEvery(REMOVAL_REPEATED_LOG, 1, TimeUnit.SECONDS, LogLevel.DEBUG,
+                    "Entity already scheduled for removal: {0}", entity);
         }
     }
 
@@ -133,6 +198,7 @@ public class CollisionManager implements ContactListener {
 
             // Destroy the body
             world.destroyBody(request.getBody());
+            BODIES_REMOVED.increment();
 
             // Notify listener if provided
             if (request.getRemovalListener() != null) {
@@ -148,7 +214,7 @@ public class CollisionManager implements ContactListener {
             if (manager != null) {
                 // Only apply keyboard input to player-controlled movement managers
                 if (isPlayerControlled(manager)) {
-                    manager.updateVelocity(inputManager.getPressedKeys(), inputManager.getKeyBindings());
+                    manager.updateVelocity(inputManager.getKeyboardState(), inputManager.getDirectionTable());
                 }
 
                 // Update all movement managers, regardless of type
@@ -201,6 +267,9 @@ public class CollisionManager implements ContactListener {
         // " and " +
         // (userDataB != null ? userDataB.getClass().getSimpleName() : "null"));
 
+        contactStatistics.record(userDataA, userDataB);
+        contactsBegunThisStep++;
+
         // Add to active collisions using our visitor pattern handler
         collisionPairTracker.addCollisionPair(userDataA, userDataB);
 
@@ -219,6 +288,8 @@ public class CollisionManager implements ContactListener {
         Object userDataA = fixtureA.getBody().getUserData();
         Object userDataB = fixtureB.getBody().getUserData();
 
+        contactsEndedThisStep++;
+
         // Remove from active collisions
         collisionPairTracker.removeCollisionPair(userDataA, userDataB);
 
@@ -0,0 +1,141 @@
+package project.game.engine.io.binding;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.engine.io.management.KeyboardState;
+
+/**
+ * Precomputed movement directions for every combination of held direction
+ * keys.
+ * 
+ * Each distinct direction in the key bindings gets one bit, so four
+ * directions give sixteen combinations. The table stores the normalised sum
+ * of the direction vectors for each combination, which makes resolving the
+ * current direction a few bit tests and an array lookup.
+ */
+public final class DirectionTable {
+
+    public static final int MAX_DIRECTIONS = 4;
+
+    /**
+     * Table with no bindings; always resolves to no movement.
+     */
+    public static final DirectionTable EMPTY = new DirectionTable(new int[0], new int[0], new float[1],
+            new float[1]);
+
+    private final int[] keys;
+    private final int[] keyBits;
+    private final float[] directionX;
+    private final float[] directionY;
+
+    private DirectionTable(int[] keys, int[] keyBits, float[] directionX, float[] directionY) {
+        this.keys = keys;
+        this.keyBits = keyBits;
+        this.directionX = directionX;
+        this.directionY = directionY;
+    }
+
+    /**
+     * Compiles key bindings into a direction table. Keys bound to the same
+     * direction share a bit.
+     * 
+     * @param bindings Key codes mapped to their movement vectors
+     * @return The compiled table
+     * @throws IllegalArgumentException if the bindings use more than
+     *                                  {@link #MAX_DIRECTIONS} distinct
+     *                                  directions
+     */
+    public static DirectionTable compile(Map<Integer, Vector2> bindings) {
+        if (bindings == null || bindings.isEmpty()) {
+            return EMPTY;
+        }
+
+        Vector2[] directions = new Vector2[MAX_DIRECTIONS];
+        int directionCount = 0;
+        int[] keys = new int[bindings.size()];
+        int[] keyBits = new int[bindings.size()];
+        int keyCount = 0;
+
+        for (Map.Entry<Integer, Vector2> binding : bindings.entrySet()) {
+            Vector2 vector = binding.getValue();
+            if (binding.getKey() == null || vector == null) {
+                continue;
+            }
+            int index = 0;
+            while (index < directionCount && !directions[index].equals(vector)) {
+                index++;
+            }
+            if (index == directionCount) {
+                if (directionCount == MAX_DIRECTIONS) {
+                    throw new IllegalArgumentException(
+                            "Key bindings use more than " + MAX_DIRECTIONS + " distinct directions");
+                }
+                directions[directionCount++] = new Vector2(vector);
+            }
+            keys[keyCount] = binding.getKey();
+            keyBits[keyCount] = 1 << index;
+            keyCount++;
+        }
+
+        int combinations = 1 << directionCount;
+        float[] directionX = new float[combinations];
+        float[] directionY = new float[combinations];
+        Vector2 sum = new Vector2();
+        for (int mask = 1; mask < combinations; mask++) {
+            sum.setZero();
+            for (int bit = 0; bit < directionCount; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    sum.add(directions[bit]);
+                }
+            }
+            // Opposite keys cancel out; diagonals are no faster than cardinals
+            if (sum.len2() > 0.0001f) {
+                sum.nor();
+                directionX[mask] = sum.x;
+                directionY[mask] = sum.y;
+            }
+        }
+
+        return new DirectionTable(
+                Arrays.copyOf(keys, keyCount),
+                Arrays.copyOf(keyBits, keyCount),
+                directionX,
+                directionY);
+    }
+
+    /**
+     * Gets the direction bits for the bound keys that are currently held.
+     */
+    public int maskOf(KeyboardState keyboard) {
+        int mask = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keyboard.isPressed(keys[i])) {
+                mask |= keyBits[i];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the x component of the unit direction for a combination of
+     * direction bits, or zero if the combination does not move.
+     */
+    public float getX(int mask) {
+        return directionX[mask];
+    }
+
+    /**
+     * Gets the y component of the unit direction for a combination of
+     * direction bits, or zero if the combination does not move.
+     */
+    public float getY(int mask) {
+        return directionY[mask];
+    }
+
+    public int getBoundKeyCount() {
+        return keys.length;
+    }
+}
@@ -19,6 +19,7 @@ public class KeyBindingsManager {
 
     private static final Logger LOGGER = Logger.getLogger(KeyBindingsManager.class.getName());
     private final Map<Integer, Vector2> keyBindings;
+    private DirectionTable directionTable = DirectionTable.EMPTY;
 
     public KeyBindingsManager() {
         this.keyBindings = new HashMap<>();
@@ -33,6 +34,7 @@ public class KeyBindingsManager {
         keyBindings.put(Input.Keys.S, new Vector2(0, -1)); // Down
         keyBindings.put(Input.Keys.A, new Vector2(-1, 0)); // Left
         keyBindings.put(Input.Keys.D, new Vector2(1, 0)); // Right
+        directionTable = DirectionTable.compile(keyBindings);
     }
 
     // Getter for keyBindings map (for use by other systems)
@@ -40,6 +42,11 @@ public class KeyBindingsManager {
         return keyBindings;
     }
 
+    // Getter for the bindings compiled into a per-combination direction table
+    public DirectionTable getDirectionTable() {
+        return directionTable;
+    }
+
     // Update keyBindings based on new strings provided (e.g., During key rebind)
     public void updateKeyBindings(String upKeyString, String downKeyString, String leftKeyString,
             String rightKeyString) {
@@ -55,6 +62,7 @@ public class KeyBindingsManager {
         keyBindings.put(downKey, new Vector2(0, -1)); // Down
         keyBindings.put(leftKey, new Vector2(-1, 0)); // Left
         keyBindings.put(rightKey, new Vector2(1, 0)); // Right
+        directionTable = DirectionTable.compile(keyBindings);
     }
 
     // Convert a key string (e.g., "W", "UP") to a LibGDX input key code
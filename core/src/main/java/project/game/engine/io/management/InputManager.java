@@ -1,6 +1,5 @@
 package project.game.engine.io.management;
 
-import java.util.HashSet;
 import java.util.Set;
 
 import com.badlogic.gdx.Gdx;
@@ -15,13 +14,13 @@ import com.badlogic.gdx.math.Vector2;
 public class InputManager extends InputAdapter {
 
     private final Vector2 mousePosition;
-    private final Set<Integer> pressedKeys;
+    private final KeyboardState keyboardState;
     private boolean isMouseClicked;
 
     public InputManager() {
         this.mousePosition = new Vector2();
         this.isMouseClicked = false;
-        this.pressedKeys = new HashSet<>();
+        this.keyboardState = new KeyboardState();
     }
 
     public Vector2 getMousePosition() {
@@ -32,8 +31,13 @@ public class InputManager extends InputAdapter {
         return isMouseClicked;
     }
 
+    public KeyboardState getKeyboardState() {
+        return keyboardState;
+    }
+
+    // Snapshot of the pressed keys; allocates, so prefer getKeyboardState()
     public Set<Integer> getPressedKeys() {
-        return pressedKeys;
+        return keyboardState.toSet();
     }
 
     public boolean isKeyJustPressed(int keycode) {
@@ -41,17 +45,17 @@ public class InputManager extends InputAdapter {
     }
 
     public void clearPressedKeys() {
-        getPressedKeys().clear();
+        keyboardState.clear();
     }
 
     @Override
     public boolean keyDown(int keycode) {
-        return pressedKeys.add(keycode);
+        return keyboardState.press(keycode);
     }
 
     @Override
     public boolean keyUp(int keycode) {
-        return pressedKeys.remove(keycode);
+        return keyboardState.release(keycode);
     }
 
     @Override
@@ -0,0 +1,99 @@
+package project.game.engine.io.management;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.badlogic.gdx.Input;
+
+/**
+ * Pressed state of every keyboard key, stored as a bitset.
+ * 
+ * Checking and updating keys works on primitive key codes without boxing or
+ * hashing. Key codes outside the range LibGDX reports are ignored.
+ */
+public class KeyboardState {
+
+    private static final int KEY_COUNT = Input.Keys.MAX_KEYCODE + 1;
+
+    private final long[] words = new long[(KEY_COUNT + 63) >>> 6];
+    private int pressedCount = 0;
+
+    /**
+     * Marks a key as pressed.
+     * 
+     * @return true if the key was not already pressed
+     */
+    public boolean press(int keycode) {
+        if (!isValid(keycode)) {
+            return false;
+        }
+        long bit = 1L << keycode;
+        int word = keycode >>> 6;
+        if ((words[word] & bit) != 0) {
+            return false;
+        }
+        words[word] |= bit;
+        pressedCount++;
+        return true;
+    }
+
+    /**
+     * Marks a key as released.
+     * 
+     * @return true if the key was pressed
+     */
+    public boolean release(int keycode) {
+        if (!isValid(keycode)) {
+            return false;
+        }
+        long bit = 1L << keycode;
+        int word = keycode >>> 6;
+        if ((words[word] & bit) == 0) {
+            return false;
+        }
+        words[word] &= ~bit;
+        pressedCount--;
+        return true;
+    }
+
+    public boolean isPressed(int keycode) {
+        return isValid(keycode) && (words[keycode >>> 6] & (1L << keycode)) != 0;
+    }
+
+    public boolean isAnyPressed() {
+        return pressedCount > 0;
+    }
+
+    public int getPressedCount() {
+        return pressedCount;
+    }
+
+    public void clear() {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = 0;
+        }
+        pressedCount = 0;
+    }
+
+    /**
+     * Copies the pressed keys into a new set. Allocates, so it is meant for
+     * debugging and code that still works with key sets rather than per-frame
+     * use.
+     */
+    public Set<Integer> toSet() {
+        Set<Integer> keys = new HashSet<>();
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                keys.add((word << 6) + bit);
+                bits &= bits - 1;
+            }
+        }
+        return keys;
+    }
+
+    private static boolean isValid(int keycode) {
+        return keycode >= 0 && keycode < KEY_COUNT;
+    }
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 
 import project.game.common.logging.core.GameLogger;
+import project.game.engine.io.binding.DirectionTable;
 import project.game.engine.io.binding.KeyBindingsManager;
 
 /**
@@ -62,6 +63,11 @@ public class SceneInputManager extends InputManager {
         return keyBindingsManager != null ? keyBindingsManager.getKeyBindings() : new HashMap<>();
     }
 
+    // Get key bindings compiled into a direction table (empty if disabled)
+    public DirectionTable getDirectionTable() {
+        return keyBindingsManager != null ? keyBindingsManager.getDirectionTable() : DirectionTable.EMPTY;
+    }
+
     // Reset key bindings to defaults
     public void resetKeyBindingsToDefault() {
         if (keyBindingsManager != null) {
@@ -1,6 +1,7 @@
 package project.game.engine.logging.api;
 
 import java.io.File;
+import java.io.IOException;
 
 /**
  * Interface for managing log files and rotation.
@@ -48,4 +49,28 @@ public interface ILogManager {
      * @param maxFiles maximum number of files
      */
     void setMaxLogFiles(int maxFiles);
+
+    /**
+     * Gets the maximum total size of the log files kept.
+     * 
+     * @return maximum total bytes, or 0 for no limit
+     */
+    long getMaxTotalBytes();
+
+    /**
+     * Sets the maximum total size of the log files kept.
+     * 
+     * @param maxTotalBytes maximum total bytes, or 0 for no limit
+     */
+    void setMaxTotalBytes(long maxTotalBytes);
+
+    /**
+     * Ends the current log file and makes a new one current. The old file is
+     * handed to the implementation's retention, which may compress or delete
+     * it later.
+     * 
+     * @return the new current log file, not yet opened
+     * @throws IOException if the new file cannot be created
+     */
+    File rollOver() throws IOException;
 }
\ No newline at end of file
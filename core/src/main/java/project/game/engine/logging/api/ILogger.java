@@ -1,8 +1,15 @@
 package project.game.engine.logging.api;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * Interface for loggers.
  * Provides methods for logging messages at different levels.
+ *
+ * The fixed-arity, primitive and supplier overloads check the level before
+ * anything is allocated, so a disabled statement costs no argument array,
+ * boxing or message building.
  */
 public interface ILogger {
     
@@ -145,6 +152,466 @@ public interface ILogger {
      */
     void fatal(String message, Throwable thrown);
 
+    /**
+     * Checks if logging is enabled for TRACE level.
+     *
+     * @return true if TRACE messages are logged
+     */
+    boolean isTraceEnabled();
+
+    /**
+     * Checks if logging is enabled for DEBUG level.
+     *
+     * @return true if DEBUG messages are logged
+     */
+    boolean isDebugEnabled();
+
+    /**
+     * Checks if logging is enabled for INFO level.
+     *
+     * @return true if INFO messages are logged
+     */
+    boolean isInfoEnabled();
+
+    /**
+     * Logs a message at the specified level, calling the supplier only if
+     * the level is enabled.
+     *
+     * @param level   the log level
+     * @param message supplies the message
+     */
+    void log(LogLevel level, Supplier<String> message);
+
+    /**
+     * Logs a formatted message with one argument at the specified level.
+     *
+     * @param level  the log level
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void log(LogLevel level, String format, Object arg);
+
+    /**
+     * Logs a formatted message with two arguments at the specified level.
+     *
+     * @param level  the log level
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     */
+    void log(LogLevel level, String format, Object arg1, Object arg2);
+
+    /**
+     * Logs a formatted message with three arguments at the specified level.
+     *
+     * @param level  the log level
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     */
+    void log(LogLevel level, String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Logs a formatted message with four arguments at the specified level.
+     *
+     * @param level  the log level
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     * @param arg4   argument {3}
+     */
+    void log(LogLevel level, String format, Object arg1, Object arg2, Object arg3, Object arg4);
+
+    /**
+     * Logs a message at TRACE level, calling the supplier only if TRACE is
+     * enabled.
+     *
+     * @param message supplies the message
+     */
+    void trace(Supplier<String> message);
+
+    /**
+     * Logs a formatted message with one argument at TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, Object arg);
+
+    /**
+     * Logs a formatted message with two arguments at TRACE level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     */
+    void trace(String format, Object arg1, Object arg2);
+
+    /**
+     * Logs a formatted message with three arguments at TRACE level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     */
+    void trace(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Logs a formatted message with four arguments at TRACE level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     * @param arg4   argument {3}
+     */
+    void trace(String format, Object arg1, Object arg2, Object arg3, Object arg4);
+
+    /**
+     * Logs a formatted message with one int argument at TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, int arg);
+
+    /**
+     * Logs a formatted message with one long argument at TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, long arg);
+
+    /**
+     * Logs a formatted message with one float argument at TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, float arg);
+
+    /**
+     * Logs a message at DEBUG level, calling the supplier only if DEBUG is
+     * enabled.
+     *
+     * @param message supplies the message
+     */
+    void debug(Supplier<String> message);
+
+    /**
+     * Logs a formatted message with one argument at DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, Object arg);
+
+    /**
+     * Logs a formatted message with two arguments at DEBUG level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     */
+    void debug(String format, Object arg1, Object arg2);
+
+    /**
+     * Logs a formatted message with three arguments at DEBUG level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     */
+    void debug(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Logs a formatted message with four arguments at DEBUG level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     * @param arg4   argument {3}
+     */
+    void debug(String format, Object arg1, Object arg2, Object arg3, Object arg4);
+
+    /**
+     * Logs a formatted message with one int argument at DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, int arg);
+
+    /**
+     * Logs a formatted message with one long argument at DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, long arg);
+
+    /**
+     * Logs a formatted message with one float argument at DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, float arg);
+
+    /**
+     * Logs a message at INFO level, calling the supplier only if INFO is
+     * enabled.
+     *
+     * @param message supplies the message
+     */
+    void info(Supplier<String> message);
+
+    /**
+     * Logs a formatted message with one argument at INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, Object arg);
+
+    /**
+     * Logs a formatted message with two arguments at INFO level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     */
+    void info(String format, Object arg1, Object arg2);
+
+    /**
+     * Logs a formatted message with three arguments at INFO level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     */
+    void info(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Logs a formatted message with four arguments at INFO level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     * @param arg4   argument {3}
+     */
+    void info(String format, Object arg1, Object arg2, Object arg3, Object arg4);
+
+    /**
+     * Logs a formatted message with one int argument at INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, int arg);
+
+    /**
+     * Logs a formatted message with one long argument at INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, long arg);
+
+    /**
+     * Logs a formatted message with one float argument at INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, float arg);
+
+    /**
+     * Logs a message at WARN level, calling the supplier only if WARN is
+     * enabled.
+     *
+     * @param message supplies the message
+     */
+    void warn(Supplier<String> message);
+
+    /**
+     * Logs a formatted message with one argument at WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, Object arg);
+
+    /**
+     * Logs a formatted message with two arguments at WARN level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     */
+    void warn(String format, Object arg1, Object arg2);
+
+    /**
+     * Logs a formatted message with three arguments at WARN level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     */
+    void warn(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Logs a formatted message with four arguments at WARN level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     * @param arg4   argument {3}
+     */
+    void warn(String format, Object arg1, Object arg2, Object arg3, Object arg4);
+
+    /**
+     * Logs a formatted message with one int argument at WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, int arg);
+
+    /**
+     * Logs a formatted message with one long argument at WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, long arg);
+
+    /**
+     * Logs a formatted message with one float argument at WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, float arg);
+
+    /**
+     * Logs a message at ERROR level, calling the supplier only if ERROR is
+     * enabled.
+     *
+     * @param message supplies the message
+     */
+    void error(Supplier<String> message);
+
+    /**
+     * Logs a formatted message with one argument at ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, Object arg);
+
+    /**
+     * Logs a formatted message with two arguments at ERROR level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     */
+    void error(String format, Object arg1, Object arg2);
+
+    /**
+     * Logs a formatted message with three arguments at ERROR level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     */
+    void error(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Logs a formatted message with four arguments at ERROR level.
+     *
+     * @param format the format string
+     * @param arg1   argument {0}
+     * @param arg2   argument {1}
+     * @param arg3   argument {2}
+     * @param arg4   argument {3}
+     */
+    void error(String format, Object arg1, Object arg2, Object arg3, Object arg4);
+
+    /**
+     * Logs a formatted message with one int argument at ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, int arg);
+
+    /**
+     * Logs a formatted message with one long argument at ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, long arg);
+
+    /**
+     * Logs a formatted message with one float argument at ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, float arg);
+
+    /**
+     * Logs a formatted message at most once per interval from the given
+     * site. Suppressed messages are counted and summarised periodically.
+     *
+     * @param site     the call site's counters
+     * @param interval the minimum time between messages
+     * @param unit     the unit of the interval
+     * @param level    the log level
+     * @param format   the format string
+     * @param args     the arguments to the format string
+     */
+    void logAtMostEvery(LogSite site, long interval, TimeUnit unit, LogLevel level, String format,
+            Object... args);
+
+    /**
+     * Logs the 1st, (n+1)th, (2n+1)th... formatted message from the given
+     * site. Suppressed messages are counted and summarised periodically.
+     *
+     * @param site   the call site's counters
+     * @param n      how many calls share one message
+     * @param level  the log level
+     * @param format the format string
+     * @param args   the arguments to the format string
+     */
+    void logEveryN(LogSite site, int n, LogLevel level, String format, Object... args);
+
+    /**
+     * Logs only the first n formatted messages from the given site. Later
+     * messages are counted and summarised periodically.
+     *
+     * @param site   the call site's counters
+     * @param n      how many messages to log
+     * @param level  the log level
+     * @param format the format string
+     * @param args   the arguments to the format string
+     */
+    void logFirstN(LogSite site, int n, LogLevel level, String format, Object... args);
+
     /**
      * Gets a child logger with the specified name.
      *
@@ -0,0 +1,73 @@
+package project.game.engine.logging.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When a log file is closed and logging continues in a new one.
+ *
+ * A file is rotated once it reaches the size limit or has been written to for
+ * longer than the age limit, whichever comes first. A limit of 0 turns that
+ * check off.
+ */
+public final class LogRotationPolicy {
+
+    /** Never rotates; a session writes a single file. */
+    public static final LogRotationPolicy NONE = new LogRotationPolicy(0, 0);
+
+    private final long maxFileBytes;
+    private final long maxFileAgeMillis;
+
+    private LogRotationPolicy(long maxFileBytes, long maxFileAgeMillis) {
+        this.maxFileBytes = maxFileBytes;
+        this.maxFileAgeMillis = maxFileAgeMillis;
+    }
+
+    /**
+     * @param maxFileBytes Size at which a file is rotated, or 0 for no limit
+     * @param maxFileAge   Age at which a file is rotated, or 0 for no limit
+     * @param unit         Unit of the age
+     */
+    public static LogRotationPolicy of(long maxFileBytes, long maxFileAge, TimeUnit unit) {
+        if (maxFileBytes < 0 || maxFileAge < 0) {
+            throw new IllegalArgumentException("Rotation limits must be non-negative");
+        }
+        if (maxFileBytes == 0 && maxFileAge == 0) {
+            return NONE;
+        }
+        return new LogRotationPolicy(maxFileBytes, unit.toMillis(maxFileAge));
+    }
+
+    public long getMaxFileBytes() {
+        return maxFileBytes;
+    }
+
+    public long getMaxFileAgeMillis() {
+        return maxFileAgeMillis;
+    }
+
+    public boolean isEnabled() {
+        return maxFileBytes > 0 || maxFileAgeMillis > 0;
+    }
+
+    /**
+     * Checks whether a file should be rotated.
+     *
+     * @param fileBytes    Bytes written to the file so far
+     * @param openedMillis When the file was started
+     * @param nowMillis    Current time
+     * @return true if either limit has been reached
+     */
+    public boolean shouldRotate(long fileBytes, long openedMillis, long nowMillis) {
+        return (maxFileBytes > 0 && fileBytes >= maxFileBytes)
+                || (maxFileAgeMillis > 0 && nowMillis - openedMillis >= maxFileAgeMillis);
+    }
+
+    @Override
+    public String toString() {
+        if (!isEnabled()) {
+            return "no rotation";
+        }
+        return "rotate at " + (maxFileBytes > 0 ? maxFileBytes + " bytes" : "any size") + " or "
+                + (maxFileAgeMillis > 0 ? maxFileAgeMillis + " ms" : "any age");
+    }
+}
@@ -0,0 +1,127 @@
+package project.game.engine.logging.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for a single throttled log statement.
+ *
+ * A log site is held in a static field next to the statement it belongs to
+ * and passed to {@link ILogger#logAtMostEvery}, {@link ILogger#logEveryN} or
+ * {@link ILogger#logFirstN}. It counts the calls made and the messages
+ * suppressed, so the logger can decide whether to write the next message and
+ * report how many it skipped. Suppressed messages are summarised at most once
+ * per summary interval, on the next call from the site.
+ */
+public final class LogSite {
+
+    private static final long DEFAULT_SUMMARY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final String name;
+    private final long summaryIntervalNanos;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong lastEmitNanos = new AtomicLong();
+    private final AtomicLong lastSummaryNanos;
+    private volatile boolean emitted;
+
+    /**
+     * Creates a site that summarises suppressed messages every 10 seconds.
+     *
+     * @param name Name shown in summaries, usually Class.method
+     */
+    public LogSite(String name) {
+        this(name, DEFAULT_SUMMARY_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    public LogSite(String name, long summaryInterval, TimeUnit unit) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Log site name cannot be empty");
+        }
+        if (summaryInterval <= 0) {
+            throw new IllegalArgumentException("Summary interval must be positive");
+        }
+        this.name = name;
+        this.summaryIntervalNanos = unit.toNanos(summaryInterval);
+        this.lastSummaryNanos = new AtomicLong(System.nanoTime());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of calls made through this site, including suppressed ones.
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Number of messages suppressed since the last summary.
+     */
+    public long getSuppressed() {
+        return suppressed.get();
+    }
+
+    /**
+     * Counts a call and returns its zero-based index.
+     */
+    public long nextCall() {
+        return calls.getAndIncrement();
+    }
+
+    /**
+     * Counts a call and claims the right to log if at least the interval has
+     * passed since the last message was written.
+     *
+     * @param nowNanos      Current {@link System#nanoTime()}
+     * @param intervalNanos Minimum time between messages
+     * @return true if the message should be written
+     */
+    public boolean tryAcquire(long nowNanos, long intervalNanos) {
+        calls.incrementAndGet();
+        if (!emitted) {
+            synchronized (this) {
+                if (!emitted) {
+                    lastEmitNanos.set(nowNanos);
+                    emitted = true;
+                    return true;
+                }
+            }
+        }
+        long last = lastEmitNanos.get();
+        return nowNanos - last >= intervalNanos && lastEmitNanos.compareAndSet(last, nowNanos);
+    }
+
+    /**
+     * Counts a suppressed message.
+     */
+    public void suppress() {
+        suppressed.incrementAndGet();
+    }
+
+    /**
+     * Takes the suppressed count if the summary interval has passed since the
+     * last summary, so only one caller reports it.
+     *
+     * @param nowNanos Current {@link System#nanoTime()}
+     * @return Messages suppressed since the last summary, or 0 if none or not
+     *         yet due
+     */
+    public long takeSummary(long nowNanos) {
+        if (suppressed.get() == 0) {
+            return 0;
+        }
+        long last = lastSummaryNanos.get();
+        if (nowNanos - last < summaryIntervalNanos || !lastSummaryNanos.compareAndSet(last, nowNanos)) {
+            return 0;
+        }
+        return suppressed.getAndSet(0);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -1,14 +1,17 @@
 package project.game.engine.logging.base;
 
-import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import project.game.engine.logging.api.ILogger;
 import project.game.engine.logging.api.LogLevel;
+import project.game.engine.logging.api.LogSite;
 
 /**
  * Abstract base logger that implements core logging functionality.
  * 
  * Game-specific loggers can extend this class to add custom behavior.
+ * Messages are formatted with cached {@link MessageTemplate}s.
  */
 public abstract class AbstractLogger implements ILogger {
 
@@ -57,7 +60,7 @@ public abstract class AbstractLogger implements ILogger {
     @Override
     public void log(LogLevel level, String format, Object... args) {
         if (isEnabled(level)) {
-            String message = MessageFormat.format(format, args);
+            String message = MessageTemplate.of(format).format(args, args == null ? 0 : args.length);
             doLog(level, message, null);
         }
     }
@@ -132,6 +135,389 @@ public abstract class AbstractLogger implements ILogger {
         log(LogLevel.FATAL, message, thrown);
     }
 
+    @Override
+    public boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return isEnabled(LogLevel.INFO);
+    }
+
+    @Override
+    public void log(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            doLog(level, String.valueOf(message.get()), null);
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, String format, Object arg) {
+        if (isEnabled(level)) {
+            logArguments(level, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, String format, Object arg1, Object arg2) {
+        if (isEnabled(level)) {
+            logArguments(level, format, 2, arg1, arg2, null, null);
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(level)) {
+            logArguments(level, format, 3, arg1, arg2, arg3, null);
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (isEnabled(level)) {
+            logArguments(level, format, 4, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    @Override
+    public void trace(Supplier<String> message) {
+        log(LogLevel.TRACE, message);
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logArguments(LogLevel.TRACE, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logArguments(LogLevel.TRACE, format, 2, arg1, arg2, null, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logArguments(LogLevel.TRACE, format, 3, arg1, arg2, arg3, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logArguments(LogLevel.TRACE, format, 4, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    @Override
+    public void trace(String format, int arg) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logArguments(LogLevel.TRACE, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, long arg) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logArguments(LogLevel.TRACE, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, float arg) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logArguments(LogLevel.TRACE, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logArguments(LogLevel.DEBUG, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logArguments(LogLevel.DEBUG, format, 2, arg1, arg2, null, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logArguments(LogLevel.DEBUG, format, 3, arg1, arg2, arg3, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logArguments(LogLevel.DEBUG, format, 4, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    @Override
+    public void debug(String format, int arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logArguments(LogLevel.DEBUG, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, long arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logArguments(LogLevel.DEBUG, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, float arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logArguments(LogLevel.DEBUG, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message);
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            logArguments(LogLevel.INFO, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO)) {
+            logArguments(LogLevel.INFO, format, 2, arg1, arg2, null, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.INFO)) {
+            logArguments(LogLevel.INFO, format, 3, arg1, arg2, arg3, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (isEnabled(LogLevel.INFO)) {
+            logArguments(LogLevel.INFO, format, 4, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    @Override
+    public void info(String format, int arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            logArguments(LogLevel.INFO, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void info(String format, long arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            logArguments(LogLevel.INFO, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void info(String format, float arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            logArguments(LogLevel.INFO, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void warn(Supplier<String> message) {
+        log(LogLevel.WARN, message);
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            logArguments(LogLevel.WARN, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.WARN)) {
+            logArguments(LogLevel.WARN, format, 2, arg1, arg2, null, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.WARN)) {
+            logArguments(LogLevel.WARN, format, 3, arg1, arg2, arg3, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (isEnabled(LogLevel.WARN)) {
+            logArguments(LogLevel.WARN, format, 4, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    @Override
+    public void warn(String format, int arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            logArguments(LogLevel.WARN, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, long arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            logArguments(LogLevel.WARN, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, float arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            logArguments(LogLevel.WARN, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void error(Supplier<String> message) {
+        log(LogLevel.ERROR, message);
+    }
+
+    @Override
+    public void error(String format, Object arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logArguments(LogLevel.ERROR, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logArguments(LogLevel.ERROR, format, 2, arg1, arg2, null, null);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logArguments(LogLevel.ERROR, format, 3, arg1, arg2, arg3, null);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logArguments(LogLevel.ERROR, format, 4, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    @Override
+    public void error(String format, int arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logArguments(LogLevel.ERROR, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void error(String format, long arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logArguments(LogLevel.ERROR, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void error(String format, float arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logArguments(LogLevel.ERROR, format, 1, arg, null, null, null);
+        }
+    }
+
+    @Override
+    public void logAtMostEvery(LogSite site, long interval, TimeUnit unit, LogLevel level, String format,
+            Object... args) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (site.tryAcquire(now, unit.toNanos(interval))) {
+            logFromSite(level, format, args);
+        } else {
+            site.suppress();
+        }
+        reportSuppressed(site, level, now);
+    }
+
+    @Override
+    public void logEveryN(LogSite site, int n, LogLevel level, String format, Object... args) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (site.nextCall() % n == 0) {
+            logFromSite(level, format, args);
+        } else {
+            site.suppress();
+        }
+        reportSuppressed(site, level, System.nanoTime());
+    }
+
+    @Override
+    public void logFirstN(LogSite site, int n, LogLevel level, String format, Object... args) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (site.nextCall() < n) {
+            logFromSite(level, format, args);
+        } else {
+            site.suppress();
+        }
+        reportSuppressed(site, level, System.nanoTime());
+    }
+
+    private void logFromSite(LogLevel level, String format, Object[] args) {
+        if (args.length == 0) {
+            log(level, format);
+        } else {
+            log(level, format, args);
+        }
+    }
+
+    /**
+     * Writes how many messages the site has suppressed, if its summary is due.
+     */
+    private void reportSuppressed(LogSite site, LogLevel level, long now) {
+        long suppressed = site.takeSummary(now);
+        if (suppressed > 0) {
+            log(level, "{0}: {1} similar messages suppressed ({2} calls in total)", site.getName(), suppressed,
+                    site.getCalls());
+        }
+    }
+
     @Override
     public abstract ILogger getLogger(String name);
 
@@ -139,4 +525,18 @@ public abstract class AbstractLogger implements ILogger {
     public abstract void flush();
 
     protected abstract void doLog(LogLevel level, String message, Throwable thrown);
+
+    /**
+     * Logs a message with up to four arguments, once the level is known to
+     * be enabled. Unused arguments are null. Subclasses that can take the
+     * arguments as they are, rather than as a formatted message, override
+     * this.
+     *
+     * @param count Number of arguments used
+     */
+    protected void logArguments(LogLevel level, String format, int count, Object arg1, Object arg2, Object arg3,
+            Object arg4) {
+        Object[] args = { arg1, arg2, arg3, arg4 };
+        doLog(level, MessageTemplate.of(format).format(args, count), null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package project.game.engine.logging.base;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A log message pattern parsed once into literal text and argument
+ * positions.
+ *
+ * Patterns use the {@link MessageFormat} syntax loggers have always taken:
+ * {@code {0}}, {@code {1}}... insert arguments, text in single quotes is
+ * literal and {@code ''} is a quote. Parsed templates are cached by pattern,
+ * so formatting a message is a walk over the parts with no parsing and no
+ * formatter objects. Unlike MessageFormat, integers are written without
+ * grouping separators; floating-point numbers still get at most three
+ * decimals. Patterns using
+ * MessageFormat's format types, such as {@code {0,number,#.##}}, are handed
+ * to MessageFormat unchanged, and a pattern that cannot be parsed is written
+ * as it is rather than failing the log call.
+ */
+public final class MessageTemplate {
+
+    // Patterns built with string concatenation would otherwise grow the cache
+    // without limit; past this size new patterns are parsed on every call
+    private static final int MAX_CACHED = 4096;
+    private static final Map<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L };
+    private static final int DECIMALS = 3;
+    private static final double MAX_FIXED_POINT = 1e15;
+
+    private final String pattern;
+    // Literal text before each argument, then the text after the last one
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final boolean useMessageFormat;
+
+    private MessageTemplate(String pattern, String[] literals, int[] argumentIndexes, boolean useMessageFormat) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        this.useMessageFormat = useMessageFormat;
+    }
+
+    /**
+     * Returns the parsed template for a pattern, parsing it on first use.
+     */
+    public static MessageTemplate of(String pattern) {
+        if (pattern == null) {
+            pattern = "null";
+        }
+        MessageTemplate template = CACHE.get(pattern);
+        if (template == null) {
+            template = parse(pattern);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.putIfAbsent(pattern, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Formats the pattern with the given arguments.
+     */
+    public static String format(String pattern, Object... args) {
+        return of(pattern).format(args, args == null ? 0 : args.length);
+    }
+
+    /**
+     * Formats the template with the first {@code count} arguments.
+     */
+    public String format(Object[] args, int count) {
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * count);
+        appendTo(builder, args, count);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the template formatted with the first {@code count} arguments.
+     * An argument index past {@code count} is written as its placeholder,
+     * as MessageFormat does.
+     */
+    public void appendTo(StringBuilder builder, Object[] args, int count) {
+        if (useMessageFormat) {
+            Object[] used = new Object[count];
+            System.arraycopy(args, 0, used, 0, count);
+            try {
+                builder.append(MessageFormat.format(pattern, used));
+            } catch (IllegalArgumentException e) {
+                builder.append(pattern);
+            }
+            return;
+        }
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            builder.append(literals[i]);
+            int index = argumentIndexes[i];
+            if (index < count) {
+                appendValue(builder, args[index]);
+            } else {
+                builder.append('{').append(index).append('}');
+            }
+        }
+        builder.append(literals[argumentIndexes.length]);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Appends an argument the way messages show it.
+     */
+    public static void appendValue(StringBuilder builder, Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            appendDecimal(builder, ((Number) value).doubleValue());
+        } else if (value instanceof BigDecimal) {
+            appendDecimal(builder, ((BigDecimal) value).doubleValue());
+        } else {
+            builder.append(value);
+        }
+    }
+
+    /**
+     * Appends a number with at most three decimals and no trailing zeros.
+     */
+    public static void appendDecimal(StringBuilder builder, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) >= MAX_FIXED_POINT) {
+            builder.append(value);
+            return;
+        }
+        long scaled = Math.round(Math.abs(value) * POWERS_OF_TEN[DECIMALS]);
+        if (value < 0 && scaled != 0) {
+            builder.append('-');
+        }
+        builder.append(scaled / POWERS_OF_TEN[DECIMALS]);
+        int fraction = (int) (scaled % POWERS_OF_TEN[DECIMALS]);
+        if (fraction == 0) {
+            return;
+        }
+        int digits = DECIMALS;
+        while (fraction % 10 == 0) {
+            fraction /= 10;
+            digits--;
+        }
+        builder.append('.');
+        for (int i = digits - 1; i > 0 && fraction < POWERS_OF_TEN[i]; i--) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+
+    private static MessageTemplate parse(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                int close = pattern.indexOf('}', i + 1);
+                if (close < 0) {
+                    return literalOnly(pattern);
+                }
+                String element = pattern.substring(i + 1, close).trim();
+                if (element.indexOf(',') >= 0) {
+                    return new MessageTemplate(pattern, null, null, true);
+                }
+                int index = parseIndex(element);
+                if (index < 0) {
+                    return literalOnly(pattern);
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                indexes.add(index);
+                i = close;
+            } else {
+                literal.append(c);
+            }
+        }
+        literals.add(literal.toString());
+        int[] argumentIndexes = new int[indexes.size()];
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            argumentIndexes[i] = indexes.get(i);
+        }
+        return new MessageTemplate(pattern, literals.toArray(new String[0]), argumentIndexes, false);
+    }
+
+    private static int parseIndex(String element) {
+        if (element.isEmpty() || element.length() > 4) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < element.length(); i++) {
+            char c = element.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    private static MessageTemplate literalOnly(String pattern) {
+        return new MessageTemplate(pattern, new String[] { pattern }, new int[0], false);
+    }
+}
@@ -0,0 +1,43 @@
+package project.game.engine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count, such as entities spawned or messages
+ * logged. Rates are left to whoever reads the counter over time.
+ *
+ * Increments are cheap and safe from any thread.
+ */
+public class Counter implements CounterMBean {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Sets the count back to zero.
+     */
+    public void reset() {
+        count.reset();
+    }
+}
@@ -0,0 +1,9 @@
+package project.game.engine.metrics;
+
+/**
+ * JMX view of a {@link Counter}.
+ */
+public interface CounterMBean {
+
+    long getCount();
+}
@@ -0,0 +1,46 @@
+package project.game.engine.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A value sampled when it is read, such as the number of live entities.
+ *
+ * The source is read from whichever thread reads the gauge, including JMX
+ * and file reporter threads, so it must be safe to call off the render
+ * thread; reading a collection's size is fine, calling into native code is
+ * not.
+ */
+public class Gauge implements GaugeMBean {
+
+    private final String name;
+    private volatile DoubleSupplier source;
+
+    Gauge(String name, DoubleSupplier source) {
+        this.name = name;
+        this.source = source;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Replaces what the gauge reads, e.g. when a new scene takes over from
+     * the old one.
+     */
+    void setSource(DoubleSupplier source) {
+        this.source = source;
+    }
+
+    /**
+     * Reads the gauge. A source that throws reads as NaN.
+     */
+    @Override
+    public double getValue() {
+        try {
+            return source.getAsDouble();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
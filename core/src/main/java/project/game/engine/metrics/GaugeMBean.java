@@ -0,0 +1,9 @@
+package project.game.engine.metrics;
+
+/**
+ * JMX view of a {@link Gauge}.
+ */
+public interface GaugeMBean {
+
+    double getValue();
+}
@@ -0,0 +1,126 @@
+package project.game.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Distribution of recorded values over fixed buckets.
+ *
+ * Each bucket counts the values up to and including its upper bound that
+ * did not fit an earlier bucket; one extra bucket counts values above the
+ * last bound. Percentiles are reported as the upper bound of the bucket they
+ * fall in, or positive infinity for the overflow bucket. Recording does not
+ * allocate and is safe from any thread.
+ */
+public class Histogram implements HistogramMBean {
+
+    private final String name;
+    private final double[] bounds;
+    private final AtomicLongArray buckets;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    Histogram(String name, double[] bounds) {
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException("Histogram " + name + " needs at least one bucket bound");
+        }
+        for (int i = 1; i < bounds.length; i++) {
+            if (!(bounds[i] > bounds[i - 1])) {
+                throw new IllegalArgumentException("Histogram " + name + " bounds must be increasing");
+            }
+        }
+        this.name = name;
+        this.bounds = bounds.clone();
+        this.buckets = new AtomicLongArray(bounds.length + 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(double value) {
+        int bucket = 0;
+        while (bucket < bounds.length && value > bounds[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+        sum.add(value);
+    }
+
+    @Override
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    @Override
+    public double getSum() {
+        return sum.sum();
+    }
+
+    @Override
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : getSum() / count;
+    }
+
+    @Override
+    public double getP50() {
+        return getPercentile(0.50);
+    }
+
+    @Override
+    public double getP99() {
+        return getPercentile(0.99);
+    }
+
+    /**
+     * Upper bound of the bucket holding the given fraction of values, or 0
+     * if nothing was recorded.
+     */
+    public double getPercentile(double fraction) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bounds[i];
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public double[] getBucketBounds() {
+        return bounds.clone();
+    }
+
+    /**
+     * Counts per bucket, with the overflow bucket last.
+     */
+    @Override
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        sum.reset();
+    }
+}
@@ -0,0 +1,21 @@
+package project.game.engine.metrics;
+
+/**
+ * JMX view of a {@link Histogram}.
+ */
+public interface HistogramMBean {
+
+    long getCount();
+
+    double getSum();
+
+    double getMean();
+
+    double getP50();
+
+    double getP99();
+
+    double[] getBucketBounds();
+
+    long[] getBucketCounts();
+}
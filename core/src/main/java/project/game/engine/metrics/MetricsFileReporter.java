@@ -0,0 +1,242 @@
+package project.game.engine.metrics;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import project.game.common.logging.core.GameLogger;
+
+/**
+ * Appends snapshots of a {@link MetricsRegistry} to a file at a fixed period,
+ * so long-running soak tests can chart how the game's metrics trend.
+ *
+ * A file ending in {@code .csv} gets one {@code timestamp,metric,value} row
+ * per value, with histograms split into count, mean, p50 and p99 rows. Any
+ * other file gets one JSON object per line and snapshot, holding the
+ * counters, gauges and histograms (with bucket counts) by name.
+ *
+ * The game starts a reporter when the {@value #FILE_PROPERTY} system property
+ * names a file; {@value #PERIOD_PROPERTY} sets the period in seconds.
+ */
+public class MetricsFileReporter implements Closeable {
+
+    public static final String FILE_PROPERTY = "game.metrics.file";
+    public static final String PERIOD_PROPERTY = "game.metrics.period";
+    public static final long DEFAULT_PERIOD_SECONDS = 10;
+
+    private static final GameLogger LOGGER = new GameLogger(MetricsFileReporter.class);
+
+    private final MetricsRegistry registry;
+    private final Path file;
+    private final boolean csv;
+    private ScheduledExecutorService executor;
+
+    public MetricsFileReporter(MetricsRegistry registry, Path file) {
+        this.registry = registry;
+        this.file = file;
+        this.csv = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+    }
+
+    /**
+     * Starts a reporter configured by system properties, or returns null if
+     * {@value #FILE_PROPERTY} is not set.
+     */
+    public static MetricsFileReporter startFromSystemProperties(MetricsRegistry registry) {
+        String fileName = System.getProperty(FILE_PROPERTY);
+        if (fileName == null || fileName.trim().isEmpty()) {
+            return null;
+        }
+        long period = DEFAULT_PERIOD_SECONDS;
+        String periodValue = System.getProperty(PERIOD_PROPERTY);
+        if (periodValue != null) {
+            try {
+                period = Long.parseLong(periodValue.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid {0}: {1}; using {2} seconds",
+                        new Object[] { PERIOD_PROPERTY, periodValue, DEFAULT_PERIOD_SECONDS });
+            }
+        }
+        MetricsFileReporter reporter = new MetricsFileReporter(registry, Paths.get(fileName.trim()));
+        reporter.start(period, TimeUnit.SECONDS);
+        return reporter;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes a snapshot every period on a background thread, starting after
+     * one period.
+     */
+    public synchronized void start(long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        if (executor != null) {
+            throw new IllegalStateException("Reporter already started");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::reportQuietly, period, period, unit);
+        LOGGER.info("Writing metrics to {0} every {1} {2}",
+                new Object[] { file.toAbsolutePath(), period, unit.toString().toLowerCase(Locale.ROOT) });
+    }
+
+    /**
+     * Appends one snapshot now.
+     */
+    public synchronized void report() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        boolean writeHeader = csv && !Files.exists(file);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            long timestamp = System.currentTimeMillis();
+            if (csv) {
+                if (writeHeader) {
+                    writer.write("timestamp,metric,value\n");
+                }
+                writeCsv(writer, timestamp);
+            } else {
+                writer.write(toJson(timestamp));
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread, if started, and writes a final snapshot.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = executor;
+            executor = null;
+        }
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            running.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reportQuietly();
+    }
+
+    private void reportQuietly() {
+        try {
+            report();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to write metrics to {0}: {1}", new Object[] { file, e.getMessage() });
+        }
+    }
+
+    private void writeCsv(BufferedWriter writer, long timestamp) throws IOException {
+        for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+            writeRow(writer, timestamp, entry.getKey(), entry.getValue().getCount());
+        }
+        for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+            writeRow(writer, timestamp, entry.getKey(), entry.getValue().getValue());
+        }
+        for (Map.Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            String name = entry.getKey();
+            writeRow(writer, timestamp, name + ".count", histogram.getCount());
+            writeRow(writer, timestamp, name + ".mean", histogram.getMean());
+            writeRow(writer, timestamp, name + ".p50", histogram.getP50());
+            writeRow(writer, timestamp, name + ".p99", histogram.getP99());
+        }
+    }
+
+    private static void writeRow(BufferedWriter writer, long timestamp, String name, double value)
+            throws IOException {
+        writer.write(timestamp + "," + name + "," + format(value) + "\n");
+    }
+
+    private String toJson(long timestamp) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"timestamp\":").append(timestamp);
+
+        json.append(",\"counters\":{");
+        boolean first = true;
+        for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+            first = appendKey(json, entry.getKey(), first);
+            json.append(entry.getValue().getCount());
+        }
+
+        json.append("},\"gauges\":{");
+        first = true;
+        for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+            first = appendKey(json, entry.getKey(), first);
+            json.append(format(entry.getValue().getValue()));
+        }
+
+        json.append("},\"histograms\":{");
+        first = true;
+        for (Map.Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            first = appendKey(json, entry.getKey(), first);
+            json.append("{\"count\":").append(histogram.getCount())
+                    .append(",\"sum\":").append(format(histogram.getSum()))
+                    .append(",\"p50\":").append(format(histogram.getP50()))
+                    .append(",\"p99\":").append(format(histogram.getP99()))
+                    .append(",\"bounds\":[");
+            double[] bounds = histogram.getBucketBounds();
+            for (int i = 0; i < bounds.length; i++) {
+                json.append(i > 0 ? "," : "").append(format(bounds[i]));
+            }
+            json.append("],\"buckets\":[");
+            long[] buckets = histogram.getBucketCounts();
+            for (int i = 0; i < buckets.length; i++) {
+                json.append(i > 0 ? "," : "").append(buckets[i]);
+            }
+            json.append("]}");
+        }
+        json.append("}}");
+        return json.toString();
+    }
+
+    /**
+     * Metric names are restricted by the registry, so need no escaping.
+     */
+    private static boolean appendKey(StringBuilder json, String name, boolean first) {
+        if (!first) {
+            json.append(',');
+        }
+        json.append('"').append(name).append("\":");
+        return false;
+    }
+
+    /**
+     * Formats a value for either output; JSON has no NaN or infinity, so
+     * those become null.
+     */
+    private static String format(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return "null";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
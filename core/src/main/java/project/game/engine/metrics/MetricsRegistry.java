@@ -0,0 +1,190 @@
+package project.game.engine.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the counters, gauges and histograms the engine's subsystems
+ * publish, so they can be watched at runtime.
+ *
+ * Metrics are created on first use and shared by name; subsystems usually
+ * keep the returned metric in a static field. Names are dotted paths such as
+ * {@code entities.spawned}. Once {@link #exportToJmx()} has been called, every
+ * metric, including those created later, is also registered as an MBean
+ * under the {@value #JMX_DOMAIN} domain. {@link MetricsFileReporter} writes
+ * periodic snapshots to a file.
+ *
+ * The registry does not log, as the logger itself publishes into it.
+ */
+public final class MetricsRegistry {
+
+    public static final String JMX_DOMAIN = "project.game";
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    private final ConcurrentSkipListMap<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+    private volatile MBeanServer mbeanServer;
+
+    private MetricsRegistry() {
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the counter with the given name, creating it if needed.
+     */
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter != null) {
+            return counter;
+        }
+        synchronized (this) {
+            counter = counters.get(name);
+            if (counter == null) {
+                checkUnused(name);
+                counter = new Counter(name);
+                counters.put(name, counter);
+                register("Counter", name, counter);
+            }
+            return counter;
+        }
+    }
+
+    /**
+     * Gets the gauge with the given name, creating it if needed. If the gauge
+     * exists, it reads the given source from now on.
+     *
+     * @param name   Name of the gauge
+     * @param source Supplies the value; see {@link Gauge} for threading
+     */
+    public Gauge gauge(String name, DoubleSupplier source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Gauge " + name + " needs a source");
+        }
+        synchronized (this) {
+            Gauge gauge = gauges.get(name);
+            if (gauge != null) {
+                gauge.setSource(source);
+                return gauge;
+            }
+            checkUnused(name);
+            gauge = new Gauge(name, source);
+            gauges.put(name, gauge);
+            register("Gauge", name, gauge);
+            return gauge;
+        }
+    }
+
+    /**
+     * Gets the histogram with the given name, creating it with the given
+     * bucket bounds if needed.
+     *
+     * @param name   Name of the histogram
+     * @param bounds Increasing upper bounds of the buckets; ignored if the
+     *               histogram exists
+     */
+    public Histogram histogram(String name, double... bounds) {
+        Histogram histogram = histograms.get(name);
+        if (histogram != null) {
+            return histogram;
+        }
+        synchronized (this) {
+            histogram = histograms.get(name);
+            if (histogram == null) {
+                checkUnused(name);
+                histogram = new Histogram(name, bounds);
+                histograms.put(name, histogram);
+                register("Histogram", name, histogram);
+            }
+            return histogram;
+        }
+    }
+
+    public SortedMap<String, Counter> getCounters() {
+        return Collections.unmodifiableSortedMap(counters);
+    }
+
+    public SortedMap<String, Gauge> getGauges() {
+        return Collections.unmodifiableSortedMap(gauges);
+    }
+
+    public SortedMap<String, Histogram> getHistograms() {
+        return Collections.unmodifiableSortedMap(histograms);
+    }
+
+    /**
+     * Registers every metric with the platform MBean server, and every metric
+     * created from now on. Calling it again has no effect.
+     */
+    public synchronized void exportToJmx() {
+        if (mbeanServer != null) {
+            return;
+        }
+        mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        registerAll("Counter", counters);
+        registerAll("Gauge", gauges);
+        registerAll("Histogram", histograms);
+    }
+
+    public boolean isExportedToJmx() {
+        return mbeanServer != null;
+    }
+
+    /**
+     * Zeroes every counter and histogram; gauges are left alone. Meant for
+     * benchmarks that measure one run at a time.
+     */
+    public void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+
+    private void checkUnused(String name) {
+        if (name == null || !NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        if (counters.containsKey(name) || gauges.containsKey(name) || histograms.containsKey(name)) {
+            throw new IllegalArgumentException("Metric " + name + " already exists with another type");
+        }
+    }
+
+    private void registerAll(String type, Map<String, ?> metrics) {
+        for (Map.Entry<String, ?> entry : metrics.entrySet()) {
+            register(type, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void register(String type, String name, Object metric) {
+        MBeanServer server = mbeanServer;
+        if (server == null) {
+            return;
+        }
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(metric, objectName);
+            }
+        } catch (JMException e) {
+            // The logger publishes into this registry, so report directly
+            System.err.println("Failed to register metric " + name + " with JMX: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package project.game.engine.profiling;
+
+/**
+ * The parts of a frame timed by the {@link FrameProfiler}, in the order they
+ * usually run.
+ */
+public enum FramePhase {
+
+    INPUT("input"),
+    MOVEMENT("movement"),
+    PHYSICS_STEP("physics"),
+    CONTACTS("contacts"),
+    REMOVALS("removals"),
+    SYNC("sync"),
+    DRAW("draw"),
+    UI("ui");
+
+    private final String label;
+
+    FramePhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
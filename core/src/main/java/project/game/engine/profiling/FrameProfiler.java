@@ -0,0 +1,470 @@
+package project.game.engine.profiling;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+import jdk.jfr.EventType;
+import project.game.engine.profiling.event.FrameEvent;
+import project.game.engine.profiling.event.FramePhaseEvent;
+
+/**
+ * Samples where each frame's time goes, keeping a rolling window of the most
+ * recent frames.
+ *
+ * A frame is bracketed by {@link #beginFrame()} and {@link #endFrame()};
+ * calling {@link #phase(FramePhase)} ends the running phase and starts the
+ * next, so instrumenting a render method takes one call per phase. Time spent
+ * outside any phase is still counted in the frame total.
+ *
+ * Besides phase times, each frame records the bytes allocated by the render
+ * thread, garbage collections that finished during it, SpriteBatch render
+ * calls and texture bindings reported by the caller, and the latest entity,
+ * body and contact counts. Recording does not allocate and costs a few
+ * nanoTime calls plus one allocation counter read and one read per garbage
+ * collector per frame, so the profiler can stay enabled in release builds.
+ *
+ * While a Java Flight Recorder recording with the frame events enabled is
+ * running, each phase is also emitted as a {@link FramePhaseEvent} and each
+ * frame as a {@link FrameEvent}. Whether to emit is decided once per frame;
+ * only then are event objects allocated.
+ *
+ * Allocation can also be split by phase with
+ * {@link #setPhaseAllocationTracked(boolean)}, at the cost of one more
+ * counter read per phase; it is off by default and meant for allocation
+ * checks rather than the overlay.
+ *
+ * Not thread safe; use it from the render thread only.
+ */
+public class FrameProfiler {
+
+    public static final int DEFAULT_WINDOW = 120;
+
+    private static final FramePhase[] PHASES = FramePhase.values();
+    private static final EventType FRAME_PHASE_EVENT = EventType.getEventType(FramePhaseEvent.class);
+    private static final EventType FRAME_EVENT = EventType.getEventType(FrameEvent.class);
+
+    private final int window;
+    private final long[][] phaseNanos;
+    private final long[] frameNanos;
+    private final long[] allocatedBytes;
+    private final long[][] phaseAllocatedBytes;
+    private final long[] gcCounts;
+    private final long[] gcMillis;
+    private final int[] renderCalls;
+    private final int[] textureBindings;
+
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final GarbageCollectorMXBean[] collectors;
+
+    private int slot;
+    private int frames;
+    private boolean inFrame;
+    private FramePhase currentPhase;
+    private long phaseStart;
+    private long frameStart;
+    private long frameAllocationStart;
+    private long phaseAllocationStart;
+    private boolean phaseAllocationTracked;
+    private boolean phaseAllocationRequested;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long frameNumber;
+
+    private FramePhaseEvent phaseEvent;
+    private FrameEvent frameEvent;
+    private boolean emitPhases;
+
+    private int entityCount;
+    private int bodyCount;
+    private int contactCount;
+
+    public FrameProfiler() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a profiler.
+     *
+     * @param window Number of recent frames statistics are computed over
+     */
+    public FrameProfiler(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.window = window;
+        this.phaseNanos = new long[PHASES.length][window];
+        this.frameNanos = new long[window];
+        this.allocatedBytes = new long[window];
+        this.phaseAllocatedBytes = new long[PHASES.length][window];
+        this.gcCounts = new long[window];
+        this.gcMillis = new long[window];
+        this.renderCalls = new int[window];
+        this.textureBindings = new int[window];
+
+        this.allocationBean = findAllocationBean();
+        List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.collectors = gcBeans.toArray(new GarbageCollectorMXBean[0]);
+        this.lastGcCount = totalGcCount();
+        this.lastGcMillis = totalGcMillis();
+    }
+
+    private static com.sun.management.ThreadMXBean findAllocationBean() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Starts a frame. A frame that was not ended is discarded.
+     */
+    public void beginFrame() {
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            phaseNanos[phase][slot] = 0;
+            phaseAllocatedBytes[phase][slot] = 0;
+        }
+        renderCalls[slot] = 0;
+        textureBindings[slot] = 0;
+        currentPhase = null;
+        inFrame = true;
+        frameNumber++;
+        emitPhases = FRAME_PHASE_EVENT.isEnabled();
+        phaseEvent = null;
+        if (FRAME_EVENT.isEnabled()) {
+            frameEvent = new FrameEvent();
+            frameEvent.begin();
+        } else {
+            frameEvent = null;
+        }
+        frameAllocationStart = currentAllocatedBytes();
+        phaseAllocationTracked = phaseAllocationRequested;
+        phaseAllocationStart = frameAllocationStart;
+        frameStart = System.nanoTime();
+    }
+
+    /**
+     * Ends the running phase, if any, and starts the given one. A phase
+     * entered more than once in a frame accumulates.
+     */
+    public void phase(FramePhase next) {
+        if (!inFrame) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (currentPhase != null) {
+            phaseNanos[currentPhase.ordinal()][slot] += now - phaseStart;
+        }
+        if (phaseAllocationTracked) {
+            long allocated = currentAllocatedBytes();
+            if (currentPhase != null) {
+                phaseAllocatedBytes[currentPhase.ordinal()][slot] += allocated - phaseAllocationStart;
+            }
+            phaseAllocationStart = allocated;
+        }
+        if (emitPhases) {
+            commitPhaseEvent();
+            phaseEvent = new FramePhaseEvent();
+            phaseEvent.begin();
+        }
+        currentPhase = next;
+        phaseStart = now;
+    }
+
+    /**
+     * Ends the running phase and the frame, and moves the window on.
+     */
+    public void endFrame() {
+        if (!inFrame) {
+            return;
+        }
+        long now = System.nanoTime();
+        long allocationEnd = currentAllocatedBytes();
+        if (currentPhase != null) {
+            phaseNanos[currentPhase.ordinal()][slot] += now - phaseStart;
+            if (phaseAllocationTracked) {
+                phaseAllocatedBytes[currentPhase.ordinal()][slot] += allocationEnd - phaseAllocationStart;
+            }
+            if (emitPhases) {
+                commitPhaseEvent();
+            }
+            currentPhase = null;
+        }
+        frameNanos[slot] = now - frameStart;
+        allocatedBytes[slot] = allocationEnd >= 0 ? allocationEnd - frameAllocationStart : 0;
+        if (frameEvent != null) {
+            commitFrameEvent(allocationEnd >= 0 ? allocatedBytes[slot] : -1);
+        }
+
+        long gcCount = totalGcCount();
+        long gcTime = totalGcMillis();
+        gcCounts[slot] = gcCount - lastGcCount;
+        gcMillis[slot] = gcTime - lastGcMillis;
+        lastGcCount = gcCount;
+        lastGcMillis = gcTime;
+
+        inFrame = false;
+        slot = slot + 1 == window ? 0 : slot + 1;
+        if (frames < window) {
+            frames++;
+        }
+    }
+
+    /**
+     * Commits the event of the phase that is ending, which is still the
+     * current phase.
+     */
+    private void commitPhaseEvent() {
+        if (phaseEvent == null) {
+            return;
+        }
+        phaseEvent.end();
+        if (phaseEvent.shouldCommit()) {
+            phaseEvent.phase = currentPhase.getLabel();
+            phaseEvent.frame = frameNumber;
+            phaseEvent.commit();
+        }
+        phaseEvent = null;
+    }
+
+    private void commitFrameEvent(long allocated) {
+        frameEvent.end();
+        if (frameEvent.shouldCommit()) {
+            frameEvent.frame = frameNumber;
+            frameEvent.allocated = allocated;
+            frameEvent.renderCalls = renderCalls[slot];
+            frameEvent.textureBindings = textureBindings[slot];
+            frameEvent.entities = entityCount;
+            frameEvent.bodies = bodyCount;
+            frameEvent.contacts = contactCount;
+            frameEvent.commit();
+        }
+        frameEvent = null;
+    }
+
+    /**
+     * Adds SpriteBatch render calls made during the current frame; call after
+     * each batch's end().
+     */
+    public void addRenderCalls(int calls) {
+        if (inFrame) {
+            renderCalls[slot] += calls;
+        }
+    }
+
+    /**
+     * Adds texture bindings made during the current frame.
+     */
+    public void addTextureBindings(int bindings) {
+        if (inFrame) {
+            textureBindings[slot] += bindings;
+        }
+    }
+
+    /**
+     * Records the size of the scene at the end of the frame.
+     */
+    public void setCounts(int entities, int bodies, int contacts) {
+        this.entityCount = entities;
+        this.bodyCount = bodies;
+        this.contactCount = contacts;
+    }
+
+    /**
+     * Number of completed frames in the window.
+     */
+    public int getFrameCount() {
+        return frames;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public double getAverageNanos(FramePhase phase) {
+        return average(phaseNanos[phase.ordinal()]);
+    }
+
+    public long getMaxNanos(FramePhase phase) {
+        return max(phaseNanos[phase.ordinal()]);
+    }
+
+    public double getAverageFrameNanos() {
+        return average(frameNanos);
+    }
+
+    public long getMaxFrameNanos() {
+        return max(frameNanos);
+    }
+
+    /**
+     * Duration of the most recently completed frame, or 0 before the first.
+     */
+    public long getLastFrameNanos() {
+        if (frames == 0) {
+            return 0;
+        }
+        return frameNanos[slot == 0 ? window - 1 : slot - 1];
+    }
+
+    /**
+     * Whether this JVM reports per-thread allocation; if not, allocation
+     * statistics are zero.
+     */
+    public boolean isAllocationTracked() {
+        return allocationBean != null;
+    }
+
+    /**
+     * Splits allocation by phase from the next frame on. Has no effect if
+     * this JVM does not report per-thread allocation.
+     */
+    public void setPhaseAllocationTracked(boolean tracked) {
+        this.phaseAllocationRequested = tracked && allocationBean != null;
+    }
+
+    public boolean isPhaseAllocationTracked() {
+        return phaseAllocationRequested;
+    }
+
+    /**
+     * Average bytes allocated in a phase per frame; zero unless phase
+     * allocation is tracked.
+     */
+    public double getAverageAllocatedBytes(FramePhase phase) {
+        return average(phaseAllocatedBytes[phase.ordinal()]);
+    }
+
+    public long getMaxAllocatedBytes(FramePhase phase) {
+        return max(phaseAllocatedBytes[phase.ordinal()]);
+    }
+
+    public double getAverageAllocatedBytes() {
+        return average(allocatedBytes);
+    }
+
+    public long getMaxAllocatedBytes() {
+        return max(allocatedBytes);
+    }
+
+    /**
+     * Garbage collections that finished during the frames in the window.
+     */
+    public long getWindowGcCount() {
+        return sum(gcCounts);
+    }
+
+    /**
+     * Collection time reported during the frames in the window.
+     */
+    public long getWindowGcMillis() {
+        return sum(gcMillis);
+    }
+
+    public double getAverageRenderCalls() {
+        return average(renderCalls);
+    }
+
+    public double getAverageTextureBindings() {
+        return average(textureBindings);
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    public int getBodyCount() {
+        return bodyCount;
+    }
+
+    public int getContactCount() {
+        return contactCount;
+    }
+
+    /**
+     * Clears the window.
+     */
+    public void reset() {
+        slot = 0;
+        frames = 0;
+        inFrame = false;
+        currentPhase = null;
+        phaseEvent = null;
+        frameEvent = null;
+        lastGcCount = totalGcCount();
+        lastGcMillis = totalGcMillis();
+    }
+
+    /**
+     * Index of the i-th most recent completed frame, counting from zero.
+     */
+    private int recent(int i) {
+        int index = slot - 1 - i;
+        return index < 0 ? index + window : index;
+    }
+
+    private double average(long[] values) {
+        if (frames == 0) {
+            return 0;
+        }
+        return (double) sum(values) / frames;
+    }
+
+    private double average(int[] values) {
+        if (frames == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += values[recent(i)];
+        }
+        return (double) total / frames;
+    }
+
+    private long sum(long[] values) {
+        long total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += values[recent(i)];
+        }
+        return total;
+    }
+
+    private long max(long[] values) {
+        long max = 0;
+        for (int i = 0; i < frames; i++) {
+            max = Math.max(max, values[recent(i)]);
+        }
+        return max;
+    }
+
+    private long currentAllocatedBytes() {
+        return allocationBean != null ? allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    private long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            long count = collector.getCollectionCount();
+            if (count > 0) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    private long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            long time = collector.getCollectionTime();
+            if (time > 0) {
+                total += time;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,24 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A blocking wait for every queued asset to finish loading.
+ */
+@Name("project.game.AssetFinishLoading")
+@Label("Asset Finish Loading")
+@Category({ "Ocean Sweepers", "Assets" })
+@Description("A blocking wait for queued assets to load")
+public class AssetFinishLoadingEvent extends jdk.jfr.Event {
+
+    @Label("Queued")
+    @Description("Assets waiting to load when the wait started")
+    public int queued;
+
+    @Label("Loaded")
+    @Description("Assets loaded when the wait ended")
+    public int loaded;
+}
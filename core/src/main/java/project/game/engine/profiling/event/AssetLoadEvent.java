@@ -0,0 +1,32 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A load request made through the custom asset manager. Loading itself is
+ * asynchronous; its time shows up in {@link AssetFinishLoadingEvent} or in
+ * the frames that update the asset manager.
+ */
+@Name("project.game.AssetLoad")
+@Label("Asset Load")
+@Category({ "Ocean Sweepers", "Assets" })
+@Description("An asset load request")
+public class AssetLoadEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Asset Type")
+    public String assetType;
+
+    @Label("Queued")
+    @Description("Whether the asset was queued for loading, rather than already loaded")
+    public boolean queued;
+
+    @Label("References")
+    @Description("References to the asset after the request")
+    public int references;
+}
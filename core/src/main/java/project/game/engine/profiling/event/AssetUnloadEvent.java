@@ -0,0 +1,27 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An unload request made through the custom asset manager.
+ */
+@Name("project.game.AssetUnload")
+@Label("Asset Unload")
+@Category({ "Ocean Sweepers", "Assets" })
+@Description("An asset unload request")
+public class AssetUnloadEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Unloaded")
+    @Description("Whether the asset was released, rather than only losing a reference")
+    public boolean unloaded;
+
+    @Label("References")
+    @Description("References to the asset left after the request")
+    public int references;
+}
@@ -0,0 +1,40 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The contacts that began and ended during one world step. Steps in which no
+ * contact began or ended are not recorded.
+ */
+@Name("project.game.ContactBurst")
+@Label("Contact Burst")
+@Category({ "Ocean Sweepers", "Physics" })
+@Description("Contacts begun and ended during a world step")
+@StackTrace(false)
+public class ContactBurstEvent extends jdk.jfr.Event {
+
+    @Label("Begun")
+    public int begun;
+
+    @Label("Ended")
+    public int ended;
+
+    /**
+     * Records a burst if recording is on and any contact changed.
+     */
+    public static void emit(int begun, int ended) {
+        if (begun == 0 && ended == 0) {
+            return;
+        }
+        ContactBurstEvent event = new ContactBurstEvent();
+        if (event.isEnabled()) {
+            event.begun = begun;
+            event.ended = ended;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An entity removed from an entity manager.
+ */
+@Name("project.game.EntityRemove")
+@Label("Entity Remove")
+@Category({ "Ocean Sweepers", "Entities" })
+@Description("An entity removed from an entity manager")
+public class EntityRemoveEvent extends jdk.jfr.Event {
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Entity ID")
+    public String entityId;
+
+    @Label("Entities")
+    @Description("Entities managed after the remove")
+    public int entityCount;
+
+    /**
+     * Records the remove if recording is on. The type name is only looked up
+     * when the event is recorded.
+     */
+    public static void emit(Object entity, String entityId, int entityCount) {
+        EntityRemoveEvent event = new EntityRemoveEvent();
+        if (event.isEnabled()) {
+            event.entityType = entity.getClass().getSimpleName();
+            event.entityId = entityId;
+            event.entityCount = entityCount;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An entity added to an entity manager.
+ */
+@Name("project.game.EntitySpawn")
+@Label("Entity Spawn")
+@Category({ "Ocean Sweepers", "Entities" })
+@Description("An entity added to an entity manager")
+public class EntitySpawnEvent extends jdk.jfr.Event {
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Entity ID")
+    public String entityId;
+
+    @Label("Entities")
+    @Description("Entities managed after the spawn")
+    public int entityCount;
+
+    /**
+     * Records the spawn if recording is on. The type name is only looked up
+     * when the event is recorded.
+     */
+    public static void emit(Object entity, String entityId, int entityCount) {
+        EntitySpawnEvent event = new EntitySpawnEvent();
+        if (event.isEnabled()) {
+            event.entityType = entity.getClass().getSimpleName();
+            event.entityId = entityId;
+            event.entityCount = entityCount;
+            event.commit();
+        }
+    }
+}
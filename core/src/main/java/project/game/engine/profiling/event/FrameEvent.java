@@ -0,0 +1,42 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A whole frame, with the totals the frame profiler collected for it.
+ */
+@Name("project.game.Frame")
+@Label("Frame")
+@Category({ "Ocean Sweepers", "Frame" })
+@Description("A rendered frame")
+@StackTrace(false)
+public class FrameEvent extends jdk.jfr.Event {
+
+    @Label("Frame")
+    public long frame;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the render thread during the frame, or -1 if not tracked")
+    @DataAmount
+    public long allocated;
+
+    @Label("Render Calls")
+    public int renderCalls;
+
+    @Label("Texture Bindings")
+    public int textureBindings;
+
+    @Label("Entities")
+    public int entities;
+
+    @Label("Bodies")
+    public int bodies;
+
+    @Label("Contacts")
+    public int contacts;
+}
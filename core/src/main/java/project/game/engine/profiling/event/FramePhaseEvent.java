@@ -0,0 +1,25 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One phase of a frame, as timed by the frame profiler.
+ */
+@Name("project.game.FramePhase")
+@Label("Frame Phase")
+@Category({ "Ocean Sweepers", "Frame" })
+@Description("A phase of a rendered frame")
+@StackTrace(false)
+public class FramePhaseEvent extends jdk.jfr.Event {
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Frame")
+    @Description("Number of the frame the phase belongs to")
+    public long frame;
+}
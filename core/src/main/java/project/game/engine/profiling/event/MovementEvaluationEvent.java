@@ -0,0 +1,36 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One evaluation of a movement strategy. Every moving entity evaluates its
+ * strategy each frame, so only evaluations slower than the threshold are
+ * recorded by default; set the threshold to 0 ms in a recording's settings
+ * to capture all of them.
+ */
+@Name("project.game.MovementEvaluation")
+@Label("Movement Evaluation")
+@Category({ "Ocean Sweepers", "Movement" })
+@Description("A movement strategy update")
+@Threshold("20 us")
+@StackTrace(false)
+public class MovementEvaluationEvent extends jdk.jfr.Event {
+
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Delta Time")
+    @Description("Seconds of movement applied")
+    public float deltaTime;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,24 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A scene switch, lasting from hiding the old scene to showing the new one.
+ */
+@Name("project.game.SceneSwitch")
+@Label("Scene Switch")
+@Category({ "Ocean Sweepers", "Scenes" })
+@Description("A switch between scenes")
+public class SceneSwitchEvent extends jdk.jfr.Event {
+
+    @Label("From")
+    @Description("Class of the scene switched away from; empty if there was none")
+    public String from;
+
+    @Label("To")
+    @Description("Name the new scene is registered under")
+    public String to;
+}
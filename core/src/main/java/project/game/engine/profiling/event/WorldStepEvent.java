@@ -0,0 +1,35 @@
+package project.game.engine.profiling.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Box2D world step.
+ */
+@Name("project.game.WorldStep")
+@Label("World Step")
+@Category({ "Ocean Sweepers", "Physics" })
+@Description("A call to World.step")
+@StackTrace(false)
+public class WorldStepEvent extends jdk.jfr.Event {
+
+    @Label("Time Step")
+    @Description("Simulated seconds")
+    public float timeStep;
+
+    @Label("Velocity Iterations")
+    public int velocityIterations;
+
+    @Label("Position Iterations")
+    public int positionIterations;
+
+    @Label("Bodies")
+    public int bodies;
+
+    @Label("Contacts")
+    @Description("Contacts in the world after the step")
+    public int contacts;
+}
@@ -3,8 +3,10 @@ package project.game.engine.scene.management;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Stack;
+import java.util.function.Supplier;
 
 import project.game.engine.io.management.SceneInputManager;
+import project.game.engine.profiling.event.SceneSwitchEvent;
 import project.game.engine.scene.api.IScene;
 
 /**
@@ -13,6 +15,7 @@ import project.game.engine.scene.api.IScene;
 public class SceneManager {
 
     private final Map<String, IScene> scenes;
+    private final Map<String, Supplier<IScene>> lazyScenes;
     private final Stack<IScene> sceneHistory;
     private final SceneInputManager baseInputManager;
     private IScene currentScene;
@@ -21,15 +24,16 @@ public class SceneManager {
     public SceneManager() {
         baseInputManager = new SceneInputManager();
         this.scenes = new HashMap<>();
+        this.lazyScenes = new HashMap<>();
         this.sceneHistory = new Stack<>();
     }
 
     public IScene getScene(String name) {
-        if (!scenes.containsKey(name)) {
+        if (!hasScene(name)) {
             System.err.println("Scene not found: " + name);
             return null;
         }
-        return scenes.get(name);
+        return resolveScene(name);
     }
 
     public SceneInputManager getInputManager() {
@@ -37,22 +41,49 @@ public class SceneManager {
     }
 
     public void addScene(String name, IScene scene) {
+        lazyScenes.remove(name);
         scenes.put(name, scene);
     }
 
+    /**
+     * Registers a scene that is only created the first time it is shown or
+     * looked up, for scenes too costly to build on every launch.
+     */
+    public void addLazyScene(String name, Supplier<IScene> creator) {
+        if (creator == null) {
+            throw new IllegalArgumentException("Scene creator for '" + name + "' cannot be null");
+        }
+        scenes.remove(name);
+        lazyScenes.put(name, creator);
+    }
+
+    public boolean hasScene(String name) {
+        return scenes.containsKey(name) || lazyScenes.containsKey(name);
+    }
+
     public void setScene(String name) {
-        if (!scenes.containsKey(name)) {
+        if (!hasScene(name)) {
             throw new IllegalArgumentException("Scene '" + name + "' not found!");
         }
 
+        SceneSwitchEvent event = new SceneSwitchEvent();
+        event.begin();
+        String from = "";
         if (currentScene != null) {
             currentScene.hide();
             sceneHistory.push(currentScene);
             previousScene = currentScene.getClass().getSimpleName();
+            from = previousScene;
         }
 
-        currentScene = scenes.get(name);
+        currentScene = resolveScene(name);
         currentScene.show();
+        event.end();
+        if (event.shouldCommit()) {
+            event.from = from;
+            event.to = name;
+            event.commit();
+        }
     }
 
     public String getPreviousScene() {
@@ -60,10 +91,14 @@ public class SceneManager {
     }
 
     public void removeScene(String name) {
-        if (!scenes.containsKey(name)) {
+        if (!hasScene(name)) {
             throw new IllegalArgumentException("Scene '" + name + "' does not exist!");
         }
 
+        // A lazy scene that was never shown has nothing to dispose
+        if (lazyScenes.remove(name) != null) {
+            return;
+        }
         IScene scene = scenes.remove(name);
         scene.dispose();
     }
@@ -81,9 +116,18 @@ public class SceneManager {
             }
         }
         scenes.clear();
+        lazyScenes.clear();
     }
 
     public IScene getCurrentScene() {
         return currentScene;
     }
+
+    private IScene resolveScene(String name) {
+        Supplier<IScene> creator = lazyScenes.remove(name);
+        if (creator != null) {
+            scenes.put(name, creator.get());
+        }
+        return scenes.get(name);
+    }
 }
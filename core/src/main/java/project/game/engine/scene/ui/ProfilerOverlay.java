@@ -0,0 +1,122 @@
+package project.game.engine.scene.ui;
+
+import java.util.Locale;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Align;
+
+import project.game.engine.profiling.FramePhase;
+import project.game.engine.profiling.FrameProfiler;
+
+/**
+ * Text overlay showing a {@link FrameProfiler}'s rolling statistics, drawn
+ * through a scene's {@link Stage}.
+ *
+ * The text is rebuilt a few times per second rather than every frame. While
+ * the overlay is visible a {@link GLProfiler} counts texture bindings; it is
+ * switched off when the overlay is hidden, so a hidden overlay costs nothing
+ * beyond the profiler's own sampling.
+ */
+public class ProfilerOverlay extends Table {
+
+    private static final float REFRESH_INTERVAL = 0.25f;
+
+    private final FrameProfiler profiler;
+    private final Label label;
+    private final StringBuilder text = new StringBuilder(512);
+    private GLProfiler glProfiler;
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    public ProfilerOverlay(FrameProfiler profiler, Skin skin) {
+        this.profiler = profiler;
+        this.label = new Label("", skin);
+        this.label.setAlignment(Align.topLeft);
+        setFillParent(true);
+        top().right().pad(10);
+        add(label);
+        setVisible(false);
+        setTouchable(Touchable.disabled);
+    }
+
+    /**
+     * Shows the overlay if hidden and hides it otherwise.
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        super.setVisible(visible);
+        if (visible) {
+            if (glProfiler == null && Gdx.graphics != null) {
+                glProfiler = new GLProfiler(Gdx.graphics);
+            }
+            if (glProfiler != null) {
+                glProfiler.reset();
+                glProfiler.enable();
+            }
+            sinceRefresh = REFRESH_INTERVAL;
+        } else if (glProfiler != null) {
+            glProfiler.disable();
+        }
+    }
+
+    /**
+     * Reports the texture bindings counted since the last call to the
+     * profiler. Call once per frame, before the profiler's frame ends.
+     */
+    public void recordGlStatistics() {
+        if (glProfiler != null && glProfiler.isEnabled()) {
+            profiler.addTextureBindings(glProfiler.getTextureBindings());
+            glProfiler.reset();
+        }
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        if (!isVisible()) {
+            return;
+        }
+        sinceRefresh += delta;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0;
+            label.setText(buildText());
+        }
+    }
+
+    private CharSequence buildText() {
+        text.setLength(0);
+        appendLine("frame     %6.2f ms avg  %6.2f ms max", profiler.getAverageFrameNanos() / 1e6,
+                profiler.getMaxFrameNanos() / 1e6);
+        for (FramePhase phase : FramePhase.values()) {
+            appendLine("%-9s %6.2f ms avg  %6.2f ms max", phase.getLabel(), profiler.getAverageNanos(phase) / 1e6,
+                    profiler.getMaxNanos(phase) / 1e6);
+        }
+        appendLine("gc        %d collections, %d ms in %d frames", profiler.getWindowGcCount(),
+                profiler.getWindowGcMillis(), profiler.getFrameCount());
+        if (profiler.isAllocationTracked()) {
+            appendLine("alloc     %.1f KB/frame avg  %.1f KB max", profiler.getAverageAllocatedBytes() / 1024,
+                    profiler.getMaxAllocatedBytes() / 1024.0);
+        }
+        appendLine("batch     %.1f render calls  %.1f texture binds", profiler.getAverageRenderCalls(),
+                profiler.getAverageTextureBindings());
+        appendLine("scene     %d entities  %d bodies  %d contacts", profiler.getEntityCount(),
+                profiler.getBodyCount(), profiler.getContactCount());
+        return text;
+    }
+
+    private void appendLine(String format, Object... args) {
+        if (text.length() > 0) {
+            text.append('\n');
+        }
+        text.append(String.format(Locale.ROOT, format, args));
+    }
+}
@@ -0,0 +1,188 @@
+package project.game.application.movement.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.engine.entitysystem.movement.api.IPositionable;
+
+/**
+ * Checks intercept times against the meeting condition, the edge cases of the
+ * quadratic, and a pursuer steering with the solver against a moving target.
+ */
+public class InterceptSolverTest {
+
+    private static final float DELTA_TIME = 1f / 60f;
+    private static final float EPSILON = 1e-4f;
+
+    @Test
+    public void reportedTimesAreMeetingPoints() {
+        Random random = new Random(3);
+        int solved = 0;
+        for (int i = 0; i < 100000; i++) {
+            float rx = (random.nextFloat() - 0.5f) * 1000f;
+            float ry = (random.nextFloat() - 0.5f) * 1000f;
+            float vx = (random.nextFloat() - 0.5f) * 300f;
+            float vy = (random.nextFloat() - 0.5f) * 300f;
+            float speed = random.nextFloat() * 250f;
+            float time = InterceptSolver.interceptTime(rx, ry, vx, vy, speed);
+            if (time < 0) {
+                continue;
+            }
+            solved++;
+            // The target's position at that time must be exactly speed * time
+            // away from the pursuer's start
+            float mx = rx + vx * time;
+            float my = ry + vy * time;
+            float gap = Math.abs((float) Math.sqrt(mx * mx + my * my) - speed * time);
+            assertTrue("Intercept time " + time + " misses by " + gap + " for r=(" + rx + ", " + ry + ") v=(" + vx
+                    + ", " + vy + ") speed=" + speed, gap <= 0.05f + 1e-3f * speed * time);
+        }
+        assertTrue("No intercepts were solved", solved > 0);
+    }
+
+    @Test
+    public void slowerPursuerCannotCatchTargetRunningAway() {
+        assertEquals(-1f, InterceptSolver.interceptTime(100f, 0f, 50f, 0f, 40f), 0f);
+    }
+
+    @Test
+    public void noRealRootMeansNoIntercept() {
+        // Target crosses faster than the pursuer can close the gap
+        assertEquals(-1f, InterceptSolver.interceptTime(100f, 0f, 0f, 200f, 50f), 0f);
+    }
+
+    @Test
+    public void targetAtRestIsReachedAtDistanceOverSpeed() {
+        assertEquals(2f, InterceptSolver.interceptTime(60f, 80f, 0f, 0f, 50f), EPSILON);
+    }
+
+    @Test
+    public void targetAtPursuerIsReachedImmediately() {
+        assertEquals(0f, InterceptSolver.interceptTime(0f, 0f, 30f, 40f, 10f), 0f);
+    }
+
+    @Test
+    public void equalSpeedsSolveTheLinearCase() {
+        // Approaching head-on, they close at twice the speed
+        assertEquals(1f, InterceptSolver.interceptTime(100f, 0f, -50f, 0f, 50f), EPSILON);
+        // Fleeing at the same speed, the gap never closes
+        assertEquals(-1f, InterceptSolver.interceptTime(100f, 0f, 50f, 0f, 50f), 0f);
+    }
+
+    @Test
+    public void batchMatchesSingleSolves() {
+        MutableTarget target = new MutableTarget(400f, 300f);
+        InterceptSolver solver = new InterceptSolver(target, InterceptSolver.DEFAULT_SMOOTHING_TIME);
+        solver.observe(DELTA_TIME);
+        for (int i = 0; i < 30; i++) {
+            target.x += 2f;
+            target.y += 1f;
+            solver.observe(DELTA_TIME);
+        }
+
+        Random random = new Random(42);
+        int count = 100;
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+        float[] speeds = new float[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = random.nextFloat() * 1280f;
+            ys[i] = random.nextFloat() * 800f;
+            speeds[i] = random.nextFloat() * 200f;
+        }
+        float[] aimX = new float[count];
+        float[] aimY = new float[count];
+        float[] times = new float[count];
+        int reachable = solver.solveBatch(xs, ys, speeds, count, aimX, aimY, times);
+
+        Vector2 aim = new Vector2();
+        int expectedReachable = 0;
+        for (int i = 0; i < count; i++) {
+            float time = solver.solve(xs[i], ys[i], speeds[i], aim);
+            if (time >= 0) {
+                expectedReachable++;
+            }
+            assertEquals(time, times[i], EPSILON);
+            assertEquals(aim.x, aimX[i], EPSILON);
+            assertEquals(aim.y, aimY[i], EPSILON);
+        }
+        assertEquals(expectedReachable, reachable);
+    }
+
+    @Test
+    public void stoppedTargetDecaysToZeroVelocity() {
+        MutableTarget target = new MutableTarget(0f, 0f);
+        InterceptSolver solver = new InterceptSolver(target, 0f);
+        solver.observe(DELTA_TIME);
+        target.x += 1f;
+        solver.observe(DELTA_TIME);
+        assertEquals(60f, solver.getTargetVelocityX(), 1e-2f);
+
+        for (int i = 0; i < 30; i++) {
+            solver.observe(DELTA_TIME);
+        }
+        assertEquals(0f, solver.getTargetVelocityX(), 0f);
+    }
+
+    @Test
+    public void pursuerCatchesTargetAtPredictedTime() {
+        MutableTarget target = new MutableTarget(0f, 200f);
+        InterceptSolver solver = new InterceptSolver(target, 0f);
+        float pursuerX = 300f;
+        float pursuerY = 0f;
+        float speed = 120f;
+        Vector2 heading = new Vector2();
+
+        solver.observe(DELTA_TIME);
+        target.x += 80f * DELTA_TIME;
+        solver.observe(DELTA_TIME);
+        float predicted = solver.solve(pursuerX, pursuerY, speed, heading);
+        assertTrue("Pursuit scenario should be solvable", predicted >= 0);
+
+        for (int frame = 0; frame < 600; frame++) {
+            solver.solve(pursuerX, pursuerY, speed, heading);
+            heading.sub(pursuerX, pursuerY);
+            float step = Math.min(speed * DELTA_TIME, heading.len());
+            heading.nor().scl(step);
+            pursuerX += heading.x;
+            pursuerY += heading.y;
+            target.x += 80f * DELTA_TIME;
+            solver.observe(DELTA_TIME);
+
+            float dx = target.x - pursuerX;
+            float dy = target.y - pursuerY;
+            if (dx * dx + dy * dy < 4f * 4f) {
+                assertEquals(predicted, (frame + 1) * DELTA_TIME, 2 * DELTA_TIME);
+                return;
+            }
+        }
+        fail("Pursuer never caught the target");
+    }
+
+    private static final class MutableTarget implements IPositionable {
+        float x;
+        float y;
+
+        MutableTarget(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public float getX() {
+            return x;
+        }
+
+        @Override
+        public float getY() {
+            return y;
+        }
+    }
+}
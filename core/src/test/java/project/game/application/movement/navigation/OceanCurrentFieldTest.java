@@ -0,0 +1,78 @@
+package project.game.application.movement.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Checks that the current keeps advancing whether or not its worker thread is
+ * running.
+ */
+public class OceanCurrentFieldTest {
+
+    private static final float BAKE_INTERVAL = 0.5f;
+
+    @Test
+    public void bakesOnGameThreadUntilStarted() {
+        OceanCurrentField field = newField(false);
+        assertFalse(field.isStarted());
+        assertEquals(2, field.getBakeCount());
+
+        field.update(BAKE_INTERVAL);
+        assertEquals(3, field.getBakeCount());
+        assertEquals(0, field.getLateBakeCount());
+        assertEquals(BAKE_INTERVAL, field.getTime(), 1e-6f);
+    }
+
+    @Test
+    public void stopFallsBackToGameThread() throws InterruptedException {
+        OceanCurrentField field = newField(false);
+        field.start();
+        assertTrue(field.isStarted());
+        waitForBakes(field, 3);
+
+        field.stop();
+        assertFalse(field.isStarted());
+        long bakes = field.getBakeCount();
+        for (int i = 0; i < 4; i++) {
+            field.update(BAKE_INTERVAL);
+        }
+        assertEquals(bakes + 4, field.getBakeCount());
+        assertEquals(0, field.getLateBakeCount());
+        assertEquals(4 * BAKE_INTERVAL, field.getTime(), 1e-6f);
+        field.dispose();
+    }
+
+    @Test
+    public void restartMatchesFieldThatNeverStopped() throws InterruptedException {
+        OceanCurrentField restarted = newField(true);
+        OceanCurrentField steady = newField(false);
+        restarted.stop();
+        restarted.start();
+        waitForBakes(restarted, 3);
+
+        restarted.update(BAKE_INTERVAL);
+        steady.update(BAKE_INTERVAL);
+        Vector2 expected = steady.sample(100f, 200f, new Vector2());
+        Vector2 actual = restarted.sample(100f, 200f, new Vector2());
+        assertEquals(expected.x, actual.x, 1e-4f);
+        assertEquals(expected.y, actual.y, 1e-4f);
+        restarted.dispose();
+    }
+
+    private static OceanCurrentField newField(boolean background) {
+        return new OceanCurrentField(640f, 480f, 64f, BAKE_INTERVAL, 20f, 0f, 100f, 7L, background);
+    }
+
+    private static void waitForBakes(OceanCurrentField field, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (field.getBakeCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue("Worker did not bake in time", field.getBakeCount() >= count);
+    }
+}
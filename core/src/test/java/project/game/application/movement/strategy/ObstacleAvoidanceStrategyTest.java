@@ -0,0 +1,70 @@
+package project.game.application.movement.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import project.game.application.movement.navigation.ObstacleDistanceField;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.entity.core.MovableEntity;
+
+/**
+ * Checks the sideways push from obstacles that are near but not yet in the
+ * way, with and without an obstacle distance field.
+ */
+public class ObstacleAvoidanceStrategyTest {
+
+    private static final float WORLD_SIZE = 800f;
+    private static final float ROCK_SIZE = 64f;
+    private static final float START = 400f;
+    private static final float DELTA = 1f / 60f;
+
+    @Test
+    public void fieldPushesCancelBetweenTwoObstacles() {
+        MovableEntity movable = moveOnce(true, rock(START, START + 200), rock(START, START - 200));
+        assertEquals(START, movable.getY(), 1e-3f);
+    }
+
+    @Test
+    public void listPushesCancelBetweenTwoObstacles() {
+        MovableEntity movable = moveOnce(false, rock(START, START + 200), rock(START, START - 200));
+        assertEquals(START, movable.getY(), 1e-3f);
+    }
+
+    @Test
+    public void fieldPushesAwayFromSingleObstacle() {
+        MovableEntity movable = moveOnce(true, rock(START, START + 200));
+        assertTrue("Moved towards the obstacle: y = " + movable.getY(), movable.getY() < START);
+    }
+
+    @Test
+    public void fieldPushesTowardsWiderGap() {
+        // Closer rock above, so the gap below is wider
+        MovableEntity movable = moveOnce(true, rock(START, START + 180), rock(START, START - 240));
+        assertTrue("Moved towards the closer obstacle: y = " + movable.getY(), movable.getY() < START);
+    }
+
+    private static MovableEntity moveOnce(boolean useField, Entity... rocks) {
+        ObstacleAvoidanceStrategy strategy = new ObstacleAvoidanceStrategy(200f, true);
+        if (useField) {
+            ObstacleDistanceField field = new ObstacleDistanceField(WORLD_SIZE, WORLD_SIZE);
+            field.build(Arrays.asList(rocks));
+            strategy.setObstacleField(field);
+        } else {
+            strategy.setObstacles(Arrays.asList(rocks));
+        }
+
+        MovableEntity movable = new MovableEntity(new Entity(START, START, 32, 32, true), 200f) {
+        };
+        movable.setVelocity(200f, 0);
+        strategy.move(movable, DELTA);
+        return movable;
+    }
+
+    private static Entity rock(float x, float y) {
+        return new Entity(x, y, ROCK_SIZE, ROCK_SIZE, true);
+    }
+}
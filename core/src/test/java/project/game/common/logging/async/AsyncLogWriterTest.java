@@ -0,0 +1,87 @@
+package project.game.common.logging.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import project.game.engine.logging.api.LogLevel;
+
+/**
+ * Checks that events which cannot be formatted neither stop the writer thread
+ * nor block the threads logging after them.
+ */
+public class AsyncLogWriterTest {
+
+    private Path logFile;
+
+    @Before
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("async-log-writer", ".log");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile);
+    }
+
+    @Test
+    public void failingArgumentIsWrittenAsPlaceholder() throws IOException {
+        AsyncLogWriter writer = new AsyncLogWriter(logFile, 16, LogOverflowPolicy.BLOCK, 1, null);
+        try {
+            writer.append(LogLevel.INFO, "test", "Bad {0}", 1, new FailingToString(), null, null, null);
+            writer.append(LogLevel.INFO, "test", "Good {0}", 1, "value", null, null, null);
+            assertTrue(writer.flush(5, TimeUnit.SECONDS));
+        } finally {
+            writer.close();
+        }
+
+        List<String> lines = Files.readAllLines(logFile, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0), lines.get(0).endsWith(
+                "test: Bad {0} [message could not be formatted: java.lang.IllegalStateException]"));
+        assertTrue(lines.get(1), lines.get(1).endsWith("test: Good value"));
+    }
+
+    @Test(timeout = 10000)
+    public void blockingAppendGivesUpWhenWriterThreadDied() throws IOException, InterruptedException {
+        AsyncLogWriter writer = new AsyncLogWriter(logFile, 2, LogOverflowPolicy.BLOCK, 1, null);
+        try {
+            writer.append(LogLevel.INFO, "test", "Fatal {0}", 1, new ThrowingError(), null, null, null);
+            assertFalse(writer.flush(5, TimeUnit.SECONDS));
+
+            // The ring holds two events; the third would wait for the writer
+            boolean accepted = true;
+            for (int i = 0; i < 3 && accepted; i++) {
+                accepted = writer.append(LogLevel.INFO, "test", "Event", null);
+            }
+            assertFalse(accepted);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static final class FailingToString {
+        @Override
+        public String toString() {
+            throw new IllegalStateException("toString failed");
+        }
+    }
+
+    private static final class ThrowingError {
+        @Override
+        public String toString() {
+            throw new AssertionError("Writer thread stopped on purpose");
+        }
+    }
+}
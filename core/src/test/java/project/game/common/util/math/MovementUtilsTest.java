@@ -0,0 +1,132 @@
+package project.game.common.util.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Checks the table trig, octant classification and inverse square root in
+ * {@link MovementUtils} against {@link Math}.
+ */
+public class MovementUtilsTest {
+
+    private static final float MAX_TRIG_ERROR_NEAR = 1e-6f;
+    private static final float MAX_TRIG_ERROR_FAR = 2e-5f;
+    private static final float MAX_INV_SQRT_ERROR = 1e-6f;
+
+    @Test
+    public void tableTrigIsAccurateWithinOneTurn() {
+        float turn = 2f * (float) Math.PI;
+        assertTrigError(-turn, turn, MAX_TRIG_ERROR_NEAR);
+    }
+
+    @Test
+    public void tableTrigIsAccurateForLargeAngles() {
+        assertTrigError(-100f, 100f, MAX_TRIG_ERROR_FAR);
+    }
+
+    @Test
+    public void tableTrigMatchesExactValues() {
+        float halfPi = (float) Math.PI / 2f;
+        assertEquals(0f, MovementUtils.sin(0f), MAX_TRIG_ERROR_NEAR);
+        assertEquals(1f, MovementUtils.cos(0f), MAX_TRIG_ERROR_NEAR);
+        assertEquals(1f, MovementUtils.sin(halfPi), MAX_TRIG_ERROR_NEAR);
+        assertEquals(-1f, MovementUtils.sin(-halfPi), MAX_TRIG_ERROR_NEAR);
+        assertEquals(-1f, MovementUtils.cos((float) Math.PI), MAX_TRIG_ERROR_NEAR);
+    }
+
+    @Test
+    public void octantMatchesAtan2Classification() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            float x = (random.nextFloat() - 0.5f) * 1000f;
+            float y = (random.nextFloat() - 0.5f) * 1000f;
+            // Skip directions within float noise of a sector boundary
+            double degrees = Math.toDegrees(Math.atan2(y, x)) + 22.5;
+            double offset = ((degrees % 45) + 45) % 45;
+            if (offset < 1e-3 || offset > 45 - 1e-3) {
+                continue;
+            }
+            assertEquals("Octant of (" + x + ", " + y + ")", atan2Octant(x, y), MovementUtils.octant(x, y));
+        }
+    }
+
+    @Test
+    public void octantOfAxisAlignedDirections() {
+        assertEquals(MovementUtils.OCTANT_RIGHT, MovementUtils.octant(5f, 0f));
+        assertEquals(MovementUtils.OCTANT_UP, MovementUtils.octant(0f, 5f));
+        assertEquals(MovementUtils.OCTANT_LEFT, MovementUtils.octant(-5f, 0f));
+        assertEquals(MovementUtils.OCTANT_DOWN, MovementUtils.octant(0f, -5f));
+        assertEquals(MovementUtils.OCTANT_UP_RIGHT, MovementUtils.octant(5f, 5f));
+        assertEquals(MovementUtils.OCTANT_DOWN_LEFT, MovementUtils.octant(-5f, -5f));
+    }
+
+    @Test
+    public void octantOfZeroVectorIsRight() {
+        assertEquals(MovementUtils.OCTANT_RIGHT, MovementUtils.octant(0f, 0f));
+    }
+
+    @Test
+    public void invSqrtIsAccurateAcrossMagnitudes() {
+        float maxError = 0f;
+        for (float value = 1e-4f; value < 1e8f; value *= 1.01f) {
+            float expected = (float) (1.0 / Math.sqrt(value));
+            maxError = Math.max(maxError, Math.abs(MovementUtils.invSqrt(value) - expected) / expected);
+        }
+        assertTrue("Relative error " + maxError + " exceeds " + MAX_INV_SQRT_ERROR, maxError <= MAX_INV_SQRT_ERROR);
+    }
+
+    @Test
+    public void normaliseProducesUnitVector() {
+        Vector2 vector = MovementUtils.normalise(new Vector2(3f, -4f));
+        assertEquals(0.6f, vector.x, 1e-6f);
+        assertEquals(-0.8f, vector.y, 1e-6f);
+    }
+
+    @Test
+    public void normaliseLeavesZeroVectorUnchanged() {
+        assertTrue(MovementUtils.normalise(new Vector2()).isZero());
+    }
+
+    private static void assertTrigError(float from, float to, float tolerance) {
+        float maxError = 0f;
+        for (float angle = from; angle <= to; angle += 0.0007f) {
+            maxError = Math.max(maxError, Math.abs(MovementUtils.sin(angle) - (float) Math.sin(angle)));
+            maxError = Math.max(maxError, Math.abs(MovementUtils.cos(angle) - (float) Math.cos(angle)));
+        }
+        assertTrue("Table sin/cos error " + maxError + " in [" + from + ", " + to + "] exceeds " + tolerance,
+                maxError <= tolerance);
+    }
+
+    /**
+     * The atan2 classification previously used for sprite directions, mapped
+     * to MovementUtils octant numbering.
+     */
+    private static int atan2Octant(float x, float y) {
+        float angle = (float) Math.toDegrees(Math.atan2(y, x));
+        if (angle < 0) {
+            angle += 360;
+        }
+        if (angle >= 337.5 || angle < 22.5) {
+            return MovementUtils.OCTANT_RIGHT;
+        } else if (angle < 67.5) {
+            return MovementUtils.OCTANT_UP_RIGHT;
+        } else if (angle < 112.5) {
+            return MovementUtils.OCTANT_UP;
+        } else if (angle < 157.5) {
+            return MovementUtils.OCTANT_UP_LEFT;
+        } else if (angle < 202.5) {
+            return MovementUtils.OCTANT_LEFT;
+        } else if (angle < 247.5) {
+            return MovementUtils.OCTANT_DOWN_LEFT;
+        } else if (angle < 292.5) {
+            return MovementUtils.OCTANT_DOWN;
+        }
+        return MovementUtils.OCTANT_DOWN_RIGHT;
+    }
+}
@@ -0,0 +1,82 @@
+package project.game.common.util.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Checks that seeded {@link RandomStream}s replay, that split streams are
+ * independent of their parent, and that draws stay in range and uniform.
+ */
+public class RandomStreamTest {
+
+    private static final int DRAWS = 100000;
+
+    @Test
+    public void sameSeedReplaysAfterSplitting() {
+        RandomStream first = new RandomStream(1234L);
+        RandomStream second = new RandomStream(1234L);
+        RandomStream firstSplit = first.split();
+        RandomStream secondSplit = second.split();
+        for (int i = 0; i < DRAWS; i++) {
+            assertEquals("Parents diverged at draw " + i, first.nextLong(), second.nextLong());
+            assertEquals("Splits diverged at draw " + i, firstSplit.nextLong(), secondSplit.nextLong());
+        }
+    }
+
+    @Test
+    public void splitStreamDoesNotRepeatItsParent() {
+        RandomStream parent = new RandomStream(1234L);
+        RandomStream split = parent.split();
+        int matching = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            if (split.nextFloat() == parent.nextFloat()) {
+                matching++;
+            }
+        }
+        assertTrue("Split stream repeats its parent " + matching + " times", matching <= DRAWS / 1000);
+    }
+
+    @Test
+    public void nextFloatIsUniformInUnitRange() {
+        RandomStream stream = new RandomStream(99L);
+        double sum = 0;
+        int[] buckets = new int[10];
+        for (int i = 0; i < DRAWS; i++) {
+            float value = stream.nextFloat();
+            assertTrue("nextFloat out of range: " + value, value >= 0f && value < 1f);
+            sum += value;
+            buckets[(int) (value * buckets.length)]++;
+        }
+        assertEquals(0.5, sum / DRAWS, 0.01);
+        for (int bucket : buckets) {
+            assertEquals(DRAWS / buckets.length, bucket, DRAWS / 100);
+        }
+    }
+
+    @Test
+    public void nextIntStaysWithinBound() {
+        RandomStream stream = new RandomStream(5L);
+        for (int i = 0; i < DRAWS; i++) {
+            int value = stream.nextInt(7);
+            assertTrue("nextInt(7) out of range: " + value, value >= 0 && value < 7);
+        }
+    }
+
+    @Test
+    public void providerReplaysStreamsAfterReseeding() {
+        RandomProvider provider = RandomProvider.getInstance();
+        long previousSeed = provider.getSeed();
+        try {
+            provider.setSeed(42L);
+            RandomStream first = provider.nextStream();
+            RandomStream second = provider.nextStream();
+            provider.setSeed(42L);
+            assertEquals(first.nextLong(), provider.nextStream().nextLong());
+            assertEquals(second.nextLong(), provider.nextStream().nextLong());
+        } finally {
+            provider.setSeed(previousSeed);
+        }
+    }
+}
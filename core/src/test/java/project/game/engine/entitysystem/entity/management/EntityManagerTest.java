@@ -0,0 +1,59 @@
+package project.game.engine.entitysystem.entity.management;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.physics.TestCollidable;
+
+/**
+ * Checks EntityManager's entity bookkeeping and its collision check against
+ * a brute-force overlap count.
+ */
+public class EntityManagerTest {
+
+    private static final long SEED = 42L;
+
+    @Test
+    public void checkCollisionReportsEachOverlapToBothSides() {
+        for (int count : new int[] { 10, 100, 1000 }) {
+            List<TestCollidable> collidables = TestCollidable.scatter(count, SEED);
+            EntityManager manager = new EntityManager();
+            for (TestCollidable collidable : collidables) {
+                manager.addEntity(collidable);
+            }
+
+            manager.checkCollision();
+            int reported = 0;
+            for (TestCollidable collidable : collidables) {
+                reported += collidable.getCollisions();
+            }
+            assertEquals("Collisions reported for " + count + " entities",
+                    2 * TestCollidable.countOverlappingPairs(collidables), reported);
+        }
+    }
+
+    @Test
+    public void addRejectsDuplicates() {
+        EntityManager manager = new EntityManager();
+        Entity entity = new Entity(0, 0, 32, 32, true);
+        assertTrue(manager.addEntity(entity));
+        assertFalse(manager.addEntity(entity));
+        assertTrue(manager.containsEntity(entity));
+    }
+
+    @Test
+    public void removedEntityCanBeAddedAgain() {
+        EntityManager manager = new EntityManager();
+        Entity entity = new Entity(0, 0, 32, 32, true);
+        manager.addEntity(entity);
+        manager.removeEntity(entity);
+        assertFalse(manager.containsEntity(entity));
+        assertTrue(manager.addEntity(entity));
+    }
+}
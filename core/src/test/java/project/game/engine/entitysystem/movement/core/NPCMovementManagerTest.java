@@ -0,0 +1,73 @@
+package project.game.engine.entitysystem.movement.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import project.game.application.movement.builder.NPCMovementBuilder;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.api.IDecisionSchedulerAware;
+import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler;
+import project.game.engine.entitysystem.movement.management.AIDecisionScheduler.ScheduledDecision;
+
+/**
+ * Checks that disposing an NPC movement manager cancels the decisions its
+ * strategy registered, so the scheduler stops running them.
+ */
+public class NPCMovementManagerTest {
+
+    @Test
+    public void disposeCancelsScheduledDecisions() {
+        AIDecisionScheduler scheduler = new AIDecisionScheduler(1000);
+        DecidingStrategy strategy = new DecidingStrategy();
+        strategy.setDecisionScheduler(scheduler);
+        NPCMovementManager manager = buildManager();
+        manager.setMovementStrategy(strategy);
+
+        scheduler.update(1f);
+        assertEquals(1, strategy.decisions);
+
+        manager.dispose();
+        scheduler.update(1f);
+        assertEquals(1, strategy.decisions);
+        assertEquals(0, scheduler.getDecisionCount());
+    }
+
+    private static NPCMovementManager buildManager() {
+        return new NPCMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(new Entity(0, 0, 32, 32, true))
+                .setSpeed(60f)
+                .setInitialVelocity(1, 0)
+                .setLenientMode(true)
+                .withConstantMovement()
+                .build();
+    }
+
+    /**
+     * Strategy that counts how often its scheduled decision runs.
+     */
+    private static class DecidingStrategy implements IMovementStrategy, IDecisionSchedulerAware {
+
+        private ScheduledDecision decision;
+        private int decisions;
+
+        @Override
+        public void move(IMovable movable, float deltaTime) {
+            // Decisions are all this strategy does
+        }
+
+        @Override
+        public void setDecisionScheduler(AIDecisionScheduler scheduler) {
+            if (decision != null) {
+                decision.cancel();
+                decision = null;
+            }
+            if (scheduler != null) {
+                decision = scheduler.register(() -> decisions++, 0.5f);
+            }
+        }
+    }
+}
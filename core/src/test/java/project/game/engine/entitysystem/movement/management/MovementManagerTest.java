@@ -0,0 +1,98 @@
+package project.game.engine.entitysystem.movement.management;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import project.game.application.movement.builder.NPCMovementBuilder;
+import project.game.application.movement.factory.MovementStrategyFactory;
+import project.game.common.exception.MovementException;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.movement.api.IMovable;
+import project.game.engine.entitysystem.movement.api.IMovementFailureSink;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+import project.game.engine.entitysystem.movement.core.NPCMovementManager;
+
+/**
+ * Checks the movement update failure boundary: a strategy that throws is
+ * reported to the failure sink once per update, then the entity is stopped
+ * in lenient mode and the failure rethrown otherwise.
+ */
+public class MovementManagerTest {
+
+    private static final float FIXED_DELTA = 1f / 60f;
+
+    private final List<Exception> failures = new ArrayList<>();
+    private final IMovementFailureSink sink = new IMovementFailureSink() {
+        @Override
+        public void recordFailure(IMovementStrategy source, Exception error) {
+            failures.add(error);
+        }
+    };
+    private final IMovementStrategy failing = new IMovementStrategy() {
+        @Override
+        public void move(IMovable movable, float deltaTime) {
+            throw new IllegalStateException("Deliberate failure");
+        }
+    };
+
+    private SimulationClock clock;
+
+    @Before
+    public void setUp() {
+        clock = new SimulationClock(FIXED_DELTA);
+        failures.clear();
+    }
+
+    @Test
+    public void lenientManagerRecordsEachFailureOnce() {
+        NPCMovementManager manager = buildManager(true);
+        for (int i = 0; i < 3; i++) {
+            clock.step();
+            manager.updateMovement();
+        }
+        assertEquals(3, failures.size());
+    }
+
+    @Test
+    public void lenientManagerStopsEntityAfterFailure() {
+        NPCMovementManager manager = buildManager(true);
+        clock.step();
+        manager.updateMovement();
+        assertEquals(0f, manager.getMovableEntity().getVelocity().len2(), 0f);
+    }
+
+    @Test
+    public void strictManagerRethrowsAfterRecording() {
+        NPCMovementManager manager = buildManager(false);
+        clock.step();
+        try {
+            manager.updateMovement();
+            fail("Strict manager swallowed a failure");
+        } catch (MovementException expected) {
+            // Rethrown as configured
+        }
+        assertEquals(1, failures.size());
+        assertSame(IllegalStateException.class, failures.get(0).getClass());
+    }
+
+    private NPCMovementManager buildManager(boolean lenient) {
+        NPCMovementManager manager = new NPCMovementBuilder(MovementStrategyFactory.getInstance())
+                .withEntity(new Entity(0, 0, 32, 32, true))
+                .setSpeed(60f)
+                .setInitialVelocity(1, 0)
+                .setLenientMode(lenient)
+                .withConstantMovement()
+                .withTickClock(clock)
+                .withFailureSink(sink)
+                .build();
+        manager.setMovementStrategy(failing);
+        return manager;
+    }
+}
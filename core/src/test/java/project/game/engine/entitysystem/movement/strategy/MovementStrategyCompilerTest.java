@@ -0,0 +1,106 @@
+package project.game.engine.entitysystem.movement.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import project.game.application.movement.composite.OceanCurrentStrategy;
+import project.game.application.movement.decorator.MovementStrategyDecorator;
+import project.game.application.movement.strategy.ConstantMovementStrategy;
+import project.game.application.movement.strategy.ZigZagMovemenStrategy;
+import project.game.common.util.math.RandomProvider;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.entity.core.MovableEntity;
+import project.game.engine.entitysystem.movement.api.IMovementStrategy;
+
+/**
+ * Checks that a strategy tree flattened by {@link MovementStrategyCompiler}
+ * moves an entity along the same path as the nested tree it came from.
+ */
+public class MovementStrategyCompilerTest {
+
+    private static final float DELTA_TIME = 1f / 60f;
+    private static final int STEPS = 600;
+    private static final float TOLERANCE = 0.01f;
+    private static final long SEED = 42L;
+
+    @Test
+    public void fusedOceanCurrentFollowsNestedPath() {
+        assertSamePath(true);
+    }
+
+    @Test
+    public void fusedNestedTreeFollowsNestedPath() {
+        assertSamePath(false);
+    }
+
+    private static void assertSamePath(boolean oceanCurrentOnly) {
+        long previousSeed = RandomProvider.getInstance().getSeed();
+        try {
+            IMovementStrategy reference = createTree(oceanCurrentOnly);
+            IMovementStrategy compiled = MovementStrategyCompiler.compile(createTree(oceanCurrentOnly));
+            assertNotSame("Strategy tree was not flattened", reference.getClass(), compiled.getClass());
+
+            MovableEntity expected = newMovable();
+            MovableEntity actual = newMovable();
+            for (int step = 0; step < STEPS; step++) {
+                reference.move(expected, DELTA_TIME);
+                compiled.move(actual, DELTA_TIME);
+                String where = "Fused strategy diverged at step " + step;
+                assertEquals(where, expected.getX(), actual.getX(), TOLERANCE);
+                assertEquals(where, expected.getY(), actual.getY(), TOLERANCE);
+                Vector2 expectedVelocity = expected.getVelocity();
+                Vector2 actualVelocity = actual.getVelocity();
+                assertTrue(where + ": expected velocity " + expectedVelocity + ", got " + actualVelocity,
+                        expectedVelocity.epsilonEquals(actualVelocity, TOLERANCE));
+            }
+        } finally {
+            RandomProvider.getInstance().setSeed(previousSeed);
+        }
+    }
+
+    private static MovableEntity newMovable() {
+        MovableEntity movable = new MovableEntity(new Entity(400, 300, 32, 32, true), 100f) {
+        };
+        movable.setVelocity(1, 0);
+        return movable;
+    }
+
+    /**
+     * Builds a fresh tree. The random provider is reseeded first so that trees
+     * built for comparison start with the same zigzag phases.
+     */
+    private static IMovementStrategy createTree(boolean oceanCurrentOnly) {
+        RandomProvider.getInstance().setSeed(SEED);
+        if (oceanCurrentOnly) {
+            return new OceanCurrentStrategy(60f, 40f, 30f, 1.5f, 0.7f, 0.3f, true);
+        }
+
+        IMovementStrategy current = new OceanCurrentStrategy(60f, 40f, 30f, 1.5f, 0.7f, 0.3f, true);
+        IMovementStrategy wave = new PassThroughDecorator(new ZigZagMovemenStrategy(50f, 20f, 2f, true));
+
+        List<IMovementStrategy> inner = new ArrayList<>();
+        inner.add(wave);
+        IMovementStrategy drift = new CompositeMovementStrategy(
+                new ConstantMovementStrategy(30f, true), inner, new float[] { 2f, 1f });
+
+        List<IMovementStrategy> outer = new ArrayList<>();
+        outer.add(drift);
+        outer.add(new ConstantMovementStrategy(80f, true));
+        return new PassThroughDecorator(
+                new CompositeMovementStrategy(current, outer, new float[] { 0.5f, 0.3f, 0.2f }));
+    }
+
+    private static final class PassThroughDecorator extends MovementStrategyDecorator {
+        PassThroughDecorator(IMovementStrategy strategy) {
+            super(strategy);
+        }
+    }
+}
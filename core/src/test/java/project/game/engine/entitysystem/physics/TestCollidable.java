@@ -0,0 +1,113 @@
+package project.game.engine.entitysystem.physics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+
+import project.game.common.util.math.RandomStream;
+import project.game.engine.entitysystem.entity.base.Entity;
+import project.game.engine.entitysystem.physics.api.ICollidableVisitor;
+
+/**
+ * Collidable for tests: an entity that tests overlap against its own bounds
+ * and counts the collisions it is told about. It never creates a physics
+ * body.
+ */
+public class TestCollidable extends Entity implements ICollidableVisitor {
+
+    public static final float SIZE = 32f;
+
+    private int collisions;
+    private boolean inCollision;
+
+    public TestCollidable(float x, float y) {
+        super(x, y, SIZE, SIZE, true);
+    }
+
+    /**
+     * Scatters collidables over a square field sized so that each overlaps
+     * about half a neighbour on average.
+     */
+    public static List<TestCollidable> scatter(int count, long seed) {
+        RandomStream random = new RandomStream(seed);
+        float side = (float) Math.sqrt(count * 8f) * SIZE;
+        List<TestCollidable> collidables = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            collidables.add(new TestCollidable(random.nextFloat(0, side - SIZE), random.nextFloat(0, side - SIZE)));
+        }
+        return collidables;
+    }
+
+    /**
+     * Counts the overlapping pairs by checking every pair.
+     */
+    public static int countOverlappingPairs(List<TestCollidable> collidables) {
+        int overlaps = 0;
+        for (int i = 0; i < collidables.size(); i++) {
+            for (int j = i + 1; j < collidables.size(); j++) {
+                if (collidables.get(i).checkCollision(collidables.get(j))) {
+                    overlaps++;
+                }
+            }
+        }
+        return overlaps;
+    }
+
+    /**
+     * Number of collisions reported to this collidable so far.
+     */
+    public int getCollisions() {
+        return collisions;
+    }
+
+    @Override
+    public Entity getEntity() {
+        return this;
+    }
+
+    @Override
+    public Body getBody() {
+        return null;
+    }
+
+    @Override
+    public World getWorld() {
+        return null;
+    }
+
+    @Override
+    public Body createBody(World world, float x, float y, float width, float height) {
+        return null;
+    }
+
+    @Override
+    public boolean checkCollision(Entity other) {
+        return getX() < other.getX() + other.getWidth() &&
+                getX() + getWidth() > other.getX() &&
+                getY() < other.getY() + other.getHeight() &&
+                getY() + getHeight() > other.getY();
+    }
+
+    @Override
+    public void onCollision(ICollidableVisitor other) {
+        collisions++;
+        inCollision = true;
+    }
+
+    @Override
+    public boolean isInCollision() {
+        return inCollision;
+    }
+
+    @Override
+    public void collideWith(Object other) {
+        onCollision(other instanceof ICollidableVisitor ? (ICollidableVisitor) other : null);
+    }
+
+    @Override
+    public void collideWithBoundary() {
+        onCollision(null);
+    }
+}
@@ -0,0 +1,55 @@
+package project.game.engine.entitysystem.physics.collision.detection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import project.game.engine.entitysystem.physics.TestCollidable;
+
+/**
+ * Checks that CollisionPairTracker reports exactly the collidables with a
+ * tracked pair, whatever order the pair was given in.
+ */
+public class CollisionPairTrackerTest {
+
+    private static final long SEED = 42L;
+
+    @Test
+    public void tracksExactlyTheOverlappingCollidables() {
+        List<TestCollidable> collidables = TestCollidable.scatter(1000, SEED);
+        CollisionPairTracker tracker = new CollisionPairTracker();
+        for (int i = 0; i < collidables.size(); i++) {
+            for (int j = i + 1; j < collidables.size(); j++) {
+                if (collidables.get(i).checkCollision(collidables.get(j))) {
+                    tracker.addCollisionPair(collidables.get(i), collidables.get(j));
+                }
+            }
+        }
+
+        for (int i = 0; i < collidables.size(); i++) {
+            boolean overlapping = false;
+            for (int j = 0; j < collidables.size() && !overlapping; j++) {
+                overlapping = i != j && collidables.get(i).checkCollision(collidables.get(j));
+            }
+            assertEquals("Collidable " + i, overlapping, tracker.isEntityInCollision(collidables.get(i)));
+        }
+    }
+
+    @Test
+    public void pairIsRemovedInEitherOrder() {
+        CollisionPairTracker tracker = new CollisionPairTracker();
+        TestCollidable a = new TestCollidable(0, 0);
+        TestCollidable b = new TestCollidable(0, 0);
+
+        assertTrue(tracker.addCollisionPair(a, b));
+        assertFalse(tracker.addCollisionPair(b, a));
+        assertTrue(tracker.removeCollisionPair(b, a));
+        assertFalse(tracker.isEntityInCollision(a));
+        assertFalse(tracker.isEntityInCollision(b));
+        assertTrue(tracker.isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+package project.game.engine.entitysystem.physics.collision.resolution;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import project.game.engine.entitysystem.physics.TestCollidable;
+
+/**
+ * Checks that resolving a contact queues an action for each registered side,
+ * and that the actions only report a collision when the pair overlaps.
+ */
+public class CollisionVisitorResolverTest {
+
+    private CollisionVisitorResolver resolver;
+    private TestCollidable a;
+    private TestCollidable b;
+    private final List<Runnable> queue = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        resolver = new CollisionVisitorResolver();
+        resolver.registerBoundary();
+        a = new TestCollidable(0, 0);
+        b = new TestCollidable(10, 10);
+        resolver.registerCollidable(a);
+        resolver.registerCollidable(b);
+        queue.clear();
+    }
+
+    @Test
+    public void overlappingPairQueuesActionForEachSide() {
+        resolver.resolveCollision(a, b, queue);
+        assertEquals(2, queue.size());
+
+        runQueue();
+        // Each side's action reports the collision to both collidables
+        assertEquals(2, a.getCollisions());
+        assertEquals(2, b.getCollisions());
+    }
+
+    @Test
+    public void separatedPairReportsNoCollision() {
+        b.setX(100);
+        resolver.resolveCollision(a, b, queue);
+        runQueue();
+        assertEquals(0, a.getCollisions());
+        assertEquals(0, b.getCollisions());
+    }
+
+    @Test
+    public void boundaryContactQueuesOneAction() {
+        resolver.resolveCollision(a, "boundary", queue);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void unregisteredCollidableQueuesNothing() {
+        resolver.unregister(a);
+        resolver.unregister(b);
+        resolver.resolveCollision(a, b, queue);
+        assertEquals(0, queue.size());
+    }
+
+    private void runQueue() {
+        for (Runnable action : queue) {
+            action.run();
+        }
+    }
+}
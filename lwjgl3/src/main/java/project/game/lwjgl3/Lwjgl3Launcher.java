@@ -4,16 +4,31 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
 import project.game.Main;
+import project.game.application.scene.stress.StressConfig;
 
-/** Launches the desktop (LWJGL3) application. */
+/**
+ * Launches the desktop (LWJGL3) application.
+ *
+ * {@code --stress} starts in the stress scene instead of the menu, tuned with
+ * the {@code --stress-*} options described in {@link StressConfig.Builder#parseOption(String)}.
+ */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(String[] args) {
+        String startScene = "menu";
+        StressConfig.Builder stressConfig = new StressConfig.Builder();
+        for (String arg : args) {
+            if ("--stress".equals(arg)) {
+                startScene = "stress";
+            } else if (!stressConfig.parseOption(arg)) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return new Lwjgl3Application(new Main(startScene, stressConfig.build()), getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {